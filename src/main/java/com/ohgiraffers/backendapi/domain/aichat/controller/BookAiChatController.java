@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -110,12 +111,13 @@ public class BookAiChatController {
     @Operation(summary = "[사용자/관리자] 메시지 전송 (일반)", description = "AI에게 질문을 보내고 응답을 받습니다.")
     @PostMapping("/rooms/{roomId}/messages")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<BookAiChatResponseDTO> sendMessage(
+    public Mono<ResponseEntity<BookAiChatResponseDTO>> sendMessage(
             @CurrentUserId Long userId,
             @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
             @RequestBody BookAiChatRequestDTO request) {
-        BookAiChatResponseDTO response = bookAiChatService.sendMessage(userId, roomId, request);
-        return ResponseEntity.ok(response);
+        // AI 서버 응답을 기다리는 동안 요청 스레드를 반환 (비동기 응답)
+        return bookAiChatService.sendMessage(userId, roomId, request)
+                .map(ResponseEntity::ok);
     }
 
     @Operation(summary = "[사용자/관리자] 메시지 전송 (스트리밍)", description = "AI에게 질문을 보내고 SSE로 실시간 응답을 받습니다.")
@@ -21,14 +21,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -47,10 +55,15 @@ public class BookAiChatService {
     private final ChapterRepository chapterRepository;
     private final ChapterVectorRagService ragService;
     private final WebClient aiWebClient;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${ai.server.timeout:30}")
     private int aiServerTimeout;
 
+    // 메시지 전송 전체(분류 + 검색 + 생성 + 저장) 제한 시간 - spring.mvc.async.request-timeout(90초)보다 짧게
+    @Value("${ai.chat.total-timeout-seconds:80}")
+    private int totalTimeoutSeconds = 80;
+
     /* ========== 채팅방 관리 ========== */
 
     /**
@@ -149,94 +162,68 @@ public class BookAiChatService {
     /**
      * [8] 메시지 전송 (일반 HTTP 요청)
      * Python AI 서버에 요청을 보내고 응답을 받아 DB에 저장합니다.
+     * <p>
+     * 전체를 논블로킹으로 조합하며, DB 커넥션은 처음 조회와 마지막 저장에서만 잠깐 사용합니다.
+     * - 채팅방/이전 대화는 한 번만 조회
+     * - 분류(classify)와 원문 기준 RAG 검색을 동시에 시작 (분류 결과가 RAG 대상이면 이미 받은 검색 결과 사용, 아니면 검색 취소)
+     * - CONTENT_QA_CONTEXT는 질문을 재구성한 뒤, 원문과 달라진 경우에만 다시 검색
+     * - 답변 생성 후 짧은 쓰기 트랜잭션으로 저장
+     * - 전체가 ai.chat.total-timeout-seconds를 넘으면 AI_SERVER_ERROR
+     * </p>
      */
-    @Transactional
-    public BookAiChatResponseDTO sendMessage(Long userId, Long roomId, BookAiChatRequestDTO request) {
+    public Mono<BookAiChatResponseDTO> sendMessage(Long userId, Long roomId, BookAiChatRequestDTO request) {
         BookAiChatRoom room = findChatRoomById(roomId);
         validateRoomOwner(room, userId);
-        User user = findUserById(userId);
-
-        long startTime = System.currentTimeMillis();
-
-        // 1. Chat Type 분류 (Python 서버 호출)
-        ChatType chatType = request.getChatType();
-        if (chatType == null) {
-            chatType = classifyChatType(request.getUserMessage(), room.getChapter().getChapterId(),
-                    request.getCurrentParagraphId());
-        }
-
-        String ragContext = null;
-        String relatedParagraphId = null;
-
-        // 2. RAG 검색 및 Query Rewriting
-        if (ChatType.CONTENT_QA.equals(chatType) || ChatType.SUMMARY.equals(chatType) || ChatType.CONTENT_QA_CONTEXT.equals(chatType)) {
-            
-            String queryForRag = request.getUserMessage();
-
-            // 2-1. 문맥 파악이 필요한 경우 Query Rewriting 수행
-            if (ChatType.CONTENT_QA_CONTEXT.equals(chatType)) {
-                try {
-                    List<Map<String, String>> previousMessages = getPreviousMessages(room);
-                    AiChatDTO.AiRewriteResponse rewriteResponse = callAiServerRewrite(request.getUserMessage(), previousMessages);
-                    if (rewriteResponse != null && rewriteResponse.getRewritten_msg() != null) {
-                        queryForRag = rewriteResponse.getRewritten_msg();
-                        log.info("Query Rewritten: '{}' -> '{}'", request.getUserMessage(), queryForRag);
-                    }
-                } catch (Exception e) {
-                    log.warn("Query Rewrite failed, using original message", e);
-                }
-            }
-
-            // 2-2. RAG 검색 수행 (재구성된 쿼터 또는 원본 쿼리 사용)
-            List<RagSearchResponseDTO> searchResults = ragService.searchRag(room.getChapter().getChapterId(), queryForRag);
+        Long chapterId = room.getChapter().getChapterId();
+        String userMessage = request.getUserMessage();
 
-            if (!searchResults.isEmpty()) {
-                // 상위 3개 정도만 컨텍스트로 사용
-                ragContext = searchResults.stream()
-                        .limit(3)
-                        .map(dto -> dto.getContentText())
-                        .collect(Collectors.joining("\n---\n"));
-
-                // 첫 번째 결과의 ID를 출처로 사용
-                relatedParagraphId = searchResults.get(0).getStartParagraphId();
-            }
-        }
+        // 이전 대화 내역 (재구성/답변 생성에 함께 사용)
+        List<Map<String, String>> previousMessages = getPreviousMessages(room);
 
-        try {
-            // 이전 대화 내역 조회 및 변환 function call
-            List<Map<String, String>> previousMessages = getPreviousMessages(room);
-
-            // Python AI 서버 호출
-            AiChatDTO.AiGenerateResponse aiResponse = callAiServerV2(
-                    request.getUserMessage(),
-                    chatType,
-                    ragContext,
-                    previousMessages);
-
-            long responseTimeMs = System.currentTimeMillis() - startTime;
-
-            // DB에 저장
-            BookAiChat chat = BookAiChat.builder()
-                    .chatRoom(room)
-                    .user(user)
-                    .chatType(chatType)
-                    .userMessage(request.getUserMessage())
-                    .aiMessage(aiResponse.getResponse())
-                    .tokenCount(aiResponse.getToken_usage())
-                    .responseTimeMs((int) responseTimeMs)
-                    .build();
-
-            BookAiChat savedChat = chatRepository.save(chat);
-
-            return BookAiChatResponseDTO.from(savedChat)
-                    .toBuilder()
-                    .relatedParagraphId(relatedParagraphId)
-                    .build();
-
-        } catch (WebClientResponseException e) {
-            log.error("AI 서버 호출 실패: Status {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new CustomException(ErrorCode.AI_SERVER_ERROR);
-        }
+        return Mono.defer(() -> {
+            long startTime = System.currentTimeMillis();
+
+            // 1. 분류와 동시에 원문으로 RAG 검색 시작 (분류 결과가 RAG 대상이 아니면 검색 취소)
+            ChatType requestedType = request.getChatType();
+            boolean speculate = requestedType == null || needsRag(requestedType);
+            Sinks.One<RagContext> speculativeResult = Sinks.one();
+            Disposable speculation = speculate
+                    ? searchRagContext(chapterId, userMessage).subscribe(
+                            speculativeResult::tryEmitValue,
+                            speculativeResult::tryEmitError,
+                            speculativeResult::tryEmitEmpty)
+                    : Disposables.disposed();
+            Mono<RagContext> speculativeRag = speculate ? speculativeResult.asMono() : Mono.just(RagContext.EMPTY);
+
+            Mono<ChatType> chatTypeMono = (requestedType != null)
+                    ? Mono.just(requestedType)
+                    : classifyChatType(userMessage, chapterId, request.getCurrentParagraphId());
+
+            // 2. 분류 결과에 맞는 RAG 컨텍스트
+            return chatTypeMono
+                    .flatMap(chatType -> resolveRagContext(chatType, chapterId, userMessage, previousMessages,
+                            speculativeRag, speculation)
+                            .flatMap(rag -> callAiServerV2(userMessage, chatType, rag.context(), previousMessages)
+                                    // 3. 답변 저장 (짧은 쓰기 트랜잭션)
+                                    .flatMap(aiResponse -> saveChat(roomId, userId, chatType, userMessage,
+                                            aiResponse.getResponse(), aiResponse.getToken_usage(),
+                                            (int) (System.currentTimeMillis() - startTime)))
+                                    .map(savedChat -> BookAiChatResponseDTO.from(savedChat)
+                                            .toBuilder()
+                                            .relatedParagraphId(rag.relatedParagraphId())
+                                            .build())))
+                    // 성공/실패/취소와 관계없이 남은 검색 정리
+                    .doFinally(signal -> speculation.dispose());
+        })
+                .timeout(Duration.ofSeconds(totalTimeoutSeconds))
+                .onErrorMap(TimeoutException.class, e -> {
+                    log.error("AI 채팅 응답 시간 초과: roomId={}, {}초", roomId, totalTimeoutSeconds);
+                    return new CustomException(ErrorCode.AI_SERVER_ERROR);
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("AI 서버 호출 실패: Status {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return new CustomException(ErrorCode.AI_SERVER_ERROR);
+                });
     }
 
     /**
@@ -244,11 +231,9 @@ public class BookAiChatService {
      * Python AI 서버에서 스트리밍 응답을 받아 클라이언트에 전달합니다.
      * 스트리밍 완료 후 DB에 저장합니다.
      */
-    @Transactional
     public Flux<String> sendMessageStream(Long userId, Long roomId, BookAiChatRequestDTO request) {
         BookAiChatRoom room = findChatRoomById(roomId);
         validateRoomOwner(room, userId);
-        User user = findUserById(userId);
 
         long startTime = System.currentTimeMillis();
         StringBuilder fullResponse = new StringBuilder();
@@ -256,28 +241,21 @@ public class BookAiChatService {
         // 이전 대화 내역 조회
         List<Map<String, String>> previousMessages = getPreviousMessages(room);
 
+        // Stream 요청에서는 주로 이미 분류된 타입이 오거나 기본값 사용
+        ChatType chatType = request.getChatType() != null ? request.getChatType() : ChatType.CONTENT_QA;
+
         return callAiServerStream(
                 room.getChapter().getChapterId(),
                 request.getUserMessage(),
                 request.getChatType(),
                 previousMessages)
                 .doOnNext(chunk -> fullResponse.append(chunk))
-                .doOnComplete(() -> {
-                    long responseTimeMs = System.currentTimeMillis() - startTime;
-
-                    // 스트리밍 완료 후 DB에 저장
-                    BookAiChat chat = BookAiChat.builder()
-                            .chatRoom(room)
-                            .user(user)
-                            .chatType(request.getChatType() != null ? request.getChatType() : ChatType.CONTENT_QA) // Stream 요청에서는 주로 이미 분류된 타입이 오거나 기본값 사용
-                            .userMessage(request.getUserMessage())
-                            .aiMessage(fullResponse.toString())
-                            .responseTimeMs((int) responseTimeMs)
-                            .build();
-
-                    chatRepository.save(chat);
-                    log.info("AI 채팅 저장 완료 - roomId: {}, 응답시간: {}ms", roomId, responseTimeMs);
-                })
+                // 스트리밍 완료 후 DB에 저장 (이벤트 루프 밖에서 짧은 트랜잭션)
+                .concatWith(Mono.defer(() -> saveChat(roomId, userId, chatType, request.getUserMessage(),
+                        fullResponse.toString(), null, (int) (System.currentTimeMillis() - startTime)))
+                        .doOnNext(saved -> log.info("AI 채팅 저장 완료 - roomId: {}, 응답시간: {}ms", roomId,
+                                saved.getResponseTimeMs()))
+                        .then(Mono.empty()))
                 .doOnError(e -> {
                     log.error("AI 스트리밍 실패: {}", e.getMessage());
                 });
@@ -349,27 +327,25 @@ public class BookAiChatService {
 
     /* ========== Python AI 서버 통신 (New API) ========== */
 
-    private ChatType classifyChatType(String userMsg, Long chapterId, String paragraphContent) {
-        try {
-            AiChatDTO.AiClassifyRequest req = new AiChatDTO.AiClassifyRequest(userMsg, chapterId, paragraphContent);
+    private Mono<ChatType> classifyChatType(String userMsg, Long chapterId, String paragraphContent) {
+        AiChatDTO.AiClassifyRequest req = new AiChatDTO.AiClassifyRequest(userMsg, chapterId, paragraphContent);
 
-            AiChatDTO.AiClassifyResponse res = aiWebClient.post()
-                    .uri("/api/v1/chat/classify")
-                    .bodyValue(req)
-                    .retrieve()
-                    .bodyToMono(AiChatDTO.AiClassifyResponse.class)
-                    .block();
-
-            if (res != null && res.getChat_type() != null) {
-                return ChatType.valueOf(res.getChat_type());
-            }
-        } catch (Exception e) {
-            log.error("AI classification failed", e);
-        }
-        return ChatType.CHIT_CHAT;
+        return aiWebClient.post()
+                .uri("/api/v1/chat/classify")
+                .bodyValue(req)
+                .retrieve()
+                .bodyToMono(AiChatDTO.AiClassifyResponse.class)
+                .timeout(Duration.ofSeconds(aiServerTimeout))
+                .filter(res -> res.getChat_type() != null)
+                .map(res -> ChatType.valueOf(res.getChat_type()))
+                .onErrorResume(e -> {
+                    log.error("AI classification failed", e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(ChatType.CHIT_CHAT);
     }
 
-    private AiChatDTO.AiGenerateResponse callAiServerV2(String userMsg, ChatType chatType, String ragContext,
+    private Mono<AiChatDTO.AiGenerateResponse> callAiServerV2(String userMsg, ChatType chatType, String ragContext,
             List<Map<String, String>> previousMessages) {
         AiChatDTO.AiGenerateRequest req = AiChatDTO.AiGenerateRequest.builder()
                 .user_msg(userMsg)
@@ -383,10 +359,14 @@ public class BookAiChatService {
                 .bodyValue(req)
                 .retrieve()
                 .bodyToMono(AiChatDTO.AiGenerateResponse.class)
-                .block();
+                .timeout(Duration.ofSeconds(aiServerTimeout))
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.AI_SERVER_ERROR)));
     }
 
-    private AiChatDTO.AiRewriteResponse callAiServerRewrite(String userMsg, List<Map<String, String>> previousMessages) {
+    /**
+     * 질문 재구성 (실패하거나 결과가 없으면 원문 사용)
+     */
+    private Mono<String> callAiServerRewrite(String userMsg, List<Map<String, String>> previousMessages) {
         AiChatDTO.AiRewriteRequest req = AiChatDTO.AiRewriteRequest.builder()
                 .user_msg(userMsg)
                 .previous_messages(previousMessages)
@@ -398,7 +378,91 @@ public class BookAiChatService {
                 .retrieve()
                 .bodyToMono(AiChatDTO.AiRewriteResponse.class)
                 .timeout(Duration.ofSeconds(10)) // 짧은 타임아웃
-                .block();
+                .filter(res -> res.getRewritten_msg() != null)
+                .map(res -> {
+                    log.info("Query Rewritten: '{}' -> '{}'", userMsg, res.getRewritten_msg());
+                    return res.getRewritten_msg();
+                })
+                .onErrorResume(e -> {
+                    log.warn("Query Rewrite failed, using original message", e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(userMsg);
+    }
+
+    /* ========== RAG ========== */
+
+    private static boolean needsRag(ChatType chatType) {
+        return ChatType.CONTENT_QA.equals(chatType) || ChatType.SUMMARY.equals(chatType)
+                || ChatType.CONTENT_QA_CONTEXT.equals(chatType);
+    }
+
+    /**
+     * 분류 결과에 맞는 RAG 컨텍스트 (원문 검색 결과를 최대한 재사용)
+     */
+    private Mono<RagContext> resolveRagContext(ChatType chatType, Long chapterId, String userMessage,
+            List<Map<String, String>> previousMessages, Mono<RagContext> speculativeRag, Disposable speculation) {
+        if (!needsRag(chatType)) {
+            speculation.dispose();
+            return Mono.just(RagContext.EMPTY);
+        }
+        if (!ChatType.CONTENT_QA_CONTEXT.equals(chatType)) {
+            return speculativeRag;
+        }
+        // 문맥 파악이 필요한 경우 Query Rewriting 후, 원문과 다르면 원문 검색은 취소하고 재구성된 쿼리로 다시 검색
+        return callAiServerRewrite(userMessage, previousMessages)
+                .flatMap(query -> {
+                    if (query.equals(userMessage)) {
+                        return speculativeRag;
+                    }
+                    speculation.dispose();
+                    return searchRagContext(chapterId, query);
+                });
+    }
+
+    private Mono<RagContext> searchRagContext(Long chapterId, String query) {
+        return ragService.searchRagAsync(chapterId, query)
+                .map(RagContext::from);
+    }
+
+    /**
+     * RAG 검색 결과 (답변 생성용 컨텍스트 + 출처 문단 ID)
+     */
+    private record RagContext(String context, String relatedParagraphId) {
+
+        static final RagContext EMPTY = new RagContext(null, null);
+
+        static RagContext from(List<RagSearchResponseDTO> searchResults) {
+            if (searchResults.isEmpty()) {
+                return EMPTY;
+            }
+            // 상위 3개 정도만 컨텍스트로 사용, 첫 번째 결과의 ID를 출처로 사용
+            return new RagContext(searchResults.stream()
+                    .limit(3)
+                    .map(RagSearchResponseDTO::getContentText)
+                    .collect(Collectors.joining("\n---\n")),
+                    searchResults.get(0).getStartParagraphId());
+        }
+    }
+
+    /* ========== 저장 ========== */
+
+    /**
+     * 대화 저장 (boundedElastic에서 짧은 쓰기 트랜잭션, AI 서버를 기다리는 동안에는 DB 커넥션을 잡지 않음)
+     */
+    private Mono<BookAiChat> saveChat(Long roomId, Long userId, ChatType chatType, String userMessage,
+            String aiMessage, Integer tokenCount, int responseTimeMs) {
+        return Mono.fromCallable(() -> new TransactionTemplate(transactionManager).execute(status ->
+                chatRepository.save(BookAiChat.builder()
+                        .chatRoom(chatRoomRepository.getReferenceById(roomId))
+                        .user(userRepository.getReferenceById(userId))
+                        .chatType(chatType)
+                        .userMessage(userMessage)
+                        .aiMessage(aiMessage)
+                        .tokenCount(tokenCount)
+                        .responseTimeMs(responseTimeMs)
+                        .build())))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     /* ========== Helper Methods ========== */
@@ -1,18 +1,33 @@
 package com.ohgiraffers.backendapi.domain.chapter.controller;
 
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterBulkImportRequestDTO;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterBulkImportResponseDTO;
 import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterRequestDTO;
 import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterResponseDTO;
 import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterUrlRequestDTO;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterBulkImportService;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterBundleService;
 import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
 import com.ohgiraffers.backendapi.global.common.S3Service;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
 
 @RestController
 @RequestMapping("/v1/chapters")
@@ -21,6 +36,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class ChapterController {
 
     private final ChapterService chapterService;
+    private final ChapterBulkImportService chapterBulkImportService;
+    private final ChapterBundleService chapterBundleService;
     private final S3Service s3Service;
 
     @Operation(summary = "[관리자] S3 버킷 목록 조회", description = "현재 계정의 모든 S3 버킷 목록을 조회합니다. (환경설정 AWS_BUCKET_NAME 확인용)")
@@ -94,6 +111,24 @@ public class ChapterController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "[관리자] 챕터 일괄 등록 (URL 매니페스트)", description = "책 한 권의 챕터 URL 목록을 한 번에 등록. 문단 수는 컨텐츠를 병렬로 내려받아 집계하며, embed=true면 등록 후 RAG 임베딩을 요청.")
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ChapterBulkImportResponseDTO> importChapters(
+            @RequestBody ChapterBulkImportRequestDTO requestDTO) {
+        return ResponseEntity.ok(chapterBulkImportService.importFromManifest(requestDTO));
+    }
+
+    @Operation(summary = "[AWS] [관리자] 챕터 일괄 등록 (zip 업로드)", description = "챕터 JSON 파일을 묶은 zip을 업로드하여 S3에 병렬 업로드 후 한 번에 등록. zip 안의 manifest.json으로 파일별 챕터명/순서 지정 가능.")
+    @PostMapping(value = "/bulk/archive", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ChapterBulkImportResponseDTO> importChapterArchive(
+            @RequestPart(value = "archive") MultipartFile archive,
+            @RequestParam(value = "bookId") Long bookId,
+            @RequestParam(value = "embed", defaultValue = "false") boolean embed) {
+        return ResponseEntity.ok(chapterBulkImportService.importFromArchive(bookId, archive, embed));
+    }
+
     @Operation(summary = "[Local] [관리자] 챕터 수정 (파일 업로드/테스트용)", description = "챕터의 파일(로컬) 또는 메타데이터를 수정. 파일 변경 시 'isEmbedded' 상태가 초기화됨.")
     @PutMapping(value = "/{chapterId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
@@ -151,7 +186,7 @@ public class ChapterController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "[Local] [사용자/관리자용] 챕터 조회 (테스트용)", description = "챕터의 상세 정보와 함께 파일에 저장된 본문 내용(JSON)을 반환.")
+    @Operation(summary = "[Local] [사용자/관리자용] 챕터 조회 (테스트용)", description = "챕터의 상세 정보와 함께 파일에 저장된 본문 내용(JSON)을 반환. 본문만 필요하면 gzip/ETag를 지원하는 /{chapterId}/content 사용.")
     @GetMapping("/{chapterId}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     public ResponseEntity<ChapterResponseDTO> getChapter(@PathVariable("chapterId") Long chapterId) {
@@ -159,6 +194,48 @@ public class ChapterController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "[사용자/관리자용] 챕터 본문 조회", description = "챕터 본문(JSON)을 반환. Accept-Encoding에 gzip이 있으면 미리 압축된 본문을 그대로 전송하고, If-None-Match가 ETag와 일치하면 304를 반환.")
+    @GetMapping(value = "/{chapterId}/content", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<Resource> getChapterContent(
+            @PathVariable("chapterId") Long chapterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ChapterService.ChapterContentResponse content =
+                chapterService.getChapterContent(chapterId, acceptEncoding, ifNoneMatch);
+        if (content.notModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(content.etag())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(content.etag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache());
+        if (content.encoding() != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, content.encoding());
+        }
+        return builder.body(new FileSystemResource(content.file()));
+    }
+
+    @Operation(summary = "[사용자/관리자용] 챕터 문단 구간 조회 (스트리밍)", description = "from 문단부터 count개의 문단을 스트리밍으로 반환. 응답의 nextCursor를 다음 요청의 from(cursor)으로 사용.")
+    @GetMapping(value = "/{chapterId}/paragraphs", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> getParagraphs(
+            @PathVariable("chapterId") Long chapterId,
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "count", defaultValue = "50") int count) {
+        String fromId = (cursor != null && !cursor.isEmpty()) ? cursor : from;
+        StreamingResponseBody body = chapterService.streamParagraphs(chapterId, fromId, count);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @Operation(summary = "[사용자/관리자용] 챕터 URL 조회(실제 서비스용)", description = "챕터의 상세 정보와 함께 저장된 파일/URL 경로만 반환 (본문 내용 로딩 안 함).")
     @GetMapping("/{chapterId}/url")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
@@ -179,4 +256,38 @@ public class ChapterController {
     public ResponseEntity<java.util.List<ChapterResponseDTO>> getChaptersByBookId(@PathVariable("bookId") Long bookId) {
         return ResponseEntity.ok(chapterService.getChaptersByBookId(bookId));
     }
+
+    @Operation(summary = "[사용자/관리자용] 책 오프라인 번들 다운로드", description = "책의 모든 챕터 본문과 문단 인덱스를 하나의 gzip JSON 파일로 반환. Range 요청으로 이어받기를 지원하며, 챕터가 바뀌면 새 버전(ETag)으로 다시 생성됩니다. 생성 중이면 202와 Retry-After를 반환합니다.")
+    @GetMapping("/book/{bookId}/bundle")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<Resource> getBookBundle(
+            @PathVariable("bookId") Long bookId,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) throws IOException {
+        java.util.Optional<ChapterBundleService.Bundle> ready = chapterBundleService.getBundle(bookId);
+        if (ready.isEmpty()) {
+            // 번들 생성 중 (백그라운드에서 계속 생성되므로 잠시 후 다시 요청)
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+        ChapterBundleService.Bundle bundle = ready.get();
+
+        // 번들 버전이 바뀌었으면 Range를 무시하고 전체를 전송 (InputStreamResource는 Range 처리 대상이 아님)
+        Resource body = (ifRange == null || ifRange.equals(bundle.etag()))
+                ? new FileSystemResource(bundle.file())
+                : new InputStreamResource(Files.newInputStream(bundle.file()));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .contentLength(Files.size(bundle.file()))
+                .eTag(bundle.etag())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(bundle.downloadName())
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
 }
\ No newline at end of file
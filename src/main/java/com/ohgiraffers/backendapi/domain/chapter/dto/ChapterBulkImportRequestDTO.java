@@ -0,0 +1,24 @@
+package com.ohgiraffers.backendapi.domain.chapter.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "챕터 일괄 등록 요청 DTO (URL 매니페스트)")
+public class ChapterBulkImportRequestDTO {
+
+    @Schema(description = "책 ID", example = "1")
+    private Long bookId;
+
+    @Schema(description = "등록 후 RAG 임베딩 요청 여부", example = "false")
+    private Boolean embed;
+
+    @Schema(description = "챕터 목록 (각 항목의 bookId는 무시됨)")
+    private List<ChapterUrlRequestDTO> chapters;
+}
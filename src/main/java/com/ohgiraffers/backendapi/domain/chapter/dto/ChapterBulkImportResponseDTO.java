@@ -0,0 +1,16 @@
+package com.ohgiraffers.backendapi.domain.chapter.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChapterBulkImportResponseDTO {
+    private Long bookId;
+    private Integer importedCount; // 등록된 챕터 수
+    private Integer totalParagraphs; // 등록 후 책 전체 문단 수
+    private Boolean embeddingQueued; // RAG 임베딩 요청 여부
+    private List<ChapterResponseDTO> chapters; // 등록된 챕터 (순서대로)
+}
@@ -43,6 +43,10 @@ public class Chapter extends BaseTimeEntity {
     @Builder.Default
     private Integer paragraphs = -1;
 
+    // 본문 해시 (정규화된 본문의 SHA-256, 등록/수정 시 기록 - ETag로 사용, null이면 조회 시 계산)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     // 비즈니스 로직 메서드
     public void markAsEmbedded() {
         this.isEmbedded = true;
@@ -52,9 +56,10 @@ public class Chapter extends BaseTimeEntity {
         this.isEmbedded = false;
     }
 
-    public void updateFile(String newPath) {
+    public void updateFile(String newPath, String contentHash) {
         this.bookContentPath = newPath;
         this.isEmbedded = false; // 파일이 바뀌면 임베딩 상태 초기화
+        this.contentHash = contentHash;
     }
 
     public void updateMetadata(String chapterName, Integer sequence) {
@@ -65,9 +70,25 @@ public class Chapter extends BaseTimeEntity {
     }
 
     // URL 업데이트 메서드 (URL을 bookContentPath로 저장)
-    public void updateUrl(String newUrl) {
+    public void updateUrl(String newUrl, String contentHash) {
         this.bookContentPath = newUrl;
         this.isEmbedded = false; // URL이 바뀌면 임베딩 상태 초기화
+        this.contentHash = contentHash;
+    }
+
+    // 컨텐츠 버전 (본문 해시 앞 16자리, 해시가 없으면 저장 경로 + 수정 시각의 해시 - 캐시/인덱스 유효성 확인용)
+    public String contentVersion() {
+        if (this.contentHash != null) {
+            return this.contentHash.substring(0, Math.min(16, this.contentHash.length()));
+        }
+        try {
+            byte[] digest = java.security.MessageDigest.getInstance("SHA-256")
+                    .digest((this.bookContentPath + "|" + getUpdatedAt())
+                            .getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            return java.util.HexFormat.of().formatHex(digest, 0, 8);
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     // 문단 개수 업데이트 메서드
@@ -0,0 +1,576 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.book.entity.Book;
+import com.ohgiraffers.backendapi.domain.book.repository.BookRepository;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterBulkImportRequestDTO;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterBulkImportResponseDTO;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterResponseDTO;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterUrlRequestDTO;
+import com.ohgiraffers.backendapi.global.client.RemoteContentFetcher;
+import com.ohgiraffers.backendapi.global.common.S3Service;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 챕터 일괄 등록 서비스
+ * <p>
+ * 책 한 권의 챕터를 한 번의 요청으로 등록합니다.
+ * - URL 매니페스트: 챕터별 컨텐츠 URL 목록 (다운로드/문단 집계를 병렬 처리)
+ * - 압축 파일(zip): 챕터 JSON 파일 묶음, 선택적으로 manifest.json 포함 (S3 업로드를 병렬 처리)
+ * 파일 처리는 동시 실행 수를 제한한 전용 스레드 풀에서 트랜잭션 밖에서 진행하고,
+ * 모든 챕터가 준비되면 짧은 트랜잭션에서 챕터를 한 번에 INSERT하고 책의 전체 문단 수를 한 번만 갱신합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ChapterBulkImportService {
+
+    private static final String ARCHIVE_MANIFEST = "manifest.json";
+    // 한 번의 INSERT 문에 넣을 최대 행 수 (PostgreSQL 바인딩 파라미터 제한 고려)
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final BookRepository bookRepository;
+    private final S3Service s3Service;
+    private final RemoteContentFetcher remoteContentFetcher;
+    private final ChapterVectorRagService chapterVectorRagService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final int maxChapters;
+    private final long maxEntryBytes;
+    private final long maxArchiveBytes;
+    private final int maxEntries;
+    private final ExecutorService importExecutor;
+
+    public ChapterBulkImportService(BookRepository bookRepository,
+            S3Service s3Service,
+            RemoteContentFetcher remoteContentFetcher,
+            ChapterVectorRagService chapterVectorRagService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${chapter.bulk-import.concurrency:8}") int concurrency,
+            @Value("${chapter.bulk-import.max-chapters:1000}") int maxChapters,
+            @Value("${chapter.bulk-import.max-entry-bytes:52428800}") long maxEntryBytes,
+            @Value("${chapter.bulk-import.max-archive-bytes:524288000}") long maxArchiveBytes,
+            @Value("${chapter.bulk-import.max-entries:5000}") int maxEntries) {
+        this.bookRepository = bookRepository;
+        this.s3Service = s3Service;
+        this.remoteContentFetcher = remoteContentFetcher;
+        this.chapterVectorRagService = chapterVectorRagService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.maxChapters = maxChapters;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxArchiveBytes = maxArchiveBytes;
+        this.maxEntries = maxEntries;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.importExecutor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "ChapterImport-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdown();
+    }
+
+    /**
+     * [URL 매니페스트] 챕터 일괄 등록
+     * 각 URL을 공용 fetcher로 병렬 다운로드하여 문단 수를 집계합니다. (파일 업로드 없음)
+     */
+    public ChapterBulkImportResponseDTO importFromManifest(ChapterBulkImportRequestDTO requestDTO) {
+        List<ChapterUrlRequestDTO> items = requestDTO.getChapters();
+        if (items == null || items.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "chapters는 비어 있을 수 없습니다.");
+        }
+        validateCount(items.size());
+        for (ChapterUrlRequestDTO item : items) {
+            if (item.getContentUrl() == null || item.getContentUrl().isEmpty()) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "contentUrl은 필수입니다.");
+            }
+        }
+        ensureBookExists(requestDTO.getBookId());
+
+        List<Future<PreparedChapter>> futures = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            ChapterUrlRequestDTO item = items.get(i);
+            int order = i + 1;
+            futures.add(importExecutor.submit(() -> prepareFromUrl(item, order)));
+        }
+
+        // URL 방식은 업로드한 파일이 없으므로 실패 시 정리할 대상이 없음
+        List<PreparedChapter> prepared = awaitAll(futures, false);
+        return persist(requestDTO.getBookId(), prepared, Boolean.TRUE.equals(requestDTO.getEmbed()), false);
+    }
+
+    /**
+     * [압축 파일] 챕터 일괄 등록
+     * zip 안의 *.json 파일을 챕터로 등록합니다. manifest.json이 있으면 파일별 챕터명/순서를 그 값으로 사용합니다.
+     * <pre>
+     * manifest.json 예: [ { "file": "chapter1.json", "chapterName": "1장", "sequence": 1, "paragraphs": 120 } ]
+     * </pre>
+     */
+    public ChapterBulkImportResponseDTO importFromArchive(Long bookId, MultipartFile archive, boolean embed) {
+        if (archive == null || archive.isEmpty()) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+        }
+        ensureBookExists(bookId);
+
+        Path workDir = null;
+        try {
+            workDir = Files.createTempDirectory("chapter-import-");
+            Map<String, ManifestEntry> manifest = new HashMap<>();
+            List<Path> files = extractArchive(archive, workDir, manifest);
+            if (files.isEmpty()) {
+                throw new CustomException(ErrorCode.INVALID_FILE_TYPE, "압축 파일에 챕터 JSON 파일이 없습니다.");
+            }
+
+            List<Future<PreparedChapter>> futures = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                ManifestEntry entry = manifest.get(file.getFileName().toString());
+                int order = i + 1;
+                futures.add(importExecutor.submit(() -> prepareFromFile(file, entry, order)));
+            }
+
+            List<PreparedChapter> prepared = awaitAll(futures, true);
+            return persist(bookId, prepared, embed, true);
+
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_READ_ERROR, "압축 파일 처리 실패: " + e.getMessage());
+        } finally {
+            deleteWorkDir(workDir);
+        }
+    }
+
+    /* ------------- 내부 헬퍼 메서드 ------------- */
+
+    // 챕터 INSERT + 책 문단 수 갱신을 한 트랜잭션으로 처리, 커밋 후 임베딩 요청
+    private ChapterBulkImportResponseDTO persist(Long bookId, List<PreparedChapter> prepared, boolean embed,
+            boolean uploaded) {
+        prepared.sort(Comparator.comparing(PreparedChapter::sequence).thenComparing(PreparedChapter::order));
+
+        List<Long> chapterIds;
+        int totalParagraphs;
+        try {
+            ImportResult result = new TransactionTemplate(transactionManager).execute(status -> {
+                Book book = bookRepository.findById(bookId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
+
+                List<Long> ids = insertChapters(bookId, prepared);
+
+                int delta = prepared.stream().mapToInt(PreparedChapter::paragraphs).filter(p -> p > 0).sum();
+                if (delta > 0) {
+                    book.adjustTotalParagraphs(delta); // 챕터 수와 무관하게 책 행은 한 번만 갱신
+                }
+                return new ImportResult(ids, book.getTotalParagraphs() != null ? book.getTotalParagraphs() : 0);
+            });
+            chapterIds = result.chapterIds();
+            totalParagraphs = result.totalParagraphs();
+        } catch (RuntimeException e) {
+            if (uploaded) {
+                cleanupUploads(prepared);
+            }
+            throw e;
+        }
+
+        if (embed) {
+            // 트랜잭션 커밋 이후 요청해야 비동기 작업에서 챕터를 조회할 수 있음
+            chapterIds.forEach(chapterVectorRagService::processRagEmbedding);
+        }
+
+        log.info("챕터 일괄 등록 완료: bookId={}, chapters={}, embed={}", bookId, chapterIds.size(), embed);
+
+        Map<String, String> presignedUrls = s3Service.getPresignedUrls(prepared.stream()
+                .map(PreparedChapter::contentPath)
+                .collect(Collectors.toList()));
+        List<ChapterResponseDTO> chapters = new ArrayList<>(prepared.size());
+        for (int i = 0; i < prepared.size(); i++) {
+            PreparedChapter chapter = prepared.get(i);
+            chapters.add(ChapterResponseDTO.builder()
+                    .chapterId(chapterIds.get(i))
+                    .bookId(bookId)
+                    .chapterName(chapter.chapterName())
+                    .sequence(chapter.sequence())
+                    .bookContentPath(presignedUrls.getOrDefault(chapter.contentPath(), chapter.contentPath()))
+                    .paragraphs(chapter.paragraphs())
+                    .isEmbedded(false)
+                    .build());
+        }
+
+        return ChapterBulkImportResponseDTO.builder()
+                .bookId(bookId)
+                .importedCount(chapters.size())
+                .totalParagraphs(totalParagraphs)
+                .embeddingQueued(embed)
+                .chapters(chapters)
+                .build();
+    }
+
+    /**
+     * 챕터 다중 행 INSERT (청크당 1회 왕복)
+     * chapter_id가 IDENTITY라 JPA 배치 INSERT가 동작하지 않으므로 JDBC로 직접 처리합니다.
+     *
+     * @return prepared 순서와 같은 순서의 chapter_id 목록
+     */
+    private List<Long> insertChapters(Long bookId, List<PreparedChapter> prepared) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<String, Deque<Long>> idsByPath = new HashMap<>();
+
+        for (int from = 0; from < prepared.size(); from += INSERT_CHUNK_SIZE) {
+            List<PreparedChapter> chunk = prepared.subList(from, Math.min(from + INSERT_CHUNK_SIZE, prepared.size()));
+
+            String values = chunk.stream().map(c -> "(?, ?, ?, ?, false, ?, ?, ?, ?)").collect(Collectors.joining(", "));
+            String sql = "INSERT INTO chapters (book_id, chapter_name, sequence, book_content_path, is_embedded,"
+                    + " paragraphs, content_hash, created_at, updated_at) VALUES " + values
+                    + " RETURNING chapter_id, book_content_path";
+
+            List<Object> args = new ArrayList<>(chunk.size() * 8);
+            for (PreparedChapter c : chunk) {
+                args.add(bookId);
+                args.add(c.chapterName());
+                args.add(c.sequence());
+                args.add(c.contentPath());
+                args.add(c.paragraphs());
+                args.add(c.contentHash());
+                args.add(now);
+                args.add(now);
+            }
+
+            // RETURNING 행 순서에 의존하지 않도록 저장 경로로 ID를 매칭
+            jdbcTemplate.query(sql, rs -> {
+                idsByPath.computeIfAbsent(rs.getString("book_content_path"), k -> new ArrayDeque<>())
+                        .add(rs.getLong("chapter_id"));
+            }, args.toArray());
+        }
+
+        List<Long> ids = new ArrayList<>(prepared.size());
+        for (PreparedChapter c : prepared) {
+            ids.add(idsByPath.get(c.contentPath()).poll());
+        }
+        return ids;
+    }
+
+    private PreparedChapter prepareFromUrl(ChapterUrlRequestDTO item, int order) {
+        JsonNode root = null;
+        try (InputStream in = remoteContentFetcher.openStream(item.getContentUrl())) {
+            root = objectMapper.readTree(in);
+        } catch (Exception e) {
+            log.warn("일괄 등록 - 컨텐츠 파싱 실패 (입력값 사용): {} - {}", item.getContentUrl(), e.getMessage());
+        }
+        return new PreparedChapter(
+                resolveName(item.getChapterName(), root),
+                resolveSequence(item.getSequence(), root, order),
+                item.getContentUrl(),
+                resolveParagraphs(root, item.getParagraphs()),
+                contentHash(root),
+                order);
+    }
+
+    private PreparedChapter prepareFromFile(Path file, ManifestEntry entry, int order) throws IOException {
+        String fileName = file.getFileName().toString();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(file.toFile());
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_FILE_TYPE, fileName + ": JSON 형식이 아닙니다.");
+        }
+
+        String s3Url;
+        try (InputStream in = Files.newInputStream(file)) {
+            s3Url = s3Service.uploadJsonStream(in, fileName, "book");
+        }
+
+        return new PreparedChapter(
+                resolveName(entry != null ? entry.chapterName() : null, root),
+                resolveSequence(entry != null ? entry.sequence() : null, root, order),
+                s3Url,
+                resolveParagraphs(root, entry != null ? entry.paragraphs() : null),
+                contentHash(root),
+                order);
+    }
+
+    // 정규화된 본문 해시 (챕터 본문 ETag, 파싱 실패 시 첫 조회에서 계산)
+    private String contentHash(JsonNode root) {
+        if (root == null) {
+            return null;
+        }
+        try {
+            return ChapterContentVariants.sha256Hex(objectMapper.writeValueAsBytes(root));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // zip 압축 해제 (챕터 JSON은 작업 폴더에 저장, manifest.json은 파싱)
+    // 압축 폭탄 방지: 항목 수, 항목별/전체 해제 크기를 실제로 읽은 바이트 기준으로 제한
+    private List<Path> extractArchive(MultipartFile archive, Path workDir, Map<String, ManifestEntry> manifest)
+            throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            LimitedEntryStream limited = new LimitedEntryStream(zip, maxEntryBytes, maxArchiveBytes);
+            int entryCount = 0;
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (++entryCount > maxEntries) {
+                    throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED,
+                            "압축 파일 항목은 최대 " + maxEntries + "개입니다.");
+                }
+                // 디렉토리 구조는 무시하고 파일명만 사용 (경로 조작 방지)
+                String fileName = Paths.get(entry.getName()).getFileName().toString();
+                if (entry.isDirectory() || entry.getName().startsWith("__MACOSX") || fileName.startsWith(".")
+                        || !fileName.toLowerCase().endsWith(".json")) {
+                    continue;
+                }
+
+                limited.nextEntry(fileName);
+                if (ARCHIVE_MANIFEST.equalsIgnoreCase(fileName)) {
+                    List<ManifestEntry> entries = objectMapper.readValue(limited.readAllBytes(),
+                            new TypeReference<List<ManifestEntry>>() {
+                            });
+                    entries.forEach(e -> manifest.put(e.file(), e));
+                    continue;
+                }
+
+                validateCount(files.size() + 1);
+                Path target = workDir.resolve(fileName);
+                if (Files.exists(target)) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "중복된 파일명: " + fileName);
+                }
+                Files.copy(limited, target);
+                files.add(target);
+            }
+        }
+        files.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return files;
+    }
+
+    // 병렬 작업 결과 수집 (하나라도 실패하면 나머지를 취소하고 업로드된 파일 정리)
+    private List<PreparedChapter> awaitAll(List<Future<PreparedChapter>> futures, boolean uploaded) {
+        List<PreparedChapter> prepared = new ArrayList<>(futures.size());
+        try {
+            for (Future<PreparedChapter> future : futures) {
+                prepared.add(future.get());
+            }
+            return prepared;
+        } catch (InterruptedException | ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (uploaded) {
+                // 이미 끝난 작업의 업로드 결과까지 모아서 정리
+                for (Future<PreparedChapter> future : futures) {
+                    if (future.isDone() && !future.isCancelled()) {
+                        try {
+                            PreparedChapter chapter = future.get();
+                            if (!prepared.contains(chapter)) {
+                                prepared.add(chapter);
+                            }
+                        } catch (Exception ignored) {
+                            // 실패한 작업은 업로드 결과가 없음
+                        }
+                    }
+                }
+                cleanupUploads(prepared);
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, "일괄 등록이 중단되었습니다.");
+            }
+            if (e.getCause() instanceof CustomException cause) {
+                throw cause;
+            }
+            log.error("챕터 일괄 등록 실패", e.getCause());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, e.getCause().getMessage());
+        }
+    }
+
+    private void cleanupUploads(List<PreparedChapter> prepared) {
+        prepared.forEach(chapter -> s3Service.deleteFile(chapter.contentPath()));
+    }
+
+    private void ensureBookExists(Long bookId) {
+        if (bookId == null || !bookRepository.existsById(bookId)) {
+            throw new CustomException(ErrorCode.BOOK_NOT_FOUND);
+        }
+    }
+
+    private void validateCount(int count) {
+        if (count > maxChapters) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "한 번에 등록할 수 있는 챕터는 최대 " + maxChapters + "개입니다.");
+        }
+    }
+
+    private String resolveName(String chapterName, JsonNode root) {
+        if (chapterName != null && !chapterName.isEmpty()) {
+            return chapterName;
+        }
+        // 이름 자동 추출 (예: 'book_name' + 'chapter')
+        if (root != null && root.has("book_name")) {
+            int chapterNum = root.has("chapter") ? root.get("chapter").asInt() : 0;
+            return root.get("book_name").asText() + " Chapter " + chapterNum;
+        }
+        return "Untitled Chapter";
+    }
+
+    private Integer resolveSequence(Integer sequence, JsonNode root, int order) {
+        if (sequence != null) {
+            return sequence;
+        }
+        if (root != null && root.has("chapter")) {
+            return root.get("chapter").asInt();
+        }
+        return order; // 파일명 정렬 순서
+    }
+
+    private int resolveParagraphs(JsonNode root, Integer requested) {
+        int counted = ChapterParagraphIndex.countParagraphs(root);
+        if (counted >= 0) {
+            return counted;
+        }
+        return requested != null ? requested : -1;
+    }
+
+    private void deleteWorkDir(Path workDir) {
+        if (workDir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("임시 파일 삭제 실패: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("임시 폴더 삭제 실패: {}", workDir);
+        }
+    }
+
+    // 등록 준비가 끝난 챕터 (저장 경로 + 메타데이터)
+    private record PreparedChapter(String chapterName, Integer sequence, String contentPath, int paragraphs,
+            String contentHash, int order) {
+    }
+
+    /**
+     * 압축 해제 크기 제한 스트림
+     * zip 항목을 읽는 동안 항목별/전체 바이트 수를 세고, 제한을 넘으면 즉시 중단합니다.
+     * (헤더의 크기 값은 조작할 수 있으므로 실제로 읽은 바이트로 판단, close는 zip 스트림에 전달하지 않음)
+     */
+    static final class LimitedEntryStream extends FilterInputStream {
+
+        private final long maxEntryBytes;
+        private final long maxTotalBytes;
+        private String entryName;
+        private long entryBytes;
+        private long totalBytes;
+
+        LimitedEntryStream(InputStream in, long maxEntryBytes, long maxTotalBytes) {
+            super(in);
+            this.maxEntryBytes = maxEntryBytes;
+            this.maxTotalBytes = maxTotalBytes;
+        }
+
+        void nextEntry(String name) {
+            this.entryName = name;
+            this.entryBytes = 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            // 하위 스트림에 위임하면 바이트 수를 셀 수 없으므로 read를 거쳐 복사 (Files.copy 경로)
+            byte[] buffer = new byte[8192];
+            long transferred = 0;
+            int read;
+            while ((read = read(buffer, 0, buffer.length)) >= 0) {
+                out.write(buffer, 0, read);
+                transferred += read;
+            }
+            return transferred;
+        }
+
+        @Override
+        public void close() {
+            // zip 스트림은 호출한 쪽에서 닫음
+        }
+
+        private void count(int read) {
+            entryBytes += read;
+            totalBytes += read;
+            if (entryBytes > maxEntryBytes) {
+                throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED,
+                        entryName + ": 파일 하나의 크기는 최대 " + maxEntryBytes + "바이트입니다.");
+            }
+            if (totalBytes > maxTotalBytes) {
+                throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED,
+                        "압축 해제 크기는 최대 " + maxTotalBytes + "바이트입니다.");
+            }
+        }
+    }
+
+    // 압축 파일 내 manifest.json 항목
+    private record ManifestEntry(String file, String chapterName, Integer sequence, Integer paragraphs) {
+    }
+
+    private record ImportResult(List<Long> chapterIds, int totalParagraphs) {
+    }
+}
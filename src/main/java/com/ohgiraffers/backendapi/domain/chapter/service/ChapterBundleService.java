@@ -0,0 +1,357 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 책 오프라인 번들 생성/캐시
+ * <p>
+ * 책의 모든 챕터 본문(sequence 순)과 문단 인덱스를 하나의 gzip JSON 파일로 묶어 로컬 디스크에 보관합니다.
+ * 번들 버전은 챕터 목록(ID, 순서, 이름, 문단 수, 본문 해시, 수정 시각)의 해시이므로
+ * 챕터가 추가/수정/삭제되면 버전이 바뀌어 다음 요청에서 새로 생성됩니다.
+ * 이전 버전 파일은 받고 있는 다운로드/이어받기가 끝나도록 유예 기간(retention) 동안 남겨 두고, 주기적으로 정리합니다.
+ * </p>
+ * <p>
+ * 생성은 전용 스레드에서 실행되며 같은 번들을 동시에 요청해도 한 번만 실행됩니다.
+ * 요청은 잠시(wait-millis)만 기다리고, 그 안에 끝나지 않으면 생성 중임을 알려 나중에 다시 받도록 합니다.
+ * </p>
+ * 번들 형식:
+ * { "bookId", "version",
+ *   "chapters": [ { "chapterId", "content": { 챕터 본문 JSON } } ],
+ *   "index": [ { "chapterId", "chapterName", "sequence", "paragraphs", "firstParagraph", "paragraphIds": [ ] } ],
+ *   "totalParagraphs" }
+ */
+@Slf4j
+@Service
+public class ChapterBundleService {
+
+    private final ChapterRepository chapterRepository;
+    private final ChapterService chapterService;
+    private final ObjectMapper objectMapper;
+    private final String bundleDir;
+    private final long waitMillis;
+    private final Duration retention;
+    private final ExecutorService buildExecutor;
+
+    // 생성 중인 번들 (파일명 -> 생성 작업)
+    private final Map<String, CompletableFuture<Path>> building = new ConcurrentHashMap<>();
+
+    public ChapterBundleService(ChapterRepository chapterRepository,
+            ChapterService chapterService,
+            ObjectMapper objectMapper,
+            @Value("${chapter.bundle.dir:${file.upload-dir}/bundles}") String bundleDir,
+            @Value("${chapter.bundle.build-threads:2}") int buildThreads,
+            @Value("${chapter.bundle.wait-millis:3000}") long waitMillis,
+            @Value("${chapter.bundle.retention-minutes:30}") long retentionMinutes) {
+        this.chapterRepository = chapterRepository;
+        this.chapterService = chapterService;
+        this.objectMapper = objectMapper;
+        this.bundleDir = bundleDir;
+        this.waitMillis = waitMillis;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.buildExecutor = Executors.newFixedThreadPool(Math.max(1, buildThreads), runnable -> {
+            Thread thread = new Thread(runnable, "ChapterBundle-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdownNow();
+    }
+
+    /**
+     * 책 번들 조회 (현재 버전의 번들이 없으면 백그라운드에서 생성)
+     *
+     * @param bookId 책 ID
+     * @return 번들 파일과 버전, 대기 시간 안에 생성이 끝나지 않았으면 empty (생성은 계속 진행)
+     */
+    public Optional<Bundle> getBundle(Long bookId) {
+        List<Chapter> chapters = chapterRepository.findByBook_BookIdOrderBySequenceAsc(bookId);
+        if (chapters.isEmpty()) {
+            throw new CustomException(ErrorCode.CHAPTER_NOT_FOUND, "책에 등록된 챕터가 없습니다.");
+        }
+
+        String version = version(chapters);
+        Path file = dir().resolve(fileName(bookId, version));
+        if (Files.exists(file)) {
+            return Optional.of(new Bundle(bookId, version, file));
+        }
+
+        // 같은 버전은 한 번만 생성하고 나머지 요청은 같은 작업을 기다림
+        String key = file.getFileName().toString();
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = building.putIfAbsent(key, created);
+        if (existing == null) {
+            existing = created;
+            try {
+                buildExecutor.execute(() -> {
+                    try {
+                        if (!Files.exists(file)) {
+                            build(bookId, version, chapters, file);
+                        }
+                        created.complete(file);
+                    } catch (RuntimeException e) {
+                        created.completeExceptionally(e);
+                    } finally {
+                        building.remove(key, created);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                building.remove(key, created);
+                throw new CustomException(ErrorCode.FILE_READ_ERROR, "책 번들 생성 요청을 처리할 수 없습니다.");
+            }
+        }
+        return await(existing).map(path -> new Bundle(bookId, version, path));
+    }
+
+    /**
+     * 유예 기간이 지난 이전 버전 번들 정리
+     * 이전 버전이 교체된 시각은 바로 다음 버전 파일의 생성 시각으로 판단하고, 책별 최신 버전은 항상 남깁니다.
+     */
+    @Scheduled(fixedDelayString = "${chapter.bundle.cleanup-interval-ms:600000}",
+            initialDelayString = "${chapter.bundle.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        Path dir = dir();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        Map<String, List<Path>> byBook = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*-*.json.gz")) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                byBook.computeIfAbsent(name.substring(0, name.indexOf('-')), id -> new ArrayList<>()).add(path);
+            }
+        } catch (IOException e) {
+            log.warn("책 번들 정리 실패: {}", dir, e);
+            return;
+        }
+
+        long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+        for (List<Path> versions : byBook.values()) {
+            if (versions.size() < 2) {
+                continue;
+            }
+            try {
+                List<Long> modified = new ArrayList<>(versions.size());
+                versions.sort(Comparator.comparingLong(ChapterBundleService::lastModified));
+                for (Path path : versions) {
+                    modified.add(lastModified(path));
+                }
+                for (int i = 0; i < versions.size() - 1; i++) {
+                    if (modified.get(i + 1) <= expiredBefore) {
+                        Files.deleteIfExists(versions.get(i));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("이전 책 번들 삭제 실패: {}", versions.get(0).getFileName(), e);
+            }
+        }
+    }
+
+    private void build(Long bookId, String version, List<Chapter> chapters, Path target) {
+        long start = System.currentTimeMillis();
+        Path dir = dir();
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, bookId + "-", ".bundle.tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024);
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeNumberField("bookId", bookId);
+                generator.writeStringField("version", version);
+
+                // 1. 챕터 본문 (정규화된 본문 파일을 토큰 단위로 옮기고, 문단 ID만 모아 둠)
+                List<List<String>> paragraphIds = new ArrayList<>(chapters.size());
+                generator.writeArrayFieldStart("chapters");
+                for (Chapter chapter : chapters) {
+                    Path content = chapterService.resolveContentVariants(chapter).identityPath();
+                    paragraphIds.add(paragraphIds(content));
+                    generator.writeStartObject();
+                    generator.writeNumberField("chapterId", chapter.getChapterId());
+                    generator.writeFieldName("content");
+                    try (JsonParser parser = objectMapper.createParser(content.toFile())) {
+                        parser.nextToken();
+                        generator.copyCurrentStructure(parser);
+                    }
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+
+                // 2. 문단 인덱스 (챕터별 문단 ID 목록 + 책 전체 기준 첫 문단 번호)
+                int firstParagraph = 1;
+                generator.writeArrayFieldStart("index");
+                for (int i = 0; i < chapters.size(); i++) {
+                    Chapter chapter = chapters.get(i);
+                    List<String> ids = paragraphIds.get(i);
+                    generator.writeStartObject();
+                    generator.writeNumberField("chapterId", chapter.getChapterId());
+                    generator.writeStringField("chapterName", chapter.getChapterName());
+                    generator.writeNumberField("sequence", chapter.getSequence());
+                    generator.writeNumberField("paragraphs", ids.size());
+                    generator.writeNumberField("firstParagraph", firstParagraph);
+                    generator.writeArrayFieldStart("paragraphIds");
+                    for (String id : ids) {
+                        generator.writeString(id);
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                    firstParagraph += ids.size();
+                }
+                generator.writeEndArray();
+                generator.writeNumberField("totalParagraphs", firstParagraph - 1);
+                generator.writeEndObject();
+            }
+
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("책 번들 생성 완료: bookId={}, chapters={}, {} bytes, {}ms", bookId, chapters.size(),
+                    Files.size(target), System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.error("책 번들 생성 실패: bookId={}", bookId, e);
+            throw new CustomException(ErrorCode.FILE_READ_ERROR, "책 번들 생성 중 오류가 발생했습니다.");
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    // 본문 속 문단 ID 목록 (문단 배열 순서, 트리를 만들지 않고 스트리밍으로 읽음)
+    private List<String> paragraphIds(Path content) throws IOException {
+        List<String> ids = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(content.toFile())) {
+            if (!ChapterParagraphIndex.moveToParagraphArray(parser)) {
+                return ids;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("id".equals(name) && value.isScalarValue()) {
+                        ids.add(parser.getText());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    // 챕터 목록이 바뀌면 달라지는 번들 버전
+    // (본문 해시가 없는 챕터도 컨텐츠 버전과 수정 시각으로 변경을 감지)
+    private String version(List<Chapter> chapters) {
+        StringBuilder key = new StringBuilder();
+        for (Chapter chapter : chapters) {
+            key.append(chapter.getChapterId()).append('|')
+                    .append(chapter.getSequence()).append('|')
+                    .append(chapter.getChapterName()).append('|')
+                    .append(chapter.getParagraphs()).append('|')
+                    .append(chapter.getContentHash() != null ? chapter.getContentHash() : chapter.contentVersion())
+                    .append('|')
+                    .append(chapter.getUpdatedAt()).append('\n');
+        }
+        return ChapterContentVariants.sha256Hex(key.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private Optional<Path> await(CompletableFuture<Path> future) {
+        try {
+            return Optional.of(future.get(waitMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.FILE_READ_ERROR, "책 번들 생성 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(ErrorCode.FILE_READ_ERROR, "책 번들 생성 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String fileName(Long bookId, String version) {
+        return bookId + "-" + version + ".json.gz";
+    }
+
+    private Path dir() {
+        return Paths.get(bundleDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 책 번들
+     *
+     * @param bookId  책 ID
+     * @param version 번들 버전 (ETag로 사용)
+     * @param file    gzip 압축된 번들 파일
+     */
+    public record Bundle(Long bookId, String version, Path file) {
+
+        public String etag() {
+            return "\"" + version + "\"";
+        }
+
+        public String downloadName() {
+            return "book-" + bookId + "-" + version + ".json.gz";
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 파싱된 챕터 본문(JsonNode) 인메모리 캐시
+ * <p>
+ * 키는 (chapterId, 컨텐츠 버전)이며, 원본 크기(byte)를 가중치로 사용하여
+ * 총 가중치가 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다(LRU).
+ * 캐시된 JsonNode는 여러 요청이 공유하므로 호출 측에서 수정하면 안 됩니다.
+ * 로드 중인 챕터의 세대(generation) 번호로, invalidate 이전에 시작된 로드가 예전 본문을 다시 넣지 못하게 합니다.
+ * (세대 번호는 로드가 진행 중인 동안만 유지하므로 동시에 로드 중인 챕터 수 이상 늘어나지 않음)
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChapterContentCache {
+
+    private final long maxWeightBytes;
+
+    // access-order LinkedHashMap (가장 최근 사용 항목이 뒤쪽)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalWeight = 0L;
+    // 로드 중인 챕터별 상태 (마지막 로드가 끝나면 제거)
+    private final Map<Long, Loading> loading = new HashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public ChapterContentCache(MeterRegistry meterRegistry,
+            @Value("${chapter.content-cache.max-weight-bytes:67108864}") long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.hitCounter = Counter.builder("chapter.content.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chapter.content.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("chapter.content.cache.evictions")
+                .register(meterRegistry);
+        Gauge.builder("chapter.content.cache.weight.bytes", this, ChapterContentCache::getTotalWeight)
+                .register(meterRegistry);
+        Gauge.builder("chapter.content.cache.size", this, ChapterContentCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 챕터 본문을 조회하고, 없으면 loader로 읽어와 저장합니다.
+     *
+     * @param chapter 조회 대상 챕터
+     * @param loader  캐시 미스 시 원본을 읽어오는 함수
+     * @return 파싱된 챕터 본문
+     */
+    public JsonNode get(Chapter chapter, Supplier<LoadedContent> loader) {
+        Key key = new Key(chapter.getChapterId(), chapter.contentVersion());
+        long generation;
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached.node();
+            }
+            Loading state = loading.computeIfAbsent(key.chapterId(), id -> new Loading());
+            state.count++;
+            generation = state.generation;
+        }
+
+        // 네트워크/디스크 I/O는 락 밖에서 수행
+        missCounter.increment();
+        LoadedContent loaded = null;
+        try {
+            loaded = loader.get();
+        } finally {
+            complete(key, loaded, generation);
+        }
+        return loaded.node();
+    }
+
+    /**
+     * 캐시에 있는 경우에만 반환 (원본을 읽지 않음)
+     *
+     * @return 캐시된 본문, 없으면 null
+     */
+    public synchronized JsonNode getIfPresent(Chapter chapter) {
+        Entry cached = entries.get(new Key(chapter.getChapterId(), chapter.contentVersion()));
+        if (cached == null) {
+            return null;
+        }
+        hitCounter.increment();
+        return cached.node();
+    }
+
+    /**
+     * 특정 챕터의 모든 버전 캐시 제거 (수정/삭제 시 호출)
+     */
+    public synchronized void invalidate(Long chapterId) {
+        // 진행 중인 로드가 있으면 세대를 올려 그 결과를 버리게 함
+        Loading state = loading.get(chapterId);
+        if (state != null) {
+            state.generation++;
+        }
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> e = it.next();
+            if (e.getKey().chapterId().equals(chapterId)) {
+                totalWeight -= e.getValue().weight();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // 로드 종료 처리 (성공한 경우에만 저장, 실패하면 loaded는 null)
+    private synchronized void complete(Key key, LoadedContent loaded, long generation) {
+        Loading state = loading.get(key.chapterId());
+        boolean stale = state == null || state.generation != generation;
+        if (state != null && --state.count == 0) {
+            loading.remove(key.chapterId());
+        }
+        if (loaded == null) {
+            return;
+        }
+        if (stale) {
+            // 로드 중에 invalidate됨 - 예전 본문일 수 있으므로 저장하지 않음
+            log.debug("로드 중 무효화된 챕터 컨텐츠 캐싱 생략: chapterId={}", key.chapterId());
+            return;
+        }
+        put(key, loaded);
+    }
+
+    private void put(Key key, LoadedContent loaded) {
+        long weight = Math.max(loaded.weightBytes(), 1L);
+        if (weight > maxWeightBytes) {
+            // 단일 항목이 상한보다 크면 캐싱하지 않음
+            log.debug("챕터 컨텐츠가 캐시 상한보다 커서 캐싱 생략: chapterId={}, {} bytes", key.chapterId(), weight);
+            return;
+        }
+
+        Entry previous = entries.put(key, new Entry(loaded.node(), weight));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+
+        // 상한 초과 시 LRU 순서로 제거
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (totalWeight > maxWeightBytes && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight();
+            it.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private record Key(Long chapterId, String version) {
+    }
+
+    // 챕터의 진행 중인 로드 수와 세대 번호
+    private static final class Loading {
+        private int count;
+        private long generation;
+    }
+
+    private record Entry(JsonNode node, long weight) {
+    }
+
+    /**
+     * loader가 반환하는 값: 파싱된 본문과 원본 크기(가중치)
+     */
+    public record LoadedContent(JsonNode node, long weightBytes) {
+    }
+}
@@ -0,0 +1,254 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 챕터 본문 사전 압축 저장소
+ * <p>
+ * 응답에 그대로 쓸 챕터 본문(정규화된 JSON)과 gzip 압축본을 로컬 디스크에 보관합니다.
+ * 요청마다 직렬화/압축하지 않고 파일을 그대로 전송하며,
+ * 본문 SHA-256을 ETag로 사용해 변경되지 않은 챕터는 304로 응답합니다.
+ * </p>
+ * 파일: {chapterId}.json, {chapterId}.json.gz, {chapterId}.meta.json(버전, 해시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterContentVariants {
+
+    public static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${chapter.content-variants.dir:${file.upload-dir}/content-variants}")
+    private String variantDir;
+
+    /**
+     * 본문 변형(원본 + gzip) 저장
+     *
+     * @param chapterId 챕터 ID
+     * @param version   챕터 컨텐츠 버전
+     * @param json      정규화된 본문 JSON
+     * @return 저장된 변형 정보
+     */
+    public Variants store(Long chapterId, String version, byte[] json) throws IOException {
+        return store(chapterId, version, sha256Hex(json), json.length, out -> out.write(json));
+    }
+
+    /**
+     * 파일에 기록된 본문으로 변형(원본 + gzip) 저장 - 본문을 메모리에 올리지 않고 스트림으로 복사
+     *
+     * @param chapterId 챕터 ID
+     * @param version   챕터 컨텐츠 버전
+     * @param json      정규화된 본문 JSON 파일
+     * @param hash      본문 SHA-256 (기록 시 함께 계산한 값)
+     * @return 저장된 변형 정보
+     */
+    public Variants store(Long chapterId, String version, Path json, String hash) throws IOException {
+        return store(chapterId, version, hash, Files.size(json), out -> {
+            try (InputStream in = Files.newInputStream(json)) {
+                in.transferTo(out);
+            }
+        });
+    }
+
+    private Variants store(Long chapterId, String version, String hash, long size, Body body) throws IOException {
+        Path dir = dir();
+        Files.createDirectories(dir);
+
+        // 임시 파일에 쓴 뒤 교체하여 전송 중인 요청이 깨진 파일을 읽지 않도록 함
+        Path identityTmp = Files.createTempFile(dir, chapterId + "-", ".json.tmp");
+        try (OutputStream out = Files.newOutputStream(identityTmp)) {
+            body.writeTo(out);
+        }
+        Files.move(identityTmp, identityPath(chapterId), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        Path gzipTmp = Files.createTempFile(dir, chapterId + "-", ".gz.tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipTmp), 64 * 1024) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION); // 한 번 압축해서 계속 재사용하므로 최대 압축
+            }
+        }) {
+            body.writeTo(out);
+        }
+        Files.move(gzipTmp, gzipPath(chapterId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // 메타데이터는 마지막에 기록 (메타데이터가 있으면 본문 파일도 있음을 보장)
+        Path metaTmp = Files.createTempFile(dir, chapterId + "-", ".meta.tmp");
+        objectMapper.writeValue(metaTmp.toFile(), new Meta(version, hash));
+        Files.move(metaTmp, metaPath(chapterId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("챕터 본문 압축본 생성: chapterId={}, {} bytes -> {} bytes (gzip)", chapterId, size,
+                Files.size(gzipPath(chapterId)));
+        return new Variants(hash, identityPath(chapterId), gzipPath(chapterId));
+    }
+
+    /**
+     * 현재 버전의 본문 변형 조회
+     *
+     * @return 없거나 버전이 다르면 empty
+     */
+    public Optional<Variants> find(Long chapterId, String version) {
+        Path meta = metaPath(chapterId);
+        if (!Files.exists(meta)) {
+            return Optional.empty();
+        }
+        try {
+            Meta stored = objectMapper.readValue(meta.toFile(), Meta.class);
+            if (!stored.version().equals(version)
+                    || !Files.exists(identityPath(chapterId)) || !Files.exists(gzipPath(chapterId))) {
+                return Optional.empty();
+            }
+            return Optional.of(new Variants(stored.hash(), identityPath(chapterId), gzipPath(chapterId)));
+        } catch (IOException e) {
+            log.warn("챕터 본문 압축본 메타데이터 읽기 실패: chapterId={}", chapterId);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 챕터 본문 변형 삭제 (수정/삭제 시 호출)
+     */
+    public void delete(Long chapterId) {
+        try {
+            Files.deleteIfExists(metaPath(chapterId));
+            Files.deleteIfExists(identityPath(chapterId));
+            Files.deleteIfExists(gzipPath(chapterId));
+        } catch (IOException e) {
+            log.warn("챕터 본문 압축본 삭제 실패: chapterId={}", chapterId, e);
+        }
+    }
+
+    /**
+     * 본문 해시 (ETag 및 DB content_hash 값)
+     */
+    public static String sha256Hex(byte[] data) {
+        return HexFormat.of().formatHex(newSha256().digest(data));
+    }
+
+    /**
+     * 본문 해시 계산기 (스트림으로 기록하면서 계산할 때 사용)
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 표현(인코딩)별 Strong ETag - 같은 본문이라도 인코딩이 다르면 다른 값
+     */
+    public static String etag(String hash, String encoding) {
+        return "\"" + hash + (encoding != null ? "-" + encoding : "") + "\"";
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 확인 (q=0은 거부로 처리)
+     * br은 인코더 의존성이 없어 제공하지 않으므로 gzip으로 대체됩니다.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase();
+            boolean allowed = true;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        allowed = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        allowed = false;
+                    }
+                }
+            }
+            if (coding.equals(GZIP) || coding.equals("x-gzip")) {
+                return allowed;
+            }
+            if (coding.equals("*")) {
+                wildcard = allowed;
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (약한 비교, '*' 지원)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Path dir() {
+        return Paths.get(variantDir).toAbsolutePath().normalize();
+    }
+
+    private Path identityPath(Long chapterId) {
+        return dir().resolve(chapterId + ".json");
+    }
+
+    private Path gzipPath(Long chapterId) {
+        return dir().resolve(chapterId + ".json.gz");
+    }
+
+    private Path metaPath(Long chapterId) {
+        return dir().resolve(chapterId + ".meta.json");
+    }
+
+    /**
+     * 저장된 본문 변형
+     *
+     * @param hash         본문 SHA-256 (hex)
+     * @param identityPath 비압축 본문 파일
+     * @param gzipPath     gzip 압축본 파일
+     */
+    @FunctionalInterface
+    private interface Body {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public record Variants(String hash, Path identityPath, Path gzipPath) {
+    }
+
+    private record Meta(String version, String hash) {
+    }
+}
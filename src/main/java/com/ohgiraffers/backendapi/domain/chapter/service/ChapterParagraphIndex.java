@@ -0,0 +1,382 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 챕터 문단 오프셋 인덱스
+ * <p>
+ * 챕터 등록 시 문단 ID -> [offset, length] 헤더와 문단 텍스트(UTF-8)를 이어 붙인
+ * 로컬 인덱스 파일({chapterId}-{version}.pidx)을 생성합니다.
+ * 문단 조회는 전체 JSON 파싱 없이 FileChannel 위치 지정 읽기 한 번으로 처리됩니다.
+ * - 버전은 Chapter.contentVersion() (DB에 기록된 본문 해시 기준)
+ * - 인덱스는 서버별 로컬 파일이지만, 조회마다 DB의 현재 버전과 비교하므로
+ *   다른 서버에서 본문이 수정되면 버전이 달라져 이 서버에서도 다시 생성됨
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterParagraphIndex {
+
+    private static final int MAX_LOADED_INDEXES = 512;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${chapter.paragraph-index.dir:${file.upload-dir}/paragraph-index}")
+    private String indexDir;
+
+    // 최근 사용한 챕터 인덱스만 메모리에 유지 (LRU)
+    private final Map<Long, LoadedIndex> loaded = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LoadedIndex> eldest) {
+            return size() > MAX_LOADED_INDEXES;
+        }
+    };
+
+    /**
+     * 챕터 본문에서 문단 배열 찾기 (루트 배열 / content / paragraphs 필드)
+     *
+     * @return 문단 배열 노드, 없으면 null
+     */
+    public static JsonNode findParagraphArray(JsonNode root) {
+        if (root == null) {
+            return null;
+        }
+        if (root.isArray()) {
+            return root;
+        }
+        if (root.isObject()) {
+            if (root.has("content") && root.get("content").isArray()) {
+                return root.get("content");
+            }
+            if (root.has("paragraphs") && root.get("paragraphs").isArray()) {
+                return root.get("paragraphs");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 챕터 본문의 실제 문단 개수 (id가 있는 문단만 집계)
+     *
+     * @return 문단 개수, 문단 배열이 없으면 -1
+     */
+    public static int countParagraphs(JsonNode root) {
+        JsonNode paragraphs = findParagraphArray(root);
+        if (paragraphs == null) {
+            return -1;
+        }
+        int count = 0;
+        for (JsonNode node : paragraphs) {
+            if (node.has("id")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 문단 인덱스 생성 (기존 인덱스는 교체)
+     *
+     * @param chapterId 챕터 ID
+     * @param version   챕터 컨텐츠 버전 (인덱스 유효성 확인용)
+     * @param root      파싱된 챕터 본문
+     * @return 실제 문단 개수, 문단 배열이 없으면 -1
+     */
+    public int build(Long chapterId, String version, JsonNode root) {
+        JsonNode paragraphs = findParagraphArray(root);
+        if (paragraphs == null) {
+            log.warn("문단 배열을 찾을 수 없어 인덱스를 생성하지 않습니다. chapterId={}", chapterId);
+            return -1;
+        }
+        return write(chapterId, version, sink -> {
+            for (JsonNode node : paragraphs) {
+                sink.accept(node);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * 파일에 기록된 본문으로 문단 인덱스 생성 - 문서 전체를 트리로 올리지 않고 문단 단위로 읽음
+     *
+     * @param chapterId 챕터 ID
+     * @param version   챕터 컨텐츠 버전 (인덱스 유효성 확인용)
+     * @param json      챕터 본문 JSON 파일
+     * @return 실제 문단 개수, 문단 배열이 없으면 -1
+     */
+    public int build(Long chapterId, String version, Path json) {
+        int count = write(chapterId, version, sink -> {
+            try (JsonParser parser = objectMapper.createParser(json.toFile())) {
+                if (!moveToParagraphArray(parser)) {
+                    return false;
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                    if (token == JsonToken.START_OBJECT) {
+                        sink.accept(objectMapper.readTree(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                return true;
+            }
+        });
+        if (count < 0) {
+            log.warn("문단 배열을 찾을 수 없어 인덱스를 생성하지 않습니다. chapterId={}", chapterId);
+        }
+        return count;
+    }
+
+    // 문단 배열 시작 위치로 이동 (루트 배열 / content / paragraphs 필드 중 먼저 나오는 배열)
+    static boolean moveToParagraphArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return true;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && ("content".equals(name) || "paragraphs".equals(name))) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    // 문단 텍스트는 임시 파일로 바로 쓰고, 헤더를 앞에 붙여 인덱스 파일 생성 (문단 배열이 없으면 -1)
+    private int write(Long chapterId, String version, ParagraphSource source) {
+        Map<String, long[]> offsets = new LinkedHashMap<>();
+        Path dataTmp = null;
+        try {
+            Path dir = indexDirPath();
+            Files.createDirectories(dir);
+
+            dataTmp = Files.createTempFile(dir, chapterId + "-", ".data.tmp");
+            long[] size = { 0 };
+            boolean found;
+            try (OutputStream data = new BufferedOutputStream(Files.newOutputStream(dataTmp), 64 * 1024)) {
+                found = source.forEach(node -> {
+                    if (!node.has("id")) {
+                        return;
+                    }
+                    byte[] text = (node.has("text") ? node.get("text").asText() : "").getBytes(StandardCharsets.UTF_8);
+                    offsets.put(node.get("id").asText(), new long[] { size[0], text.length });
+                    data.write(text);
+                    size[0] += text.length;
+                });
+            }
+            if (!found) {
+                return -1;
+            }
+
+            // 헤더(버전 + 오프셋)와 문단 데이터를 한 파일에 쓰고, 버전별 파일명으로 한 번에 교체
+            // (조회 중인 요청이 서로 다른 버전의 헤더/데이터를 섞어 읽지 않도록 함)
+            byte[] header = objectMapper.writeValueAsBytes(new IndexFile(version, offsets));
+            Path tmp = Files.createTempFile(dir, chapterId + "-", ".pidx.tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE);
+                    FileChannel data = FileChannel.open(dataTmp, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + header.length);
+                buffer.putInt(header.length).put(header).flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                long position = 0;
+                while (position < data.size()) {
+                    position += data.transferTo(position, data.size() - position, channel);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            Path target = indexPath(chapterId, version);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (loaded) {
+                loaded.put(chapterId, new LoadedIndex(version, offsets, Integer.BYTES + header.length, target));
+            }
+            deleteFiles(chapterId, target);
+            log.info("문단 인덱스 생성 완료: chapterId={}, paragraphs={}, {} bytes", chapterId, offsets.size(), size[0]);
+        } catch (IOException e) {
+            // 인덱스는 보조 수단이므로 실패해도 챕터 등록은 계속 진행
+            log.warn("문단 인덱스 저장 실패: chapterId={}", chapterId, e);
+        } finally {
+            if (dataTmp != null) {
+                try {
+                    Files.deleteIfExists(dataTmp);
+                } catch (IOException e) {
+                    log.debug("문단 인덱스 임시 파일 삭제 실패: {}", dataTmp);
+                }
+            }
+        }
+        return offsets.size();
+    }
+
+    /**
+     * 인덱스를 통해 문단 텍스트 조회
+     *
+     * @return 인덱스가 없거나 버전이 다르면 empty, 인덱스에 없는 문단이면 빈 문자열
+     */
+    public Optional<String> readParagraph(Long chapterId, String version, String paragraphId) {
+        LoadedIndex index = loadIndex(chapterId, version);
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        long[] slice = index.offsets().get(paragraphId);
+        if (slice == null) {
+            return Optional.of("");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) slice[1]);
+        try (FileChannel channel = FileChannel.open(index.path(), StandardOpenOption.READ)) {
+            long position = index.dataStart() + slice[0];
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            log.warn("문단 인덱스 읽기 실패 (원본 파싱으로 대체): chapterId={}", chapterId, e);
+            evict(chapterId);
+            return Optional.empty();
+        }
+        return Optional.of(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 현재 버전의 인덱스가 있는지 확인
+     */
+    public boolean isIndexed(Long chapterId, String version) {
+        return loadIndex(chapterId, version) != null;
+    }
+
+    /**
+     * 챕터 인덱스 삭제 (수정/삭제 시 호출)
+     */
+    public void delete(Long chapterId) {
+        evict(chapterId);
+        deleteFiles(chapterId, null);
+    }
+
+    // 요청한 버전의 인덱스 (메모리 -> 버전별 파일 순, 없으면 null)
+    private LoadedIndex loadIndex(Long chapterId, String version) {
+        synchronized (loaded) {
+            LoadedIndex index = loaded.get(chapterId);
+            if (index != null && index.version().equals(version)) {
+                return index;
+            }
+        }
+
+        Path path = indexPath(chapterId, version);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, length, 0);
+            ByteBuffer header = ByteBuffer.allocate(length.flip().getInt());
+            readFully(channel, header, Integer.BYTES);
+            IndexFile file = objectMapper.readValue(header.array(), IndexFile.class);
+            if (!version.equals(file.version())) {
+                return null;
+            }
+            LoadedIndex index = new LoadedIndex(version, file.paragraphs(), Integer.BYTES + header.capacity(), path);
+            synchronized (loaded) {
+                loaded.put(chapterId, index);
+            }
+            return index;
+        } catch (IOException | RuntimeException e) {
+            log.warn("문단 인덱스 로드 실패: chapterId={}", chapterId, e);
+            return null;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("문단 인덱스 파일이 잘렸습니다.");
+            }
+            position += read;
+        }
+    }
+
+    private void evict(Long chapterId) {
+        synchronized (loaded) {
+            loaded.remove(chapterId);
+        }
+    }
+
+    // 챕터의 인덱스 파일 삭제 (keep은 남김)
+    private void deleteFiles(Long chapterId, Path keep) {
+        Path dir = indexDirPath();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, chapterId + "-*.pidx")) {
+            for (Path file : files) {
+                if (!file.equals(keep)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("문단 인덱스 삭제 실패: chapterId={}", chapterId, e);
+        }
+    }
+
+    private Path indexDirPath() {
+        return Paths.get(indexDir).toAbsolutePath().normalize();
+    }
+
+    // 버전별 인덱스 파일 ({chapterId}-{version}.pidx)
+    private Path indexPath(Long chapterId, String version) {
+        return indexDirPath().resolve(chapterId + "-" + version + ".pidx");
+    }
+
+    // 문단 노드를 순서대로 sink에 전달, 문단 배열이 없으면 false
+    @FunctionalInterface
+    private interface ParagraphSource {
+        boolean forEach(ParagraphSink sink) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ParagraphSink {
+        void accept(JsonNode paragraph) throws IOException;
+    }
+
+    // 인덱스 파일 헤더 포맷 (오프셋은 데이터 시작 위치 기준)
+    private record IndexFile(String version, Map<String, long[]> paragraphs) {
+    }
+
+    private record LoadedIndex(String version, Map<String, long[]> offsets, long dataStart, Path path) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 챕터 문단 구간 스트리밍
+ * <p>
+ * Jackson 스트리밍 파서로 원본을 토큰 단위로 읽으면서 요청 구간의 문단만
+ * JsonGenerator로 바로 출력합니다. 챕터 전체 트리를 만들지 않으므로
+ * 메모리 사용량은 문단 하나 크기로 유지됩니다.
+ * </p>
+ * 응답 형식:
+ * <pre>
+ * { "chapterId": 1, "paragraphs": [ {...}, ... ], "nextCursor": "p_0151" }
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterParagraphStreamer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 문단 구간 스트리밍
+     *
+     * @param chapterId 챕터 ID (응답에 포함)
+     * @param parser    챕터 본문 파서 (호출 측에서 생성, 이 메서드에서 닫음)
+     * @param fromId    시작 문단 ID (null이면 첫 문단부터)
+     * @param count     최대 문단 수
+     * @param out       응답 스트림
+     */
+    public void write(Long chapterId, JsonParser parser, String fromId, int count, OutputStream out)
+            throws IOException {
+        try (parser;
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("chapterId", chapterId);
+            generator.writeArrayFieldStart("paragraphs");
+
+            String nextCursor = null;
+            if (moveToParagraphArray(parser)) {
+                boolean started = (fromId == null);
+                int written = 0;
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    // 문단 하나만 트리로 읽음 (챕터 전체가 아닌 문단 단위 메모리)
+                    JsonNode paragraph = parser.readValueAsTree();
+                    String id = paragraph.has("id") ? paragraph.get("id").asText() : null;
+
+                    if (!started) {
+                        if (id == null || !id.equals(fromId)) {
+                            continue;
+                        }
+                        started = true;
+                    }
+
+                    if (written == count) {
+                        nextCursor = id;
+                        break;
+                    }
+                    generator.writeTree(paragraph);
+                    written++;
+                }
+            } else {
+                log.warn("문단 배열을 찾을 수 없습니다. chapterId={}", chapterId);
+            }
+
+            generator.writeEndArray();
+            generator.writeStringField("nextCursor", nextCursor);
+            generator.writeEndObject();
+        }
+    }
+
+    // 루트 배열 또는 최상위 content / paragraphs 배열의 시작 위치로 이동
+    private boolean moveToParagraphArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return true;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_ARRAY && ("content".equals(field) || "paragraphs".equals(field))) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
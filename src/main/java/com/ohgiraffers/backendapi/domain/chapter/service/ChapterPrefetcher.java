@@ -0,0 +1,225 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다음 챕터 예측 prefetch
+ * <p>
+ * 독자(서재) 또는 함께 읽기 방의 읽기 위치가 현재 챕터의 일정 비율(threshold)을 넘으면
+ * 같은 책의 다음 챕터(sequence 순)를 백그라운드에서 본문 캐시와 문단 인덱스에 미리 올립니다.
+ * - 같은 챕터에 대한 요청은 사용자/방이 여러 개여도 한 번만 실행 (진행 중 + 최근 완료 기준 중복 제거)
+ * - 전용 스레드 풀과 작은 대기열로 동시 실행 수를 제한하고, 대기열이 가득 차면 요청을 버림
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChapterPrefetcher {
+
+    private static final int MAX_CACHED_LINKS = 4096;
+    // 챕터 추가/삭제/순서 변경을 반영하기 위해 링크 정보를 다시 조회하는 주기
+    private static final long LINK_TTL_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final ChapterRepository chapterRepository;
+    private final ChapterService chapterService;
+    private final boolean enabled;
+    private final double threshold;
+    private final long rewarmIntervalMs;
+    private final ThreadPoolExecutor executor;
+
+    // 챕터 ID -> (문단 수, 다음 챕터 ID) - 챕터마다 한 번만 DB 조회
+    private final Map<Long, NextChapter> nextChapters = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, NextChapter> eldest) {
+            return size() > MAX_CACHED_LINKS;
+        }
+    };
+
+    // 진행 중인 작업 (조회 대상 챕터 / prefetch 대상 챕터)
+    private final Set<Long> resolving = ConcurrentHashMap.newKeySet();
+    private final Set<Long> warming = ConcurrentHashMap.newKeySet();
+    // prefetch 대상 챕터 -> 마지막 prefetch 시각
+    private final Map<Long, Long> lastWarmedAt = new ConcurrentHashMap<>();
+
+    private final Counter scheduledCounter;
+    private final Counter skippedCounter;
+    private final Counter rejectedCounter;
+
+    public ChapterPrefetcher(ChapterRepository chapterRepository,
+            ChapterService chapterService,
+            MeterRegistry meterRegistry,
+            @Value("${chapter.prefetch.enabled:true}") boolean enabled,
+            @Value("${chapter.prefetch.threshold:0.7}") double threshold,
+            @Value("${chapter.prefetch.rewarm-interval-seconds:300}") long rewarmIntervalSeconds,
+            @Value("${chapter.prefetch.concurrency:2}") int concurrency,
+            @Value("${chapter.prefetch.queue-capacity:64}") int queueCapacity) {
+        this.chapterRepository = chapterRepository;
+        this.chapterService = chapterService;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.rewarmIntervalMs = TimeUnit.SECONDS.toMillis(rewarmIntervalSeconds);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(1, concurrency);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ChapterPrefetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.scheduledCounter = Counter.builder("chapter.prefetch.requests")
+                .tag("result", "scheduled")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("chapter.prefetch.requests")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chapter.prefetch.requests")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 읽기 위치 변경 알림 (호출 스레드에서는 DB/네트워크 작업을 하지 않음)
+     *
+     * @param chapterId 현재 읽고 있는 챕터 ID
+     * @param position  현재 문단 번호 (1부터 시작)
+     */
+    public void onProgress(Long chapterId, Integer position) {
+        if (!enabled || chapterId == null || position == null) {
+            return;
+        }
+
+        NextChapter next;
+        synchronized (nextChapters) {
+            next = nextChapters.get(chapterId);
+        }
+
+        if (next != null && System.currentTimeMillis() - next.resolvedAt() < LINK_TTL_MS) {
+            maybeWarm(next, position);
+            return;
+        }
+
+        // 처음 보는 챕터: 다음 챕터 정보를 백그라운드에서 조회한 뒤 판단
+        if (!resolving.add(chapterId)) {
+            skippedCounter.increment();
+            return;
+        }
+        if (!submit(() -> {
+            try {
+                NextChapter resolved = resolveNext(chapterId);
+                if (resolved != null) {
+                    maybeWarm(resolved, position);
+                }
+            } finally {
+                resolving.remove(chapterId);
+            }
+        })) {
+            resolving.remove(chapterId);
+        }
+    }
+
+    private void maybeWarm(NextChapter next, int position) {
+        if (next.nextChapterId() == null) {
+            return; // 마지막 챕터
+        }
+        // 문단 수를 모르는 챕터는 진행률 판단 없이 바로 prefetch
+        if (next.paragraphs() > 0 && position < next.paragraphs() * threshold) {
+            return;
+        }
+
+        Long targetId = next.nextChapterId();
+        Long warmedAt = lastWarmedAt.get(targetId);
+        if (warmedAt != null && System.currentTimeMillis() - warmedAt < rewarmIntervalMs) {
+            skippedCounter.increment();
+            return;
+        }
+        if (!warming.add(targetId)) {
+            skippedCounter.increment();
+            return;
+        }
+
+        if (!submit(() -> {
+            try {
+                chapterService.prefetchContent(targetId);
+                lastWarmedAt.put(targetId, System.currentTimeMillis());
+                pruneWarmed();
+                log.debug("다음 챕터 prefetch 완료: {} -> {}", next.chapterId(), targetId);
+            } catch (Exception e) {
+                log.warn("다음 챕터 prefetch 실패: chapterId={}, {}", targetId, e.getMessage());
+            } finally {
+                warming.remove(targetId);
+            }
+        })) {
+            warming.remove(targetId);
+            return;
+        }
+        scheduledCounter.increment();
+    }
+
+    // 같은 책의 챕터 목록(sequence 순)에서 현재 챕터의 다음 챕터를 찾아 기록
+    private NextChapter resolveNext(Long chapterId) {
+        Chapter current = chapterRepository.findById(chapterId).orElse(null);
+        if (current == null) {
+            return null;
+        }
+
+        List<Chapter> chapters = chapterRepository.findByBook_BookIdOrderBySequenceAsc(current.getBook().getBookId());
+        long now = System.currentTimeMillis();
+        synchronized (nextChapters) {
+            // 같은 책의 다른 챕터 링크도 함께 기록 (다음 챕터로 넘어갔을 때 재조회 방지)
+            for (int i = 0; i < chapters.size(); i++) {
+                Chapter chapter = chapters.get(i);
+                Long nextId = (i + 1 < chapters.size()) ? chapters.get(i + 1).getChapterId() : null;
+                nextChapters.put(chapter.getChapterId(),
+                        new NextChapter(chapter.getChapterId(), chapter.getParagraphs(), nextId, now));
+            }
+            return nextChapters.get(chapterId);
+        }
+    }
+
+    private boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+    private void pruneWarmed() {
+        if (lastWarmedAt.size() > MAX_CACHED_LINKS) {
+            long now = System.currentTimeMillis();
+            lastWarmedAt.values().removeIf(warmedAt -> now - warmedAt >= rewarmIntervalMs);
+        }
+    }
+
+    private record NextChapter(Long chapterId, int paragraphs, Long nextChapterId, long resolvedAt) {
+    }
+}
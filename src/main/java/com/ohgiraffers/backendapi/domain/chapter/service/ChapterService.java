@@ -1,5 +1,6 @@
 package com.ohgiraffers.backendapi.domain.chapter.service;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ohgiraffers.backendapi.domain.book.entity.Book;
@@ -9,6 +10,8 @@ import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterResponseDTO;
 import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterUrlRequestDTO;
 import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
 import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import com.ohgiraffers.backendapi.global.client.RemoteContentFetcher;
+import com.ohgiraffers.backendapi.global.common.S3MultipartUploader;
 import com.ohgiraffers.backendapi.global.common.S3Service;
 import com.ohgiraffers.backendapi.global.error.CustomException;
 import com.ohgiraffers.backendapi.global.error.ErrorCode;
@@ -16,14 +19,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Slf4j
@@ -37,10 +48,19 @@ public class ChapterService {
     private final ObjectMapper objectMapper; // JSON 파싱용
 
     private final S3Service s3Service;
+    private final RemoteContentFetcher remoteContentFetcher;
+    private final ChapterContentCache chapterContentCache;
+    private final ChapterParagraphIndex chapterParagraphIndex;
+    private final ChapterParagraphStreamer chapterParagraphStreamer;
+    private final ChapterContentVariants chapterContentVariants;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    // 문단 구간 조회 시 한 번에 내려줄 수 있는 최대 문단 수
+    private static final int MAX_PARAGRAPH_PAGE_SIZE = 500;
+
     /* [1] [Local] 챕터 생성 (파일 업로드 + 메타데이터 추출) */
 
     @Transactional
@@ -56,11 +76,10 @@ public class ChapterService {
         Integer finalSequence = requestDTO.getSequence();
         String finalChapterName = requestDTO.getChapterName();
 
-        // 4. 수동 입력이 하나라도 비어있으면 파일을 읽어서 추출 시도
-        if (finalSequence == null || finalChapterName == null || finalChapterName.isEmpty()) {
+        // 4. 파일을 읽어 문단 인덱스 생성 + 수동 입력이 비어있으면 메타데이터 추출 시도
+        JsonNode rootNode = parseForIngestion(() -> readRawContent(storedFilePath), storedFilePath);
+        if (rootNode != null && (finalSequence == null || finalChapterName == null || finalChapterName.isEmpty())) {
             try {
-                JsonNode rootNode = readFileToJsonNode(storedFilePath);
-
                 // 순서 자동 추출
                 if (finalSequence == null && rootNode.has("chapter")) {
                     finalSequence = rootNode.get("chapter").asInt();
@@ -84,17 +103,30 @@ public class ChapterService {
         if (finalChapterName == null)
             finalChapterName = "Untitled Chapter";
 
+        // 실제 문단 개수 (문단 배열이 없으면 -1)
+        Integer finalParagraphs = ChapterParagraphIndex.countParagraphs(rootNode);
+
         // 4. 엔티티 생성 및 저장 (빌더 패턴 사용 가정)
 
+        // 응답용 정규화 본문 (해시는 ETag로 사용)
+        byte[] normalized = serializeContent(rootNode);
         Chapter chapter = Chapter.builder()
                 .book(book)
                 .chapterName(finalChapterName)
                 .sequence(finalSequence)
                 .bookContentPath(storedFilePath)
                 .isEmbedded(false) // 임베딩은 이번 단계 제외
+                .paragraphs(finalParagraphs)
+                .contentHash(normalized != null ? ChapterContentVariants.sha256Hex(normalized) : null)
                 .build();
 
         Chapter savedChapter = chapterRepository.save(chapter);
+        buildParagraphIndex(savedChapter, rootNode);
+        storeContentVariants(savedChapter, normalized);
+
+        if (finalParagraphs > 0) {
+            book.adjustTotalParagraphs(finalParagraphs);
+        }
 
         // 5. 응답 생성 (생성 시에는 내용을 굳이 다 안 내려줘도 되면 content는 null 처리 가능)
         return convertToResponseDTO(savedChapter, false);
@@ -113,70 +145,88 @@ public class ChapterService {
         Book book = bookRepository.findById(requestDTO.getBookId())
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
 
-        // 2. S3 파일 저장
-        String s3Url = s3Service.uploadFile(requestDTO.getFile(), "book");
-
-        // 3. 메타데이터 결정 (S3 방식은 파일 내용을 읽지 않고 입력받은 값 위주로 처리)
-        // 만약 파일 내용을 읽어야 한다면, MultiPartFile 자체에서 InputStream으로 읽어서 처리 가능
-        Integer finalSequence = requestDTO.getSequence() != null ? requestDTO.getSequence() : 1;
-        String finalChapterName = requestDTO.getChapterName() != null ? requestDTO.getChapterName()
-                : "Untitled Chapter";
-
-        Integer finalParagraphs = requestDTO.getParagraphs() != null ? requestDTO.getParagraphs() : -1;
-
-        // 4. 엔티티 생성 및 저장
-        Chapter chapter = Chapter.builder()
-                .book(book)
-                .chapterName(finalChapterName)
-                .sequence(finalSequence)
-                .bookContentPath(s3Url) // S3 URL 저장
-                .isEmbedded(false)
-                .paragraphs(finalParagraphs)
-                .build();
-
-        Chapter savedChapter = chapterRepository.save(chapter);
-
-        if (finalParagraphs > 0) {
-            book.adjustTotalParagraphs(finalParagraphs);
+        // 2. S3 파일 저장 (JSON 정규화 + gzip 압축, 멀티파트 스트리밍 업로드)
+        // 같은 패스에서 정규화된 본문을 임시 파일에 기록하고 해시 계산 (업로드 파일을 다시 읽지 않음)
+        UploadedContent uploaded = uploadNormalized(requestDTO.getFile());
+        try {
+            // 3. 메타데이터 결정 (S3 방식은 입력받은 값 위주로 처리)
+            Integer finalSequence = requestDTO.getSequence() != null ? requestDTO.getSequence() : 1;
+            String finalChapterName = requestDTO.getChapterName() != null ? requestDTO.getChapterName()
+                    : "Untitled Chapter";
+
+            // 4. 엔티티 생성 및 저장 (해시는 ETag로 사용)
+            Chapter chapter = Chapter.builder()
+                    .book(book)
+                    .chapterName(finalChapterName)
+                    .sequence(finalSequence)
+                    .bookContentPath(uploaded.url()) // S3 URL 저장
+                    .isEmbedded(false)
+                    .paragraphs(-1)
+                    .contentHash(uploaded.hash())
+                    .build();
+
+            Chapter savedChapter = chapterRepository.save(chapter);
+
+            // 임시 본문 파일로 문단 인덱스/압축본 생성 후 실제 문단 개수 기록 (문단 배열이 없으면 입력값 사용)
+            int counted = storeUploadedContent(savedChapter, uploaded);
+            savedChapter.updateParagraphs(resolveParagraphs(counted, requestDTO.getParagraphs()));
+
+            return convertToResponseDTO(savedChapter, false);
+        } finally {
+            deleteTempFile(uploaded.normalized());
         }
-
-        return convertToResponseDTO(savedChapter, false);
     }
 
-    /* [1-3] 챕터 생성 (URL 기반) */
-    @Transactional
+    /*
+     * [1-3] 챕터 생성 (URL 기반)
+     * 외부 URL 다운로드/파싱은 트랜잭션 밖에서 먼저 끝내고, INSERT만 짧은 트랜잭션으로 처리합니다.
+     * (느린 원격 서버 때문에 DB 커넥션을 오래 잡고 있지 않도록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChapterResponseDTO createChapterByUrl(ChapterUrlRequestDTO requestDTO) {
-        // 1. 책 존재 여부 확인
-        Book book = bookRepository.findById(requestDTO.getBookId())
-                .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
-
-        // 2. URL 유효성 검사 (간단한 null 체크)
+        // 1. URL 유효성 검사 (간단한 null 체크)
         if (requestDTO.getContentUrl() == null || requestDTO.getContentUrl().isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "contentUrl은 필수입니다.");
         }
 
-        // 3. 메타데이터 기본값 설정
+        // 2. 메타데이터 기본값 설정
         Integer finalSequence = requestDTO.getSequence() != null ? requestDTO.getSequence() : 1;
         String finalChapterName = requestDTO.getChapterName() != null ? requestDTO.getChapterName()
                 : "Untitled Chapter";
-        Integer finalParagraphs = requestDTO.getParagraphs() != null ? requestDTO.getParagraphs() : -1;
 
-        // 4. 엔티티 생성 및 저장
-        Chapter chapter = Chapter.builder()
-                .book(book)
-                .chapterName(finalChapterName)
-                .sequence(finalSequence)
-                .bookContentPath(requestDTO.getContentUrl()) // URL을 경로로 저장
-                .paragraphs(finalParagraphs)
-                .build();
+        // 3. URL 컨텐츠를 내려받아 실제 문단 개수 기록 (다운로드 실패 시 입력값 사용) - 트랜잭션 밖
+        JsonNode rootNode = parseForIngestion(() -> readRawContent(requestDTO.getContentUrl()),
+                requestDTO.getContentUrl());
+        Integer finalParagraphs = resolveParagraphs(rootNode, requestDTO.getParagraphs());
+        // 응답용 정규화 본문 (해시는 ETag로 사용)
+        byte[] normalized = serializeContent(rootNode);
+
+        // 4. 책 확인 + 엔티티 저장 (짧은 트랜잭션)
+        Chapter savedChapter = new TransactionTemplate(transactionManager).execute(status -> {
+            Book book = bookRepository.findById(requestDTO.getBookId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
+
+            Chapter chapter = Chapter.builder()
+                    .book(book)
+                    .chapterName(finalChapterName)
+                    .sequence(finalSequence)
+                    .bookContentPath(requestDTO.getContentUrl()) // URL을 경로로 저장
+                    .paragraphs(finalParagraphs)
+                    .contentHash(normalized != null ? ChapterContentVariants.sha256Hex(normalized) : null)
+                    .build();
+
+            // 토탈 문단수를 위해 추가 -김정우-
+            if (finalParagraphs > 0) {
+                book.adjustTotalParagraphs(finalParagraphs);
+            }
+            return chapterRepository.save(chapter);
+        });
 
-        Chapter savedChapter = chapterRepository.save(chapter);
+        // 5. 인덱스/압축본 생성 (로컬 파일 작업이므로 커밋 후 처리)
+        buildParagraphIndex(savedChapter, rootNode);
+        storeContentVariants(savedChapter, normalized);
 
-        // 토탈 문단수를 위해 추가 -김정우-
-        if (finalParagraphs > 0) {
-            book.adjustTotalParagraphs(finalParagraphs);
-        }
-        // 5. 응답 생성
+        // 6. 응답 생성
         return convertToResponseDTO(savedChapter, false);
     }
 
@@ -190,43 +240,152 @@ public class ChapterService {
         return convertToResponseDTO(chapter, true);
     }
 
+    /**
+     * [2-0] 챕터 본문 조회 (사전 압축본 + ETag)
+     * 등록 시 기록한 본문 해시로 ETag를 만들어, If-None-Match가 일치하면 파일을 읽지 않고 304로 응답합니다.
+     * 압축본이 없는 챕터(기존 챕터, 다른 인스턴스에서 등록된 챕터)는 첫 요청에서 생성합니다.
+     *
+     * @param chapterId      챕터 ID
+     * @param acceptEncoding 요청 Accept-Encoding 헤더
+     * @param ifNoneMatch    요청 If-None-Match 헤더
+     * @return 전송할 본문 파일과 ETag (notModified면 파일 없음)
+     */
+    public ChapterContentResponse getChapterContent(Long chapterId, String acceptEncoding, String ifNoneMatch) {
+        Chapter chapter = chapterRepository.findById(chapterId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
+        String encoding = ChapterContentVariants.acceptsGzip(acceptEncoding) ? ChapterContentVariants.GZIP : null;
+
+        // 1. DB에 기록된 해시로 바로 비교 (디스크/원본 접근 없음)
+        String hash = chapter.getContentHash();
+        if (hash != null && ChapterContentVariants.matches(ifNoneMatch, ChapterContentVariants.etag(hash, encoding))) {
+            return ChapterContentResponse.notModified(ChapterContentVariants.etag(hash, encoding));
+        }
+
+        // 2. 압축본 조회, 없으면 본문을 읽어 생성
+        ChapterContentVariants.Variants variants = resolveContentVariants(chapter);
+
+        String etag = ChapterContentVariants.etag(variants.hash(), encoding);
+        if (ChapterContentVariants.matches(ifNoneMatch, etag)) {
+            return ChapterContentResponse.notModified(etag);
+        }
+        return new ChapterContentResponse(false, etag, encoding,
+                encoding != null ? variants.gzipPath() : variants.identityPath());
+    }
+
+    /**
+     * 챕터 본문 변형(정규화 JSON + gzip) 조회, 없거나 해시가 다르면 본문을 읽어 새로 생성
+     * 본문 조회 API와 책 번들 생성에서 함께 사용합니다.
+     */
+    public ChapterContentVariants.Variants resolveContentVariants(Chapter chapter) {
+        Long chapterId = chapter.getChapterId();
+        String hash = chapter.getContentHash();
+        return chapterContentVariants
+                .find(chapterId, chapter.contentVersion())
+                .filter(v -> hash == null || v.hash().equals(hash))
+                .orElseGet(() -> {
+                    byte[] normalized = serializeContent(loadChapterContent(chapter));
+                    if (normalized == null) {
+                        throw new CustomException(ErrorCode.FILE_READ_ERROR, "챕터 본문을 불러올 수 없습니다.");
+                    }
+                    try {
+                        return chapterContentVariants.store(chapterId, chapter.contentVersion(), normalized);
+                    } catch (IOException e) {
+                        throw new CustomException(ErrorCode.FILE_READ_ERROR, e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 챕터 본문 응답 정보
+     *
+     * @param notModified 304 응답 여부
+     * @param etag        ETag 헤더 값
+     * @param encoding    Content-Encoding (비압축이면 null)
+     * @param file        전송할 파일 (notModified면 null)
+     */
+    public record ChapterContentResponse(boolean notModified, String etag, String encoding, Path file) {
+        static ChapterContentResponse notModified(String etag) {
+            return new ChapterContentResponse(true, etag, null, null);
+        }
+    }
+
+    /**
+     * [2-1] 챕터 문단 구간 스트리밍 조회
+     * 본문 전체를 트리로 만들지 않고 요청한 구간의 문단만 응답 스트림으로 바로 전송합니다.
+     *
+     * @param chapterId 챕터 ID
+     * @param fromId    시작 문단 ID (null이면 첫 문단부터, 이전 응답의 nextCursor 사용 가능)
+     * @param count     최대 문단 수
+     * @return 응답 스트림에 문단을 쓰는 StreamingResponseBody
+     */
+    public StreamingResponseBody streamParagraphs(Long chapterId, String fromId, int count) {
+        if (count < 1 || count > MAX_PARAGRAPH_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "count는 1~" + MAX_PARAGRAPH_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Chapter chapter = chapterRepository.findById(chapterId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
+
+        // 스트리밍은 트랜잭션 밖(비동기 스레드)에서 실행되므로 필요한 값만 미리 꺼내둠
+        String filePath = chapter.getBookContentPath();
+        // 이미 파싱된 본문이 캐시에 있으면 트리를 그대로 순회 (원본 다운로드 생략)
+        JsonNode cached = chapterContentCache.getIfPresent(chapter);
+
+        return out -> {
+            JsonParser parser = (cached != null)
+                    ? cached.traverse(objectMapper)
+                    : objectMapper.getFactory().createParser(openContentStream(filePath));
+            chapterParagraphStreamer.write(chapterId, parser, fromId, count, out);
+        };
+    }
+
     /**
      * 특정 문단의 텍스트 내용만 추출
+     * 문단 인덱스가 있으면 해당 구간만 읽고, 없으면 본문을 파싱하여 인덱스를 생성합니다.
      */
     public String getParagraphText(Long chapterId, String paragraphId) {
         Chapter chapter = chapterRepository.findById(chapterId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
 
-        JsonNode contentNode = readFileToJsonNode(chapter.getBookContentPath());
+        java.util.Optional<String> indexed = chapterParagraphIndex.readParagraph(chapterId,
+                chapter.contentVersion(), paragraphId);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        // 인덱스가 없는 경우 (기존 챕터 또는 다른 인스턴스에서 등록된 챕터)
+        JsonNode contentNode = loadChapterContent(chapter);
         if (contentNode == null)
             return "";
+        chapterParagraphIndex.build(chapterId, chapter.contentVersion(), contentNode);
 
-        // 배열인 경우 직접 순회
-        if (contentNode.isArray()) {
-            for (JsonNode node : contentNode) {
+        JsonNode arrayNode = ChapterParagraphIndex.findParagraphArray(contentNode);
+        if (arrayNode != null) {
+            for (JsonNode node : arrayNode) {
                 if (node.has("id") && node.get("id").asText().equals(paragraphId)) {
                     return node.has("text") ? node.get("text").asText() : "";
                 }
             }
         }
-        // 객체인 경우 (content 또는 paragraphs 필드 확인)
-        else if (contentNode.isObject()) {
-            JsonNode arrayNode = null;
-            if (contentNode.has("content") && contentNode.get("content").isArray()) {
-                arrayNode = contentNode.get("content");
-            } else if (contentNode.has("paragraphs") && contentNode.get("paragraphs").isArray()) {
-                arrayNode = contentNode.get("paragraphs");
-            }
+        return "";
+    }
 
-            if (arrayNode != null) {
-                for (JsonNode node : arrayNode) {
-                    if (node.has("id") && node.get("id").asText().equals(paragraphId)) {
-                        return node.has("text") ? node.get("text").asText() : "";
-                    }
-                }
-            }
+    /**
+     * 챕터 본문 미리 불러오기 (다음 챕터 예측 prefetch용)
+     * 본문 캐시를 채우고, 문단 인덱스가 없으면 함께 생성합니다.
+     *
+     * @param chapterId 미리 불러올 챕터 ID
+     */
+    public void prefetchContent(Long chapterId) {
+        Chapter chapter = chapterRepository.findById(chapterId).orElse(null);
+        if (chapter == null) {
+            return;
+        }
+        JsonNode contentNode = loadChapterContent(chapter);
+        if (!chapterParagraphIndex.isIndexed(chapterId, chapter.contentVersion())) {
+            buildParagraphIndex(chapter, contentNode);
         }
-        return "";
     }
 
     /**
@@ -250,6 +409,8 @@ public class ChapterService {
     public ChapterResponseDTO updateChapter(Long chapterId, ChapterRequestDTO requestDTO) {
         Chapter chapter = chapterRepository.findById(chapterId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
+        JsonNode rootNode = null;
+        byte[] normalized = null;
 
         // 1. 파일이 수정된 경우 처리
         if (requestDTO.getFile() != null && !requestDTO.getFile().isEmpty()) {
@@ -259,8 +420,15 @@ public class ChapterService {
             // 새 파일 저장
             String newFilePath = saveFileToLocal(requestDTO.getFile());
 
-            // 엔티티 업데이트 (경로 변경 + isEmbedded = false 초기화)
-            chapter.updateFile(newFilePath);
+            // 새 본문 해시 계산 (ETag/컨텐츠 버전용)
+            rootNode = parseForIngestion(() -> readUploadedBytes(requestDTO.getFile()), newFilePath);
+            normalized = serializeContent(rootNode);
+
+            // 엔티티 업데이트 (경로/해시 변경 + isEmbedded = false 초기화)
+            chapter.updateFile(newFilePath, normalized != null ? ChapterContentVariants.sha256Hex(normalized) : null);
+            chapterContentCache.invalidate(chapterId);
+            chapterParagraphIndex.delete(chapterId);
+            chapterContentVariants.delete(chapterId);
 
             // (선택) 여기서 바로 임베딩 재요청 이벤트를 발행할 수도 있음.
         }
@@ -269,7 +437,10 @@ public class ChapterService {
         chapter.updateMetadata(requestDTO.getChapterName(), requestDTO.getSequence());
 
         // 3. 변경사항 저장 (JPA Dirty Checking으로 자동 저장되지만 명시적 save도 무관)
-        return convertToResponseDTO(chapterRepository.save(chapter), false);
+        Chapter savedChapter = chapterRepository.save(chapter);
+        buildParagraphIndex(savedChapter, rootNode);
+        storeContentVariants(savedChapter, normalized);
+        return convertToResponseDTO(savedChapter, false);
     }
 
     /**
@@ -285,6 +456,7 @@ public class ChapterService {
     public ChapterResponseDTO updateChapterS3(Long chapterId, ChapterRequestDTO requestDTO) {
         Chapter chapter = chapterRepository.findById(chapterId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
+        UploadedContent uploaded = null;
 
         // 1. 파일이 수정된 경우 처리
         if (requestDTO.getFile() != null && !requestDTO.getFile().isEmpty()) {
@@ -292,11 +464,14 @@ public class ChapterService {
             // (주의: 기존에 로컬 파일이었다면 S3 삭제 로직이 실패할 수도 있으나 예외처리 되어있음)
             s3Service.deleteFile(chapter.getBookContentPath());
 
-            // 새 파일 저장
-            String s3Url = s3Service.uploadFile(requestDTO.getFile(), "book");
+            // 새 파일 저장 (같은 패스에서 정규화된 본문을 임시 파일에 기록하고 해시 계산)
+            uploaded = uploadNormalized(requestDTO.getFile());
 
             // 엔티티 업데이트
-            chapter.updateFile(s3Url);
+            chapter.updateFile(uploaded.url(), uploaded.hash());
+            chapterContentCache.invalidate(chapterId);
+            chapterParagraphIndex.delete(chapterId);
+            chapterContentVariants.delete(chapterId);
 
             // 파일이 변경되었고 paragraphs 정보가 있다면 업데이트
             if (requestDTO.getParagraphs() != null) {
@@ -312,29 +487,62 @@ public class ChapterService {
         // 2. 메타데이터 수정
         chapter.updateMetadata(requestDTO.getChapterName(), requestDTO.getSequence());
 
-        return convertToResponseDTO(chapterRepository.save(chapter), false);
+        Chapter savedChapter = chapterRepository.save(chapter);
+        if (uploaded != null) {
+            try {
+                storeUploadedContent(savedChapter, uploaded);
+            } finally {
+                deleteTempFile(uploaded.normalized());
+            }
+        }
+        return convertToResponseDTO(savedChapter, false);
     }
 
     /* [3-3] 챕터 수정 (URL 기반) */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChapterResponseDTO updateChapterByUrl(Long chapterId, ChapterUrlRequestDTO requestDTO) {
-        Chapter chapter = chapterRepository.findById(chapterId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
-
-        // 1. URL이 수정된 경우 처리
-        if (requestDTO.getContentUrl() != null && !requestDTO.getContentUrl().isEmpty()) {
-            chapter.updateUrl(requestDTO.getContentUrl());
+        boolean urlChanged = requestDTO.getContentUrl() != null && !requestDTO.getContentUrl().isEmpty();
+        JsonNode rootNode = null;
+        byte[] normalized = null;
+
+        // 1. URL이 수정된 경우 새 본문을 먼저 내려받아 해시 계산 (ETag/컨텐츠 버전용) - 트랜잭션 밖
+        if (urlChanged) {
+            // 같은 URL이라도 원격 컨텐츠가 바뀌었을 수 있으므로 항상 캐시 제거 (디스크 사본도 재검증)
+            remoteContentFetcher.expire(requestDTO.getContentUrl());
+            rootNode = parseForIngestion(() -> readRawContent(requestDTO.getContentUrl()),
+                    requestDTO.getContentUrl());
+            normalized = serializeContent(rootNode);
         }
+        String contentHash = normalized != null ? ChapterContentVariants.sha256Hex(normalized) : null;
 
-        // 2. 메타데이터(이름, 순서) 수정
-        chapter.updateMetadata(requestDTO.getChapterName(), requestDTO.getSequence());
+        // 2. 엔티티 수정 (짧은 트랜잭션)
+        Chapter savedChapter = new TransactionTemplate(transactionManager).execute(status -> {
+            Chapter chapter = chapterRepository.findById(chapterId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.CHAPTER_NOT_FOUND));
+
+            if (urlChanged) {
+                chapter.updateUrl(requestDTO.getContentUrl(), contentHash);
+            }
 
-        // 3. 문단 개수 수정
-        // chapter.getBook().adjustTotalParagraphs(requestDTO.getParagraphs());
-        chapter.updateParagraphs(requestDTO.getParagraphs());
+            // 메타데이터(이름, 순서) 수정
+            chapter.updateMetadata(requestDTO.getChapterName(), requestDTO.getSequence());
 
-        // 4. 변경사항 저장
-        return convertToResponseDTO(chapterRepository.save(chapter), false);
+            // 문단 개수 수정
+            // chapter.getBook().adjustTotalParagraphs(requestDTO.getParagraphs());
+            chapter.updateParagraphs(requestDTO.getParagraphs());
+
+            return chapterRepository.save(chapter);
+        });
+
+        // 3. 기존 캐시/인덱스/압축본 교체 (커밋 후 처리)
+        if (urlChanged) {
+            chapterContentCache.invalidate(chapterId);
+            chapterParagraphIndex.delete(chapterId);
+            chapterContentVariants.delete(chapterId);
+        }
+        buildParagraphIndex(savedChapter, rootNode);
+        storeContentVariants(savedChapter, normalized);
+        return convertToResponseDTO(savedChapter, false);
     }
 
     /* [4] 챕터 삭제 (Soft Delete) */
@@ -345,6 +553,9 @@ public class ChapterService {
 
         // Soft Delete: deleted_at 기록
         chapter.delete();
+        chapterContentCache.invalidate(chapterId);
+        chapterParagraphIndex.delete(chapterId);
+        chapterContentVariants.delete(chapterId);
 
         // 참고: 파일(S3/Local)은 유지하여 데이터 복구 가능성 확보
         // 필요 시 별도 스케줄러로 오래된 삭제 데이터의 파일을 정리하는 로직 권장
@@ -352,16 +563,12 @@ public class ChapterService {
 
     /* [5] [관리자] 모든 챕터 조회 */
     public java.util.List<ChapterResponseDTO> getAllChapters() {
-        return chapterRepository.findAll().stream()
-                .map(chapter -> convertToResponseDTO(chapter, false))
-                .collect(java.util.stream.Collectors.toList());
+        return convertToResponseDTOs(chapterRepository.findAll());
     }
 
     /* [6] [공통] 책 ID로 챕터 목록 조회 */
     public java.util.List<ChapterResponseDTO> getChaptersByBookId(Long bookId) {
-        return chapterRepository.findByBook_BookIdOrderBySequenceAsc(bookId).stream()
-                .map(chapter -> convertToResponseDTO(chapter, false))
-                .collect(java.util.stream.Collectors.toList());
+        return convertToResponseDTOs(chapterRepository.findByBook_BookIdOrderBySequenceAsc(bookId));
     }
 
     /* ------------- 내부 헬퍼 메서드 ------------- */
@@ -392,8 +599,16 @@ public class ChapterService {
             // 4. 저장 경로 결합
             Path targetPath = uploadPath.resolve(storeFileName);
 
-            // 5. 파일 저장
-            file.transferTo(targetPath.toFile());
+            // 5. 파일 저장 (JSON을 토큰 단위로 정규화하며 스트리밍 저장, 임시 파일 작성 후 교체)
+            Path tmpPath = Files.createTempFile(uploadPath, "upload-", ".tmp");
+            try (InputStream in = file.getInputStream();
+                    java.io.OutputStream out = new java.io.BufferedOutputStream(Files.newOutputStream(tmpPath))) {
+                S3MultipartUploader.writeNormalizedJson(objectMapper.getFactory(), in, out);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tmpPath);
+                throw e;
+            }
+            Files.move(tmpPath, targetPath, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
 
             log.info("파일이 저장되었습니다: {}", targetPath);
 
@@ -405,71 +620,178 @@ public class ChapterService {
         }
     }
 
-    // 저장된 파일 경로에서 JSON Node 읽기 (로컬 파일 또는 외부 URL)
-    private JsonNode readFileToJsonNode(String filePath) {
+    // 등록 시 본문 파싱 (실패해도 챕터 등록은 계속 진행)
+    private JsonNode parseForIngestion(java.util.function.Supplier<byte[]> rawSupplier, String source) {
+        try {
+            return objectMapper.readTree(rawSupplier.get());
+        } catch (Exception e) {
+            log.warn("등록 시 컨텐츠 파싱 실패 (문단 인덱스 생략): {} - {}", source, e.getMessage());
+            return null;
+        }
+    }
+
+    // 업로드된 파일 바이트 읽기
+    private byte[] readUploadedBytes(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_READ_ERROR, e.getMessage());
+        }
+    }
+
+    // 파싱된 실제 문단 개수 우선, 없으면 입력값, 둘 다 없으면 -1
+    private Integer resolveParagraphs(JsonNode rootNode, Integer requested) {
+        return resolveParagraphs(ChapterParagraphIndex.countParagraphs(rootNode), requested);
+    }
+
+    private Integer resolveParagraphs(int counted, Integer requested) {
+        if (counted >= 0) {
+            if (requested != null && requested != counted) {
+                log.info("입력된 문단 수({})와 실제 문단 수({})가 달라 실제 값을 기록합니다.", requested, counted);
+            }
+            return counted;
+        }
+        return requested != null ? requested : -1;
+    }
+
+    // 문단 오프셋 인덱스 생성
+    private void buildParagraphIndex(Chapter chapter, JsonNode rootNode) {
+        if (rootNode != null) {
+            chapterParagraphIndex.build(chapter.getChapterId(), chapter.contentVersion(), rootNode);
+        }
+    }
+
+    // 본문을 응답 형식(공백 없는 JSON)으로 직렬화, 본문이 없으면 null
+    private byte[] serializeContent(JsonNode rootNode) {
+        if (rootNode == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(rootNode);
+        } catch (IOException e) {
+            log.warn("챕터 본문 직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 응답용 본문 + gzip 압축본 저장 (실패해도 조회 시 다시 생성되므로 등록은 계속 진행)
+    private void storeContentVariants(Chapter chapter, byte[] normalized) {
+        if (normalized == null) {
+            return;
+        }
+        try {
+            chapterContentVariants.store(chapter.getChapterId(), chapter.contentVersion(), normalized);
+        } catch (IOException e) {
+            log.warn("챕터 본문 압축본 저장 실패: chapterId={}", chapter.getChapterId(), e);
+        }
+    }
+
+    // 업로드 결과 (S3 URL + 정규화된 본문 임시 파일 + 본문 해시)
+    private record UploadedContent(String url, Path normalized, String hash) {
+    }
+
+    // 업로드 파일을 S3로 스트리밍하면서 정규화된 본문을 임시 파일에 기록하고 해시 계산
+    private UploadedContent uploadNormalized(MultipartFile file) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile("chapter-", ".json");
+            DigestOutputStream copy = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp)), ChapterContentVariants.newSha256());
+            String url;
+            try (copy) {
+                url = s3Service.uploadJsonFile(file, "book", copy);
+            }
+            return new UploadedContent(url, tmp, HexFormat.of().formatHex(copy.getMessageDigest().digest()));
+        } catch (IOException e) {
+            deleteTempFile(tmp);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, e.getMessage());
+        } catch (RuntimeException e) {
+            deleteTempFile(tmp);
+            throw e;
+        }
+    }
+
+    // 임시 본문 파일로 문단 인덱스 + 압축본 생성, 문단 배열이 없으면 -1 (실패해도 조회 시 다시 생성되므로 등록은 계속 진행)
+    private int storeUploadedContent(Chapter chapter, UploadedContent uploaded) {
+        int counted = -1;
+        try {
+            counted = chapterParagraphIndex.build(chapter.getChapterId(), chapter.contentVersion(),
+                    uploaded.normalized());
+        } catch (RuntimeException e) {
+            log.warn("등록 시 컨텐츠 파싱 실패 (문단 인덱스 생략): {} - {}", uploaded.url(), e.getMessage());
+        }
+        try {
+            chapterContentVariants.store(chapter.getChapterId(), chapter.contentVersion(), uploaded.normalized(),
+                    uploaded.hash());
+        } catch (IOException e) {
+            log.warn("챕터 본문 압축본 저장 실패: chapterId={}", chapter.getChapterId(), e);
+        }
+        return counted;
+    }
+
+    private void deleteTempFile(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    // 챕터 본문 조회 (캐시 우선, 미스 시 원본 다운로드 후 파싱)
+    private JsonNode loadChapterContent(Chapter chapter) {
+        return chapterContentCache.get(chapter, () -> {
+            String filePath = chapter.getBookContentPath();
+            byte[] raw = readRawContent(filePath);
+            try {
+                return new ChapterContentCache.LoadedContent(objectMapper.readTree(raw), raw.length);
+            } catch (IOException e) {
+                log.error("챕터 컨텐츠 파싱 실패: {}", filePath, e);
+                throw new CustomException(ErrorCode.FILE_READ_ERROR, "컨텐츠 파싱 오류: " + e.getMessage());
+            }
+        });
+    }
+
+    // 저장된 파일 경로의 원본을 스트림으로 열기 (S3 / 외부 URL / 로컬 파일)
+    private InputStream openContentStream(String filePath) throws IOException {
+        if (filePath != null && filePath.contains("amazonaws.com")) {
+            return s3Service.openFileStream(filePath);
+        }
+
+        if (filePath.startsWith("http://") || filePath.startsWith("https://")) {
+            return remoteContentFetcher.openStream(filePath);
+        }
+
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND, "Path: " + filePath);
+        }
+        return Files.newInputStream(path);
+    }
+
+    // 저장된 파일 경로에서 원본 바이트 읽기 (S3 / 외부 URL / 로컬 파일)
+    private byte[] readRawContent(String filePath) {
         // [Fix] AWS S3 URL인 경우 인증된 S3Service를 사용하여 다운로드
         if (filePath != null && filePath.contains("amazonaws.com")) {
             try {
                 log.info("S3 URL 감지 - 인증된 접근으로 다운로드: {}", filePath);
                 String content = s3Service.downloadFileAsString(filePath);
-                return objectMapper.readTree(content);
+                return content.getBytes(java.nio.charset.StandardCharsets.UTF_8);
             } catch (Exception e) {
                 log.error("S3 콘텐츠 다운로드/파싱 실패: {}", filePath, e);
                 throw new CustomException(ErrorCode.FILE_NOT_FOUND, "S3 파일을 읽을 수 없습니다: " + e.getMessage());
             }
         }
 
-        // HTTP URL인 경우 (Google Drive 등)
+        // HTTP URL인 경우 (Google Drive 등) - 공용 fetcher (커넥션 재사용 + 디스크 캐시 + 재검증)
         if (filePath.startsWith("http://") || filePath.startsWith("https://")) {
-            try {
-                log.info("외부 URL에서 콘텐츠 다운로드 시도: {}", filePath);
-
-                // RestTemplate을 UTF-8 인코딩으로 설정
-                org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate();
-
-                // UTF-8 인코딩을 위한 StringHttpMessageConverter 설정
-                java.util.List<org.springframework.http.converter.HttpMessageConverter<?>> messageConverters = new java.util.ArrayList<>();
-                org.springframework.http.converter.StringHttpMessageConverter stringConverter = new org.springframework.http.converter.StringHttpMessageConverter(
-                        java.nio.charset.StandardCharsets.UTF_8);
-                stringConverter.setWriteAcceptCharset(false); // Accept-Charset 헤더 비활성화
-                messageConverters.add(stringConverter);
-                messageConverters
-                        .add(new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter());
-                restTemplate.setMessageConverters(messageConverters);
-
-                // Google Drive URL 변환 처리
-                String downloadUrl = filePath;
-                if (filePath.contains("drive.google.com")) {
-                    downloadUrl = convertGoogleDriveUrl(filePath);
-                    log.info("Google Drive URL 변환: {} -> {}", filePath, downloadUrl);
-                }
-
-                // UTF-8로 인코딩된 응답 받기
-                org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-                headers.setAccept(java.util.Arrays.asList(org.springframework.http.MediaType.APPLICATION_JSON));
-                headers.set("Accept-Charset", "UTF-8");
-
-                org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
-                org.springframework.http.ResponseEntity<String> response = restTemplate.exchange(
-                        downloadUrl,
-                        org.springframework.http.HttpMethod.GET,
-                        entity,
-                        String.class);
-
-                String jsonContent = response.getBody();
-                if (jsonContent == null || jsonContent.isEmpty()) {
-                    throw new CustomException(ErrorCode.FILE_NOT_FOUND, "URL에서 콘텐츠를 가져올 수 없습니다.");
-                }
-
-                log.info("콘텐츠 다운로드 성공: {} bytes", jsonContent.length());
-                return objectMapper.readTree(jsonContent);
-            } catch (IOException e) {
-                log.error("URL 콘텐츠 파싱 실패: {}", filePath, e);
-                throw new CustomException(ErrorCode.FILE_READ_ERROR, "URL 콘텐츠 파싱 오류: " + e.getMessage());
-            } catch (Exception e) {
-                log.error("URL 콘텐츠 다운로드 실패: {}", filePath, e);
-                throw new CustomException(ErrorCode.FILE_NOT_FOUND, "URL에서 파일을 다운로드할 수 없습니다: " + e.getMessage());
+            byte[] content = remoteContentFetcher.fetchBytes(filePath);
+            if (content.length == 0) {
+                throw new CustomException(ErrorCode.FILE_NOT_FOUND, "URL에서 콘텐츠를 가져올 수 없습니다.");
             }
+            return content;
         }
 
         // 로컬 파일인 경우
@@ -478,45 +800,35 @@ public class ChapterService {
             if (!Files.exists(path)) {
                 throw new CustomException(ErrorCode.FILE_NOT_FOUND, "Path: " + filePath);
             }
-            return objectMapper.readTree(path.toFile());
+            return Files.readAllBytes(path);
         } catch (IOException e) {
             throw new CustomException(ErrorCode.FILE_READ_ERROR, e.getMessage());
         }
     }
 
-    /**
-     * Google Drive 공유 URL을 직접 다운로드 URL로 변환
-     * 
-     * @param url Google Drive 공유 URL
-     * @return 변환된 다운로드 URL
-     */
-    private String convertGoogleDriveUrl(String url) {
-        // 형식: https://drive.google.com/file/d/{FILE_ID}/view?usp=sharing
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("/d/([a-zA-Z0-9_-]+)");
-        java.util.regex.Matcher matcher = pattern.matcher(url);
-        if (matcher.find()) {
-            String fileId = matcher.group(1);
-            return "https://drive.google.com/uc?export=download&id=" + fileId;
-        }
-
-        // 형식: https://drive.google.com/open?id={FILE_ID}
-        pattern = java.util.regex.Pattern.compile("[?&]id=([a-zA-Z0-9_-]+)");
-        matcher = pattern.matcher(url);
-        if (matcher.find()) {
-            String fileId = matcher.group(1);
-            return "https://drive.google.com/uc?export=download&id=" + fileId;
-        }
+    // 엔티티 -> Response DTO 변환
+    private ChapterResponseDTO convertToResponseDTO(Chapter chapter, boolean includeContent) {
+        // [Optimized] S3 URL인 경우 Presigned URL로 변환하여 전달 (보안 접근 허용)
+        return convertToResponseDTO(chapter, includeContent, s3Service.getPresignedUrl(chapter.getBookContentPath()));
+    }
 
-        return url; // 변환 불가시 원본 반환
+    // 챕터 목록 -> Response DTO 목록 변환 (Presigned URL은 한 번에 일괄 생성)
+    private java.util.List<ChapterResponseDTO> convertToResponseDTOs(java.util.List<Chapter> chapters) {
+        java.util.Map<String, String> presignedUrls = s3Service.getPresignedUrls(chapters.stream()
+                .map(Chapter::getBookContentPath)
+                .collect(java.util.stream.Collectors.toList()));
+        return chapters.stream()
+                .map(chapter -> convertToResponseDTO(chapter, false,
+                        presignedUrls.getOrDefault(chapter.getBookContentPath(), chapter.getBookContentPath())))
+                .collect(java.util.stream.Collectors.toList());
     }
 
-    // 엔티티 -> Response DTO 변환
-    private ChapterResponseDTO convertToResponseDTO(Chapter chapter, boolean includeContent) {
+    private ChapterResponseDTO convertToResponseDTO(Chapter chapter, boolean includeContent, String contentUrl) {
         Object content = null;
         if (includeContent) {
             try {
                 // 저장된 경로에서 파일을 읽어 Object(Map/List) 형태로 변환
-                content = readFileToJsonNode(chapter.getBookContentPath());
+                content = loadChapterContent(chapter);
             } catch (CustomException e) {
                 log.error("컨텐츠 로드 실패: {}", e.getMessage());
                 content = "Error: 내용을 불러올 수 없습니다. (URL 기반이거나 파일 없음)";
@@ -527,8 +839,7 @@ public class ChapterService {
                 .bookId(chapter.getBook().getBookId())
                 .chapterName(chapter.getChapterName())
                 .sequence(chapter.getSequence())
-                // [Optimized] S3 URL인 경우 Presigned URL로 변환하여 전달 (보안 접근 허용)
-                .bookContentPath(s3Service.getPresignedUrl(chapter.getBookContentPath()))
+                .bookContentPath(contentUrl)
                 .bookContent(content)
                 .paragraphs(chapter.getParagraphs())
                 .isEmbedded(chapter.getIsEmbedded())
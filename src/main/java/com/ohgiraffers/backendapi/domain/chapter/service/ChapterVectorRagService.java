@@ -10,6 +10,8 @@ import com.ohgiraffers.backendapi.domain.chapter.entity.RagParentDocument;
 import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
 import com.ohgiraffers.backendapi.domain.chapter.repository.RagChildRepository;
 import com.ohgiraffers.backendapi.domain.chapter.repository.RagParentRepository;
+import com.ohgiraffers.backendapi.global.client.RemoteContentFetcher;
+import com.ohgiraffers.backendapi.global.common.S3Service;
 import com.ohgiraffers.backendapi.global.error.CustomException;
 import com.ohgiraffers.backendapi.global.error.ErrorCode;
 import io.awspring.cloud.s3.S3Template;
@@ -17,8 +19,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.io.IOException;
@@ -42,6 +48,8 @@ public class ChapterVectorRagService {
     private final WebClient embeddingServerWebClient;
     private final S3Template s3Template;
     private final ObjectMapper objectMapper;
+    private final RemoteContentFetcher remoteContentFetcher;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * [RAG] S3 파일 다운로드 -> Python AI 서버로 Content 전송 -> 임베딩 결과 DB 저장
@@ -113,9 +121,8 @@ public class ChapterVectorRagService {
         String downloadUrl = "https://drive.google.com/uc?export=download&id=" + fileId;
 
         try {
-            // WebClient 대신 java.net.URL을 사용하여 리디렉션 처리 및 Content-Type 무시 (JSON 파싱 강제)
-            java.net.URL url = new java.net.URI(downloadUrl).toURL();
-            try (InputStream inputStream = url.openStream()) {
+            // 공용 fetcher 사용 (커넥션 재사용 + 디스크 캐시 + 재검증, Content-Type 무시하고 JSON 파싱)
+            try (InputStream inputStream = remoteContentFetcher.openStream(downloadUrl)) {
                 Map<String, Object> bookData = objectMapper.readValue(inputStream, new TypeReference<>() {
                 });
 
@@ -154,7 +161,8 @@ public class ChapterVectorRagService {
         }
 
         // Read file content
-        try (InputStream inputStream = s3Template.download(bucket, key).getInputStream()) {
+        // 챕터 본문은 gzip으로 저장될 수 있으므로 압축 여부를 확인하여 읽음
+        try (InputStream inputStream = S3Service.decompressIfGzip(s3Template.download(bucket, key).getInputStream())) {
             Map<String, Object> bookData = objectMapper.readValue(inputStream, new TypeReference<>() {
             });
             // 'content' 필드 추출
@@ -229,13 +237,33 @@ public class ChapterVectorRagService {
     public List<com.ohgiraffers.backendapi.domain.chapter.dto.rag.RagSearchResponseDTO> searchRag(Long chapterId,
             String query) {
         // 1. Query Vectorization
-        List<Float> queryVector = callEmbeddingQueryServer(query);
+        List<Float> queryVector = callEmbeddingQueryServer(query).block(Duration.ofSeconds(30));
 
-        // 2. Search DB (convert List<Float> to String for native query)
+        // 2. Search DB & Fetch Parents
+        return findSimilarParents(chapterId, queryVector);
+    }
+
+    /**
+     * [RAG] 논블로킹 검색 (AI 채팅 파이프라인용)
+     * 임베딩 요청은 스레드를 막지 않고, 벡터 검색(JDBC)만 boundedElastic에서 짧은 읽기 트랜잭션으로 수행합니다.
+     */
+    public Mono<List<com.ohgiraffers.backendapi.domain.chapter.dto.rag.RagSearchResponseDTO>> searchRagAsync(
+            Long chapterId, String query) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return callEmbeddingQueryServer(query)
+                .timeout(Duration.ofSeconds(30))
+                .publishOn(Schedulers.boundedElastic())
+                .map(queryVector -> readOnly.execute(status -> findSimilarParents(chapterId, queryVector)));
+    }
+
+    private List<com.ohgiraffers.backendapi.domain.chapter.dto.rag.RagSearchResponseDTO> findSimilarParents(
+            Long chapterId, List<Float> queryVector) {
+        // Search DB (convert List<Float> to String for native query)
         String vectorString = queryVector.toString();
         List<RagChildVector> children = ragChildRepository.findTop5ByVectorSimilarity(chapterId, vectorString);
 
-        // 3. Fetch Parents (Deduplicate) & Map to DTO
+        // Fetch Parents (Deduplicate) & Map to DTO
         return children.stream()
                 .map(RagChildVector::getParent)
                 .distinct()
@@ -243,21 +271,18 @@ public class ChapterVectorRagService {
                 .collect(Collectors.toList());
     }
 
-    private List<Float> callEmbeddingQueryServer(String text) {
+    private Mono<List<Float>> callEmbeddingQueryServer(String text) {
         Map<String, String> request = java.util.Collections.singletonMap("text", text);
         // Response format: { "embedding": [ ... ] }
-        Map<String, List<Float>> response = embeddingServerWebClient.post()
+        return embeddingServerWebClient.post()
                 .uri("/api/v1/embed-query")
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(new org.springframework.core.ParameterizedTypeReference<Map<String, List<Float>>>() {
                 })
-                .block(Duration.ofSeconds(30));
-
-        if (response == null || !response.containsKey("embedding")) {
-            throw new CustomException(ErrorCode.RAG_EMBEDDING_FAILED);
-        }
-        return response.get("embedding");
+                .filter(response -> response.containsKey("embedding"))
+                .map(response -> response.get("embedding"))
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.RAG_EMBEDDING_FAILED)));
     }
 
     @Transactional(readOnly = true)
@@ -1,11 +1,15 @@
 package com.ohgiraffers.backendapi.domain.chat.controller;
 
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatImageUploadRequest;
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatImageUploadResponse;
 import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageRequest;
 import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
 import com.ohgiraffers.backendapi.domain.chat.service.ChatLogService;
+import com.ohgiraffers.backendapi.global.common.annotation.CurrentUserId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +30,7 @@ public class ChatController {
 
     private final ChatLogService chatLogService;
     private final org.springframework.core.env.Environment env;
-    private final org.springframework.data.redis.core.RedisTemplate<String, Object> redisTemplate;
+    private final com.ohgiraffers.backendapi.domain.chat.service.ChatRoomRelay chatRoomRelay;
 
     // WebSocket : 실시간 메시지 전송 처리 (Production)
     @MessageMapping("/chat/send")
@@ -70,10 +74,19 @@ public class ChatController {
                 .build();
 
         // Redis 채널에 바로 전송 (ChatLogService 건너뜀)
-        String channel = "chatRoom:" + request.getRoomId();
-        redisTemplate.convertAndSend(channel, dummyResponse);
+        chatRoomRelay.publish(request.getRoomId(), dummyResponse);
 
-        log.info("[TEST MODE] Published to Redis Channel: {}", channel);
+        log.info("[TEST MODE] Published to chat room: {}", request.getRoomId());
+    }
+
+    // 채팅 이미지 업로드 URL 발급 (클라이언트가 S3에 직접 PUT 후 imageKey로 메시지 전송)
+    @Operation(summary = "채팅 이미지 업로드 URL 발급", description = "업로드 URL로 이미지를 PUT한 뒤 응답의 imageKey를 담아 메시지를 전송합니다. 썸네일/미리보기는 완료 시 /topic/room/{roomId}/status로 CHAT_IMAGE_READY가 전달됩니다.")
+    @PostMapping("/rooms/{roomId}/images/upload-url")
+    public ResponseEntity<ChatImageUploadResponse> createImageUploadUrl(
+            @CurrentUserId Long userId,
+            @Parameter @PathVariable Long roomId,
+            @Valid @RequestBody ChatImageUploadRequest request) {
+        return ResponseEntity.ok(chatLogService.createImageUploadUrl(userId, roomId, request));
     }
 
     // 채팅방 입장 시 최근 대화 목록 조회(50)
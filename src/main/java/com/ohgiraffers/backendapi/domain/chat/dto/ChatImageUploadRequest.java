@@ -0,0 +1,25 @@
+package com.ohgiraffers.backendapi.domain.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatImageUploadRequest {
+    @Schema(description = "이미지 MIME 타입", example = "image/png")
+    @NotBlank(message = "이미지 타입은 필수입니다.")
+    private String contentType;
+
+    @Schema(description = "파일 크기 (bytes, 업로드 시 같은 크기로 보내야 함)", example = "204800")
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long size;
+}
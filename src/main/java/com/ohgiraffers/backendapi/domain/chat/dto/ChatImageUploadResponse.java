@@ -0,0 +1,23 @@
+package com.ohgiraffers.backendapi.domain.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChatImageUploadResponse {
+
+    @Schema(description = "이미지 키 (업로드 후 메시지 전송 시 imageKey로 전달)", example = "chat-images/4/0b7c...e1.png")
+    private String imageKey;
+
+    @Schema(description = "업로드 URL (PUT, Content-Type/Content-Length를 요청 값과 같게 보내야 함)")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 URL 만료 시각")
+    private Instant expiresAt;
+}
@@ -27,6 +27,9 @@ public class ChatMessageRequest {
     @Schema(description = "이미지 URL (텍스트 전송 시 null 가능)", example = "https://s3.aws.com/...")
     private String imageUrl;
 
-    @Schema(description = "이미지 파일 (직접 업로드 시 사용, imageUrl과 배타적)")
+    @Schema(description = "업로드 URL로 올린 이미지 키 (이미지 전송 시 권장)", example = "chat-images/4/0b7c...e1.png")
+    private String imageKey;
+
+    @Schema(description = "이미지 파일 (서버 경유 업로드, imageKey 사용 권장)")
     private org.springframework.web.multipart.MultipartFile imageFile;
 }
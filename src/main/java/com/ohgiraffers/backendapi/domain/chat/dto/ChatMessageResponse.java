@@ -2,17 +2,21 @@ package com.ohgiraffers.backendapi.domain.chat.dto;
 
 import com.ohgiraffers.backendapi.domain.chat.entity.ChatLog;
 import com.ohgiraffers.backendapi.domain.chat.enums.MessageType;
+import com.ohgiraffers.backendapi.domain.user.entity.User;
 import com.ohgiraffers.backendapi.domain.user.entity.UserInformation;
+import com.ohgiraffers.backendapi.global.util.ChatImageRenditions;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized // Redis(Pub/Sub, 최근 메시지 버퍼)에서 읽을 때 빌더로 생성
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChatMessageResponse {
 
@@ -37,13 +41,38 @@ public class ChatMessageResponse {
     @Schema(description = "이미지 URL", example = "null")
     private String imageUrl;
 
+    @Schema(description = "썸네일 URL (실시간 메시지는 CHAT_IMAGE_READY로 전달, 이력 조회 시에만 포함 / 로드 실패하면 imageUrl 사용)", example = "null")
+    private String thumbnailUrl;
+
+    @Schema(description = "미리보기 URL (실시간 메시지는 CHAT_IMAGE_READY로 전달, 이력 조회 시에만 포함 / 로드 실패하면 imageUrl 사용)", example = "null")
+    private String previewUrl;
+
     @Schema(description = "전송 시각", example = "2024-05-21T10:15:30")
     private LocalDateTime sendAt;
 
     // Entity -> DTO 변환 메서드 (팩토리 메서드)
     public static ChatMessageResponse from(ChatLog chatLog) {
+        return of(chatLog.getChatId(), chatLog.getUser(), chatLog.getMessageType(), chatLog.getContent(),
+                chatLog.getImageUrl(), chatLog.getSendAt()).withRenditions();
+    }
+
+    // 이력 조회용 - 변환본 URL을 원본 키에서 계산 (변환할 수 없는 형식은 null)
+    public ChatMessageResponse withRenditions() {
+        if (imageUrl == null || thumbnailUrl != null) {
+            return this;
+        }
+        return toBuilder()
+                .thumbnailUrl(ChatImageRenditions.url(imageUrl, ChatImageRenditions.THUMBNAIL))
+                .previewUrl(ChatImageRenditions.url(imageUrl, ChatImageRenditions.PREVIEW))
+                .build();
+    }
+
+    // DB 저장 전 메시지 생성 (write-behind 전송 시 사용)
+    // 변환본은 아직 없으므로 URL을 비워 두고, 완료되면 CHAT_IMAGE_READY로 전달
+    public static ChatMessageResponse of(Long chatId, User sender, MessageType messageType, String content,
+            String imageUrl, LocalDateTime sendAt) {
 
-        UserInformation userInfo = chatLog.getUser().getUserInformation();
+        UserInformation userInfo = sender.getUserInformation();
 
         // 닉네임 안전하게 꺼내기 (Null 방어)
         String nickname = (userInfo != null && userInfo.getNickname() != null)
@@ -54,14 +83,14 @@ public class ChatMessageResponse {
         String profileImage = (userInfo != null) ? userInfo.getProfileImage() : null;
 
         return ChatMessageResponse.builder()
-                .chatId(chatLog.getChatId())
-                .senderId(chatLog.getUser().getId())
-                .senderName(userInfo.getNickname())
-                .senderProfileImage(userInfo.getProfileImage())
-                .messageType(chatLog.getMessageType())
-                .content(chatLog.getContent())
-                .imageUrl(chatLog.getImageUrl())
-                .sendAt(chatLog.getSendAt())
+                .chatId(chatId)
+                .senderId(sender.getId())
+                .senderName(nickname)
+                .senderProfileImage(profileImage)
+                .messageType(messageType)
+                .content(content)
+                .imageUrl(imageUrl)
+                .sendAt(sendAt)
                 .build();
     }
 }
@@ -2,49 +2,55 @@ package com.ohgiraffers.backendapi.domain.chat.listener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
+import com.ohgiraffers.backendapi.domain.chat.service.ChatRoomRelay;
+import com.ohgiraffers.backendapi.domain.chat.service.RecentChatBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Redis Pub/Sub 리스너
  * Redis 채널에서 메시지를 받아 WebSocket 클라이언트들에게 전달
+ * (받은 JSON을 객체로 바꾸지 않고 그대로 전달 - 최근 메시지 near-cache가 있는 방만 역직렬화)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisMessageListener implements MessageListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomRelay chatRoomRelay;
     private final ObjectMapper objectMapper;
+    private final RecentChatBuffer recentChatBuffer;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        Long roomId;
         try {
-            // Redis에서 받은 메시지 파싱
-            String channel = new String(message.getChannel());
-            String body = new String(message.getBody());
-
-            log.info("Received message from Redis channel [{}]: {}", channel, body);
-
-            // JSON -> ChatMessageResponse 변환
-            ChatMessageResponse chatMessage = objectMapper.readValue(body, ChatMessageResponse.class);
-
-            // 채널명에서 roomId 추출 (예: "chatRoom:1" -> "1")
-            String roomId = channel.replace("chatRoom:", "");
+            // 채널명에서 roomId 추출 (예: "chatRoom:1" -> 1)
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            roomId = Long.valueOf(channel.substring(ChatRoomRelay.CHANNEL_PREFIX.length()));
 
             // WebSocket 토픽으로 브로드캐스트
             // 클라이언트는 /topic/chatroom/{roomId}를 구독해야 함
-            String destination = "/topic/chatroom/" + roomId;
-            messagingTemplate.convertAndSend(destination, chatMessage);
-
-            log.info("Broadcasted message to WebSocket topic [{}]", destination);
-
+            chatRoomRelay.deliver(roomId, message.getBody());
+            log.debug("Relayed chat message to room {} ({} bytes)", roomId, message.getBody().length);
         } catch (Exception e) {
             log.error("Error processing Redis message", e);
+            return;
+        }
+
+        // 이 서버의 최근 메시지 near-cache 갱신 (캐시된 방만)
+        if (recentChatBuffer.isNearCached(roomId)) {
+            try {
+                recentChatBuffer.onMessage(roomId,
+                        objectMapper.readValue(message.getBody(), ChatMessageResponse.class));
+            } catch (Exception e) {
+                log.warn("최근 채팅 near-cache 갱신 실패: roomId={} - {}", roomId, e.getMessage());
+            }
         }
     }
 }
@@ -0,0 +1,33 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 ID 발급
+ * <p>
+ * chat_logs.chat_id의 identity 시퀀스에서 메시지마다 ID를 바로 받습니다.
+ * 메시지를 DB에 저장하기 전에 ID가 정해지므로 저장을 뒤로 미뤄도(write-behind) 커서 페이징에 같은 ID를 쓰고,
+ * 같은 메시지를 여러 번 저장해도 기본 키 충돌로 한 번만 저장됩니다.
+ * 서버와 관계없이 하나의 시퀀스에서 순서대로 받으므로 chatId 순서가 곧 전송 순서입니다.
+ * (서버마다 묶음으로 미리 받으면 오래된 묶음의 ID가 최신 메시지에 붙어 정렬/페이징이 어긋나므로 묶음 발급은 하지 않음)
+ * </p>
+ */
+@Component
+public class ChatIdAllocator {
+
+    private static final String NEXT_ID_SQL = "SELECT nextval(pg_get_serial_sequence('chat_logs', 'chat_id'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChatIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 다음 채팅 ID
+     */
+    public long next() {
+        return jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+    }
+}
@@ -0,0 +1,221 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.ohgiraffers.backendapi.domain.readingroom.service.RoomStatusRelay;
+import com.ohgiraffers.backendapi.global.service.ImageUploadService;
+import com.ohgiraffers.backendapi.global.util.ChatImageRenditions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 이미지 변환본(썸네일/미리보기) 비동기 생성
+ * <p>
+ * 이미지 메시지는 원본 URL로 바로 발행하고, 변환본은 백그라운드에서 만들어 같은 폴더에
+ * {uuid}_thumb.jpg / {uuid}_preview.jpg로 저장합니다. 완료되면 방 상태 채널로
+ * CHAT_IMAGE_READY(chatId, thumbnailUrl, previewUrl)를 보내 클라이언트가 자리 표시를 교체합니다.
+ * - 전송 경로에서는 작업 등록만 하고 이미지 바이트를 다루지 않음
+ * - 대기열이 가득 차면 건너뜀 (클라이언트는 원본 URL을 그대로 사용)
+ * - ImageIO로 읽을 수 없는 형식(WebP)은 등록하지 않음 (이력 조회에서도 변환본 URL을 내려주지 않음)
+ * - 디코딩 전에 가로x세로를 확인해 너무 큰 이미지는 변환하지 않음
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatImageRenditionService {
+
+    private final S3Client s3Client;
+    private final ImageUploadService imageUploadService;
+    private final RoomStatusRelay roomStatusRelay;
+    private final String bucket;
+    private final boolean enabled;
+    private final int thumbnailEdge;
+    private final int previewEdge;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter renderedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ChatImageRenditionService(S3Client s3Client,
+            ImageUploadService imageUploadService,
+            RoomStatusRelay roomStatusRelay,
+            MeterRegistry meterRegistry,
+            @Value("${spring.cloud.aws.s3.bucket}") String bucket,
+            @Value("${chat.image.rendition.enabled:true}") boolean enabled,
+            @Value("${chat.image.rendition.thumbnail-edge:240}") int thumbnailEdge,
+            @Value("${chat.image.rendition.preview-edge:1024}") int previewEdge,
+            @Value("${chat.image.rendition.max-pixels:40000000}") long maxPixels,
+            @Value("${chat.image.rendition.concurrency:2}") int concurrency,
+            @Value("${chat.image.rendition.queue-capacity:200}") int queueCapacity) {
+        this.s3Client = s3Client;
+        this.imageUploadService = imageUploadService;
+        this.roomStatusRelay = roomStatusRelay;
+        this.bucket = bucket;
+        this.enabled = enabled;
+        this.thumbnailEdge = thumbnailEdge;
+        this.previewEdge = previewEdge;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(1, concurrency);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ChatImageRendition-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.renderedCounter = counter(meterRegistry, "rendered");
+        this.skippedCounter = counter(meterRegistry, "skipped");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 변환본 생성 작업 등록 (바로 반환)
+     */
+    public void submit(Long roomId, Long chatId, String imageKey) {
+        if (!enabled) {
+            return;
+        }
+        if (!ChatImageRenditions.isRenderable(imageKey)) {
+            skippedCounter.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> process(roomId, chatId, imageKey));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("채팅 이미지 변환 대기열 초과 - 건너뜀: roomId={}, chatId={}", roomId, chatId);
+        }
+    }
+
+    void process(Long roomId, Long chatId, String imageKey) {
+        try {
+            BufferedImage image = read(imageKey);
+            if (image == null) {
+                skippedCounter.increment();
+                return;
+            }
+            String thumbnailKey = ChatImageRenditions.key(imageKey, ChatImageRenditions.THUMBNAIL);
+            String previewKey = ChatImageRenditions.key(imageKey, ChatImageRenditions.PREVIEW);
+            upload(thumbnailKey, resize(image, thumbnailEdge));
+            upload(previewKey, resize(image, previewEdge));
+            renderedCounter.increment();
+
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("type", "CHAT_IMAGE_READY");
+            message.put("roomId", roomId);
+            message.put("chatId", chatId);
+            message.put("thumbnailUrl", imageUploadService.objectUrl(thumbnailKey));
+            message.put("previewUrl", imageUploadService.objectUrl(previewKey));
+            roomStatusRelay.publish(roomId, message);
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("채팅 이미지 변환 실패: roomId={}, chatId={}, key={} - {}", roomId, chatId, imageKey,
+                    e.getMessage());
+        }
+    }
+
+    // 원본 읽기 (디코딩 전에 크기 확인, 읽을 수 없거나 너무 크면 null)
+    private BufferedImage read(String imageKey) throws IOException {
+        try (InputStream object = s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(imageKey).build());
+                ImageInputStream input = ImageIO.createImageInputStream(object)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.warn("채팅 이미지 형식을 읽을 수 없음 - 변환 건너뜀: key={}", imageKey);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("채팅 이미지가 너무 큼 - 변환 건너뜀: key={}, pixels={}", imageKey, pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxEdge 이하가 되도록 축소 후 JPEG로 인코딩 (작은 이미지는 확대하지 않음)
+    static byte[] resize(BufferedImage source, int maxEdge) throws IOException {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 배경은 흰색으로
+            graphics.setColor(java.awt.Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(target, "jpg", out)) {
+            throw new IOException("JPEG writer를 찾을 수 없습니다.");
+        }
+        return out.toByteArray();
+    }
+
+    private void upload(String key, byte[] bytes) {
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType("image/jpeg")
+                .contentLength((long) bytes.length)
+                .build(),
+                RequestBody.fromBytes(bytes));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.image.renditions")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
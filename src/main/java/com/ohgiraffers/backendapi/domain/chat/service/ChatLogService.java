@@ -1,15 +1,18 @@
 package com.ohgiraffers.backendapi.domain.chat.service;
 
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatImageUploadRequest;
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatImageUploadResponse;
 import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageRequest;
 import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
 import com.ohgiraffers.backendapi.domain.chat.entity.ChatLog;
+import com.ohgiraffers.backendapi.domain.chat.enums.MessageType;
 import com.ohgiraffers.backendapi.domain.chat.repository.ChatLogRepository;
 import com.ohgiraffers.backendapi.domain.readingroom.entity.ReadingRoom;
+import com.ohgiraffers.backendapi.domain.readingroom.entity.RoomParticipant;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.ConnectionStatus;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.RoomStatus;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.ReadingRoomRepository;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.RoomParticipantRepository;
-import com.ohgiraffers.backendapi.domain.user.entity.User;
 import com.ohgiraffers.backendapi.domain.user.repository.UserRepository;
 import com.ohgiraffers.backendapi.global.error.CustomException;
 import com.ohgiraffers.backendapi.global.error.ErrorCode;
@@ -17,10 +20,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,42 +37,40 @@ public class ChatLogService {
     private final ReadingRoomRepository readingRoomRepository;
     private final UserRepository userRepository;
     private final RoomParticipantRepository roomParticipantRepository;
+    private final ChatIdAllocator chatIdAllocator;
+    private final ChatLogWriter chatLogWriter;
+    private final RecentChatBuffer recentChatBuffer;
 
-    // Redis
-    private final RedisTemplate<String, Object> redisTemplate;
+    // Redis Pub/Sub 중계
+    private final ChatRoomRelay chatRoomRelay;
     // private final SimpMessagingTemplate messagingTemplate; (Removed to fix double
     // message issue)
 
     // S3 Image Upload
     private final com.ohgiraffers.backendapi.global.service.ImageUploadService imageUploadService;
+    private final ChatImageRenditionService chatImageRenditionService;
 
-    // 메시지 전송(DB 저장 -> Redis 채널에 뿌리기)
-    @Transactional
-    public void sendMessage(Long userId, ChatMessageRequest request) {
-
-        // 유저, 방 검증
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    private static final int PAGE_SIZE = 50;
 
-        ReadingRoom readingRoom = readingRoomRepository.findById(request.getRoomId())
-                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+    // 메시지 전송(Redis 채널에 뿌리기 + 저장 스트림에 추가, DB 저장은 ChatLogWriter가 배치로 처리)
+    public void sendMessage(Long userId, ChatMessageRequest request) {
 
-        // 참여자 검증: 활성 참여자만 메시지 전송 가능
-        boolean isActiveParticipant = roomParticipantRepository
-                .existsByReadingRoomAndUserAndConnectionStatus(
-                        readingRoom, user, ConnectionStatus.ACTIVE);
-        if (!isActiveParticipant) {
-            throw new CustomException(ErrorCode.NOT_ROOM_PARTICIPANT);
-        }
+        // 유저, 방, 참여자 검증 (한 번의 조회)
+        RoomParticipant sender = findSender(userId, request.getRoomId());
+        ReadingRoom readingRoom = sender.getReadingRoom();
 
         // 종료된 방인지 확인
         if (readingRoom.getStatus() == RoomStatus.FINISHED) { // RoomStatus Enum 가정
             throw new CustomException(ErrorCode.ROOM_FINISHED);
         }
 
-        // 1. 이미지 파일 처리 (S3 업로드)
+        // 1. 이미지 처리
         String finalImageUrl = null;
-        if (request.getImageFile() != null && !request.getImageFile().isEmpty()) {
+        String imageKey = request.getImageKey();
+        if (imageKey != null) {
+            // 업로드 URL로 클라이언트가 직접 올린 이미지 (키 검증 후 URL만 만들고, 변환본은 발행 후 비동기 생성)
+            finalImageUrl = imageUploadService.resolveChatImageUrl(readingRoom.getRoomId(), imageKey);
+        } else if (request.getImageFile() != null && !request.getImageFile().isEmpty()) {
             // 파일 직접 업로드
             finalImageUrl = imageUploadService.uploadChatImage(request.getImageFile(), request.getRoomId());
             log.info("Image uploaded to S3: {}", finalImageUrl);
@@ -77,49 +79,84 @@ public class ChatLogService {
             finalImageUrl = request.getImageUrl();
         }
 
-        // 2. DB 저장
-        ChatLog chatLog;
-        if (finalImageUrl != null) {
-            chatLog = ChatLog.createImageMessage(readingRoom, user, finalImageUrl);
-        } else {
-            chatLog = ChatLog.createTextMessage(readingRoom, user, request.getContent());
-        }
-        ChatLog savedChat = chatLogRepository.save(chatLog);
-        ChatMessageResponse response = ChatMessageResponse.from(savedChat);
+        // 2. 메시지 생성 (ID는 전송 시 시퀀스에서 받은 값 - 저장 전에도 커서 페이징/중복 저장 방지에 사용)
+        ChatMessageResponse response = (finalImageUrl != null)
+                ? ChatMessageResponse.of(chatIdAllocator.next(), sender.getUser(), MessageType.IMAGE, null,
+                        finalImageUrl, LocalDateTime.now())
+                : ChatMessageResponse.of(chatIdAllocator.next(), sender.getUser(), MessageType.TEXT,
+                        request.getContent(), null, LocalDateTime.now());
+
+        // 3. 저장 스트림에 추가 (chat_logs 저장은 백그라운드에서 배치로)
+        chatLogWriter.append(readingRoom.getRoomId(), response);
+        // 방 입장 시 보여줄 최근 메시지 버퍼에 추가
+        recentChatBuffer.add(readingRoom.getRoomId(), response);
 
-        // 2. Redis Pub/Sub으로 메시지 발행
+        // 4. Redis Pub/Sub으로 메시지 발행
         // RedisMessageListener가 이를 수신하여 WebSocket으로 브로드캐스트합니다.
         // (이로써 단일/다중 서버 모두 지원하며 메시지 중복 전송 방지)
-        String redisChannel = "chatRoom:" + request.getRoomId();
-        redisTemplate.convertAndSend(redisChannel, response);
-        log.info("Message sent to Redis Channel [{}]: {}", redisChannel, response.getContent());
+        chatRoomRelay.publish(readingRoom.getRoomId(), response);
+        log.debug("Message published to chat room {}: chatId={}", readingRoom.getRoomId(), response.getChatId());
+
+        // 5. 썸네일/미리보기 생성 등록 (완료되면 CHAT_IMAGE_READY로 알림)
+        if (imageKey != null) {
+            chatImageRenditionService.submit(readingRoom.getRoomId(), response.getChatId(), imageKey);
+        }
 
     }
 
-    // 채팅방 입장 시 최근 메시지 로딩
+    // 채팅 이미지 업로드 URL 발급 (활성 참여자만, 이미지는 클라이언트가 S3에 직접 업로드)
+    public ChatImageUploadResponse createImageUploadUrl(Long userId, Long roomId, ChatImageUploadRequest request) {
+        RoomParticipant sender = findSender(userId, roomId);
+        if (sender.getReadingRoom().getStatus() == RoomStatus.FINISHED) {
+            throw new CustomException(ErrorCode.ROOM_FINISHED);
+        }
+        return imageUploadService.createChatImageUploadUrl(roomId, request.getContentType(), request.getSize());
+    }
+
+    // 채팅방 입장 시 최근 메시지 로딩 (최근 메시지 버퍼에서 조회, 처음 조회하는 방만 DB에서 불러옴)
     public List<ChatMessageResponse> getRecentMessage(Long roomId) {
+        return recentChatBuffer.recent(roomId, () -> loadRecentMessage(roomId)).stream()
+                .map(ChatMessageResponse::withRenditions)
+                .toList();
+    }
+
+    // 스크롤 올려서 과거 메시지 로딩(커서 페이징)
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getOldMessage(Long roomId, Long lastChatId) {
+        // 최근 메시지 버퍼에 있는 구간은 버퍼에서, 그보다 오래된 구간만 DB에서 조회
+        List<ChatMessageResponse> buffered = recentChatBuffer.peek(roomId).orElse(List.of()).stream()
+                .filter(message -> message.getChatId() < lastChatId)
+                .map(ChatMessageResponse::withRenditions)
+                .toList();
+        if (buffered.size() >= PAGE_SIZE) {
+            return buffered.subList(buffered.size() - PAGE_SIZE, buffered.size());
+        }
+
         validateRoomExists(roomId);
 
-        // 최근 50개 가져오기
-        Pageable limit = PageRequest.of(0, 50);
-        List<ChatLog> chatLogs = chatLogRepository.findRecentMessage(roomId, limit);
+        // 버퍼의 가장 오래된 메시지(없으면 lastChatId) 보다 오래된 메시지를 남은 개수만큼 가져오기
+        Long cursor = buffered.isEmpty() ? lastChatId : buffered.get(0).getChatId();
+        Pageable limit = PageRequest.of(0, PAGE_SIZE - buffered.size());
+        List<ChatLog> chatLogs = chatLogRepository.findOldMessage(roomId, cursor, limit);
 
         // 과거 -> 최신(오름차순)
         Collections.reverse(chatLogs);
 
-        return chatLogs.stream()
+        List<ChatMessageResponse> messages = chatLogs.stream()
                 .map(ChatMessageResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        messages.addAll(buffered);
+        return messages;
+
     }
 
-    // 스크롤 올려서 과거 메시지 로딩(커서 페이징)
-    @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getOldMessage(Long roomId, Long lastChatId) {
+    // 최근 메시지 DB 조회 (버퍼가 준비되지 않은 방)
+    private List<ChatMessageResponse> loadRecentMessage(Long roomId) {
         validateRoomExists(roomId);
 
-        // lastChatId 보다 오래된 메시지 50개 가져오기
-        Pageable limit = PageRequest.of(0, 50);
-        List<ChatLog> chatLogs = chatLogRepository.findOldMessage(roomId, lastChatId, limit);
+        // 최근 50개 가져오기
+        Pageable limit = PageRequest.of(0, PAGE_SIZE);
+        List<ChatLog> chatLogs = chatLogRepository.findRecentMessage(roomId, limit);
 
         // 과거 -> 최신(오름차순)
         Collections.reverse(chatLogs);
@@ -127,10 +164,24 @@ public class ChatLogService {
         return chatLogs.stream()
                 .map(ChatMessageResponse::from)
                 .collect(Collectors.toList());
-
     }
 
     // private help method
+    private RoomParticipant findSender(Long userId, Long roomId) {
+        return roomParticipantRepository.findSender(roomId, userId, ConnectionStatus.ACTIVE)
+                .orElseThrow(() -> {
+                    // 실패한 경우에만 원인을 구분 (정상 전송 경로에서는 조회 한 번)
+                    if (!userRepository.existsById(userId)) {
+                        return new CustomException(ErrorCode.USER_NOT_FOUND);
+                    }
+                    if (!readingRoomRepository.existsById(roomId)) {
+                        return new CustomException(ErrorCode.ROOM_NOT_FOUND);
+                    }
+                    // 참여자 검증: 활성 참여자만 메시지 전송 가능
+                    return new CustomException(ErrorCode.NOT_ROOM_PARTICIPANT);
+                });
+    }
+
     private void validateRoomExists(Long roomId) {
         if (!readingRoomRepository.existsById(roomId)) {
             throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
@@ -0,0 +1,352 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 저장 (write-behind, Redis Stream)
+ * <p>
+ * 전송 경로에서는 메시지를 방 번호로 나눈 스트림(chat:stream:{shard})에 추가만 하고,
+ * 컨슈머 그룹이 스트림을 읽어 chat_logs에 JDBC 배치 INSERT로 저장합니다.
+ * 전송 지연이 DB 상태와 무관해지고, 메시지가 몰려도 DB 왕복은 배치 단위로만 발생합니다.
+ * - 저장 후 ACK (at-least-once) - 같은 메시지가 다시 처리되어도 chat_id 충돌로 한 번만 저장
+ * - 저장하지 못하고 claim-idle-ms 이상 지난 메시지는 다시 가져와 처리 (서버가 죽은 경우 포함)
+ * - max-deliveries번 넘게 실패하거나 저장할 수 없는 메시지는 chat:stream:dead로 옮김
+ * - 스트림 추가에 실패하면 DB에 바로 저장
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatLogWriter {
+
+    public static final String STREAM_PREFIX = "chat:stream:";
+    private static final String DEAD_LETTER_KEY = STREAM_PREFIX + "dead";
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_logs (chat_id, room_id, user_id, message_type, content, image_url, send_at) " +
+            "OVERRIDING SYSTEM VALUE VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (chat_id) DO NOTHING";
+    private static final long ERROR_BACKOFF_MS = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int shards;
+    private final String group;
+    private final String consumer;
+    private final int batchSize;
+    private final Duration block;
+    private final Duration claimIdle;
+    private final long maxDeliveries;
+
+    // 마지막으로 읽은 묶음의 가장 오래된 메시지가 스트림에 들어온 뒤 지난 시간
+    private final AtomicLong lagMs = new AtomicLong();
+    private volatile boolean running;
+    private Thread worker;
+
+    private final Counter enqueuedCounter;
+    private final Counter fallbackCounter;
+    private final Counter persistedCounter;
+    private final Counter duplicateCounter;
+    private final Counter deadCounter;
+
+    public ChatLogWriter(StringRedisTemplate redisTemplate,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.write-behind.enabled:true}") boolean enabled,
+            @Value("${chat.write-behind.shards:4}") int shards,
+            @Value("${chat.write-behind.group:chat-log-writer}") String group,
+            @Value("${chat.write-behind.batch-size:200}") int batchSize,
+            @Value("${chat.write-behind.block-ms:1000}") long blockMs,
+            @Value("${chat.write-behind.claim-idle-ms:30000}") long claimIdleMs,
+            @Value("${chat.write-behind.max-deliveries:10}") long maxDeliveries) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.shards = Math.max(1, shards);
+        this.group = group;
+        this.consumer = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+        this.batchSize = Math.max(1, batchSize);
+        this.block = Duration.ofMillis(blockMs);
+        this.claimIdle = Duration.ofMillis(claimIdleMs);
+        this.maxDeliveries = maxDeliveries;
+
+        this.enqueuedCounter = counter(meterRegistry, "enqueued");
+        this.fallbackCounter = counter(meterRegistry, "fallback");
+        this.persistedCounter = counter(meterRegistry, "persisted");
+        this.duplicateCounter = counter(meterRegistry, "duplicate");
+        this.deadCounter = counter(meterRegistry, "dead");
+        Gauge.builder("chat.persist.lag", lagMs, AtomicLong::get)
+                .description("스트림에 들어온 채팅 메시지가 DB에 저장되기까지 밀린 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        for (int shard = 0; shard < shards; shard++) {
+            createGroup(STREAM_PREFIX + shard);
+        }
+        running = true;
+        worker = new Thread(this::run, "ChatLogWriter");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            // 읽고 저장하지 못한 메시지는 ACK되지 않았으므로 다른 서버나 재시작 후 다시 처리
+            worker.join(block.toMillis() + ERROR_BACKOFF_MS);
+        }
+    }
+
+    /**
+     * 채팅 메시지 저장 요청 (스트림에 추가, 실패하면 DB에 바로 저장)
+     */
+    public void append(Long roomId, ChatMessageResponse message) {
+        Map<String, String> fields = toFields(roomId, message);
+        if (enabled) {
+            try {
+                redisTemplate.opsForStream().add(STREAM_PREFIX + Math.floorMod(roomId, shards), fields);
+                enqueuedCounter.increment();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("채팅 스트림 추가 실패 - DB에 바로 저장: roomId={}, chatId={} - {}",
+                        roomId, message.getChatId(), e.getMessage());
+                fallbackCounter.increment();
+            }
+        }
+        jdbcTemplate.update(INSERT_SQL, toRow(fields));
+        persistedCounter.increment();
+    }
+
+    private void run() {
+        Consumer reader = Consumer.from(group, consumer);
+        StreamReadOptions options = StreamReadOptions.empty().count(batchSize).block(block);
+        @SuppressWarnings("unchecked")
+        StreamOffset<String>[] offsets = new StreamOffset[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            offsets[shard] = StreamOffset.create(STREAM_PREFIX + shard, ReadOffset.lastConsumed());
+        }
+
+        long nextRecoverAt = 0;
+        while (running) {
+            try {
+                if (System.currentTimeMillis() >= nextRecoverAt) {
+                    recoverPending();
+                    nextRecoverAt = System.currentTimeMillis() + claimIdle.toMillis();
+                }
+                List<MapRecord<String, Object, Object>> records = streams().read(reader, options, offsets);
+                if (records == null || records.isEmpty()) {
+                    lagMs.set(0);
+                    continue;
+                }
+                persist(records);
+            } catch (RuntimeException e) {
+                // DB/Redis 장애 - ACK하지 않은 메시지는 claim-idle-ms 뒤 다시 처리
+                log.warn("채팅 메시지 저장 실패 - 잠시 후 다시 시도: {}", e.getMessage());
+                sleep(ERROR_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * 읽은 메시지를 한 번의 배치 INSERT로 저장하고 ACK
+     */
+    void persist(List<MapRecord<String, Object, Object>> records) {
+        long now = System.currentTimeMillis();
+        List<MapRecord<String, Object, Object>> valid = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        long oldest = now;
+        for (MapRecord<String, Object, Object> record : records) {
+            Long timestamp = record.getId().getTimestamp();
+            if (timestamp != null) {
+                oldest = Math.min(oldest, timestamp);
+            }
+            try {
+                rows.add(toRow(record.getValue()));
+                valid.add(record);
+            } catch (RuntimeException e) {
+                log.error("잘못된 채팅 메시지: stream={}, id={}, value={}", record.getStream(), record.getId(),
+                        record.getValue(), e);
+                deadLetter(record);
+            }
+        }
+        lagMs.set(now - oldest);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            count(jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+            acknowledge(valid);
+        } catch (DataIntegrityViolationException e) {
+            // 저장할 수 없는 메시지(삭제된 방/유저 등)가 섞여 있음 - 한 건씩 저장하고 실패한 메시지는 제외
+            for (int i = 0; i < rows.size(); i++) {
+                MapRecord<String, Object, Object> record = valid.get(i);
+                try {
+                    count(new int[] { jdbcTemplate.update(INSERT_SQL, rows.get(i)) });
+                    acknowledge(List.of(record));
+                } catch (DataIntegrityViolationException rowError) {
+                    log.error("채팅 메시지 저장 불가: stream={}, id={} - {}", record.getStream(), record.getId(),
+                            rowError.getMessage());
+                    deadLetter(record);
+                }
+            }
+        }
+    }
+
+    // 처리되지 못하고 오래된 메시지(이 서버 또는 죽은 서버 몫)를 가져와 다시 저장
+    private void recoverPending() {
+        for (int shard = 0; shard < shards; shard++) {
+            String key = STREAM_PREFIX + shard;
+            PendingMessages pending = streams().pending(key, group, Range.unbounded(), batchSize);
+            List<RecordId> retry = new ArrayList<>();
+            List<RecordId> exhausted = new ArrayList<>();
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) < 0) {
+                    continue;
+                }
+                if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                    exhausted.add(message.getId());
+                } else {
+                    retry.add(message.getId());
+                }
+            }
+            if (!exhausted.isEmpty()) {
+                streams().claim(key, group, consumer, claimIdle, exhausted.toArray(RecordId[]::new))
+                        .forEach(record -> {
+                            log.error("채팅 메시지 저장 재시도 횟수 초과: stream={}, id={}", key, record.getId());
+                            deadLetter(record);
+                        });
+            }
+            if (!retry.isEmpty()) {
+                List<MapRecord<String, Object, Object>> claimed =
+                        streams().claim(key, group, consumer, claimIdle, retry.toArray(RecordId[]::new));
+                if (!claimed.isEmpty()) {
+                    log.info("밀린 채팅 메시지 다시 저장: stream={}, {}건", key, claimed.size());
+                    persist(claimed);
+                }
+            }
+        }
+    }
+
+    // 저장이 끝난 메시지는 ACK 후 스트림에서 삭제 (스트림에는 저장 전 메시지만 남김)
+    private void acknowledge(List<MapRecord<String, Object, Object>> records) {
+        Map<String, List<RecordId>> byStream = new LinkedHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            byStream.computeIfAbsent(record.getStream(), key -> new ArrayList<>()).add(record.getId());
+        }
+        byStream.forEach((key, ids) -> {
+            RecordId[] recordIds = ids.toArray(RecordId[]::new);
+            streams().acknowledge(key, group, recordIds);
+            streams().delete(key, recordIds);
+        });
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record) {
+        streams().add(DEAD_LETTER_KEY, record.getValue());
+        acknowledge(List.of(record));
+        deadCounter.increment();
+    }
+
+    private void count(int[] results) {
+        for (int result : results) {
+            if (result == 0) {
+                duplicateCounter.increment(); // 이미 저장된 메시지 (재처리)
+            } else {
+                persistedCounter.increment();
+            }
+        }
+    }
+
+    private void createGroup(String key) {
+        try {
+            streams().createGroup(key, ReadOffset.from("0"), group);
+        } catch (RuntimeException e) {
+            // 이미 있는 그룹 (BUSYGROUP)
+            log.debug("채팅 스트림 컨슈머 그룹 생성 생략: {} - {}", key, e.getMessage());
+        }
+    }
+
+    private StreamOperations<String, Object, Object> streams() {
+        return redisTemplate.opsForStream();
+    }
+
+    private static Map<String, String> toFields(Long roomId, ChatMessageResponse message) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("chatId", String.valueOf(message.getChatId()));
+        fields.put("roomId", String.valueOf(roomId));
+        fields.put("userId", String.valueOf(message.getSenderId()));
+        fields.put("messageType", message.getMessageType().name());
+        fields.put("sendAt", message.getSendAt().toString());
+        // 스트림 필드에는 null을 넣을 수 없으므로 값이 있을 때만 추가
+        if (message.getContent() != null) {
+            fields.put("content", message.getContent());
+        }
+        if (message.getImageUrl() != null) {
+            fields.put("imageUrl", message.getImageUrl());
+        }
+        return fields;
+    }
+
+    private static Object[] toRow(Map<?, ?> fields) {
+        return new Object[] {
+                Long.valueOf((String) fields.get("chatId")),
+                Long.valueOf((String) fields.get("roomId")),
+                Long.valueOf((String) fields.get("userId")),
+                fields.get("messageType").toString(),
+                fields.get("content"),
+                fields.get("imageUrl"),
+                Timestamp.valueOf(LocalDateTime.parse((String) fields.get("sendAt"))) };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.persist.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 중계 (Redis Pub/Sub -> STOMP)
+ * <p>
+ * 전송 서버에서 메시지를 한 번만 JSON으로 만들어 chatRoom:{roomId} 채널로 발행하고,
+ * 모든 서버는 받은 JSON 바이트를 그대로 /topic/chatroom/{roomId}로 전달합니다.
+ * (서버마다 객체로 역직렬화 -> 다시 직렬화하지 않음)
+ * - coalesce-window-ms > 0이면 방마다 window 동안 받은 메시지를 JSON 배열 하나로 묶어 전송
+ *   (window 동안 한 건뿐이면 그대로 전송하므로 클라이언트는 객체/배열을 모두 처리해야 함)
+ * - Redis 발행 실패 시 이 서버의 구독자에게만 직접 전송
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatRoomRelay {
+
+    public static final String CHANNEL_PREFIX = "chatRoom:";
+    private static final String DESTINATION_PREFIX = "/topic/chatroom/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final long coalesceWindowMs;
+    private final int maxBatch;
+    private final ScheduledExecutorService scheduler;
+
+    // 전송 대기 중인 메시지 (방 ID -> window 동안 받은 메시지)
+    private final Map<Long, PendingFrame> pendingFrames = new ConcurrentHashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter fallbackCounter;
+    private final Counter deliveredCounter;
+    private final Counter coalescedCounter;
+
+    public ChatRoomRelay(StringRedisTemplate redisTemplate,
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chat.relay.coalesce-window-ms:0}") long coalesceWindowMs,
+            @Value("${chat.relay.max-batch:50}") int maxBatch) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ChatRoomRelay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.publishedCounter = counter(meterRegistry, "published");
+        this.fallbackCounter = counter(meterRegistry, "fallback");
+        this.deliveredCounter = counter(meterRegistry, "delivered");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 모든 서버로 채팅 메시지 발행 (JSON 변환은 여기서 한 번만)
+     */
+    public void publish(Long roomId, ChatMessageResponse message) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 메시지 JSON 변환 실패: chatId=" + message.getChatId(), e);
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, json);
+            publishedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 발행 실패 - 이 서버에만 전송: roomId={}, chatId={} - {}", roomId,
+                    message.getChatId(), e.getMessage());
+            fallbackCounter.increment();
+            deliver(roomId, json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 이 서버에 연결된 구독자에게 받은 JSON 그대로 전달 (Redis 구독 리스너에서 호출)
+     */
+    public void deliver(Long roomId, byte[] payload) {
+        if (coalesceWindowMs <= 0) {
+            send(roomId, payload);
+            return;
+        }
+        PendingFrame frame = pendingFrames.compute(roomId, (id, current) -> {
+            PendingFrame target = (current != null) ? current : new PendingFrame();
+            target.add(payload);
+            return target;
+        });
+        if (frame.size() >= maxBatch) {
+            flush(roomId, frame);
+        } else if (frame.markScheduled()) {
+            scheduler.schedule(() -> flush(roomId, frame), coalesceWindowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Long roomId, PendingFrame frame) {
+        // 이미 전송한 프레임이면 무시 (max-batch로 먼저 전송된 경우)
+        if (!pendingFrames.remove(roomId, frame)) {
+            return;
+        }
+        List<byte[]> payloads = frame.payloads();
+        if (payloads.size() == 1) {
+            send(roomId, payloads.get(0));
+            return;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(frame.bytes() + payloads.size() + 1);
+        out.write('[');
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(payloads.get(i));
+        }
+        out.write(']');
+        coalescedCounter.increment(payloads.size() - 1);
+        send(roomId, out.toByteArray());
+    }
+
+    private void send(Long roomId, byte[] payload) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(DESTINATION_PREFIX + roomId,
+                    MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            deliveredCounter.increment();
+        } catch (Exception e) {
+            log.error("Failed to send chat message to room {}", roomId, e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.relay.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방 하나의 전송 대기 메시지 묶음
+     */
+    private static final class PendingFrame {
+
+        private final List<byte[]> payloads = new ArrayList<>();
+        private int bytes;
+        private boolean scheduled;
+
+        synchronized void add(byte[] payload) {
+            payloads.add(payload);
+            bytes += payload.length;
+        }
+
+        synchronized int size() {
+            return payloads.size();
+        }
+
+        synchronized int bytes() {
+            return bytes;
+        }
+
+        synchronized List<byte[]> payloads() {
+            return List.copyOf(payloads);
+        }
+
+        // 처음 호출한 스레드만 true (flush 예약은 한 번만)
+        synchronized boolean markScheduled() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 방별 최근 채팅 버퍼 (Redis sorted set + 로컬 near-cache)
+ * <p>
+ * 방 입장 시 보여줄 최근 메시지 size개를 chat:recent:{roomId}(점수 = chatId)에 유지해
+ * 입장할 때마다 DB를 조회하지 않습니다.
+ * chatId는 전송 시 시퀀스에서 바로 받으므로(ChatIdAllocator) 서버와 관계없이 전송 순서와 같고,
+ * DB 조회/커서 페이징과 같은 순서 기준을 사용합니다.
+ * - 전송 시 버퍼에 추가하고 size개를 넘는 오래된 메시지는 제거
+ * - 처음 조회하는 방만 DB에서 불러와 채우고 준비 표시(:ready)를 남김 (동시 입장은 한 번만 조회)
+ * - 서버마다 자주 조회하는 방은 near-cache에 두고 Pub/Sub으로 받은 메시지로 갱신
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecentChatBuffer {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String READY_SUFFIX = ":ready";
+
+    // 추가 후 점수(chatId)가 낮은 쪽부터 size개를 넘는 만큼 제거 (새 메시지는 항상 가장 높은 점수)
+    // ARGV = [size, ttl, chatId, json]
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[4]) "
+                    + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[1]) + 1)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // DB에서 불러온 메시지로 채움 (전송 중 이미 추가된 chatId는 건너뜀)
+    // ARGV = [size, ttl, chatId1, json1, chatId2, json2, ...]
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #ARGV, 2 do "
+                    + "  if #redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[i], ARGV[i]) == 0 then "
+                    + "    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) "
+                    + "  end "
+                    + "end "
+                    + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[1]) + 1)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('SET', KEYS[2], '1', 'EX', ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // 준비되지 않은 방이면 nil
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return false end "
+                    + "return redis.call('ZRANGE', KEYS[1], 0, -1)",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int size;
+    private final Duration ttl;
+    private final long nearTtlMs;
+
+    private final Map<Long, NearEntry> nearCache;
+    // 방 ID -> DB에서 불러오는 중인 요청 (동시 입장 시 한 번만 조회)
+    private final Map<Long, CompletableFuture<List<ChatMessageResponse>>> loading = new ConcurrentHashMap<>();
+
+    private final Counter nearHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter loadCounter;
+    private final Counter failureCounter;
+
+    public RecentChatBuffer(StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chat.recent.size:50}") int size,
+            @Value("${chat.recent.ttl-hours:24}") long ttlHours,
+            @Value("${chat.recent.near-cache-ttl-ms:30000}") long nearTtlMs,
+            @Value("${chat.recent.near-cache-size:1000}") int nearCacheSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.size = Math.max(1, size);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.nearTtlMs = nearTtlMs;
+        this.nearCache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, NearEntry> eldest) {
+                return size() > nearCacheSize;
+            }
+        };
+
+        this.nearHitCounter = counter(meterRegistry, "near_hit");
+        this.redisHitCounter = counter(meterRegistry, "redis_hit");
+        this.loadCounter = counter(meterRegistry, "db");
+        this.failureCounter = counter(meterRegistry, "failure");
+    }
+
+    /**
+     * 최근 메시지 조회 (과거 -> 최신)
+     * near-cache -> Redis 순으로 찾고, 준비되지 않은 방이면 loader(DB)로 불러와 버퍼를 채웁니다.
+     */
+    public List<ChatMessageResponse> recent(Long roomId, Supplier<List<ChatMessageResponse>> loader) {
+        Optional<List<ChatMessageResponse>> cached = peek(roomId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<List<ChatMessageResponse>> created = new CompletableFuture<>();
+        CompletableFuture<List<ChatMessageResponse>> existing = loading.putIfAbsent(roomId, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw (e.getCause() instanceof RuntimeException cause) ? cause : e;
+            }
+        }
+        try {
+            List<ChatMessageResponse> loaded = loader.get();
+            loadCounter.increment();
+            seed(roomId, loaded);
+            // 불러오는 동안 전송되어 아직 DB에 없는 메시지까지 포함해 다시 읽음
+            List<ChatMessageResponse> messages = peek(roomId).orElse(loaded);
+            created.complete(messages);
+            return messages;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(roomId, created);
+        }
+    }
+
+    /**
+     * 버퍼에 있는 최근 메시지만 조회 (DB는 조회하지 않음, 준비되지 않은 방이면 empty)
+     */
+    public Optional<List<ChatMessageResponse>> peek(Long roomId) {
+        List<ChatMessageResponse> near = getNear(roomId);
+        if (near != null) {
+            nearHitCounter.increment();
+            return Optional.of(near);
+        }
+        try {
+            List<?> values = redisTemplate.execute(READ_SCRIPT, keys(roomId));
+            if (values == null) {
+                return Optional.empty();
+            }
+            List<ChatMessageResponse> messages = new ArrayList<>(values.size());
+            for (Object value : values) {
+                messages.add(objectMapper.readValue((String) value, ChatMessageResponse.class));
+            }
+            redisHitCounter.increment();
+            putNear(roomId, messages);
+            return Optional.of(messages);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 채팅 버퍼 조회 실패 - DB 사용: roomId={} - {}", roomId, e.getMessage());
+            failureCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 전송한 메시지를 버퍼에 추가
+     */
+    public void add(Long roomId, ChatMessageResponse message) {
+        try {
+            redisTemplate.execute(ADD_SCRIPT, keys(roomId), String.valueOf(size), String.valueOf(ttl.toSeconds()),
+                    String.valueOf(message.getChatId()), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 버퍼에서 빠진 메시지가 계속 보이지 않도록 준비 표시를 지워 다음 조회 때 DB에서 다시 채움
+            log.warn("최근 채팅 버퍼 추가 실패: roomId={}, chatId={} - {}", roomId, message.getChatId(),
+                    e.getMessage());
+            failureCounter.increment();
+            invalidate(roomId);
+        }
+    }
+
+    /**
+     * 이 서버의 near-cache에 있는 방인지 (Pub/Sub 메시지를 역직렬화할지 판단)
+     */
+    public boolean isNearCached(Long roomId) {
+        synchronized (nearCache) {
+            return nearCache.containsKey(roomId);
+        }
+    }
+
+    /**
+     * Pub/Sub으로 받은 메시지로 near-cache 갱신 (이 서버에 캐시된 방만)
+     */
+    public void onMessage(Long roomId, ChatMessageResponse message) {
+        synchronized (nearCache) {
+            NearEntry entry = nearCache.get(roomId);
+            if (entry == null) {
+                return;
+            }
+            List<ChatMessageResponse> messages = new ArrayList<>(entry.messages());
+            if (messages.stream().anyMatch(m -> m.getChatId().equals(message.getChatId()))) {
+                return;
+            }
+            messages.add(message);
+            messages.sort(Comparator.comparing(ChatMessageResponse::getChatId));
+            if (messages.size() > size) {
+                messages = messages.subList(messages.size() - size, messages.size());
+            }
+            nearCache.put(roomId, new NearEntry(List.copyOf(messages), entry.loadedAt()));
+        }
+    }
+
+    private void seed(Long roomId, List<ChatMessageResponse> messages) {
+        try {
+            List<String> args = new ArrayList<>(2 + messages.size() * 2);
+            args.add(String.valueOf(size));
+            args.add(String.valueOf(ttl.toSeconds()));
+            for (ChatMessageResponse message : messages) {
+                args.add(String.valueOf(message.getChatId()));
+                args.add(objectMapper.writeValueAsString(message));
+            }
+            redisTemplate.execute(SEED_SCRIPT, keys(roomId), args.toArray());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 채팅 버퍼 채우기 실패: roomId={} - {}", roomId, e.getMessage());
+            failureCounter.increment();
+        }
+    }
+
+    private void invalidate(Long roomId) {
+        synchronized (nearCache) {
+            nearCache.remove(roomId);
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + roomId + READY_SUFFIX);
+        } catch (RuntimeException e) {
+            log.debug("최근 채팅 버퍼 준비 표시 삭제 실패: roomId={}", roomId);
+        }
+    }
+
+    private List<ChatMessageResponse> getNear(Long roomId) {
+        synchronized (nearCache) {
+            NearEntry entry = nearCache.get(roomId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - entry.loadedAt() > nearTtlMs) {
+                nearCache.remove(roomId);
+                return null;
+            }
+            return entry.messages();
+        }
+    }
+
+    private void putNear(Long roomId, List<ChatMessageResponse> messages) {
+        synchronized (nearCache) {
+            nearCache.put(roomId, new NearEntry(List.copyOf(messages), System.currentTimeMillis()));
+        }
+    }
+
+    private static List<String> keys(Long roomId) {
+        return List.of(KEY_PREFIX + roomId, KEY_PREFIX + roomId + READY_SUFFIX);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.recent.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record NearEntry(List<ChatMessageResponse> messages, long loadedAt) {
+    }
+}
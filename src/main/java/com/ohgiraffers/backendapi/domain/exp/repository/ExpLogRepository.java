@@ -5,8 +5,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -18,4 +21,10 @@ public interface ExpLogRepository extends JpaRepository<ExpLog, Long> {
 
     // 중복 보상 여부 확인
     boolean existsByUser_IdAndExpRule_ExpRuleIdAndReferenceId(Long userId, Long expRuleId, Long referenceId);
+
+    // 여러 유저 중 이미 보상을 받은 유저 ID 조회 (일괄 지급 시 중복 확인)
+    @Query("SELECT e.user.id FROM ExpLog e " +
+            "WHERE e.expRule.expRuleId = :expRuleId AND e.referenceId = :referenceId AND e.user.id IN :userIds")
+    List<Long> findRewardedUserIds(@Param("expRuleId") Long expRuleId, @Param("referenceId") Long referenceId,
+            @Param("userIds") Collection<Long> userIds);
 }
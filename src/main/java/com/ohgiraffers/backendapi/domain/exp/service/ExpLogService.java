@@ -7,17 +7,28 @@ import com.ohgiraffers.backendapi.domain.exp.entity.ExpRule;
 import com.ohgiraffers.backendapi.domain.exp.enums.ActivityType;
 import com.ohgiraffers.backendapi.domain.exp.repository.ExpLogRepository;
 import com.ohgiraffers.backendapi.domain.exp.repository.ExpRuleRepository;
+import com.ohgiraffers.backendapi.domain.level.entity.Level;
 import com.ohgiraffers.backendapi.domain.level.service.LevelService;
 import com.ohgiraffers.backendapi.domain.user.entity.User;
 import com.ohgiraffers.backendapi.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -27,6 +38,7 @@ public class ExpLogService {
     private final ExpRuleRepository expRuleRepository;
     private final UserRepository userRepository;
     private final LevelService levelService;
+    private final JdbcTemplate jdbcTemplate;
 
     private ExpRule findAppropriateRule(ActivityType type, Long categoryId) {
         if (categoryId != null) {
@@ -62,6 +74,90 @@ public class ExpLogService {
         return ExpLogResponseDTO.from(savedLog);
     }
 
+    /**
+     * 여러 유저에게 같은 활동 경험치를 한 번에 지급 (독서룸 종료 등)
+     * 참여자 수와 관계없이 규칙 조회, 중복 확인, 로그 INSERT(배치), 경험치/레벨 UPDATE를 각각 한 번씩만 실행합니다.
+     * 이미 보상을 받은 유저는 건너뜁니다.
+     *
+     * @return 실제로 지급한 유저 수
+     */
+    // 규칙이 없으면(IllegalArgumentException) 아무것도 쓰기 전에 실패하므로 호출한 트랜잭션은 롤백하지 않음
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public int giveExperienceToUsers(ActivityType activityType, Long categoryId, Long targetId, Long referenceId,
+            Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        ExpRule rule = findAppropriateRule(activityType, categoryId);
+
+        // 이미 받은 유저 제외 (쿼리 1번)
+        Set<Long> targets = new HashSet<>(userIds);
+        targets.removeAll(expLogRepository.findRewardedUserIds(rule.getExpRuleId(), referenceId, targets));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        List<Long> targetIds = targets.stream().sorted().toList();
+
+        // 로그 일괄 저장 (동시에 지급된 건은 유니크 제약으로 건너뜀)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(targetIds.size());
+        for (Long userId : targetIds) {
+            rows.add(new Object[] { userId, rule.getExpRuleId(), rule.getExp(), targetId, referenceId, now, now });
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(
+                "INSERT INTO exp_logs (user_id, exp_rule_id, earned_exp, target_id, reference_id, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING",
+                rows);
+        List<Long> rewarded = new ArrayList<>(targetIds.size());
+        for (int i = 0; i < targetIds.size(); i++) {
+            // 드라이버가 건수를 알려주지 않으면(음수) 저장된 것으로 간주
+            if (inserted[i] != 0) {
+                rewarded.add(targetIds.get(i));
+            }
+        }
+        if (rewarded.isEmpty()) {
+            return 0;
+        }
+
+        addExperienceToUsers(rewarded, rule.getExp());
+        return rewarded.size();
+    }
+
+    // 경험치 추가 및 레벨업을 한 번의 조회(잠금)와 한 번의 UPDATE로 처리
+    private void addExperienceToUsers(List<Long> userIds, int expToAdd) {
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Level> allLevels = levelService.getLevelLadder();
+
+        // 유저 ID 순으로 잠가 동시 지급 시 교착 방지
+        List<Object[]> updates = new ArrayList<>(userIds.size());
+        jdbcTemplate.query("SELECT user_id, level_id, experience FROM user_informations WHERE user_id IN ("
+                + placeholders + ") ORDER BY user_id FOR UPDATE", rs -> {
+                    long userId = rs.getLong("user_id");
+                    LevelService.LevelProgress progress = levelService.accumulate(allLevels, userId,
+                            rs.getLong("level_id"), rs.getInt("experience") + expToAdd);
+                    updates.add(new Object[] { userId, progress.levelId(), progress.experience() });
+                }, userIds.toArray());
+        if (updates.size() < userIds.size()) {
+            log.warn("경험치 일괄 지급: 유저 정보가 없는 유저 {}명 제외", userIds.size() - updates.size());
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> args = new ArrayList<>(updates.size() * 3);
+        for (Object[] update : updates) {
+            values.append(values.isEmpty() ? "" : ", ").append("(?, ?, ?)");
+            args.add(update[0]);
+            args.add(update[1]);
+            args.add(update[2]);
+        }
+        jdbcTemplate.update("UPDATE user_informations AS ui"
+                + " SET level_id = v.level_id, experience = v.experience, updated_at = now()"
+                + " FROM (VALUES " + values + ") AS v(user_id, level_id, experience)"
+                + " WHERE ui.user_id = v.user_id", args.toArray());
+    }
+
     // 유저별 경험치 로그 페이징 조회
     public Page<ExpLogResponseDTO> findAllByUser(Long userId, Pageable pageable) {
         if (!userRepository.existsById(userId)) {
@@ -64,36 +64,14 @@ public class LevelService {
                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다: " + userId));
 
                 Long previousLevelId = userInfo.getLevelId();
-                int currentExp = userInfo.getExperience() + expToAdd;
-                Long currentLevelId = userInfo.getLevelId();
 
                 // 모든 레벨 정보 조회
                 List<Level> allLevels = levelRepository.findAllByOrderByIdAsc();
 
-                // 레벨업 반복 체크 (여러 레벨을 한 번에 올릴 수 있음)
-                while (true) {
-                        // 다음 레벨 찾기
-                        Level nextLevel = findNextLevel(allLevels, currentLevelId);
-                        if (nextLevel == null) {
-                                // 최고 레벨에 도달함
-                                break;
-                        }
-
-                        // 현재 레벨에서 다음 레벨까지 필요한 경험치 계산
-                        Level currentLevel = findLevelById(allLevels, currentLevelId);
-                        int expNeededForNextLevel = nextLevel.getRequiredExp() - currentLevel.getRequiredExp();
-
-                        if (currentExp >= expNeededForNextLevel) {
-                                // 레벨업!
-                                currentExp -= expNeededForNextLevel;
-                                currentLevelId = nextLevel.getId();
-                                log.info("유저 {} 레벨업! {} -> {} (남은 경험치: {})",
-                                                userId, currentLevelId - 1, currentLevelId, currentExp);
-                        } else {
-                                // 레벨업 불가
-                                break;
-                        }
-                }
+                LevelProgress progress = accumulate(allLevels, userId, previousLevelId,
+                                userInfo.getExperience() + expToAdd);
+                int currentExp = progress.experience();
+                Long currentLevelId = progress.levelId();
 
                 // 최종 상태 적용
                 if (!currentLevelId.equals(previousLevelId)) {
@@ -164,6 +142,62 @@ public class LevelService {
                 return calculateExpToNextLevel(allLevels, userInfo.getLevelId(), userInfo.getExperience());
         }
 
+        /**
+         * 레벨업 반복 계산 (여러 레벨을 한 번에 올릴 수 있음, 리셋 방식)
+         * DB를 조회하지 않으므로 여러 유저를 한 번에 처리할 때도 사용합니다.
+         *
+         * @param allLevels  id 순으로 정렬된 전체 레벨
+         * @param userId     로그용 유저 ID
+         * @param levelId    현재 레벨
+         * @param experience 현재 레벨에서 쌓인 경험치 (추가분 포함)
+         * @return 최종 레벨과 남은 경험치
+         */
+        public LevelProgress accumulate(List<Level> allLevels, Long userId, Long levelId, int experience) {
+                int currentExp = experience;
+                Long currentLevelId = levelId;
+
+                while (true) {
+                        // 다음 레벨 찾기
+                        Level nextLevel = findNextLevel(allLevels, currentLevelId);
+                        if (nextLevel == null) {
+                                // 최고 레벨에 도달함
+                                break;
+                        }
+
+                        // 현재 레벨에서 다음 레벨까지 필요한 경험치 계산
+                        Level currentLevel = findLevelById(allLevels, currentLevelId);
+                        int expNeededForNextLevel = nextLevel.getRequiredExp() - currentLevel.getRequiredExp();
+
+                        if (currentExp >= expNeededForNextLevel) {
+                                // 레벨업!
+                                currentExp -= expNeededForNextLevel;
+                                currentLevelId = nextLevel.getId();
+                                log.info("유저 {} 레벨업! {} -> {} (남은 경험치: {})",
+                                                userId, currentLevelId - 1, currentLevelId, currentExp);
+                        } else {
+                                // 레벨업 불가
+                                break;
+                        }
+                }
+                return new LevelProgress(currentLevelId, currentExp);
+        }
+
+        /**
+         * 전체 레벨 목록 (id 순)
+         */
+        public List<Level> getLevelLadder() {
+                return levelRepository.findAllByOrderByIdAsc();
+        }
+
+        /**
+         * 레벨 계산 결과
+         *
+         * @param levelId    최종 레벨
+         * @param experience 최종 레벨에서 남은 경험치
+         */
+        public record LevelProgress(Long levelId, int experience) {
+        }
+
         // ==================== Helper Methods ====================
 
         private Level findLevelById(List<Level> levels, Long levelId) {
@@ -31,6 +31,7 @@ public class ReadingRoomController {
     /**
      * WebSocket: 문단 싱크 메시지 처리
      * 방장이 문단을 변경하면 해당 문단의 TTS를 생성하여 방 참여자들에게 브로드캐스트
+     * (서버 재생 타임라인 사용 시에는 문단 이동(seek)으로 처리하고 그 문단부터 재생 일정을 다시 보냄)
      */
     @MessageMapping("/room/sync")
     public void handleRoomSync(@Payload Map<String, Object> message, Principal principal) {
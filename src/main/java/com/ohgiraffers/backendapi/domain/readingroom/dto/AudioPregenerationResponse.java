@@ -0,0 +1,23 @@
+package com.ohgiraffers.backendapi.domain.readingroom.dto;
+
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 챕터 오디오 사전 생성 진행 상황
+ */
+@Getter
+@Builder
+@Jacksonized // 끝난 작업 결과를 Redis에서 읽을 때 빌더로 생성
+public class AudioPregenerationResponse {
+
+    // QUEUED, RUNNING, COMPLETED, CANCELLED
+    private String status;
+    private Integer chapterId;
+    private VoiceType voiceType;
+    private Integer totalParagraphs;
+    private Integer completedParagraphs;
+    private Integer failedParagraphs;
+}
@@ -9,7 +9,7 @@ import lombok.Getter;
 import java.math.BigDecimal;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ReadingRoomResponse {
 
     private Long roomId;
@@ -23,8 +23,15 @@ public class ReadingRoomResponse {
     private Integer maxCapacity;
     private Integer currentParticipants;
     private Integer currentChapterId;
+    // 챕터 오디오 사전 생성 진행 상황 (상세 조회에서만 포함)
+    private AudioPregenerationResponse audioPregeneration;
 
     public static ReadingRoomResponse from(ReadingRoom room, Integer participantCount) {
+        return from(room, participantCount, null);
+    }
+
+    public static ReadingRoomResponse from(ReadingRoom room, Integer participantCount,
+            AudioPregenerationResponse audioPregeneration) {
         return ReadingRoomResponse.builder()
                 .roomId(room.getRoomId())
                 .roomName(room.getRoomName())
@@ -37,6 +44,7 @@ public class ReadingRoomResponse {
                 .maxCapacity(room.getMaxCapacity())
                 .currentParticipants(participantCount)
                 .currentChapterId(room.getCurrentChapterId())
+                .audioPregeneration(audioPregeneration)
                 .build();
     }
 }
@@ -73,11 +73,16 @@ public class ReadingRoom extends BaseTimeEntity {
 
     // 재생 속도 변경
     public void changePlaySpeed(BigDecimal speed) {
+        validatePlaySpeed(speed);
+        this.playSpeed = speed;
+    }
+
+    // 재생 속도 범위 확인 (0.5배 ~ 2.0배, 엔티티 밖에서 상태를 바꿀 때도 같은 규칙 사용)
+    public static void validatePlaySpeed(BigDecimal speed) {
         if (speed.doubleValue() < 0.5 || speed.doubleValue() > 2.0) {
             throw new CustomException(ErrorCode.INVALID_PLAY_SPEED);
 
         }
-        this.playSpeed = speed;
     }
 
     // 현재 재생 위치 업데이트
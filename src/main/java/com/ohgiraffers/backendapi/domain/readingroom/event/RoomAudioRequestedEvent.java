@@ -0,0 +1,16 @@
+package com.ohgiraffers.backendapi.domain.readingroom.event;
+
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+
+/**
+ * 독서룸 문단 오디오 재생 요청 이벤트 (방 상태 커밋 후 TTS 요청)
+ *
+ * @param roomId      방 ID
+ * @param chapterId   현재 챕터 ID
+ * @param position    문단 번호 (알 수 없으면 -1)
+ * @param paragraphId 문단 ID (p_0001 형식)
+ * @param voiceType   방의 TTS 목소리
+ */
+public record RoomAudioRequestedEvent(Long roomId, Integer chapterId, int position, String paragraphId,
+        VoiceType voiceType) {
+}
@@ -0,0 +1,13 @@
+package com.ohgiraffers.backendapi.domain.readingroom.event;
+
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+
+/**
+ * 독서룸 생성 이벤트 (방 생성 커밋 후 오디오 사전 생성 등 후속 처리)
+ *
+ * @param roomId    생성된 방 ID
+ * @param chapterId 시작 챕터 ID
+ * @param voiceType 방의 TTS 목소리
+ */
+public record RoomCreatedEvent(Long roomId, Integer chapterId, VoiceType voiceType) {
+}
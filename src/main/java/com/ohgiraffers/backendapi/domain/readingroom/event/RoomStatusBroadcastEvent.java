@@ -0,0 +1,12 @@
+package com.ohgiraffers.backendapi.domain.readingroom.event;
+
+import java.util.Map;
+
+/**
+ * 독서룸 상태 브로드캐스트 이벤트 (커밋 후 모든 서버의 /topic/room/{roomId}/status 구독자에게 전달)
+ *
+ * @param roomId  방 ID
+ * @param message 전송할 메시지 (type 필수)
+ */
+public record RoomStatusBroadcastEvent(Long roomId, Map<String, Object> message) {
+}
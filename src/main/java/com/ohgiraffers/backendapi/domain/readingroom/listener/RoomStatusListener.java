@@ -0,0 +1,43 @@
+package com.ohgiraffers.backendapi.domain.readingroom.listener;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.readingroom.service.RoomStatusRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Redis Pub/Sub 리스너 - 독서룸 상태 메시지
+ * roomStatus:* 채널의 메시지를 이 서버에 연결된 WebSocket 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomStatusListener implements MessageListener {
+
+    private static final TypeReference<Map<String, Object>> MESSAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final RoomStatusRelay roomStatusRelay;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            // 채널명에서 roomId 추출 (예: "roomStatus:1" -> 1)
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            Long roomId = Long.valueOf(channel.substring(RoomStatusRelay.CHANNEL_PREFIX.length()));
+
+            Map<String, Object> body = objectMapper.readValue(message.getBody(), MESSAGE_TYPE);
+            roomStatusRelay.deliver(roomId, body);
+        } catch (Exception e) {
+            log.error("Error processing room status message", e);
+        }
+    }
+}
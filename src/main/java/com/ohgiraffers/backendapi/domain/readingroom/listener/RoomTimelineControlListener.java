@@ -0,0 +1,38 @@
+package com.ohgiraffers.backendapi.domain.readingroom.listener;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.readingroom.service.RoomPlaybackTimeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Redis Pub/Sub 리스너 - 재생 일정 제어
+ * roomTimeline:control 채널의 일시정지/속도 변경/종료 요청을 이 서버의 재생 일정에 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomTimelineControlListener implements MessageListener {
+
+    private static final TypeReference<Map<String, Object>> MESSAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final RoomPlaybackTimeline roomPlaybackTimeline;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Map<String, Object> body = objectMapper.readValue(message.getBody(), MESSAGE_TYPE);
+            roomPlaybackTimeline.handleControl(body);
+        } catch (Exception e) {
+            log.error("Error processing playback timeline control message", e);
+        }
+    }
+}
@@ -31,4 +31,8 @@ public interface ReadingRoomRepository extends JpaRepository<ReadingRoom, Long>
             "JOIN FETCH l.book " +
             "WHERE r.status <> :excludeStatus AND r.deletedAt IS NULL")
     List<ReadingRoom> findAllActiveWithFetchJoin(@Param("excludeStatus") RoomStatus excludeStatus);
+
+    // 종료되지 않은 방 ID 목록 (인원 카운터 보정 대상)
+    @Query("SELECT r.roomId FROM ReadingRoom r WHERE r.status <> :excludeStatus AND r.deletedAt IS NULL")
+    List<Long> findActiveRoomIds(@Param("excludeStatus") RoomStatus excludeStatus);
 }
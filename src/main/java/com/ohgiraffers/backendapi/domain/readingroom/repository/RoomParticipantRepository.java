@@ -5,8 +5,11 @@ import com.ohgiraffers.backendapi.domain.readingroom.entity.RoomParticipant;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.ConnectionStatus;
 import com.ohgiraffers.backendapi.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,22 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
         boolean existsByReadingRoomAndUserAndConnectionStatus(ReadingRoom readingRoom, User user,
                         ConnectionStatus connectionStatus);
 
+        // 채팅 발신자 조회 - 참여자와 방, 유저/프로필을 한 번에 조회 (채팅 전송 검증용)
+        @Query("SELECT p FROM RoomParticipant p " +
+                        "JOIN FETCH p.readingRoom r " +
+                        "JOIN FETCH p.user u " +
+                        "LEFT JOIN FETCH u.userInformation " +
+                        "WHERE r.roomId = :roomId AND u.id = :userId AND p.connectionStatus = :connectionStatus")
+        Optional<RoomParticipant> findSender(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                        @Param("connectionStatus") ConnectionStatus connectionStatus);
+
         // 특정 유저가 특정 상태로 참여 중인 모든 방 조회
         List<RoomParticipant> findByUserAndConnectionStatus(User user, ConnectionStatus connectionStatus);
+
+        // 여러 방의 참여자 수를 한 번에 집계 ([방 ID, 인원]) - 인원 카운터 초기화/보정용
+        @Query("SELECT p.readingRoom.roomId, COUNT(p) FROM RoomParticipant p " +
+                        "WHERE p.readingRoom.roomId IN :roomIds AND p.connectionStatus = :connectionStatus " +
+                        "GROUP BY p.readingRoom.roomId")
+        List<Object[]> countByRoomIdsAndConnectionStatus(@Param("roomIds") Collection<Long> roomIds,
+                        @Param("connectionStatus") ConnectionStatus connectionStatus);
 }
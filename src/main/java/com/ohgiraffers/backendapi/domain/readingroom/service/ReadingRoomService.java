@@ -1,19 +1,22 @@
 package com.ohgiraffers.backendapi.domain.readingroom.service;
 
-import com.ohgiraffers.backendapi.domain.exp.dto.ExpLogRequestDTO;
 import com.ohgiraffers.backendapi.domain.exp.enums.ActivityType;
 import com.ohgiraffers.backendapi.domain.exp.service.ExpLogService;
 import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
 import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
 import com.ohgiraffers.backendapi.domain.library.entity.Library;
 import com.ohgiraffers.backendapi.domain.library.repository.LibraryRepository;
+import com.ohgiraffers.backendapi.domain.readingroom.dto.AudioPregenerationResponse;
 import com.ohgiraffers.backendapi.domain.readingroom.dto.CreateRoomRequest;
 import com.ohgiraffers.backendapi.domain.readingroom.entity.ReadingRoom;
 import com.ohgiraffers.backendapi.domain.readingroom.entity.RoomParticipant;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.ConnectionStatus;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.InvitationStatus;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.RoomStatus;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomAudioRequestedEvent;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomCreatedEvent;
 import com.ohgiraffers.backendapi.domain.readingroom.event.RoomFinishedEvent;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomStatusBroadcastEvent;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.ReadingRoomRepository;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.RoomInvitationRepository;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.RoomParticipantRepository;
@@ -21,13 +24,11 @@ import com.ohgiraffers.backendapi.domain.user.entity.User;
 import com.ohgiraffers.backendapi.domain.user.enums.UserActivityStatus;
 import com.ohgiraffers.backendapi.domain.user.repository.UserRepository;
 import com.ohgiraffers.backendapi.domain.user.service.UserStatusService;
-import com.ohgiraffers.backendapi.global.client.TtsClient;
 import com.ohgiraffers.backendapi.global.error.CustomException;
 import com.ohgiraffers.backendapi.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,12 +47,17 @@ public class ReadingRoomService {
     private final LibraryRepository libraryRepository;
     private final ChapterRepository chapterRepository;
     private final com.ohgiraffers.backendapi.domain.chapter.service.ChapterService chapterService;
+    private final com.ohgiraffers.backendapi.domain.chapter.service.ChapterPrefetcher chapterPrefetcher;
     private final ExpLogService expLogService;
     private final UserStatusService userStatusService;
     private final ApplicationEventPublisher publisher;
     private final RoomInvitationRepository roomInvitationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final TtsClient ttsClient;
+    private final RoomTtsLookahead roomTtsLookahead;
+    private final RoomAudioPlayer roomAudioPlayer;
+    private final RoomAudioPregenerator roomAudioPregenerator;
+    private final RoomOccupancyCounter roomOccupancyCounter;
+    private final RoomPlaybackStateStore roomPlaybackStateStore;
+    private final RoomPlaybackTimeline roomPlaybackTimeline;
 
     // 독서룸 생성
     @Transactional
@@ -92,6 +98,10 @@ public class ReadingRoomService {
         // 참여자 확인
         enterRoom(savedRoom.getRoomId(), hostId);
 
+        // 커밋 후 첫 챕터 오디오를 백그라운드에서 미리 생성
+        publisher.publishEvent(
+                new RoomCreatedEvent(savedRoom.getRoomId(), firstChapterId, savedRoom.getVoiceType()));
+
         return savedRoom.getRoomId();
     }
 
@@ -109,11 +119,18 @@ public class ReadingRoomService {
             if (participant.isKicked()) {
                 throw new CustomException(ErrorCode.KICKED_USER);
             }
+            // 퇴장/연결 끊김 상태에서 돌아오는 경우에만 정원 확인
+            if (participant.getConnectionStatus() != ConnectionStatus.ACTIVE) {
+                admit(room);
+            }
             participant.reconnect();
 
         } else {
-            // 방 상태 - 재생중 확인
-            if (room.getStatus() == RoomStatus.PLAYING) {
+            // 방 상태 - 재생중 확인 (재생 상태는 Redis 기준)
+            RoomStatus status = roomPlaybackStateStore.peek(roomId)
+                    .map(RoomPlaybackStateStore.Snapshot::status)
+                    .orElse(room.getStatus());
+            if (status == RoomStatus.PLAYING) {
                 // 초대장이 있고, 상태가 ACCEPTED(수락됨) 혹은 WAITING(대기중)인 경우 통과
                 boolean hasInvitation = roomInvitationRepository.existsByReadingRoomAndReceiverAndStatus(
                         room, user, InvitationStatus.ACCEPTED);
@@ -124,12 +141,8 @@ public class ReadingRoomService {
                 }
             }
 
-            // 현재 인원 확인
-            long currentCount = roomParticipantRepository.countByReadingRoomAndConnectionStatus(room,
-                    ConnectionStatus.ACTIVE);
-            if (currentCount >= room.getMaxCapacity()) {
-                throw new CustomException(ErrorCode.ROOM_IS_FULL);
-            }
+            // 현재 인원 확인 (정원 확인과 인원 증가를 한 번에 처리)
+            admit(room);
 
             RoomParticipant newParticipant = RoomParticipant.builder()
                     .readingRoom(room)
@@ -165,8 +178,18 @@ public class ReadingRoomService {
 
             // 이벤트 발행 (초대장 만료 등 후속 처리)
             publisher.publishEvent(new RoomFinishedEvent(roomId));
+            // 아직 반영하지 않은 재생 상태를 종료와 함께 저장
+            roomPlaybackTimeline.cancel(roomId);
+            roomPlaybackStateStore.remove(roomId).ifPresent(playback -> playback.applyTo(room));
             room.finishRoom();
+            roomTtsLookahead.cancel(roomId);
+            roomAudioPlayer.release(roomId);
+            roomAudioPregenerator.cancel(roomId);
+            roomOccupancyCounter.removeAfterCommit(roomId);
         } else {
+            if (participant.getConnectionStatus() == ConnectionStatus.ACTIVE) {
+                roomOccupancyCounter.releaseAfterCommit(roomId);
+            }
             participant.leave();
             // 실시간 참여자 업데이트 알림 전송
             notifyParticipantUpdate(roomId);
@@ -185,6 +208,9 @@ public class ReadingRoomService {
         User targetUser = getUser(targetUserId);
         RoomParticipant targetParticipant = getParticipant(room, targetUser);
 
+        if (targetParticipant.getConnectionStatus() == ConnectionStatus.ACTIVE) {
+            roomOccupancyCounter.releaseAfterCommit(roomId);
+        }
         targetParticipant.kick();
 
         // 실시간 참여자 업데이트 알림 전송
@@ -197,60 +223,30 @@ public class ReadingRoomService {
             java.util.Map<String, Object> message = new java.util.HashMap<>();
             message.put("type", "PARTICIPANT_UPDATE");
             message.put("roomId", roomId);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", message);
+            publisher.publishEvent(new RoomStatusBroadcastEvent(roomId, message));
         } catch (Exception e) {
-            // 로깅 등 에러 처리 (필요시)
-            System.err.println("Failed to send participant update: " + e.getMessage());
+            log.error("Failed to send participant update: roomId={}", roomId, e);
         }
     }
 
-    // 재생 시작
-    @Transactional
+    // 재생 시작 (재생 상태는 Redis에서 변경하고 주기적으로 DB에 반영)
     public void startReading(Long roomId, Long hostId) {
-        ReadingRoom room = getRoom(roomId);
-        validateHost(room, hostId);
+        RoomPlaybackStateStore.Snapshot playback = getPlayback(roomId);
+        validateHost(playback, hostId);
 
-        room.updateStatus(RoomStatus.PLAYING);
+        // 문단 ID 형식: p_0001, p_0002 ... (4자리 zero-padding)
+        // lastReadPos가 0이면 1(첫 문단)부터 시작, 아니면 현재 문단(lastReadPos) 재개 (0인 경우 1로 보정)
+        playback = roomPlaybackStateStore.update(roomId, () -> getRoom(roomId), current -> current
+                .withStatus(RoomStatus.PLAYING)
+                .withPosition(current.chapterId(), current.position() == 0 ? 1 : current.position()));
+        int targetPos = playback.position();
+        String paragraphId = String.format("p_%04d", targetPos);
 
-        // TTS 오디오 URL 가져오기 (AI 서버 호출)
-        try {
-            String chapterId = "ch" + room.getCurrentChapterId();
-            // 문단 ID 형식: p_0001, p_0002 ... (4자리 zero-padding)
-            // lastReadPos가 0이면 1(첫 문단)부터 시작, 아니면 현재 문단(lastReadPos) 재개
-            int targetPos = (room.getLastReadPos() == 0) ? 1 : room.getLastReadPos();
-            String paragraphId = String.format("p_%04d", targetPos);
-
-            // lastReadPos 업데이트 (0인 경우 1로 보정)
-            if (room.getLastReadPos() == 0) {
-                room.updateLastReadPos(room.getCurrentChapterId(), 1);
-            }
-
-            int voiceId = room.getVoiceType().getLuxiaVoiceId(); // VoiceType에서 Luxia Voice ID 가져오기
-
-            // 텍스트 내용 추출
-            String text = chapterService.getParagraphText(room.getCurrentChapterId().longValue(), paragraphId);
-            if (text == null || text.isEmpty()) {
-                log.warn("Text not found for paragraphId: {}", paragraphId);
-                text = "내용을 찾을 수 없습니다."; // 기본 멘트
-            }
+        chapterPrefetcher.onProgress(playback.chapterId().longValue(), targetPos);
 
-            String audioUrl = ttsClient.getAudioUrl(chapterId, paragraphId, voiceId, text)
-                    .block(); // 동기 호출 (필요 시 비동기 처리 가능)
-
-            // WebSocket으로 오디오 URL 전송 (프론트엔드가 구독 중인 /status 토픽으로)
-            messagingTemplate.convertAndSend(
-                    "/topic/room/" + roomId + "/status",
-                    java.util.Map.of(
-                            "type", "PLAY_AUDIO",
-                            "audioUrl", audioUrl,
-                            "chapterId", chapterId,
-                            "paragraphId", paragraphId));
-
-            log.info("TTS audio URL sent to room {} (voice: {}): {}", roomId, room.getVoiceType(), audioUrl);
-        } catch (Exception e) {
-            log.error("Failed to get TTS audio URL for room {}", roomId, e);
-            // TTS 실패해도 방 상태는 PLAYING으로 변경 (채팅은 가능하도록)
-        }
+        // TTS 오디오는 비동기로 요청 (완료되면 재생 일정 또는 PLAY_AUDIO 브로드캐스트)
+        // TTS 실패해도 방 상태는 PLAYING으로 변경 (채팅은 가능하도록)
+        requestAudio(roomId, playback, targetPos, paragraphId);
 
         notifyRoomStatusChange(roomId, RoomStatus.PLAYING);
     }
@@ -258,91 +254,86 @@ public class ReadingRoomService {
     /**
      * 특정 문단의 TTS 오디오 생성 및 브로드캐스트
      * 방장이 문단을 변경하거나 오디오 종료 후 다음 문단으로 이동할 때 호출됨
+     * (서버 재생 타임라인 사용 시에는 이동(seek)할 때만 호출되고, 그 문단부터 새 재생 일정을 보냄)
      */
-    @Transactional
     public void playParagraph(Long roomId, Long hostId, String paragraphId) {
-        ReadingRoom room = getRoom(roomId);
+        // Redis에 재생 상태가 있으면 DB를 거치지 않음
+        RoomPlaybackStateStore.Snapshot playback = getPlayback(roomId);
 
         // 방장 확인 (null이면 스킵 - WebSocket 인증 문제 시 허용)
         if (hostId != null) {
-            validateHost(room, hostId);
+            validateHost(playback, hostId);
         }
 
         // 현재 읽고 있는 문단 위치 업데이트
+        int pos = -1;
         try {
             // p_0001 -> 1 추출
             if (paragraphId.startsWith("p_")) {
-                int pos = Integer.parseInt(paragraphId.substring(2));
-                room.updateLastReadPos(room.getCurrentChapterId(), pos);
+                int parsed = Integer.parseInt(paragraphId.substring(2));
+                pos = parsed;
+                playback = roomPlaybackStateStore.update(roomId, () -> getRoom(roomId),
+                        current -> current.withPosition(current.chapterId(), parsed));
+                // 진행률이 기준을 넘으면 다음 챕터를 미리 불러옴
+                chapterPrefetcher.onProgress(playback.chapterId().longValue(), pos);
             }
         } catch (NumberFormatException e) {
             log.warn("Failed to parse paragraphId: {}", paragraphId);
         }
 
-        try {
-            String chapterId = "ch" + room.getCurrentChapterId();
-            int voiceId = room.getVoiceType().getLuxiaVoiceId();
-
-            // 텍스트 내용 추출
-            String text = chapterService.getParagraphText(room.getCurrentChapterId().longValue(), paragraphId);
-            if (text == null || text.isEmpty()) {
-                log.warn("Text not found for paragraphId: {}", paragraphId);
-                text = "내용을 찾을 수 없습니다.";
-            }
-
-            String audioUrl = ttsClient.getAudioUrl(chapterId, paragraphId, voiceId, text)
-                    .block();
-
-            // WebSocket으로 오디오 URL 전송
-            messagingTemplate.convertAndSend(
-                    "/topic/room/" + roomId + "/status",
-                    java.util.Map.of(
-                            "type", "PLAY_AUDIO",
-                            "audioUrl", audioUrl,
-                            "chapterId", chapterId,
-                            "paragraphId", paragraphId));
-
-            log.info("TTS audio URL sent for paragraph {} in room {}: {}", paragraphId, roomId, audioUrl);
-        } catch (Exception e) {
-            log.error("Failed to play paragraph {} in room {}", paragraphId, roomId, e);
-        }
+        // TTS 오디오는 비동기로 요청 (완료되면 재생 일정 또는 PLAY_AUDIO 브로드캐스트)
+        requestAudio(roomId, playback, pos, paragraphId);
     }
 
     // 독서 일시정지/재개
-    @Transactional
     public void pauseReading(Long roomId, Long hostId) {
-        ReadingRoom room = getRoom(roomId);
-        validateHost(room, hostId);
-
-        // PLAYING <-> PAUSED 토글
-        if (room.getStatus() == RoomStatus.PLAYING) {
-            room.updateStatus(RoomStatus.PAUSED);
-            notifyRoomStatusChange(roomId, RoomStatus.PAUSED);
-        } else if (room.getStatus() == RoomStatus.PAUSED) {
-            room.updateStatus(RoomStatus.PLAYING);
-            notifyRoomStatusChange(roomId, RoomStatus.PAUSED);
-        } else {
-            throw new CustomException(ErrorCode.INVALID_REQUEST_STATUS, "재생 중이거나 일시정지 상태에서만 사용 가능합니다.");
+        validateHost(getPlayback(roomId), hostId);
+
+        // PLAYING <-> PAUSED 토글 (방 단위로 한 번에 하나씩 적용)
+        RoomPlaybackStateStore.Snapshot playback = roomPlaybackStateStore.update(roomId, () -> getRoom(roomId),
+                current -> {
+                    if (current.status() == RoomStatus.PLAYING) {
+                        return current.withStatus(RoomStatus.PAUSED);
+                    } else if (current.status() == RoomStatus.PAUSED) {
+                        return current.withStatus(RoomStatus.PLAYING);
+                    }
+                    throw new CustomException(ErrorCode.INVALID_REQUEST_STATUS,
+                            "재생 중이거나 일시정지 상태에서만 사용 가능합니다.");
+                });
+        // 서버 재생 일정: 일시정지하면 멈춘 위치를 저장하고, 재개하면 그 문단부터 새 일정 전송
+        if (roomPlaybackTimeline.isEnabled()) {
+            if (playback.status() == RoomStatus.PAUSED) {
+                roomPlaybackTimeline.stop(roomId);
+            } else {
+                playback = getPlayback(roomId);
+                roomPlaybackTimeline.start(roomId, playback.chapterId(), Math.max(1, playback.position()),
+                        playback.voiceType(), playback.playSpeed());
+            }
         }
+        notifyRoomStatusChange(roomId, RoomStatus.PAUSED);
     }
 
     // 재생 속도 변경
-    @Transactional
     public void updatePlaySpeed(Long roomId, Long hostId, java.math.BigDecimal speed) {
-        ReadingRoom room = getRoom(roomId);
-        validateHost(room, hostId);
-        room.changePlaySpeed(speed);
+        validateHost(getPlayback(roomId), hostId);
+        RoomPlaybackStateStore.Snapshot playback = roomPlaybackStateStore.update(roomId, () -> getRoom(roomId),
+                current -> current.withPlaySpeed(speed));
+        // 재생 중인 일정은 현재 위치부터 새 속도로 다시 보냄
+        roomPlaybackTimeline.retune(roomId, playback.voiceType(), playback.playSpeed());
 
         notifyRoomSettingsChange(roomId, "SPEED", speed.toString());
     }
 
     // 목소리 변경
-    @Transactional
     public void updateVoiceType(Long roomId, Long hostId,
             com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType voiceType) {
-        ReadingRoom room = getRoom(roomId);
-        validateHost(room, hostId);
-        room.setVoiceType(voiceType);
+        validateHost(getPlayback(roomId), hostId);
+        RoomPlaybackStateStore.Snapshot playback = roomPlaybackStateStore.update(roomId, () -> getRoom(roomId),
+                current -> current.withVoiceType(voiceType));
+        // 이전 목소리로 미리 요청한 오디오는 더 이상 사용하지 않음
+        roomTtsLookahead.cancel(roomId);
+        roomAudioPregenerator.restart(roomId, playback.chapterId(), voiceType);
+        roomPlaybackTimeline.retune(roomId, voiceType, playback.playSpeed());
 
         notifyRoomSettingsChange(roomId, "VOICE", voiceType.name());
     }
@@ -355,7 +346,7 @@ public class ReadingRoomService {
             message.put("roomId", roomId);
             message.put("setting", setting);
             message.put("value", value);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", message);
+            publisher.publishEvent(new RoomStatusBroadcastEvent(roomId, message));
         } catch (Exception e) {
             log.error("Failed to send settings update", e);
         }
@@ -367,34 +358,53 @@ public class ReadingRoomService {
         ReadingRoom room = getRoom(roomId);
         validateHost(room, hostId);
 
-        // 경험치 지급 로직: 활성 상태인 모든 참여자에게 EXP 지급
-        List<RoomParticipant> activeParticipants = roomParticipantRepository
-                .findAllByReadingRoomAndConnectionStatus(room, ConnectionStatus.ACTIVE);
-
-        activeParticipants.forEach(participant -> {
-            ExpLogRequestDTO expRequest = ExpLogRequestDTO.builder()
-                    .userId(participant.getUser().getId())
-                    .activityType(ActivityType.READ_BOOK)
-                    .categoryId(room.getLibrary().getBook().getCategory().getCategoryId())
-                    .targetId(room.getLibrary().getBook().getBookId())
-                    .referenceId(room.getRoomId())
-                    .build();
+        // 경험치 지급 로직: 활성 상태인 모든 참여자에게 EXP 일괄 지급 (이미 받은 참여자는 건너뜀)
+        List<Long> activeUserIds = roomParticipantRepository
+                .findAllByReadingRoomAndConnectionStatus(room, ConnectionStatus.ACTIVE).stream()
+                .map(participant -> participant.getUser().getId())
+                .toList();
 
-            try {
-                expLogService.giveExperience(expRequest);
-            } catch (IllegalArgumentException e) {
-                // 중복 지급 방지: 이미 경험치를 받은 경우 무시
-                // 로그만 남기고 계속 진행
-            }
-        });
+        try {
+            int rewarded = expLogService.giveExperienceToUsers(ActivityType.READ_BOOK,
+                    room.getLibrary().getBook().getCategory().getCategoryId(),
+                    room.getLibrary().getBook().getBookId(),
+                    room.getRoomId(),
+                    activeUserIds);
+            log.info("독서룸 {} 종료 경험치 지급: {}/{}명", roomId, rewarded, activeUserIds.size());
+        } catch (IllegalArgumentException e) {
+            // 지급 규칙이 없는 경우 로그만 남기고 종료 진행
+            log.warn("독서룸 {} 종료 경험치 지급 실패: {}", roomId, e.getMessage());
+        }
 
         // 방 종료 이벤트 발행 (초대장 만료 등 후속 처리)
         publisher.publishEvent(new RoomFinishedEvent(roomId));
+        // 아직 반영하지 않은 재생 상태를 종료와 함께 저장
+        roomPlaybackTimeline.cancel(roomId);
+        roomPlaybackStateStore.remove(roomId).ifPresent(playback -> playback.applyTo(room));
         room.finishRoom();
+        roomTtsLookahead.cancel(roomId);
+        roomAudioPlayer.release(roomId);
+        roomAudioPregenerator.cancel(roomId);
+        roomOccupancyCounter.removeAfterCommit(roomId);
     }
 
     // --- Private Helper Methods ---
 
+    // 정원 확인 후 인원 증가 (Redis 장애 시 DB 인원으로 확인)
+    private void admit(ReadingRoom room) {
+        RoomOccupancyCounter.Admission admission = roomOccupancyCounter.tryAdmit(room.getRoomId(),
+                room.getMaxCapacity(), () -> countActiveParticipants(room));
+        if (admission == RoomOccupancyCounter.Admission.FULL
+                || (admission == RoomOccupancyCounter.Admission.UNAVAILABLE
+                        && countActiveParticipants(room) >= room.getMaxCapacity())) {
+            throw new CustomException(ErrorCode.ROOM_IS_FULL);
+        }
+    }
+
+    private long countActiveParticipants(ReadingRoom room) {
+        return roomParticipantRepository.countByReadingRoomAndConnectionStatus(room, ConnectionStatus.ACTIVE);
+    }
+
     private ReadingRoom getRoom(Long roomId) {
         return readingRoomRepository.findById(roomId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
@@ -416,6 +426,46 @@ public class ReadingRoomService {
         }
     }
 
+    private void validateHost(RoomPlaybackStateStore.Snapshot playback, Long hostId) {
+        if (!playback.hostId().equals(hostId)) {
+            throw new CustomException(ErrorCode.NOT_HOST);
+        }
+    }
+
+    private RoomPlaybackStateStore.Snapshot getPlayback(Long roomId) {
+        return roomPlaybackStateStore.get(roomId, () -> getRoom(roomId));
+    }
+
+    // 서버 재생 타임라인을 쓰면 해당 문단부터 재생 일정을, 아니면 그 문단의 오디오만 요청
+    private void requestAudio(Long roomId, RoomPlaybackStateStore.Snapshot playback, int position,
+            String paragraphId) {
+        if (roomPlaybackTimeline.isEnabled() && position > 0) {
+            roomPlaybackTimeline.start(roomId, playback.chapterId(), position, playback.voiceType(),
+                    playback.playSpeed());
+            return;
+        }
+        publisher.publishEvent(new RoomAudioRequestedEvent(roomId, playback.chapterId(), position,
+                paragraphId, playback.voiceType()));
+    }
+
+    // Redis의 재생 상태(아직 DB에 반영되지 않았을 수 있음)를 응답에 반영
+    private com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse toResponse(ReadingRoom room,
+            int participantCount, AudioPregenerationResponse audioPregeneration,
+            RoomPlaybackStateStore.Snapshot playback) {
+        com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse response =
+                com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse.from(room, participantCount,
+                        audioPregeneration);
+        if (playback == null) {
+            return response;
+        }
+        return response.toBuilder()
+                .status(playback.status())
+                .voiceType(playback.voiceType())
+                .playSpeed(playback.playSpeed())
+                .currentChapterId(playback.chapterId())
+                .build();
+    }
+
     // 상태 변경 알림 메서드
     private void notifyRoomStatusChange(Long roomId, RoomStatus status) {
         try {
@@ -423,9 +473,9 @@ public class ReadingRoomService {
             message.put("type", "STATUS_CHANGE");
             message.put("roomId", roomId);
             message.put("status", status);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", message);
+            publisher.publishEvent(new RoomStatusBroadcastEvent(roomId, message));
         } catch (Exception e) {
-            System.err.println("Failed to send status update: " + e.getMessage());
+            log.error("Failed to send status update: roomId={}", roomId, e);
         }
     }
 
@@ -438,13 +488,15 @@ public class ReadingRoomService {
         // Fetch Join으로 연관 엔티티 한번에 로딩 (N+1 문제 및 LazyLoading 에러 해결)
         List<ReadingRoom> rooms = readingRoomRepository.findAllActiveWithFetchJoin(RoomStatus.FINISHED);
 
+        // 방별 인원은 Redis 카운터에서 한 번에 조회
+        List<Long> roomIds = rooms.stream().map(ReadingRoom::getRoomId).toList();
+        java.util.Map<Long, Integer> counts = roomOccupancyCounter.counts(roomIds);
+        // 재생 상태도 Redis에서 한 번에 조회
+        java.util.Map<Long, RoomPlaybackStateStore.Snapshot> playbacks = roomPlaybackStateStore.peekAll(roomIds);
+
         return rooms.stream()
-                .map(room -> {
-                    int participantCount = (int) roomParticipantRepository
-                            .countByReadingRoomAndConnectionStatus(room, ConnectionStatus.ACTIVE);
-                    return com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse.from(room,
-                            participantCount);
-                })
+                .map(room -> toResponse(room, counts.getOrDefault(room.getRoomId(), 0), null,
+                        playbacks.get(room.getRoomId())))
                 .toList();
     }
 
@@ -453,9 +505,10 @@ public class ReadingRoomService {
      */
     public com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse getRoomDetail(Long roomId) {
         ReadingRoom room = getRoom(roomId);
-        int participantCount = (int) roomParticipantRepository
-                .countByReadingRoomAndConnectionStatus(room, ConnectionStatus.ACTIVE);
-        return com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse.from(room, participantCount);
+        int participantCount = roomOccupancyCounter.count(roomId);
+        // 상세 조회에는 챕터 오디오 사전 생성 진행 상황 포함
+        return toResponse(room, participantCount, roomAudioPregenerator.getProgress(roomId),
+                roomPlaybackStateStore.peek(roomId).orElse(null));
     }
 
     /**
@@ -466,13 +519,17 @@ public class ReadingRoomService {
         List<RoomParticipant> myParticipations = roomParticipantRepository
                 .findByUserAndConnectionStatus(user, ConnectionStatus.ACTIVE);
 
+        List<Long> roomIds = myParticipations.stream()
+                .map(participant -> participant.getReadingRoom().getRoomId())
+                .toList();
+        java.util.Map<Long, Integer> counts = roomOccupancyCounter.counts(roomIds);
+        java.util.Map<Long, RoomPlaybackStateStore.Snapshot> playbacks = roomPlaybackStateStore.peekAll(roomIds);
+
         return myParticipations.stream()
                 .map(participant -> {
                     ReadingRoom room = participant.getReadingRoom();
-                    int participantCount = (int) roomParticipantRepository
-                            .countByReadingRoomAndConnectionStatus(room, ConnectionStatus.ACTIVE);
-                    return com.ohgiraffers.backendapi.domain.readingroom.dto.ReadingRoomResponse.from(room,
-                            participantCount);
+                    return toResponse(room, counts.getOrDefault(room.getRoomId(), 0), null,
+                            playbacks.get(room.getRoomId()));
                 })
                 .toList();
     }
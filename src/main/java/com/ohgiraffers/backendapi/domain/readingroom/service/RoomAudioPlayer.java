@@ -0,0 +1,192 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomAudioRequestedEvent;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 독서룸 문단 오디오 재생 (비동기)
+ * <p>
+ * 방 상태 변경이 커밋된 뒤 TTS 오디오를 요청하고, 완료되면 PLAY_AUDIO를 방에 브로드캐스트합니다.
+ * DB 커넥션이나 요청 스레드를 잡지 않으므로 AI 서버가 느려도 방 명령은 바로 반환됩니다.
+ * - 미리 생성(lookahead)된 오디오가 있으면 그 결과를 사용
+ * - 시간 초과/실패 시 AUDIO_TIMEOUT / AUDIO_FAILED 이벤트를 방에 전송
+ * - 늦게 끝난 이전 문단의 결과는 전송하지 않음 (방별 최신 요청만 브로드캐스트)
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomAudioPlayer {
+
+    private static final String DEFAULT_TEXT = "내용을 찾을 수 없습니다."; // 기본 멘트
+
+    private final TtsAudioUrlCache ttsAudioUrlCache;
+    private final ChapterService chapterService;
+    private final RoomTtsLookahead roomTtsLookahead;
+    private final RoomStatusRelay roomStatusRelay;
+    private final Duration timeout;
+
+    // 방 ID -> 최신 요청 번호
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    // 진행 중인 재생 요청 수 (백그라운드 사전 생성이 양보 여부를 판단할 때 사용)
+    private final AtomicInteger liveRequests = new AtomicInteger();
+
+    private final Timer successTimer;
+    private final Timer timeoutTimer;
+    private final Timer failureTimer;
+
+    public RoomAudioPlayer(TtsAudioUrlCache ttsAudioUrlCache,
+            ChapterService chapterService,
+            RoomTtsLookahead roomTtsLookahead,
+            RoomStatusRelay roomStatusRelay,
+            MeterRegistry meterRegistry,
+            @Value("${tts.playback.timeout-seconds:20}") long timeoutSeconds) {
+        this.ttsAudioUrlCache = ttsAudioUrlCache;
+        this.chapterService = chapterService;
+        this.roomTtsLookahead = roomTtsLookahead;
+        this.roomStatusRelay = roomStatusRelay;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+
+        this.successTimer = latencyTimer(meterRegistry, "success");
+        this.timeoutTimer = latencyTimer(meterRegistry, "timeout");
+        this.failureTimer = latencyTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * 방 상태 커밋 후 오디오 요청 (트랜잭션 밖에서 호출되면 바로 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAudioRequested(RoomAudioRequestedEvent event) {
+        Long roomId = event.roomId();
+        long generation = generations.computeIfAbsent(roomId, id -> new AtomicLong()).incrementAndGet();
+        int voiceId = event.voiceType().getLuxiaVoiceId();
+        Timer.Sample sample = Timer.start();
+
+        // 미리 요청해 둔 오디오가 있으면 사용하고, 다음 문단들의 오디오를 미리 요청
+        CompletableFuture<String> prefetched = null;
+        if (event.position() > 0) {
+            prefetched = roomTtsLookahead.take(roomId, event.chapterId(), event.position(), voiceId);
+            roomTtsLookahead.advance(roomId, event.chapterId(), event.position(), voiceId);
+        }
+
+        Mono<String> direct = Mono.defer(() -> requestAudio(event, voiceId));
+        Mono<String> audio = (prefetched != null)
+                ? Mono.fromFuture(prefetched)
+                        .onErrorResume(e -> {
+                            log.warn("Prefetched TTS failed for paragraph {} in room {}, requesting again",
+                                    event.paragraphId(), roomId);
+                            return Mono.empty();
+                        })
+                        .switchIfEmpty(direct)
+                : direct;
+
+        liveRequests.incrementAndGet();
+        audio.timeout(timeout)
+                .doFinally(signal -> liveRequests.decrementAndGet())
+                .subscribe(
+                        audioUrl -> {
+                            sample.stop(successTimer);
+                            if (isLatest(roomId, generation)) {
+                                sendPlayAudio(event, audioUrl);
+                            }
+                        },
+                        error -> {
+                            boolean timedOut = error instanceof TimeoutException;
+                            sample.stop(timedOut ? timeoutTimer : failureTimer);
+                            log.error("Failed to get TTS audio URL for paragraph {} in room {}",
+                                    event.paragraphId(), roomId, error);
+                            if (isLatest(roomId, generation)) {
+                                sendAudioError(event, timedOut ? "AUDIO_TIMEOUT" : "AUDIO_FAILED");
+                            }
+                        });
+    }
+
+    /**
+     * 진행 중인 재생 요청 수
+     */
+    public int liveRequests() {
+        return liveRequests.get();
+    }
+
+    /**
+     * 방 종료 시 요청 번호 정리
+     */
+    public void release(Long roomId) {
+        generations.remove(roomId);
+    }
+
+    private Mono<String> requestAudio(RoomAudioRequestedEvent event, int voiceId) {
+        // 텍스트 추출은 DB/파일 접근이 있으므로 별도 스케줄러에서 실행
+        return Mono.fromCallable(() -> {
+                    String text = chapterService.getParagraphText(event.chapterId().longValue(), event.paragraphId());
+                    if (text == null || text.isEmpty()) {
+                        log.warn("Text not found for paragraphId: {}", event.paragraphId());
+                        return DEFAULT_TEXT;
+                    }
+                    return text;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(text -> ttsAudioUrlCache.getAudioUrl("ch" + event.chapterId(), event.paragraphId(),
+                        voiceId, text));
+    }
+
+    private boolean isLatest(Long roomId, long generation) {
+        AtomicLong current = generations.get(roomId);
+        return current != null && current.get() == generation;
+    }
+
+    private void sendPlayAudio(RoomAudioRequestedEvent event, String audioUrl) {
+        try {
+            // 모든 서버의 WebSocket 구독자에게 오디오 URL 전송 (프론트엔드가 구독 중인 /status 토픽으로)
+            roomStatusRelay.publish(
+                    event.roomId(),
+                    Map.of(
+                            "type", "PLAY_AUDIO",
+                            "audioUrl", audioUrl,
+                            "chapterId", "ch" + event.chapterId(),
+                            "paragraphId", event.paragraphId()));
+            log.info("TTS audio URL sent for paragraph {} in room {} (voice: {}): {}",
+                    event.paragraphId(), event.roomId(), event.voiceType(), audioUrl);
+        } catch (Exception e) {
+            log.error("Failed to send audio URL to room {}", event.roomId(), e);
+        }
+    }
+
+    private void sendAudioError(RoomAudioRequestedEvent event, String type) {
+        try {
+            Map<String, Object> message = new HashMap<>();
+            message.put("type", type);
+            message.put("roomId", event.roomId());
+            message.put("chapterId", "ch" + event.chapterId());
+            message.put("paragraphId", event.paragraphId());
+            roomStatusRelay.publish(event.roomId(), message);
+        } catch (Exception e) {
+            log.error("Failed to send audio error to room {}", event.roomId(), e);
+        }
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("tts.playback.latency")
+                .description("방 명령부터 오디오 URL 준비까지 걸린 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,311 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.domain.readingroom.dto.AudioPregenerationResponse;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomCreatedEvent;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 챕터 오디오 백그라운드 사전 생성
+ * <p>
+ * 방이 생성되면 현재 챕터의 TTS 오디오를 문단 순서대로 미리 생성해 공용 오디오 캐시에 올려 둡니다.
+ * 재생이 시작되면 대부분의 문단이 캐시에서 바로 처리됩니다.
+ * - 전용 스레드 풀 크기가 전체 동시 생성 수(global-concurrency)의 상한
+ * - 실시간 재생/미리 생성(lookahead) 요청이 기준보다 많으면 잠시 양보 (실시간 요청 우선)
+ * - 진행 상황은 방 상세 조회에서 확인 가능 (끝난 작업은 목록에서 제거하고, 완료 결과는 Redis에 TTL로 보관)
+ * - 기본 비활성 (tts.pregeneration.enabled=true로 켬)
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomAudioPregenerator {
+
+    private final ChapterRepository chapterRepository;
+    private final ChapterService chapterService;
+    private final TtsAudioUrlCache ttsAudioUrlCache;
+    private final RoomAudioPlayer roomAudioPlayer;
+    private final RoomTtsLookahead roomTtsLookahead;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int yieldThreshold;
+    private final long yieldBackoffMs;
+    private final Duration requestTimeout;
+    private final Duration resultTtl;
+    private final ThreadPoolExecutor executor;
+
+    // 완료된 작업 결과 (다른 서버에서 조회해도 보이도록 Redis에 보관)
+    private static final String RESULT_KEY_PREFIX = "room:audio-pregen:";
+
+    // 방 ID -> 사전 생성 작업
+    private final Map<Long, Job> jobs = new ConcurrentHashMap<>();
+
+    public RoomAudioPregenerator(ChapterRepository chapterRepository,
+            ChapterService chapterService,
+            TtsAudioUrlCache ttsAudioUrlCache,
+            RoomAudioPlayer roomAudioPlayer,
+            RoomTtsLookahead roomTtsLookahead,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${tts.pregeneration.enabled:false}") boolean enabled,
+            @Value("${tts.pregeneration.global-concurrency:2}") int globalConcurrency,
+            @Value("${tts.pregeneration.queue-capacity:100}") int queueCapacity,
+            @Value("${tts.pregeneration.yield-when-live-above:4}") int yieldThreshold,
+            @Value("${tts.pregeneration.yield-backoff-ms:500}") long yieldBackoffMs,
+            @Value("${tts.pregeneration.request-timeout-seconds:30}") long requestTimeoutSeconds,
+            @Value("${tts.pregeneration.result-ttl-seconds:3600}") long resultTtlSeconds) {
+        this.chapterRepository = chapterRepository;
+        this.chapterService = chapterService;
+        this.ttsAudioUrlCache = ttsAudioUrlCache;
+        this.roomAudioPlayer = roomAudioPlayer;
+        this.roomTtsLookahead = roomTtsLookahead;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.yieldThreshold = yieldThreshold;
+        this.yieldBackoffMs = yieldBackoffMs;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(1, globalConcurrency);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "TtsPregen-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(Job::cancel);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 방 생성 커밋 후 첫 챕터 오디오 사전 생성 시작
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRoomCreated(RoomCreatedEvent event) {
+        start(event.roomId(), event.chapterId(), event.voiceType());
+    }
+
+    /**
+     * 사전 생성 시작 (같은 방의 이전 작업은 취소)
+     */
+    public void start(Long roomId, Integer chapterId, VoiceType voiceType) {
+        if (!enabled || chapterId == null || voiceType == null) {
+            return;
+        }
+        Job job = new Job(roomId, chapterId, voiceType);
+        Job previous = jobs.put(roomId, job);
+        if (previous != null) {
+            previous.cancel();
+        }
+        // 이전 챕터/목소리의 완료 결과는 새 작업과 맞지 않으므로 제거
+        deleteResult(roomId);
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(roomId, job);
+            log.warn("오디오 사전 생성 대기열 초과 - 건너뜀: roomId={}", roomId);
+        }
+    }
+
+    /**
+     * 목소리 변경 시 새 목소리로 다시 생성 (진행 중인 작업은 취소)
+     */
+    public void restart(Long roomId, Integer chapterId, VoiceType voiceType) {
+        start(roomId, chapterId, voiceType);
+    }
+
+    /**
+     * 사전 생성 취소 (방 종료 시)
+     */
+    public void cancel(Long roomId) {
+        Job job = jobs.remove(roomId);
+        if (job != null) {
+            job.cancel();
+        }
+        deleteResult(roomId);
+    }
+
+    /**
+     * 진행 상황 조회 (진행 중인 작업, 없으면 보관 중인 완료 결과, 둘 다 없으면 null)
+     */
+    public AudioPregenerationResponse getProgress(Long roomId) {
+        Job job = jobs.get(roomId);
+        return job != null ? job.toResponse() : loadResult(roomId);
+    }
+
+    // 완료 결과 보관 (실패해도 생성된 오디오에는 영향 없음)
+    private void saveResult(Long roomId, AudioPregenerationResponse result) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_KEY_PREFIX + roomId, objectMapper.writeValueAsString(result),
+                    resultTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("오디오 사전 생성 결과 저장 실패: roomId={} - {}", roomId, e.getMessage());
+        }
+    }
+
+    private AudioPregenerationResponse loadResult(Long roomId) {
+        try {
+            String json = redisTemplate.opsForValue().get(RESULT_KEY_PREFIX + roomId);
+            return json != null ? objectMapper.readValue(json, AudioPregenerationResponse.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("오디오 사전 생성 결과 조회 실패: roomId={} - {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void deleteResult(Long roomId) {
+        try {
+            redisTemplate.delete(RESULT_KEY_PREFIX + roomId);
+        } catch (RuntimeException e) {
+            log.warn("오디오 사전 생성 결과 삭제 실패: roomId={} - {}", roomId, e.getMessage());
+        }
+    }
+
+    // 실시간 요청이 많으면 양보
+    private void yieldToLive(Job job) throws InterruptedException {
+        while (!job.cancelled
+                && roomAudioPlayer.liveRequests() + roomTtsLookahead.inFlight() > yieldThreshold) {
+            Thread.sleep(yieldBackoffMs);
+        }
+    }
+
+    private final class Job implements Runnable {
+        private final Long roomId;
+        private final Integer chapterId;
+        private final VoiceType voiceType;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile Integer total;
+        private volatile String status = "QUEUED";
+        private volatile boolean cancelled;
+        // 작업을 실행 중인 스레드 (취소 시 블로킹 대기를 깨우기 위해 보관)
+        private Thread runner;
+
+        private Job(Long roomId, Integer chapterId, VoiceType voiceType) {
+            this.roomId = roomId;
+            this.chapterId = chapterId;
+            this.voiceType = voiceType;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    jobs.remove(roomId, this);
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            status = "RUNNING";
+            long start = System.currentTimeMillis();
+            try {
+                Chapter chapter = chapterRepository.findById(chapterId.longValue()).orElse(null);
+                // 문단 수를 모르는 챕터는 본문이 끝날 때까지 진행
+                total = (chapter != null && chapter.getParagraphs() > 0) ? chapter.getParagraphs() : null;
+
+                for (int pos = 1; total == null || pos <= total; pos++) {
+                    yieldToLive(this);
+                    if (cancelled) {
+                        return;
+                    }
+                    String paragraphId = String.format("p_%04d", pos);
+                    String text = chapterService.getParagraphText(chapterId.longValue(), paragraphId);
+                    if (text == null || text.isEmpty()) {
+                        if (total == null) {
+                            total = pos - 1;
+                            break;
+                        }
+                        continue;
+                    }
+                    try {
+                        ttsAudioUrlCache.getAudioUrl("ch" + chapterId, paragraphId, voiceType.getLuxiaVoiceId(), text)
+                                .block(requestTimeout);
+                        completed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (cancelled) {
+                            return;
+                        }
+                        failed.incrementAndGet();
+                        log.debug("오디오 사전 생성 실패: roomId={}, {} - {}", roomId, paragraphId, e.getMessage());
+                    }
+                }
+                status = "COMPLETED";
+                // 목록에서 제거되기 전에 결과를 남겨 완료와 미실행을 구분할 수 있게 함 (교체/취소된 작업은 제외)
+                if (!cancelled && jobs.get(roomId) == this) {
+                    saveResult(roomId, toResponse());
+                }
+                log.info("챕터 오디오 사전 생성 완료: roomId={}, chapterId={}, voice={}, {}/{} ({} failed), {}ms",
+                        roomId, chapterId, voiceType, completed.get(), total, failed.get(),
+                        System.currentTimeMillis() - start);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+            } catch (RuntimeException e) {
+                log.warn("챕터 오디오 사전 생성 중단: roomId={}, chapterId={}", roomId, chapterId, e);
+                cancelled = true;
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    // 취소 신호가 다음 작업에 남지 않도록 정리
+                    Thread.interrupted();
+                }
+                if (cancelled) {
+                    status = "CANCELLED";
+                }
+                jobs.remove(roomId, this);
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if ("QUEUED".equals(status)) {
+                status = "CANCELLED";
+            }
+            // 문단 생성 대기(block) 중이면 바로 깨움
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+
+        private AudioPregenerationResponse toResponse() {
+            return AudioPregenerationResponse.builder()
+                    .status(status)
+                    .chapterId(chapterId)
+                    .voiceType(voiceType)
+                    .totalParagraphs(total)
+                    .completedParagraphs(completed.get())
+                    .failedParagraphs(failed.get())
+                    .build();
+        }
+    }
+}
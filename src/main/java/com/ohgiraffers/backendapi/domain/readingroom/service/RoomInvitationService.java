@@ -31,6 +31,7 @@ public class RoomInvitationService {
     private final UserRepository userRepository;
 
     private final ReadingRoomService readingRoomService;
+    private final RoomPlaybackStateStore roomPlaybackStateStore;
 
     // 초대장 발송
     @Transactional
@@ -43,8 +44,11 @@ public class RoomInvitationService {
             throw new CustomException(ErrorCode.NOT_HOST);
         }
 
-        // 재생 중 체크
-        if (room.getStatus() == RoomStatus.PLAYING) {
+        // 재생 중 체크 (재생 상태는 메모리 기준)
+        RoomStatus status = roomPlaybackStateStore.peek(roomId)
+                .map(RoomPlaybackStateStore.Snapshot::status)
+                .orElse(room.getStatus());
+        if (status == RoomStatus.PLAYING) {
             throw new CustomException(ErrorCode.INVITATION_NOT_ALLOWED_PLAYING);
         }
 
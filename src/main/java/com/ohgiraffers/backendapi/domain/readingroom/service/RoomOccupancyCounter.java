@@ -0,0 +1,333 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.readingroom.enums.ConnectionStatus;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.RoomStatus;
+import com.ohgiraffers.backendapi.domain.readingroom.repository.ReadingRoomRepository;
+import com.ohgiraffers.backendapi.domain.readingroom.repository.RoomParticipantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 독서룸 현재 인원 카운터 (Redis)
+ * <p>
+ * 방별 ACTIVE 참여자 수를 Redis 카운터로 관리해 목록 조회 시 방마다 count 쿼리를 날리지 않고,
+ * 입장 시 정원 확인과 증가를 Lua 스크립트 하나로 처리해 동시 입장으로 정원을 넘지 않게 합니다.
+ * - 입장: 정원 미만일 때만 증가 (트랜잭션 롤백 시 다시 감소)
+ * - 퇴장/강퇴: 커밋 후 감소
+ * - 주기적으로 room_participants와 대조해 어긋난 값을 보정
+ *   (입장 트랜잭션이 아직 커밋되지 않았을 수 있으므로 grace 기간 동안 변경이 없던 방만 보정)
+ * - Redis 장애 시 호출하는 쪽에서 DB 조회로 대체
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomOccupancyCounter {
+
+    private static final String KEY_PREFIX = "room:occupancy:";
+    // 카운터 마지막 변경 시각(ms) 키 접미사 (보정 대상 판단용)
+    private static final String CHANGED_SUFFIX = ":changed";
+
+    // KEYS = [카운터, 변경 시각], ARGV = [정원, ttl, 현재 시각(ms)]
+    // 반환값: 1 = 입장 허용, 0 = 정원 초과, -1 = 카운터 없음
+    private static final DefaultRedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) "
+                    + "if not current then return -1 end "
+                    + "if tonumber(current) >= tonumber(ARGV[1]) then return 0 end "
+                    + "redis.call('INCR', KEYS[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // KEYS = [카운터, 변경 시각], ARGV = [ttl, 현재 시각(ms)] (0 아래로는 내려가지 않음)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) "
+                    + "if current and tonumber(current) > 0 then "
+                    + "  redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[1]) "
+                    + "  return redis.call('DECR', KEYS[1]) "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    // 보정: 조회 시점 이후 값이 바뀌지 않았고, 마지막 변경 후 grace 기간이 지난 키만 DB 값으로 덮어씀
+    // (커밋 전인 입장이 포함된 값을 DB 값으로 덮으면 정원을 넘거나 퇴장 시 이중으로 감소하므로)
+    // KEYS = [카운터1, 변경 시각1, 카운터2, 변경 시각2, ...]
+    // ARGV = [ttl, 현재 시각(ms), grace(ms), 조회 시점 값1, DB 값1, ...] (값이 없었으면 빈 문자열)
+    private static final DefaultRedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 "
+                    + "local now = tonumber(ARGV[2]) "
+                    + "local grace = tonumber(ARGV[3]) "
+                    + "for i = 1, #KEYS / 2 do "
+                    + "  local key = KEYS[i * 2 - 1] "
+                    + "  local current = redis.call('GET', key) or '' "
+                    + "  local changed = tonumber(redis.call('GET', KEYS[i * 2]) or '0') "
+                    + "  local expected = ARGV[i * 2 + 2] "
+                    + "  local actual = ARGV[i * 2 + 3] "
+                    + "  if current == expected and current ~= actual and now - changed >= grace then "
+                    + "    redis.call('SET', key, actual, 'EX', ARGV[1]) "
+                    + "    updated = updated + 1 "
+                    + "  end "
+                    + "end "
+                    + "return updated",
+            Long.class);
+
+    public enum Admission {
+        ADMITTED, FULL, UNAVAILABLE
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReadingRoomRepository readingRoomRepository;
+    private final RoomParticipantRepository roomParticipantRepository;
+    private final Duration ttl;
+    private final boolean reconcileEnabled;
+    private final long reconcileGraceMs;
+
+    private final Counter admittedCounter;
+    private final Counter fullCounter;
+    private final Counter unavailableCounter;
+    private final Counter correctedCounter;
+
+    public RoomOccupancyCounter(StringRedisTemplate redisTemplate,
+            ReadingRoomRepository readingRoomRepository,
+            RoomParticipantRepository roomParticipantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reading-room.occupancy.ttl-hours:24}") long ttlHours,
+            @Value("${reading-room.occupancy.reconcile-enabled:true}") boolean reconcileEnabled,
+            @Value("${reading-room.occupancy.reconcile-grace-ms:30000}") long reconcileGraceMs) {
+        this.redisTemplate = redisTemplate;
+        this.readingRoomRepository = readingRoomRepository;
+        this.roomParticipantRepository = roomParticipantRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.reconcileEnabled = reconcileEnabled;
+        this.reconcileGraceMs = reconcileGraceMs;
+
+        this.admittedCounter = admissionCounter(meterRegistry, "admitted");
+        this.fullCounter = admissionCounter(meterRegistry, "full");
+        this.unavailableCounter = admissionCounter(meterRegistry, "unavailable");
+        this.correctedCounter = Counter.builder("reading-room.occupancy.corrected")
+                .description("보정 작업에서 DB 값으로 바로잡은 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정원 확인 후 인원 증가 (원자적)
+     * 카운터가 없으면 initialCount(DB 인원)로 초기화한 뒤 다시 시도합니다.
+     * 진행 중인 트랜잭션이 롤백되면 증가분을 되돌립니다.
+     */
+    public Admission tryAdmit(Long roomId, int capacity, LongSupplier initialCount) {
+        String key = KEY_PREFIX + roomId;
+        try {
+            Long result = admit(key, capacity);
+            if (result != null && result < 0) {
+                redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(initialCount.getAsLong()), ttl);
+                result = admit(key, capacity);
+            }
+            if (result == null || result < 0) {
+                unavailableCounter.increment();
+                return Admission.UNAVAILABLE;
+            }
+            if (result == 0) {
+                fullCounter.increment();
+                return Admission.FULL;
+            }
+            admittedCounter.increment();
+            afterRollback(() -> release(roomId));
+            return Admission.ADMITTED;
+        } catch (RuntimeException e) {
+            log.warn("독서룸 인원 카운터 사용 불가 - DB로 확인: roomId={} - {}", roomId, e.getMessage());
+            unavailableCounter.increment();
+            return Admission.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 인원 감소 (퇴장/강퇴/연결 끊김, 트랜잭션 안이면 커밋 후 반영)
+     */
+    public void releaseAfterCommit(Long roomId) {
+        afterCommit(() -> release(roomId));
+    }
+
+    /**
+     * 방 종료 시 카운터 삭제 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void removeAfterCommit(Long roomId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(List.of(KEY_PREFIX + roomId, KEY_PREFIX + roomId + CHANGED_SUFFIX));
+            } catch (RuntimeException e) {
+                log.warn("독서룸 인원 카운터 삭제 실패: roomId={} - {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 여러 방의 인원을 한 번에 조회 (MGET 한 번)
+     * 카운터가 없는 방은 DB에서 한 번에 집계해 채워 넣고, Redis 장애 시 전부 DB에서 집계합니다.
+     */
+    public Map<Long, Integer> counts(Collection<Long> roomIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return counts;
+        }
+        List<Long> ids = new ArrayList<>(roomIds);
+        List<Long> missing = new ArrayList<>();
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                String value = (values != null) ? values.get(i) : null;
+                if (value != null) {
+                    counts.put(ids.get(i), Integer.parseInt(value));
+                } else {
+                    missing.add(ids.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("독서룸 인원 카운터 조회 실패 - DB로 집계: {}", e.getMessage());
+            counts.putAll(countFromDatabase(ids));
+            return counts;
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, Integer> fromDatabase = countFromDatabase(missing);
+            counts.putAll(fromDatabase);
+            seed(fromDatabase);
+        }
+        return counts;
+    }
+
+    /**
+     * 단일 방 인원 조회
+     */
+    public int count(Long roomId) {
+        return counts(List.of(roomId)).getOrDefault(roomId, 0);
+    }
+
+    /**
+     * room_participants 기준으로 카운터 보정
+     * 보정 중에 입장/퇴장으로 값이 바뀐 방, grace 기간 안에 바뀐 방은 건드리지 않고 다음 주기에 다시 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${reading-room.occupancy.reconcile-interval-ms:60000}",
+            initialDelayString = "${reading-room.occupancy.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        try {
+            List<Long> roomIds = readingRoomRepository.findActiveRoomIds(RoomStatus.FINISHED);
+            if (roomIds.isEmpty()) {
+                return;
+            }
+            List<String> counterKeys = roomIds.stream().map(id -> KEY_PREFIX + id).toList();
+            // DB 집계 전 값을 먼저 읽어 두고, 스크립트에서 그 값이 그대로일 때만 덮어씀
+            List<String> before = redisTemplate.opsForValue().multiGet(counterKeys);
+            Map<Long, Integer> actual = countFromDatabase(roomIds);
+
+            List<String> keys = new ArrayList<>(roomIds.size() * 2);
+            roomIds.forEach(id -> {
+                keys.add(KEY_PREFIX + id);
+                keys.add(KEY_PREFIX + id + CHANGED_SUFFIX);
+            });
+            List<String> args = new ArrayList<>(roomIds.size() * 2 + 3);
+            args.add(String.valueOf(ttl.getSeconds()));
+            args.add(String.valueOf(System.currentTimeMillis()));
+            args.add(String.valueOf(reconcileGraceMs));
+            for (int i = 0; i < roomIds.size(); i++) {
+                String value = (before != null) ? before.get(i) : null;
+                args.add(value != null ? value : "");
+                args.add(String.valueOf(actual.getOrDefault(roomIds.get(i), 0)));
+            }
+            Long updated = redisTemplate.execute(RECONCILE_SCRIPT, keys, args.toArray());
+            if (updated != null && updated > 0) {
+                correctedCounter.increment(updated);
+                log.info("독서룸 인원 카운터 보정: {}개 방", updated);
+            }
+        } catch (RuntimeException e) {
+            log.warn("독서룸 인원 카운터 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    private Long admit(String key, int capacity) {
+        return redisTemplate.execute(ADMIT_SCRIPT, List.of(key, key + CHANGED_SUFFIX),
+                String.valueOf(capacity), String.valueOf(ttl.getSeconds()), String.valueOf(System.currentTimeMillis()));
+    }
+
+    private void release(Long roomId) {
+        String key = KEY_PREFIX + roomId;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key, key + CHANGED_SUFFIX),
+                    String.valueOf(ttl.getSeconds()), String.valueOf(System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            // 다음 보정 주기에 맞춰짐
+            log.warn("독서룸 인원 카운터 감소 실패: roomId={} - {}", roomId, e.getMessage());
+        }
+    }
+
+    private void seed(Map<Long, Integer> counts) {
+        try {
+            counts.forEach((roomId, count) -> redisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + roomId, String.valueOf(count), ttl));
+        } catch (RuntimeException e) {
+            log.warn("독서룸 인원 카운터 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, Integer> countFromDatabase(List<Long> roomIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        roomIds.forEach(id -> counts.put(id, 0));
+        for (Object[] row : roomParticipantRepository.countByRoomIdsAndConnectionStatus(roomIds,
+                ConnectionStatus.ACTIVE)) {
+            counts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static Counter admissionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reading-room.admission")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
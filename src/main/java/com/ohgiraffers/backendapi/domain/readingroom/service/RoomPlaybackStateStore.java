@@ -0,0 +1,441 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.readingroom.entity.ReadingRoom;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.RoomStatus;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 독서룸 재생 상태 저장소 (Redis + write-behind)
+ * <p>
+ * 방별 재생 상태(상태, 챕터, 문단 위치, 속도, 목소리)를 Redis 해시 room:playback:{roomId}에 두고
+ * 방 명령은 여기만 변경합니다. 모든 서버가 같은 상태를 보므로 어느 서버로 요청이 가도 결과가 같습니다.
+ * 변경된 방은 room:playback:dirty에 모아 두었다가 주기적으로 reading_rooms에 한 번의 배치 UPDATE로 반영하므로
+ * 문단이 넘어갈 때마다 DB에 쓰지 않습니다.
+ * - 변경은 버전 비교(CAS) 스크립트로 적용하고, 그 사이 다른 변경이 있으면 다시 읽어 재시도
+ * - 반영은 한 번에 한 서버만 (락), 반영 중에 다시 바뀐 방은 다음 주기에 다시 반영
+ * - 방 종료 시 최종 상태를 꺼내 엔티티에 반영 (종료 트랜잭션에서 함께 저장)
+ * - 오래 변경이 없는 방은 TTL로 제거되고, 다음 요청 때 DB에서 다시 불러옴
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomPlaybackStateStore {
+
+    private static final String KEY_PREFIX = "room:playback:";
+    private static final String DIRTY_KEY = "room:playback:dirty";
+    private static final String FLUSH_LOCK_KEY = "room:playback:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final int MAX_UPDATE_ATTEMPTS = 10;
+
+    private static final String FLUSH_SQL = "UPDATE reading_rooms "
+            + "SET status = ?, current_chapter = ?, last_read_pos = ?, play_speed = ?, voice_type = ?, updated_at = ? "
+            + "WHERE room_id = ? AND status <> 'FINISHED'";
+
+    // 방마다 [hostId, status, chapterId, position, playSpeed, voiceType, version] (없는 방은 모두 nil)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} "
+                    + "for i, key in ipairs(KEYS) do "
+                    + "  result[i] = redis.call('HMGET', key, 'hostId', 'status', 'chapterId', 'position', "
+                    + "'playSpeed', 'voiceType', 'version') "
+                    + "end "
+                    + "return result",
+            List.class);
+
+    // DB에서 불러온 상태로 초기화 (이미 있으면 0)
+    // ARGV = [ttl, hostId, status, chapterId, position, playSpeed, voiceType]
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], 'hostId', ARGV[2], 'status', ARGV[3], 'chapterId', ARGV[4], "
+                    + "'position', ARGV[5], 'playSpeed', ARGV[6], 'voiceType', ARGV[7], 'version', '0') "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    // 읽은 뒤 버전이 그대로일 때만 변경 (바뀌었으면 -1)
+    // KEYS = [상태, dirty], ARGV = [ttl, 읽은 버전, roomId, hostId, status, chapterId, position, playSpeed, voiceType]
+    private static final DefaultRedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'version') ~= ARGV[2] then return -1 end "
+                    + "redis.call('HSET', KEYS[1], 'hostId', ARGV[4], 'status', ARGV[5], 'chapterId', ARGV[6], "
+                    + "'position', ARGV[7], 'playSpeed', ARGV[8], 'voiceType', ARGV[9]) "
+                    + "local version = redis.call('HINCRBY', KEYS[1], 'version', 1) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "redis.call('SADD', KEYS[2], ARGV[3]) "
+                    + "return version",
+            Long.class);
+
+    // 같은 챕터이고 위치가 다를 때만 위치 변경
+    // KEYS = [상태, dirty], ARGV = [ttl, roomId, chapterId, position]
+    private static final DefaultRedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'chapterId') ~= ARGV[3] then return 0 end "
+                    + "if redis.call('HGET', KEYS[1], 'position') == ARGV[4] then return 0 end "
+                    + "redis.call('HSET', KEYS[1], 'position', ARGV[4]) "
+                    + "redis.call('HINCRBY', KEYS[1], 'version', 1) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "redis.call('SADD', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // 최종 상태를 꺼내고 삭제 (없는 방은 빈 목록)
+    // KEYS = [상태, dirty], ARGV = [roomId]
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "local values = redis.call('HMGET', KEYS[1], 'hostId', 'status', 'chapterId', 'position', "
+                    + "'playSpeed', 'voiceType', 'version') "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('SREM', KEYS[2], ARGV[1]) "
+                    + "if not values[7] then return {} end "
+                    + "return values",
+            List.class);
+
+    // 반영한 버전 그대로인 방(또는 이미 없어진 방)만 dirty에서 제거
+    // KEYS = [dirty, 상태1, 상태2, ...], ARGV = [roomId1, 반영한 버전1, roomId2, 반영한 버전2, ...]
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 "
+                    + "for i = 2, #KEYS do "
+                    + "  local version = redis.call('HGET', KEYS[i], 'version') "
+                    + "  if not version or version == ARGV[(i - 1) * 2] then "
+                    + "    removed = removed + redis.call('SREM', KEYS[1], ARGV[(i - 1) * 2 - 1]) "
+                    + "  end "
+                    + "end "
+                    + "return removed",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final String lockToken = UUID.randomUUID().toString();
+    private final AtomicInteger dirtyRooms = new AtomicInteger();
+
+    private final Counter changeCounter;
+    private final Counter conflictCounter;
+    private final Counter flushedCounter;
+
+    public RoomPlaybackStateStore(StringRedisTemplate redisTemplate,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${reading-room.playback.idle-evict-minutes:30}") long idleEvictMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofMinutes(idleEvictMinutes);
+
+        this.changeCounter = Counter.builder("reading-room.playback.changes")
+                .description("재생 상태 변경 수 (Redis)")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("reading-room.playback.conflicts")
+                .description("동시 변경으로 다시 시도한 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("reading-room.playback.flushed")
+                .description("reading_rooms에 반영한 방 수")
+                .register(meterRegistry);
+        Gauge.builder("reading-room.playback.dirty", dirtyRooms, AtomicInteger::get)
+                .description("마지막 반영 주기에 DB에 반영할 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 재생 상태 조회 (Redis에 없으면 loader로 방을 불러와 초기화)
+     */
+    public Snapshot get(Long roomId, Supplier<ReadingRoom> loader) {
+        return load(roomId, loader).snapshot();
+    }
+
+    /**
+     * Redis에 있는 재생 상태만 조회 (상세 조회용)
+     */
+    public Optional<Snapshot> peek(Long roomId) {
+        return Optional.ofNullable(peekAll(List.of(roomId)).get(roomId));
+    }
+
+    /**
+     * 여러 방의 재생 상태를 한 번에 조회 (목록 조회용, 상태가 없는 방은 결과에서 빠짐)
+     */
+    public Map<Long, Snapshot> peekAll(Collection<Long> roomIds) {
+        Map<Long, Snapshot> snapshots = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return snapshots;
+        }
+        List<Long> ids = new ArrayList<>(roomIds);
+        read(ids).forEach((roomId, stored) -> snapshots.put(roomId, stored.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * 재생 상태 변경 (버전 비교로 적용, 다른 서버와 동시에 바꾸면 다시 읽어 재시도)
+     * 변경 함수에서 던진 예외는 그대로 전달되고 상태는 바뀌지 않습니다.
+     */
+    public Snapshot update(Long roomId, Supplier<ReadingRoom> loader, UnaryOperator<Snapshot> change) {
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            Stored stored = load(roomId, loader);
+            Snapshot next = change.apply(stored.snapshot());
+            if (next.equals(stored.snapshot())) {
+                return next;
+            }
+            List<String> args = new ArrayList<>(9);
+            args.add(String.valueOf(ttl.toSeconds()));
+            args.add(String.valueOf(stored.version()));
+            args.add(String.valueOf(roomId));
+            args.addAll(fields(next));
+            Long version = redisTemplate.execute(UPDATE_SCRIPT, List.of(key(roomId), DIRTY_KEY), args.toArray());
+            if (version != null && version > 0) {
+                changeCounter.increment();
+                return next;
+            }
+            conflictCounter.increment();
+        }
+        throw new CustomException(ErrorCode.INVALID_REQUEST_STATUS, "재생 상태가 동시에 변경되고 있습니다. 다시 시도해주세요.");
+    }
+
+    /**
+     * 서버 재생 타임라인이 추정한 문단 위치 반영 (상태가 있고 같은 챕터일 때만)
+     */
+    public void advance(Long roomId, Integer chapterId, int position) {
+        try {
+            Long changed = redisTemplate.execute(ADVANCE_SCRIPT, List.of(key(roomId), DIRTY_KEY),
+                    String.valueOf(ttl.toSeconds()), String.valueOf(roomId), String.valueOf(chapterId),
+                    String.valueOf(position));
+            if (changed != null && changed > 0) {
+                changeCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            // 추정 위치라 다음 문단에서 다시 반영됨
+            log.warn("재생 위치 반영 실패: roomId={} - {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 방 종료 시 최종 상태를 꺼내고 삭제
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Snapshot> remove(Long roomId) {
+        List<Object> values = redisTemplate.execute(REMOVE_SCRIPT, List.of(key(roomId), DIRTY_KEY),
+                String.valueOf(roomId));
+        if (values == null || values.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(parse(roomId, values).snapshot());
+    }
+
+    /**
+     * 변경된 방을 reading_rooms에 배치 반영 (한 번에 한 서버만)
+     */
+    @Scheduled(fixedDelayString = "${reading-room.playback.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(FLUSH_LOCK_KEY, lockToken, FLUSH_LOCK_TTL))) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("독서룸 재생 상태 반영 락 획득 실패: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(DIRTY_KEY);
+            dirtyRooms.set(members != null ? members.size() : 0);
+            if (members == null || members.isEmpty()) {
+                return;
+            }
+            List<Long> roomIds = members.stream().map(Long::valueOf).toList();
+            Map<Long, Stored> states = read(roomIds);
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batch = new ArrayList<>(states.size());
+            states.values().forEach(stored -> {
+                Snapshot snapshot = stored.snapshot();
+                batch.add(new Object[] {
+                        snapshot.status().name(),
+                        snapshot.chapterId(),
+                        snapshot.position(),
+                        snapshot.playSpeed(),
+                        snapshot.voiceType() != null ? snapshot.voiceType().name() : null,
+                        now,
+                        snapshot.roomId() });
+            });
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                flushedCounter.increment(batch.size());
+                log.debug("독서룸 재생 상태 반영: {}개 방", batch.size());
+            }
+
+            // 반영한 버전 그대로인 방만 dirty에서 제거 (그 사이 바뀐 방은 다음 주기에 다시 반영)
+            List<String> keys = new ArrayList<>(roomIds.size() + 1);
+            List<String> args = new ArrayList<>(roomIds.size() * 2);
+            keys.add(DIRTY_KEY);
+            for (Long roomId : roomIds) {
+                Stored stored = states.get(roomId);
+                keys.add(key(roomId));
+                args.add(String.valueOf(roomId));
+                args.add(stored != null ? String.valueOf(stored.version()) : "");
+            }
+            redisTemplate.execute(ACK_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            // 변경분은 dirty에 그대로 남아 다음 주기에 다시 반영
+            log.warn("독서룸 재생 상태 반영 실패: {}", e.getMessage());
+        } finally {
+            unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 상태 조회, 없으면 DB에서 불러와 초기화
+    private Stored load(Long roomId, Supplier<ReadingRoom> loader) {
+        Stored stored = read(List.of(roomId)).get(roomId);
+        if (stored != null) {
+            return stored;
+        }
+        ReadingRoom room = loader.get();
+        if (room.getStatus() == RoomStatus.FINISHED) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST_STATUS, "종료된 독서룸입니다.");
+        }
+        Snapshot snapshot = Snapshot.of(room);
+        List<String> args = new ArrayList<>(7);
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.addAll(fields(snapshot));
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, List.of(key(roomId)), args.toArray());
+        if (seeded != null && seeded > 0) {
+            return new Stored(snapshot, 0L);
+        }
+        // 다른 요청이 먼저 초기화함
+        stored = read(List.of(roomId)).get(roomId);
+        return stored != null ? stored : new Stored(snapshot, 0L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Stored> read(List<Long> roomIds) {
+        List<Object> rows = redisTemplate.execute(READ_SCRIPT, roomIds.stream().map(this::key).toList());
+        Map<Long, Stored> states = new HashMap<>();
+        if (rows == null) {
+            return states;
+        }
+        for (int i = 0; i < roomIds.size() && i < rows.size(); i++) {
+            List<Object> values = (List<Object>) rows.get(i);
+            if (values != null && values.size() == 7 && values.get(6) != null) {
+                states.put(roomIds.get(i), parse(roomIds.get(i), values));
+            }
+        }
+        return states;
+    }
+
+    private void unlock() {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), lockToken);
+        } catch (RuntimeException e) {
+            // TTL이 지나면 풀림
+            log.warn("독서룸 재생 상태 반영 락 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private String key(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    // 해시 필드 순서: hostId, status, chapterId, position, playSpeed, voiceType (null은 빈 문자열)
+    private static List<String> fields(Snapshot snapshot) {
+        return List.of(
+                String.valueOf(snapshot.hostId()),
+                snapshot.status().name(),
+                snapshot.chapterId() != null ? String.valueOf(snapshot.chapterId()) : "",
+                String.valueOf(snapshot.position()),
+                snapshot.playSpeed() != null ? snapshot.playSpeed().toPlainString() : "",
+                snapshot.voiceType() != null ? snapshot.voiceType().name() : "");
+    }
+
+    private static Stored parse(Long roomId, List<Object> values) {
+        Snapshot snapshot = new Snapshot(
+                roomId,
+                Long.valueOf((String) values.get(0)),
+                RoomStatus.valueOf((String) values.get(1)),
+                blankToNull(values.get(2)) != null ? Integer.valueOf((String) values.get(2)) : null,
+                Integer.parseInt((String) values.get(3)),
+                blankToNull(values.get(4)) != null ? new BigDecimal((String) values.get(4)) : null,
+                blankToNull(values.get(5)) != null ? VoiceType.valueOf((String) values.get(5)) : null);
+        return new Stored(snapshot, Long.parseLong((String) values.get(6)));
+    }
+
+    private static String blankToNull(Object value) {
+        return (value == null || ((String) value).isEmpty()) ? null : (String) value;
+    }
+
+    /**
+     * 방 재생 상태 (불변)
+     */
+    public record Snapshot(Long roomId, Long hostId, RoomStatus status, Integer chapterId, int position,
+            BigDecimal playSpeed, VoiceType voiceType) {
+
+        static Snapshot of(ReadingRoom room) {
+            return new Snapshot(room.getRoomId(), room.getHost().getId(), room.getStatus(),
+                    room.getCurrentChapterId(), room.getLastReadPos(), room.getPlaySpeed(), room.getVoiceType());
+        }
+
+        public Snapshot withStatus(RoomStatus status) {
+            return new Snapshot(roomId, hostId, status, chapterId, position, playSpeed, voiceType);
+        }
+
+        public Snapshot withPosition(Integer chapterId, int position) {
+            return new Snapshot(roomId, hostId, status, chapterId, position, playSpeed, voiceType);
+        }
+
+        public Snapshot withPlaySpeed(BigDecimal playSpeed) {
+            ReadingRoom.validatePlaySpeed(playSpeed);
+            return new Snapshot(roomId, hostId, status, chapterId, position, playSpeed, voiceType);
+        }
+
+        public Snapshot withVoiceType(VoiceType voiceType) {
+            return new Snapshot(roomId, hostId, status, chapterId, position, playSpeed, voiceType);
+        }
+
+        /**
+         * 엔티티에 반영 (방 종료 시)
+         */
+        public void applyTo(ReadingRoom room) {
+            room.updateStatus(status);
+            room.updateLastReadPos(chapterId, position);
+            room.changePlaySpeed(playSpeed);
+            room.setVoiceType(voiceType);
+        }
+    }
+
+    // Redis에 저장된 상태와 버전
+    private record Stored(Snapshot snapshot, long version) {
+    }
+}
@@ -0,0 +1,576 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterPrefetcher;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 독서룸 서버 재생 타임라인
+ * <p>
+ * 방장이 문단마다 재생 명령을 보내는 대신, 서버가 앞으로 재생할 문단 구간(window)의
+ * 오디오 URL, 예상 길이, 시작 시각, 속도를 한 번에 방에 보내고(PLAYBACK_SCHEDULE) 클라이언트는 그 일정대로 재생합니다.
+ * - 구간에 남은 문단이 refill-ahead개가 되는 시점에 서버가 다음 구간을 같은 version으로 이어서 전송
+ * - 이동(seek), 재개, 속도/목소리 변경 때만 새 version으로 일정을 다시 만듦 (replace=true)
+ * - 문단 길이는 글자 수로 추정 (클라이언트는 오디오가 끝나면 다음 문단으로 넘어감)
+ * - 추정한 재생 위치는 재생 상태 저장소에 반영
+ * 일정은 시작한 서버(owner) 한 곳에서만 진행하고, owner와 version은 Redis(room:timeline:{roomId})에 기록합니다.
+ * - version은 Redis에서 발급해 서버가 달라도 새 일정의 version이 항상 더 큼
+ * - 다른 서버로 들어온 일시정지/속도/목소리 변경/종료 요청은 제어 채널(roomTimeline:control)로 보내 owner가 처리
+ * - 다른 서버가 새 일정을 시작하면 이전 owner는 자기 일정을 취소 (제어 메시지를 놓쳐도 다음 구간 전에 owner를 확인)
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomPlaybackTimeline {
+
+    public static final String CONTROL_CHANNEL = "roomTimeline:control";
+    private static final String SCHEDULE = "PLAYBACK_SCHEDULE";
+    private static final String OWNER_PREFIX = "room:timeline:";
+    private static final String VERSION_KEY = "room:timeline:version";
+
+    // 새 version 발급 후 owner 기록, ARGV = [nodeId, ttl] -> "version:nodeId" 의 version
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) "
+                    + "redis.call('SET', KEYS[2], version .. ':' .. ARGV[1], 'EX', ARGV[2]) "
+                    + "return version",
+            Long.class);
+
+    // 아직 owner면 만료 시간 연장 후 1, 다른 서버가 새 일정을 시작했으면 0, ARGV = [version:nodeId, ttl]
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) "
+                    + "if owner and owner ~= ARGV[1] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private final TtsAudioUrlCache ttsAudioUrlCache;
+    private final ChapterService chapterService;
+    private final ChapterPrefetcher chapterPrefetcher;
+    private final RoomStatusRelay roomStatusRelay;
+    private final RoomPlaybackStateStore roomPlaybackStateStore;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int windowSize;
+    private final int refillAhead;
+    private final long msPerChar;
+    private final long minParagraphMs;
+    private final long startLeadMs;
+    private final int concurrency;
+    private final Duration timeout;
+    private final Duration ownerTtl;
+    // 제어 메시지에서 자기가 보낸 메시지를 구분하는 서버 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 방 ID -> 이 서버가 owner인 일정
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    // Redis를 쓸 수 없을 때의 version
+    private final AtomicLong versions = new AtomicLong();
+
+    private final Counter startCounter;
+    private final Counter refillCounter;
+    private final Counter paragraphCounter;
+
+    public RoomPlaybackTimeline(TtsAudioUrlCache ttsAudioUrlCache,
+            ChapterService chapterService,
+            ChapterPrefetcher chapterPrefetcher,
+            RoomStatusRelay roomStatusRelay,
+            RoomPlaybackStateStore roomPlaybackStateStore,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${reading-room.timeline.enabled:false}") boolean enabled,
+            @Value("${reading-room.timeline.window-size:8}") int windowSize,
+            @Value("${reading-room.timeline.refill-ahead:3}") int refillAhead,
+            @Value("${reading-room.timeline.ms-per-char:150}") long msPerChar,
+            @Value("${reading-room.timeline.min-paragraph-ms:1500}") long minParagraphMs,
+            @Value("${reading-room.timeline.start-lead-ms:500}") long startLeadMs,
+            @Value("${reading-room.timeline.concurrency:3}") int concurrency,
+            @Value("${reading-room.timeline.timeout-seconds:20}") long timeoutSeconds,
+            @Value("${reading-room.timeline.owner-ttl-seconds:600}") long ownerTtlSeconds) {
+        this.ttsAudioUrlCache = ttsAudioUrlCache;
+        this.chapterService = chapterService;
+        this.chapterPrefetcher = chapterPrefetcher;
+        this.roomStatusRelay = roomStatusRelay;
+        this.roomPlaybackStateStore = roomPlaybackStateStore;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.windowSize = Math.max(1, windowSize);
+        this.refillAhead = Math.min(Math.max(1, refillAhead), this.windowSize);
+        this.msPerChar = msPerChar;
+        this.minParagraphMs = minParagraphMs;
+        this.startLeadMs = startLeadMs;
+        this.concurrency = Math.max(1, concurrency);
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.ownerTtl = Duration.ofSeconds(ownerTtlSeconds);
+
+        this.startCounter = scheduleCounter(meterRegistry, "start");
+        this.refillCounter = scheduleCounter(meterRegistry, "refill");
+        this.paragraphCounter = Counter.builder("reading-room.timeline.paragraphs")
+                .description("재생 일정으로 보낸 문단 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timelines.values().forEach(timeline -> {
+            synchronized (timeline) {
+                timeline.cancel();
+            }
+        });
+        timelines.clear();
+    }
+
+    /**
+     * 서버 재생 타임라인 사용 여부 (false면 문단마다 PLAY_AUDIO 전송)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 지정한 문단부터 새 일정 시작 (재생 시작/이동/재개) - 진행 중인 일정은 취소
+     */
+    public void start(Long roomId, Integer chapterId, int position, VoiceType voiceType, BigDecimal playSpeed) {
+        start(roomId, chapterId, position, 0, voiceType, playSpeed);
+    }
+
+    /**
+     * 속도/목소리 변경 - 진행 중인 일정이 있으면 현재 문단의 진행 위치부터 새 일정으로 이어감
+     * (다른 서버가 owner면 제어 채널로 전달)
+     */
+    public void retune(Long roomId, VoiceType voiceType, BigDecimal playSpeed) {
+        if (!retuneLocal(roomId, voiceType, playSpeed)) {
+            sendControl(Control.RETUNE, roomId, voiceType, playSpeed);
+        }
+    }
+
+    /**
+     * 일정 중지 (일시정지) - 추정한 재생 위치를 저장소에 반영 (다른 서버가 owner면 제어 채널로 전달)
+     */
+    public void stop(Long roomId) {
+        if (!stopLocal(roomId)) {
+            sendControl(Control.STOP, roomId, null, null);
+        }
+    }
+
+    /**
+     * 일정 취소 (방 종료) - 다른 서버가 owner면 제어 채널로 전달
+     */
+    public void cancel(Long roomId) {
+        if (!cancelLocal(roomId)) {
+            sendControl(Control.CANCEL, roomId, null, null);
+        }
+    }
+
+    /**
+     * 다른 서버가 보낸 제어 메시지 처리 (Redis 구독 리스너에서 호출, 이 서버가 owner인 일정만 처리)
+     */
+    public void handleControl(Map<String, Object> message) {
+        if (nodeId.equals(message.get("origin"))) {
+            return;
+        }
+        Long roomId = ((Number) message.get("roomId")).longValue();
+        switch (Control.valueOf((String) message.get("action"))) {
+            case STARTED -> {
+                // 다른 서버가 더 새 일정을 시작하면 이 서버의 일정은 취소
+                Timeline current = timelines.get(roomId);
+                long version = ((Number) message.get("version")).longValue();
+                if (current != null && current.version < version) {
+                    cancelLocal(roomId, current);
+                }
+            }
+            case RETUNE -> retuneLocal(roomId, VoiceType.valueOf((String) message.get("voiceType")),
+                    new BigDecimal((String) message.get("playSpeed")));
+            case STOP -> stopLocal(roomId);
+            case CANCEL -> cancelLocal(roomId);
+        }
+    }
+
+    // 이 서버가 owner인 일정이면 새 속도/목소리로 다시 시작하고 true
+    private boolean retuneLocal(Long roomId, VoiceType voiceType, BigDecimal playSpeed) {
+        Timeline current = timelines.get(roomId);
+        if (current == null) {
+            return false;
+        }
+        Position at;
+        synchronized (current) {
+            at = current.positionAt(System.currentTimeMillis());
+        }
+        if (at == null) {
+            // 첫 구간을 준비 중 - 처음부터 다시
+            at = new Position(current.firstPosition, 0);
+        }
+        start(roomId, current.chapterId, at.position(), at.offsetMs(), voiceType, playSpeed);
+        return true;
+    }
+
+    // 이 서버가 owner인 일정이면 멈추고 위치를 반영한 뒤 true
+    private boolean stopLocal(Long roomId) {
+        Timeline timeline = timelines.remove(roomId);
+        if (timeline == null) {
+            return false;
+        }
+        Position at;
+        synchronized (timeline) {
+            timeline.cancel();
+            at = timeline.positionAt(System.currentTimeMillis());
+        }
+        syncPosition(timeline, at);
+        return true;
+    }
+
+    // 이 서버가 owner인 일정이면 취소하고 true
+    private boolean cancelLocal(Long roomId) {
+        Timeline timeline = timelines.remove(roomId);
+        if (timeline == null) {
+            return false;
+        }
+        synchronized (timeline) {
+            timeline.cancel();
+        }
+        return true;
+    }
+
+    /**
+     * 지금 재생 중일 것으로 추정되는 문단 번호 (일정이 없거나 준비 중이면 empty)
+     */
+    public OptionalInt currentPosition(Long roomId) {
+        Timeline timeline = timelines.get(roomId);
+        if (timeline == null) {
+            return OptionalInt.empty();
+        }
+        synchronized (timeline) {
+            Position at = timeline.positionAt(System.currentTimeMillis());
+            return at == null ? OptionalInt.empty() : OptionalInt.of(at.position());
+        }
+    }
+
+    private void start(Long roomId, Integer chapterId, int position, long offsetMs, VoiceType voiceType,
+            BigDecimal playSpeed) {
+        Timeline timeline = new Timeline(claim(roomId), roomId, chapterId, voiceType, playSpeed, position);
+        Timeline previous = timelines.put(roomId, timeline);
+        if (previous != null) {
+            synchronized (previous) {
+                previous.cancel();
+            }
+        }
+        // 다른 서버에 이전 일정이 있으면 취소
+        sendControl(Control.STARTED, roomId, timeline.version);
+        startCounter.increment();
+        synchronized (timeline) {
+            load(timeline, position, System.currentTimeMillis() + startLeadMs, offsetMs, true);
+        }
+    }
+
+    // 새 version 발급 및 owner 기록 (Redis를 쓸 수 없으면 이 서버의 version 사용)
+    private long claim(Long roomId) {
+        try {
+            Long version = redisTemplate.execute(CLAIM_SCRIPT, List.of(VERSION_KEY, OWNER_PREFIX + roomId), nodeId,
+                    String.valueOf(ownerTtl.toSeconds()));
+            if (version != null) {
+                return version;
+            }
+        } catch (RuntimeException e) {
+            log.warn("재생 일정 owner 기록 실패 - 이 서버 version 사용: roomId={} - {}", roomId, e.getMessage());
+        }
+        return versions.incrementAndGet();
+    }
+
+    // 아직 이 서버가 owner인지 확인하고 기록 연장 (확인할 수 없으면 계속 진행)
+    private boolean renew(Timeline timeline) {
+        try {
+            Long owner = redisTemplate.execute(RENEW_SCRIPT, List.of(OWNER_PREFIX + timeline.roomId),
+                    timeline.version + ":" + nodeId, String.valueOf(ownerTtl.toSeconds()));
+            return owner == null || owner > 0;
+        } catch (RuntimeException e) {
+            log.debug("재생 일정 owner 확인 실패: roomId={} - {}", timeline.roomId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void sendControl(Control action, Long roomId, long version) {
+        Map<String, Object> message = control(action, roomId);
+        message.put("version", version);
+        publishControl(roomId, message);
+    }
+
+    private void sendControl(Control action, Long roomId, VoiceType voiceType, BigDecimal playSpeed) {
+        Map<String, Object> message = control(action, roomId);
+        if (voiceType != null) {
+            message.put("voiceType", voiceType.name());
+            message.put("playSpeed", playSpeed.toPlainString());
+        }
+        publishControl(roomId, message);
+    }
+
+    private Map<String, Object> control(Control action, Long roomId) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("action", action.name());
+        message.put("roomId", roomId);
+        message.put("origin", nodeId);
+        return message;
+    }
+
+    private void publishControl(Long roomId, Map<String, Object> message) {
+        try {
+            redisTemplate.convertAndSend(CONTROL_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("재생 일정 제어 메시지 발행 실패: roomId={}, {} - {}", roomId, message.get("action"),
+                    e.getMessage());
+        }
+    }
+
+    // 구간(from ~ from+windowSize-1)의 오디오를 준비한 뒤 일정 전송 (timeline 잠금 안에서 호출)
+    private void load(Timeline timeline, int from, long startAt, long offsetMs, boolean replace) {
+        int voiceId = timeline.voiceType.getLuxiaVoiceId();
+        timeline.loading = Flux.range(from, windowSize)
+                .flatMapSequential(position -> paragraph(timeline, position, voiceId), concurrency)
+                .collectList()
+                .subscribe(
+                        items -> publish(timeline, from, items, startAt, offsetMs, replace),
+                        error -> log.error("Failed to build playback schedule for room {} from {}",
+                                timeline.roomId, from, error));
+    }
+
+    private Mono<Item> paragraph(Timeline timeline, int position, int voiceId) {
+        String paragraphId = String.format("p_%04d", position);
+        // 텍스트 추출은 DB/파일 접근이 있으므로 별도 스케줄러에서 실행 (없으면 챕터 끝)
+        return Mono.fromCallable(() -> chapterService.getParagraphText(timeline.chapterId.longValue(), paragraphId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(text -> !text.isEmpty())
+                .flatMap(text -> {
+                    long mediaMs = Math.max(minParagraphMs, text.length() * msPerChar);
+                    return ttsAudioUrlCache.getAudioUrl("ch" + timeline.chapterId, paragraphId, voiceId, text)
+                            .timeout(timeout)
+                            .onErrorResume(e -> {
+                                // URL 없이 보내면 클라이언트가 해당 문단으로 이동(SYNC_PARAGRAPH)해 다시 요청
+                                log.warn("TTS failed for paragraph {} in room {}: {}",
+                                        paragraphId, timeline.roomId, e.getMessage());
+                                return Mono.empty();
+                            })
+                            .map(url -> new Item(position, paragraphId, url, mediaMs))
+                            .defaultIfEmpty(new Item(position, paragraphId, null, mediaMs));
+                });
+    }
+
+    private void publish(Timeline timeline, int from, List<Item> loaded, long startAt, long offsetMs,
+            boolean replace) {
+        Map<String, Object> message;
+        synchronized (timeline) {
+            if (timelines.get(timeline.roomId) != timeline) {
+                return; // 취소되었거나 새 일정으로 바뀜
+            }
+            // 챕터 끝 이후 문단은 제외 (연속된 문단만 사용)
+            List<Item> items = new ArrayList<>(loaded);
+            items.sort(Comparator.comparingInt(Item::position));
+            int count = 0;
+            while (count < items.size() && items.get(count).position() == from + count) {
+                count++;
+            }
+            items = items.subList(0, count);
+            boolean endOfChapter = count < windowSize;
+
+            long now = System.currentTimeMillis();
+            timeline.trim(now);
+            long itemStart = startAt - Math.round(offsetMs / timeline.speed);
+            List<Map<String, Object>> paragraphs = new ArrayList<>();
+            for (Item item : items) {
+                long durationMs = Math.round(item.mediaMs() / timeline.speed);
+                timeline.entries.add(new Entry(item.position(), itemStart, durationMs, item.mediaMs()));
+                itemStart += durationMs;
+
+                Map<String, Object> paragraph = new HashMap<>();
+                paragraph.put("paragraphId", item.paragraphId());
+                paragraph.put("position", item.position());
+                paragraph.put("audioUrl", item.audioUrl());
+                paragraph.put("durationMs", durationMs);
+                paragraphs.add(paragraph);
+            }
+            timeline.nextPosition = from + count;
+            timeline.endAt = items.isEmpty() ? startAt : itemStart;
+            timeline.endOfChapter = endOfChapter;
+
+            // 남은 문단이 refill-ahead개가 되는 시점에 다음 구간 준비 (챕터 끝이면 마지막 문단 종료 시 위치만 반영)
+            long tickAt = endOfChapter || items.isEmpty()
+                    ? timeline.endAt
+                    : timeline.entries.get(Math.max(0, timeline.entries.size() - refillAhead)).startAt();
+            // owner 확인/위치 반영에 Redis를 사용하므로 블로킹 가능한 스케줄러에서 실행
+            timeline.tick = Schedulers.boundedElastic().schedule(() -> tick(timeline), Math.max(0, tickAt - now),
+                    TimeUnit.MILLISECONDS);
+
+            message = new HashMap<>();
+            message.put("type", SCHEDULE);
+            message.put("roomId", timeline.roomId);
+            message.put("version", timeline.version);
+            message.put("replace", replace);
+            message.put("chapterId", "ch" + timeline.chapterId);
+            message.put("playSpeed", timeline.playSpeed);
+            message.put("startAt", startAt);
+            message.put("offsetMs", offsetMs);
+            message.put("paragraphs", paragraphs);
+            message.put("endOfChapter", endOfChapter);
+            paragraphCounter.increment(count);
+        }
+        roomStatusRelay.publish(timeline.roomId, message);
+    }
+
+    private void tick(Timeline timeline) {
+        if (timelines.get(timeline.roomId) != timeline) {
+            return;
+        }
+        // 제어 메시지를 놓쳤더라도 다른 서버가 새 일정을 시작했으면 여기서 멈춤
+        if (!renew(timeline)) {
+            log.info("다른 서버가 재생 일정을 이어받아 중단: roomId={}, version={}", timeline.roomId, timeline.version);
+            cancelLocal(timeline.roomId, timeline);
+            return;
+        }
+        Position at;
+        synchronized (timeline) {
+            if (timelines.get(timeline.roomId) != timeline) {
+                return;
+            }
+            at = timeline.positionAt(System.currentTimeMillis());
+            if (!timeline.endOfChapter) {
+                refillCounter.increment();
+                load(timeline, timeline.nextPosition, timeline.endAt, 0, false);
+            }
+        }
+        syncPosition(timeline, at);
+    }
+
+    private void cancelLocal(Long roomId, Timeline timeline) {
+        if (timelines.remove(roomId, timeline)) {
+            synchronized (timeline) {
+                timeline.cancel();
+            }
+        }
+    }
+
+    // 추정 위치를 재생 상태 저장소에 반영하고 다음 챕터 미리 불러오기 판단 (timeline 잠금 밖에서 호출)
+    private void syncPosition(Timeline timeline, Position at) {
+        if (at == null) {
+            return;
+        }
+        roomPlaybackStateStore.advance(timeline.roomId, timeline.chapterId, at.position());
+        chapterPrefetcher.onProgress(timeline.chapterId.longValue(), at.position());
+    }
+
+    private static Counter scheduleCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("reading-room.timeline.schedules")
+                .description("방에 보낸 재생 일정 메시지 수")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    // 방별 재생 일정 (timeline 객체로 동기화)
+    private static final class Timeline {
+        private final long version;
+        private final Long roomId;
+        private final Integer chapterId;
+        private final VoiceType voiceType;
+        private final BigDecimal playSpeed;
+        private final double speed;
+        private final int firstPosition;
+        // 전송한 문단 중 아직 끝나지 않은 문단 (시작 시각 순)
+        private final List<Entry> entries = new ArrayList<>();
+        private int nextPosition;
+        private long endAt;
+        private boolean endOfChapter;
+        private Disposable tick;
+        private Disposable loading;
+
+        private Timeline(long version, Long roomId, Integer chapterId, VoiceType voiceType, BigDecimal playSpeed,
+                int firstPosition) {
+            this.version = version;
+            this.roomId = roomId;
+            this.chapterId = chapterId;
+            this.voiceType = voiceType;
+            this.playSpeed = playSpeed;
+            this.speed = playSpeed.doubleValue();
+            this.firstPosition = firstPosition;
+        }
+
+        // now 시점의 문단과 문단 안의 진행 위치(오디오 기준 ms), 전송한 문단이 없으면 null
+        private Position positionAt(long now) {
+            if (entries.isEmpty()) {
+                return null;
+            }
+            for (Entry entry : entries) {
+                if (entry.startAt() + entry.durationMs() > now) {
+                    long elapsed = Math.max(0, now - entry.startAt());
+                    return new Position(entry.position(), Math.round(elapsed * speed));
+                }
+            }
+            Entry last = entries.get(entries.size() - 1);
+            return new Position(last.position(), last.mediaMs());
+        }
+
+        // 이미 끝난 문단 정리 (마지막 문단은 위치 추정용으로 남김)
+        private void trim(long now) {
+            ArrayDeque<Entry> ended = new ArrayDeque<>();
+            for (Entry entry : entries) {
+                if (entry.startAt() + entry.durationMs() > now) {
+                    break;
+                }
+                ended.add(entry);
+            }
+            if (ended.size() == entries.size() && !ended.isEmpty()) {
+                ended.removeLast();
+            }
+            entries.subList(0, ended.size()).clear();
+        }
+
+        private void cancel() {
+            if (tick != null) {
+                tick.dispose();
+            }
+            if (loading != null && !loading.isDisposed()) {
+                loading.dispose();
+            }
+        }
+    }
+
+    private enum Control {
+        STARTED, RETUNE, STOP, CANCEL
+    }
+
+    private record Item(int position, String paragraphId, String audioUrl, long mediaMs) {
+    }
+
+    private record Entry(int position, long startAt, long durationMs, long mediaMs) {
+    }
+
+    private record Position(int position, long offsetMs) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomStatusBroadcastEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 독서룸 상태 브로드캐스트 중계 (Redis Pub/Sub)
+ * <p>
+ * 방 상태 메시지를 roomStatus:{roomId} 채널로 발행하고, 모든 서버가 구독해 자기에게 연결된
+ * 클라이언트의 /topic/room/{roomId}/status로 전달합니다. 여러 서버를 로드밸런서 뒤에 두어도
+ * 같은 방 참여자는 모두 같은 메시지를 받습니다.
+ * - 서비스 코드에서는 RoomStatusBroadcastEvent를 발행 (커밋 후 중계)
+ * - PARTICIPANT_UPDATE는 방마다 짧은 시간(window) 동안 모아 한 번만 전송
+ * - Redis 발행 실패 시 이 서버의 구독자에게만 직접 전송
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomStatusRelay {
+
+    public static final String CHANNEL_PREFIX = "roomStatus:";
+    private static final String PARTICIPANT_UPDATE = "PARTICIPANT_UPDATE";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long coalesceWindowMs;
+    private final ScheduledExecutorService scheduler;
+
+    // 전송 대기 중인 PARTICIPANT_UPDATE (방 ID -> 마지막 메시지)
+    private final Map<Long, Map<String, Object>> pendingParticipantUpdates = new ConcurrentHashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter fallbackCounter;
+    private final Counter deliveredCounter;
+    private final Counter coalescedCounter;
+
+    public RoomStatusRelay(StringRedisTemplate redisTemplate,
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${reading-room.relay.enabled:true}") boolean enabled,
+            @Value("${reading-room.relay.participant-update-window-ms:300}") long coalesceWindowMs) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RoomStatusRelay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.publishedCounter = counter(meterRegistry, "published");
+        this.fallbackCounter = counter(meterRegistry, "fallback");
+        this.deliveredCounter = counter(meterRegistry, "delivered");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 커밋 후 방 상태 메시지 중계 (트랜잭션 밖에서 발행되면 바로 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBroadcast(RoomStatusBroadcastEvent event) {
+        publish(event.roomId(), event.message());
+    }
+
+    /**
+     * 모든 서버로 방 상태 메시지 발행
+     */
+    public void publish(Long roomId, Map<String, Object> message) {
+        if (enabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, objectMapper.writeValueAsString(message));
+                publishedCounter.increment();
+                return;
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("독서룸 상태 메시지 발행 실패 - 이 서버에만 전송: roomId={} - {}", roomId, e.getMessage());
+                fallbackCounter.increment();
+            }
+        }
+        deliver(roomId, message);
+    }
+
+    /**
+     * 이 서버에 연결된 구독자에게 전달 (Redis 구독 리스너에서 호출)
+     */
+    public void deliver(Long roomId, Map<String, Object> message) {
+        if (PARTICIPANT_UPDATE.equals(message.get("type")) && coalesceWindowMs > 0) {
+            // 대기 중인 메시지가 있으면 최신 메시지로 교체하고 끝 (window가 끝나면 한 번만 전송)
+            if (pendingParticipantUpdates.put(roomId, message) != null) {
+                coalescedCounter.increment();
+                return;
+            }
+            scheduler.schedule(() -> {
+                Map<String, Object> latest = pendingParticipantUpdates.remove(roomId);
+                if (latest != null) {
+                    send(roomId, latest);
+                }
+            }, coalesceWindowMs, TimeUnit.MILLISECONDS);
+            return;
+        }
+        send(roomId, message);
+    }
+
+    private void send(Long roomId, Map<String, Object> message) {
+        try {
+            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", message);
+            deliveredCounter.increment();
+        } catch (Exception e) {
+            log.error("Failed to send room status message to room {}", roomId, e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reading-room.relay.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,273 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 독서룸 TTS 미리 생성(lookahead)
+ * <p>
+ * 문단 N을 재생하는 동안 같은 방의 목소리로 N+1 ~ N+depth 문단의 TTS 오디오를 미리 요청해 두고,
+ * 방장이 다음 문단으로 넘어가면 준비된 URL을 바로 사용합니다.
+ * - 목소리나 챕터가 바뀌면 진행 중인 요청을 모두 취소하고 새로 시작
+ * - 위치가 바뀌면 새 구간(N+1 ~ N+depth)을 벗어난 요청만 취소
+ * - 방별 동시 요청 수와 전체 동시 요청 수를 제한 (실시간 재생 요청은 제한 대상이 아님)
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomTtsLookahead {
+
+    private final TtsAudioUrlCache ttsAudioUrlCache;
+    private final ChapterService chapterService;
+    private final boolean enabled;
+    private final int depth;
+    private final int perRoomConcurrency;
+    private final Duration timeout;
+    private final int globalConcurrency;
+    private final Semaphore globalPermits;
+
+    private final Map<Long, RoomState> rooms = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter cancelledCounter;
+
+    public RoomTtsLookahead(TtsAudioUrlCache ttsAudioUrlCache,
+            ChapterService chapterService,
+            MeterRegistry meterRegistry,
+            @Value("${tts.lookahead.enabled:true}") boolean enabled,
+            @Value("${tts.lookahead.depth:3}") int depth,
+            @Value("${tts.lookahead.per-room-concurrency:2}") int perRoomConcurrency,
+            @Value("${tts.lookahead.global-concurrency:16}") int globalConcurrency,
+            @Value("${tts.lookahead.timeout-seconds:30}") long timeoutSeconds) {
+        this.ttsAudioUrlCache = ttsAudioUrlCache;
+        this.chapterService = chapterService;
+        this.enabled = enabled;
+        this.depth = Math.max(1, depth);
+        this.perRoomConcurrency = Math.max(1, perRoomConcurrency);
+        this.globalConcurrency = Math.max(1, globalConcurrency);
+        this.globalPermits = new Semaphore(this.globalConcurrency);
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+
+        this.hitCounter = Counter.builder("tts.lookahead.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("tts.lookahead.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("tts.lookahead.requests")
+                .tag("result", "cancelled")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rooms.keySet().forEach(this::cancel);
+    }
+
+    /**
+     * 미리 요청해 둔 문단 오디오 가져오기 (가져간 항목은 목록에서 제거)
+     *
+     * @return 준비 중이거나 완료된 요청, 없으면 null (같은 챕터/목소리로 요청한 적이 없음)
+     */
+    public CompletableFuture<String> take(Long roomId, Integer chapterId, int position, int voiceId) {
+        if (!enabled) {
+            return null;
+        }
+        RoomState state = rooms.get(roomId);
+        if (state == null) {
+            missCounter.increment();
+            return null;
+        }
+        synchronized (state) {
+            Entry entry = (state.matches(chapterId, voiceId)) ? state.entries.remove(position) : null;
+            if (entry == null || entry.future.isCompletedExceptionally()) {
+                missCounter.increment();
+                if (entry != null) {
+                    entry.dispose();
+                }
+                return null;
+            }
+            hitCounter.increment();
+            return entry.future;
+        }
+    }
+
+    /**
+     * 현재 재생 위치 알림 - 다음 구간(position+1 ~ position+depth)의 오디오를 미리 요청
+     * 챕터/목소리가 바뀌었으면 기존 요청을 모두 취소하고 새로 시작합니다.
+     */
+    public void advance(Long roomId, Integer chapterId, int position, int voiceId) {
+        if (!enabled || chapterId == null) {
+            return;
+        }
+        RoomState state = rooms.computeIfAbsent(roomId, id -> new RoomState(id, chapterId, voiceId));
+        synchronized (state) {
+            if (!state.matches(chapterId, voiceId)) {
+                state.clear();
+                state.chapterId = chapterId;
+                state.voiceId = voiceId;
+                state.endOfChapter = Integer.MAX_VALUE;
+            }
+            state.position = position;
+
+            // 새 구간을 벗어난 요청 취소 (이전 문단, 건너뛴 구간)
+            Iterator<Map.Entry<Integer, Entry>> iterator = state.entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, Entry> e = iterator.next();
+                if (e.getKey() <= position || e.getKey() > position + depth) {
+                    e.getValue().dispose();
+                    iterator.remove();
+                }
+            }
+        }
+        pump(state);
+    }
+
+    /**
+     * 방의 미리 생성 요청을 모두 취소 (목소리 변경, 방 종료 시)
+     */
+    public void cancel(Long roomId) {
+        RoomState state = rooms.remove(roomId);
+        if (state != null) {
+            synchronized (state) {
+                state.clear();
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 미리 생성 요청 수 (전체)
+     */
+    public int inFlight() {
+        return globalConcurrency - globalPermits.availablePermits();
+    }
+
+    // 방별/전체 동시 요청 제한 안에서 구간의 빈 문단 요청을 시작
+    private void pump(RoomState state) {
+        synchronized (state) {
+            if (rooms.get(state.roomId) != state) {
+                return; // 취소된 방
+            }
+            for (int pos = state.position + 1; pos <= state.position + depth && pos < state.endOfChapter; pos++) {
+                if (state.entries.containsKey(pos)) {
+                    continue;
+                }
+                if (state.inFlight >= perRoomConcurrency || !globalPermits.tryAcquire()) {
+                    return;
+                }
+                state.entries.put(pos, start(state, pos));
+            }
+        }
+    }
+
+    private Entry start(RoomState state, int position) {
+        Integer chapterId = state.chapterId;
+        int voiceId = state.voiceId;
+        String paragraphId = String.format("p_%04d", position);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Entry entry = new Entry(future);
+        state.inFlight++;
+
+        entry.disposable = Mono.fromCallable(() -> chapterService.getParagraphText(chapterId.longValue(), paragraphId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(text -> {
+                    if (text == null || text.isEmpty()) {
+                        // 챕터의 마지막 문단을 넘어섬 - 이후 문단은 요청하지 않음
+                        synchronized (state) {
+                            if (state.chapterId.equals(chapterId)) {
+                                state.endOfChapter = Math.min(state.endOfChapter, position);
+                            }
+                        }
+                        return Mono.<String>empty();
+                    }
+                    return ttsAudioUrlCache.getAudioUrl("ch" + chapterId, paragraphId, voiceId, text);
+                })
+                .timeout(timeout)
+                .doFinally(signal -> {
+                    globalPermits.release();
+                    synchronized (state) {
+                        state.inFlight--;
+                    }
+                    if (signal == SignalType.CANCEL) {
+                        // 취소한 쪽(advance/cancel)이 방 잠금을 잡고 있으므로 여기서는 다시 요청하지 않음
+                        future.cancel(false);
+                        cancelledCounter.increment();
+                        return;
+                    }
+                    // 빈 자리가 생겼으므로 이 방과 다른 방의 대기 구간을 이어서 요청
+                    pumpAll(state);
+                })
+                .subscribe(future::complete, future::completeExceptionally, () -> future.complete(null));
+        return entry;
+    }
+
+    private void pumpAll(RoomState released) {
+        pump(released);
+        for (RoomState state : rooms.values()) {
+            if (state != released && globalPermits.availablePermits() > 0) {
+                pump(state);
+            }
+        }
+    }
+
+    // 방별 미리 생성 상태 (state 객체로 동기화)
+    private static final class RoomState {
+        private final Long roomId;
+        private Integer chapterId;
+        private int voiceId;
+        private int position;
+        private int inFlight;
+        private int endOfChapter = Integer.MAX_VALUE;
+        private final TreeMap<Integer, Entry> entries = new TreeMap<>();
+
+        private RoomState(Long roomId, Integer chapterId, int voiceId) {
+            this.roomId = roomId;
+            this.chapterId = chapterId;
+            this.voiceId = voiceId;
+        }
+
+        private boolean matches(Integer chapterId, int voiceId) {
+            return this.chapterId.equals(chapterId) && this.voiceId == voiceId;
+        }
+
+        private void clear() {
+            entries.values().forEach(Entry::dispose);
+            entries.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<String> future;
+        private volatile Disposable disposable;
+
+        private Entry(CompletableFuture<String> future) {
+            this.future = future;
+        }
+
+        private void dispose() {
+            Disposable current = disposable;
+            if (current != null && !current.isDisposed()) {
+                current.dispose();
+            }
+        }
+    }
+}
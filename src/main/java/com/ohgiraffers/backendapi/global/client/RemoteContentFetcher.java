@@ -0,0 +1,405 @@
+package com.ohgiraffers.backendapi.global.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 외부 URL(Google Drive 등) 컨텐츠 다운로드 클라이언트
+ * <p>
+ * - 커넥션을 재사용하는 공용 HttpClient (연결/응답 타임아웃 적용)
+ * - 디스크 컨텐츠 저장소: 받은 파일을 로컬에 보관하고 ETag / Last-Modified로 재검증(304)
+ * - 원격 서버 장애(5xx, 타임아웃 등) 시 저장된 사본 사용, 404/410만 즉시 실패
+ * - 저장소 전체 크기 제한: 넘으면 오래 사용하지 않은 사본부터 삭제 (LRU, 읽는 중인 사본은 제외)
+ * - 같은 URL 동시 요청은 한 번만 다운로드 (single-flight)
+ * </p>
+ */
+@Slf4j
+@Component
+public class RemoteContentFetcher {
+
+    private static final Pattern DRIVE_PATH_ID = Pattern.compile("/d/([a-zA-Z0-9_-]+)");
+    private static final Pattern DRIVE_QUERY_ID = Pattern.compile("[?&]id=([a-zA-Z0-9_-]+)");
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Path storeDir;
+    private final Duration requestTimeout;
+    private final Duration freshFor;
+    private final long maxStoreBytes;
+
+    // URL별 진행 중인 다운로드 (single-flight)
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    // 사본별 열려 있는 스트림 수 (this로 동기화 - LRU 정리와 같은 잠금)
+    private final Map<Path, Integer> readers = new HashMap<>();
+
+    public RemoteContentFetcher(ObjectMapper objectMapper,
+            @Value("${content-fetch.store-dir:${file.upload-dir}/remote-content}") String storeDir,
+            @Value("${content-fetch.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${content-fetch.request-timeout-ms:30000}") long requestTimeoutMs,
+            @Value("${content-fetch.fresh-seconds:300}") long freshSeconds,
+            @Value("${content-fetch.max-store-bytes:1073741824}") long maxStoreBytes) {
+        this.objectMapper = objectMapper;
+        this.storeDir = Paths.get(storeDir).toAbsolutePath().normalize();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.freshFor = Duration.ofSeconds(freshSeconds);
+        this.maxStoreBytes = maxStoreBytes;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL) // Google Drive는 리디렉션을 거쳐 다운로드됨
+                .build();
+    }
+
+    /**
+     * URL 컨텐츠를 바이트 배열로 가져오기
+     */
+    public byte[] fetchBytes(String url) {
+        try (InputStream in = openStream(url)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_READ_ERROR, "저장된 컨텐츠를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * URL 컨텐츠를 스트림으로 열기 (호출 측에서 close 필요)
+     * 스트림이 열려 있는 동안 사본은 LRU 정리에서 제외됩니다.
+     */
+    public InputStream openStream(String url) {
+        // 경로를 받은 직후 정리되었으면 한 번 더 확보
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Path path = fetch(url);
+            if (!acquire(path)) {
+                continue;
+            }
+            try {
+                return new FilterInputStream(Files.newInputStream(path)) {
+                    private boolean closed;
+
+                    @Override
+                    public void close() throws IOException {
+                        if (closed) {
+                            return;
+                        }
+                        closed = true;
+                        try {
+                            super.close();
+                        } finally {
+                            release(path);
+                        }
+                    }
+                };
+            } catch (IOException e) {
+                release(path);
+                throw new CustomException(ErrorCode.FILE_READ_ERROR, "저장된 컨텐츠를 읽을 수 없습니다: " + e.getMessage());
+            }
+        }
+        throw new CustomException(ErrorCode.FILE_READ_ERROR, "저장된 컨텐츠를 읽을 수 없습니다: " + url);
+    }
+
+    /**
+     * URL 컨텐츠를 디스크 저장소에 확보하고 경로 반환
+     * 신선한 사본이 있으면 요청 없이, 오래된 사본은 조건부 요청으로 재검증합니다.
+     * 반환된 경로는 다른 요청의 LRU 정리로 삭제될 수 있으므로 내용을 읽을 때는 openStream을 사용합니다.
+     */
+    public Path fetch(String url) {
+        String downloadUrl = toDownloadUrl(url);
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(downloadUrl, mine);
+        if (existing != null) {
+            // 같은 URL을 다른 요청이 받는 중이면 그 결과를 공유
+            return join(existing);
+        }
+
+        try {
+            mine.complete(download(downloadUrl));
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(downloadUrl, mine);
+        }
+        return join(mine);
+    }
+
+    /**
+     * 저장된 사본을 만료 처리 (다음 요청에서 반드시 재검증)
+     * 챕터 URL이 수정되면 신선 기간 안이라도 예전 컨텐츠를 내려주지 않도록 호출합니다.
+     * 사본은 남겨 두므로 재검증 요청이 실패하면 그대로 사용합니다.
+     */
+    public void expire(String url) {
+        String name = sha256(toDownloadUrl(url));
+        Path contentPath = storeDir.resolve(name + ".bin");
+        Path metaPath = storeDir.resolve(name + ".meta.json");
+        StoredMeta meta = readMeta(metaPath, contentPath);
+        if (meta == null) {
+            return;
+        }
+        try {
+            writeMeta(metaPath, new StoredMeta(meta.etag(), meta.lastModified(), 0L));
+        } catch (IOException e) {
+            log.warn("컨텐츠 메타데이터 만료 처리 실패 - 삭제: {}", metaPath);
+            deleteQuietly(metaPath);
+        }
+    }
+
+    /**
+     * Google Drive 공유 URL을 직접 다운로드 URL로 변환 (그 외 URL은 그대로 반환)
+     */
+    public static String toDownloadUrl(String url) {
+        if (url == null || !url.contains("drive.google.com")) {
+            return url;
+        }
+        // 형식: https://drive.google.com/file/d/{FILE_ID}/view?usp=sharing
+        Matcher matcher = DRIVE_PATH_ID.matcher(url);
+        if (matcher.find()) {
+            return "https://drive.google.com/uc?export=download&id=" + matcher.group(1);
+        }
+        // 형식: https://drive.google.com/open?id={FILE_ID}
+        matcher = DRIVE_QUERY_ID.matcher(url);
+        if (matcher.find()) {
+            return "https://drive.google.com/uc?export=download&id=" + matcher.group(1);
+        }
+        return url; // 변환 불가시 원본 반환
+    }
+
+    private Path download(String url) {
+        String name = sha256(url);
+        Path contentPath = storeDir.resolve(name + ".bin");
+        Path metaPath = storeDir.resolve(name + ".meta.json");
+        StoredMeta meta = readMeta(metaPath, contentPath);
+
+        if (meta != null && System.currentTimeMillis() - meta.fetchedAt() < freshFor.toMillis()) {
+            touch(contentPath);
+            return contentPath;
+        }
+
+        Path tmp = null;
+        HttpResponse<Path> response;
+        try {
+            Files.createDirectories(storeDir);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(requestTimeout)
+                    .header("Accept", "application/json")
+                    .GET();
+            if (meta != null && meta.etag() != null) {
+                request.header("If-None-Match", meta.etag());
+            }
+            if (meta != null && meta.lastModified() != null) {
+                request.header("If-Modified-Since", meta.lastModified());
+            }
+
+            tmp = Files.createTempFile(storeDir, name, ".tmp");
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofFile(tmp));
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(tmp);
+            return staleOrThrow(url, meta, contentPath, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteQuietly(tmp);
+            return staleOrThrow(url, meta, contentPath, e);
+        }
+
+        int status = response.statusCode();
+        if (status == 404 || status == 410) {
+            // 원본이 없어졌으므로 저장된 사본도 더 이상 내려주지 않음
+            deleteQuietly(tmp);
+            deleteQuietly(contentPath);
+            deleteQuietly(metaPath);
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND, "HTTP " + status + ": " + url);
+        }
+
+        try {
+            if (status == 304 && meta != null) {
+                deleteQuietly(tmp);
+                writeMeta(metaPath, new StoredMeta(meta.etag(), meta.lastModified(), System.currentTimeMillis()));
+                touch(contentPath);
+                log.debug("원격 컨텐츠 변경 없음 (304): {}", url);
+                return contentPath;
+            }
+            if (status / 100 != 2) {
+                deleteQuietly(tmp);
+                return staleOrThrow(url, meta, contentPath, new IOException("HTTP " + status));
+            }
+
+            Files.move(tmp, contentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writeMeta(metaPath, new StoredMeta(
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null),
+                    System.currentTimeMillis()));
+            log.info("원격 컨텐츠 다운로드 성공: {} ({} bytes)", url, Files.size(contentPath));
+            evictIfOversized(contentPath);
+            return contentPath;
+
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            return staleOrThrow(url, meta, contentPath, e);
+        }
+    }
+
+    // 원격 서버 장애 시 기존 사본이 있으면 그대로 사용
+    private Path staleOrThrow(String url, StoredMeta meta, Path contentPath, Exception e) {
+        if (meta != null) {
+            log.warn("원격 컨텐츠 재검증 실패 - 저장된 사본 사용: {} ({})", url, e.getMessage());
+            touch(contentPath);
+            return contentPath;
+        }
+        log.error("원격 컨텐츠 다운로드 실패: {}", url, e);
+        throw new CustomException(ErrorCode.FILE_NOT_FOUND, "URL에서 파일을 다운로드할 수 없습니다: " + e.getMessage());
+    }
+
+    // 사본 읽기 시작 (이미 정리된 사본이면 false)
+    private synchronized boolean acquire(Path contentPath) {
+        if (!Files.exists(contentPath)) {
+            return false;
+        }
+        readers.merge(contentPath, 1, Integer::sum);
+        return true;
+    }
+
+    private synchronized void release(Path contentPath) {
+        readers.computeIfPresent(contentPath, (path, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 저장소 크기가 제한을 넘으면 마지막 사용 시각(파일 수정 시각)이 오래된 사본부터 삭제
+     * 방금 받은 사본은 호출 측이 곧 읽으므로, 스트림이 열려 있는 사본은 읽는 중이므로 삭제하지 않습니다.
+     * (건너뛴 사본은 다음 정리 때 다시 대상이 됨)
+     */
+    synchronized void evictIfOversized(Path keep) {
+        List<Path> contentFiles;
+        try (Stream<Path> paths = Files.list(storeDir)) {
+            contentFiles = paths.filter(path -> path.toString().endsWith(".bin")).toList();
+        } catch (IOException e) {
+            log.warn("컨텐츠 저장소 조회 실패: {}", storeDir);
+            return;
+        }
+
+        List<StoredFile> stored = new ArrayList<>(contentFiles.size());
+        long total = 0;
+        for (Path path : contentFiles) {
+            try {
+                long size = Files.size(path);
+                stored.add(new StoredFile(path, size, Files.getLastModifiedTime(path).toMillis()));
+                total += size;
+            } catch (IOException e) {
+                // 다른 요청에서 먼저 삭제한 사본
+            }
+        }
+        if (total <= maxStoreBytes) {
+            return;
+        }
+
+        stored.sort(Comparator.comparingLong(StoredFile::lastUsed));
+        for (StoredFile file : stored) {
+            if (total <= maxStoreBytes) {
+                break;
+            }
+            if (file.path().equals(keep) || readers.containsKey(file.path())) {
+                continue;
+            }
+            String fileName = file.path().getFileName().toString();
+            deleteQuietly(file.path());
+            deleteQuietly(storeDir.resolve(fileName.substring(0, fileName.length() - ".bin".length()) + ".meta.json"));
+            total -= file.size();
+            log.debug("컨텐츠 저장소 정리 (LRU): {}", file.path());
+        }
+    }
+
+    // 사본 사용 시각 갱신 (LRU 정리 기준)
+    private void touch(Path contentPath) {
+        try {
+            Files.setLastModifiedTime(contentPath, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // 정리 순서에만 영향이 있으므로 무시
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private StoredMeta readMeta(Path metaPath, Path contentPath) {
+        if (!Files.exists(metaPath) || !Files.exists(contentPath)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(metaPath.toFile(), StoredMeta.class);
+        } catch (IOException e) {
+            log.warn("컨텐츠 메타데이터 읽기 실패 (재다운로드): {}", metaPath);
+            return null;
+        }
+    }
+
+    private void writeMeta(Path metaPath, StoredMeta meta) throws IOException {
+        Path tmp = Files.createTempFile(storeDir, "meta", ".tmp");
+        objectMapper.writeValue(tmp.toFile(), meta);
+        Files.move(tmp, metaPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path join(CompletableFuture<Path> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 디스크 저장소 메타데이터 (재검증용 헤더 + 마지막 확인 시각)
+    private record StoredMeta(String etag, String lastModified, long fetchedAt) {
+    }
+
+    private record StoredFile(Path path, long size, long lastUsed) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.ohgiraffers.backendapi.global.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TTS 오디오 URL 공용 캐시
+ * <p>
+ * (챕터, 문단, 목소리, 문단 본문)별 오디오 URL을 Redis에 저장해 여러 방/인스턴스가 같이 사용하고,
+ * 자주 쓰는 항목은 로컬 near-cache에 두어 Redis 왕복도 줄입니다.
+ * - 키에 문단 본문의 해시를 포함해, 챕터 본문이 수정되면 이전 오디오를 재사용하지 않음
+ * - TTL은 presigned URL의 만료 시각(X-Amz-Date + X-Amz-Expires)에서 안전 여유분을 뺀 값
+ * - 같은 키의 동시 요청은 인스턴스 안에서 하나로 합치고(single-flight),
+ *   인스턴스 간에는 Redis 잠금으로 한 인스턴스만 AI 서버에 요청하고 나머지는 결과를 기다림
+ * - 잠금 유지/대기 시간(lock-timeout)은 호출 측 TTS 제한 시간(20~30초)보다 길게 두고,
+ *   AI 서버 요청도 같은 시간으로 제한해 요청 중에 잠금이 먼저 풀려 중복 요청되지 않게 함
+ * </p>
+ */
+@Slf4j
+@Component
+public class TtsAudioUrlCache {
+
+    private static final String KEY_PREFIX = "tts:audio:";
+    private static final String LOCK_PREFIX = "tts:audio:lock:";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(200);
+    // 키에 넣는 본문 해시 길이 (SHA-256 hex 앞부분)
+    private static final int TEXT_HASH_LENGTH = 16;
+
+    private final TtsClient ttsClient;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration defaultTtl;
+    private final Duration safetyMargin;
+    private final Duration lockTimeout;
+
+    private final Map<String, NearEntry> nearCache;
+    // 진행 중인 요청 (키 -> 공유 Mono)
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter nearHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter joinedCounter;
+    private final Counter missCounter;
+
+    public TtsAudioUrlCache(TtsClient ttsClient,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${tts.audio-cache.default-ttl-seconds:3000}") long defaultTtlSeconds,
+            @Value("${tts.audio-cache.safety-margin-seconds:120}") long safetyMarginSeconds,
+            @Value("${tts.audio-cache.lock-timeout-seconds:45}") long lockTimeoutSeconds,
+            @Value("${tts.audio-cache.near-cache-size:10000}") int nearCacheSize) {
+        this.ttsClient = ttsClient;
+        this.redisTemplate = redisTemplate;
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.safetyMargin = Duration.ofSeconds(safetyMarginSeconds);
+        this.lockTimeout = Duration.ofSeconds(lockTimeoutSeconds);
+        this.nearCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NearEntry> eldest) {
+                return size() > nearCacheSize;
+            }
+        };
+
+        this.nearHitCounter = counter(meterRegistry, "near_hit");
+        this.redisHitCounter = counter(meterRegistry, "redis_hit");
+        this.joinedCounter = counter(meterRegistry, "joined");
+        this.missCounter = counter(meterRegistry, "miss");
+        Gauge.builder("tts.audio-cache.hit-ratio", this, TtsAudioUrlCache::hitRatio)
+                .description("AI 서버를 호출하지 않고 처리한 요청 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오디오 URL 조회 (near-cache -> Redis -> AI 서버 순)
+     * TtsClient.getAudioUrl과 같은 인자를 받습니다.
+     */
+    public Mono<String> getAudioUrl(String chapterId, String paragraphId, int voiceId, String text) {
+        String key = KEY_PREFIX + chapterId + ":" + paragraphId + ":" + voiceId + ":" + textHash(text);
+
+        String near = getNear(key);
+        if (near != null) {
+            nearHitCounter.increment();
+            return Mono.just(near);
+        }
+
+        // 같은 키로 진행 중인 요청이 있으면 그 결과를 공유
+        // (완료 시 자기 자신일 때만 제거 - 그 사이 새로 등록된 요청을 지우지 않도록)
+        AtomicReference<Mono<String>> self = new AtomicReference<>();
+        Mono<String> created = Mono.defer(() -> load(key, chapterId, paragraphId, voiceId, text))
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(created);
+        Mono<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            joinedCounter.increment();
+            return existing;
+        }
+        return created;
+    }
+
+    private Mono<String> load(String key, String chapterId, String paragraphId, int voiceId, String text) {
+        return readRedis(key)
+                .doOnNext(url -> {
+                    redisHitCounter.increment();
+                    putNear(key, url);
+                })
+                .switchIfEmpty(Mono.defer(() -> tryLock(key)
+                        .flatMap(locked -> locked
+                                ? fetch(key, chapterId, paragraphId, voiceId, text)
+                                : awaitOther(key).switchIfEmpty(
+                                        Mono.defer(() -> fetch(key, chapterId, paragraphId, voiceId, text))))));
+    }
+
+    // AI 서버 호출 후 Redis/near-cache에 저장 (성공/실패와 관계없이 잠금 해제)
+    private Mono<String> fetch(String key, String chapterId, String paragraphId, int voiceId, String text) {
+        missCounter.increment();
+        return ttsClient.getAudioUrl(chapterId, paragraphId, voiceId, text)
+                // 잠금이 만료되기 전에 끝나지 않으면 실패 처리 (다른 인스턴스가 다시 요청할 수 있도록 잠금 해제)
+                .timeout(lockTimeout)
+                .flatMap(url -> {
+                    Duration ttl = ttlOf(url);
+                    if (!ttl.isZero()) {
+                        putNear(key, url);
+                    }
+                    return writeRedis(() -> {
+                        if (!ttl.isZero()) {
+                            redisTemplate.opsForValue().set(key, url, ttl);
+                        }
+                        redisTemplate.delete(LOCK_PREFIX + key);
+                    }).thenReturn(url);
+                })
+                .onErrorResume(e -> writeRedis(() -> redisTemplate.delete(LOCK_PREFIX + key))
+                        .then(Mono.error(e)));
+    }
+
+    private Mono<Void> writeRedis(Runnable operation) {
+        return Mono.fromRunnable(operation)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("TTS 오디오 URL Redis 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 다른 인스턴스가 요청 중이면 Redis에 결과가 저장될 때까지 대기 (시간 초과 시 empty)
+    private Mono<String> awaitOther(String key) {
+        return readRedis(key)
+                .repeatWhenEmpty(repeats -> repeats.delayElements(LOCK_POLL_INTERVAL))
+                .timeout(lockTimeout, Mono.empty())
+                .doOnNext(url -> {
+                    joinedCounter.increment();
+                    putNear(key, url);
+                });
+    }
+
+    private Mono<String> readRedis(String key) {
+        return Mono.fromCallable(() -> redisTemplate.opsForValue().get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("TTS 오디오 URL Redis 조회 실패: {} - {}", key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Boolean> tryLock(String key) {
+        return Mono.fromCallable(() -> Boolean.TRUE.equals(
+                        redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, "1", lockTimeout)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorReturn(true); // Redis 장애 시 직접 요청
+    }
+
+    /**
+     * URL의 남은 유효 시간 - 안전 여유분 (presigned URL이 아니면 기본 TTL)
+     */
+    Duration ttlOf(String url) {
+        try {
+            Map<String, String> params = UriComponentsBuilder.fromUriString(url).build().getQueryParams()
+                    .toSingleValueMap();
+            String date = params.get("X-Amz-Date");
+            String expires = params.get("X-Amz-Expires");
+            if (date == null || expires == null) {
+                return defaultTtl;
+            }
+            long expiresAt = LocalDateTime.parse(date, AMZ_DATE).toEpochSecond(ZoneOffset.UTC)
+                    + Long.parseLong(expires);
+            long remaining = expiresAt - System.currentTimeMillis() / 1000 - safetyMargin.getSeconds();
+            return remaining > 0 ? Duration.ofSeconds(remaining) : Duration.ZERO;
+        } catch (RuntimeException e) {
+            return defaultTtl;
+        }
+    }
+
+    private String getNear(String key) {
+        synchronized (nearCache) {
+            NearEntry entry = nearCache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                nearCache.remove(key);
+                return null;
+            }
+            return entry.url();
+        }
+    }
+
+    private void putNear(String key, String url) {
+        Duration ttl = ttlOf(url);
+        if (ttl.isZero()) {
+            return;
+        }
+        synchronized (nearCache) {
+            nearCache.put(key, new NearEntry(url, System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    // 문단 본문 해시 (본문이 바뀌면 다른 키)
+    static String textHash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((text == null ? "" : text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash).substring(0, TEXT_HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double hitRatio() {
+        double hits = nearHitCounter.count() + redisHitCounter.count() + joinedCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tts.audio-cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record NearEntry(String url, long expiresAt) {
+    }
+}
@@ -0,0 +1,488 @@
+package com.ohgiraffers.backendapi.global.common;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectTaggingRequest;
+import software.amazon.awssdk.services.s3.model.Tag;
+import software.amazon.awssdk.services.s3.model.Tagging;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * S3 스트리밍 업로드 파이프라인
+ * <p>
+ * 입력 스트림을 파트 크기 단위로 잘라 멀티파트 업로드로 병렬 전송합니다.
+ * 한 파트 안에 끝나는 작은 파일은 PutObject 한 번으로 처리합니다.
+ * - 파트 버퍼는 (동시 전송 수 + 1)개를 재사용하므로 파일 크기와 무관하게 힙 사용량이 고정됩니다.
+ * - 전송하는 바이트의 SHA-256과 크기를 함께 계산해 객체 태그(sha256, size, original-size)로 기록합니다.
+ * - 객체 URL은 버킷/리전/키로 직접 만들어 업로드 후 추가 요청이 없습니다.
+ * - JSON은 같은 패스에서 공백 제거(정규화) 후 gzip으로 압축해 업로드할 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String region;
+    private final int partSize;
+    private final int parallelism;
+    private final ExecutorService partExecutor;
+    private final BlockingQueue<byte[]> bufferPool;
+
+    public S3MultipartUploader(S3Client s3Client,
+            @Value("${spring.cloud.aws.s3.bucket}") String bucket,
+            @Value("${spring.cloud.aws.region.static}") String region,
+            @Value("${s3.upload.part-size-bytes:8388608}") int partSize,
+            @Value("${s3.upload.parallelism:4}") int parallelism) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.region = region;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.parallelism = Math.max(1, parallelism);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.partExecutor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "S3Upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 채우는 중인 버퍼 1개 + 전송 중인 버퍼 parallelism개
+        this.bufferPool = new ArrayBlockingQueue<>(this.parallelism + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+    }
+
+    /**
+     * 스트림을 그대로 업로드 (이미지 등)
+     *
+     * @param key         S3 객체 키
+     * @param contentType Content-Type
+     * @param in          업로드할 데이터 (호출 측에서 close)
+     * @return 업로드 결과 (URL, 크기, 체크섬)
+     */
+    public UploadResult upload(String key, String contentType, InputStream in) {
+        return upload(key, contentType, null, (out, counter) -> in.transferTo(out));
+    }
+
+    /**
+     * JSON을 정규화(공백 제거)하고 gzip으로 압축하여 업로드
+     * 파싱/압축/체크섬/파트 전송이 한 번의 스트림 패스로 처리됩니다.
+     * 저장 객체에는 Content-Encoding: gzip이 설정되므로 Presigned URL로 받는 클라이언트는 자동으로 해제합니다.
+     *
+     * @param key         S3 객체 키
+     * @param jsonFactory JSON 파서/생성기 팩토리 (ObjectMapper.getFactory())
+     * @param in          원본 JSON (호출 측에서 close)
+     * @return 업로드 결과 (size: 압축 후 크기, originalSize: 정규화된 JSON 크기)
+     * @throws CustomException INVALID_FILE_TYPE 올바른 JSON이 아닌 경우
+     */
+    public UploadResult uploadJsonGzip(String key, JsonFactory jsonFactory, InputStream in) {
+        return uploadJsonGzip(key, jsonFactory, in, null);
+    }
+
+    /**
+     * JSON을 정규화 + gzip 압축하여 업로드하면서, 같은 패스에서 정규화된 JSON을 copy에도 기록
+     * (문단 인덱스/본문 해시 등 등록 후처리를 원본을 다시 읽지 않고 처리하기 위함)
+     *
+     * @param copy 정규화된 JSON을 함께 받을 스트림 (null이면 생략, 호출 측에서 close)
+     */
+    public UploadResult uploadJsonGzip(String key, JsonFactory jsonFactory, InputStream in, OutputStream copy) {
+        return upload(key, "application/json", "gzip", (out, counter) -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+            CountingOutputStream plain = new CountingOutputStream(gzip);
+            writeNormalizedJson(jsonFactory, in, copy != null ? new TeeOutputStream(plain, copy) : plain);
+            gzip.finish();
+            counter.originalSize = plain.count;
+        });
+    }
+
+    /**
+     * JSON 정규화 (공백 제거) - 토큰 단위로 복사하므로 문서 전체를 메모리에 올리지 않습니다.
+     *
+     * @throws CustomException INVALID_FILE_TYPE 올바른 JSON이 아닌 경우
+     */
+    public static void writeNormalizedJson(JsonFactory jsonFactory, InputStream in, OutputStream out)
+            throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in);
+                JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (parser.nextToken() == null) {
+                throw new CustomException(ErrorCode.INVALID_FILE_TYPE, "비어 있는 JSON 파일입니다.");
+            }
+            generator.copyCurrentStructure(parser);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_FILE_TYPE, "JSON 형식이 아닙니다: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * 버킷/리전/키로 객체 URL 생성 (업로드 후 조회 요청 불필요)
+     */
+    public String objectUrl(String key) {
+        String encodedKey = java.util.Arrays.stream(key.split("/", -1))
+                .map(segment -> URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"))
+                .collect(Collectors.joining("/"));
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, encodedKey);
+    }
+
+    private UploadResult upload(String key, String contentType, String contentEncoding, BodyWriter writer) {
+        PartUploadStream parts = new PartUploadStream(key, contentType, contentEncoding);
+        UploadCounter counter = new UploadCounter();
+        try {
+            writer.write(parts, counter);
+            parts.close();
+        } catch (CustomException e) {
+            parts.abort();
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            parts.abort();
+            log.error("S3 Upload Failed: key={}, {}", key, e.getMessage());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, e.getMessage());
+        }
+
+        long originalSize = counter.originalSize >= 0 ? counter.originalSize : parts.size;
+        String sha256 = HexFormat.of().formatHex(parts.digest.digest());
+        writeTags(key, parts, sha256, originalSize);
+
+        UploadResult result = new UploadResult(key, objectUrl(key), parts.size, originalSize, sha256);
+        log.info("S3 Upload Success: {} ({} bytes, {} parts)", result.url(), result.size(), parts.partCount());
+        return result;
+    }
+
+    // 체크섬과 크기는 데이터를 모두 보낸 뒤에야 확정되므로 태그로 기록
+    private void writeTags(String key, PartUploadStream parts, String sha256, long originalSize) {
+        Tagging tagging = Tagging.builder().tagSet(
+                Tag.builder().key("sha256").value(sha256).build(),
+                Tag.builder().key("size").value(String.valueOf(parts.size)).build(),
+                Tag.builder().key("original-size").value(String.valueOf(originalSize)).build())
+                .build();
+        try {
+            s3Client.putObjectTagging(PutObjectTaggingRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .tagging(tagging)
+                    .build());
+        } catch (RuntimeException e) {
+            // 태그는 부가 정보이므로 실패해도 업로드는 성공 처리
+            log.warn("S3 객체 태그 기록 실패: key={}, {}", key, e.getMessage());
+        }
+    }
+
+    private byte[] borrowBuffer() {
+        byte[] buffer = bufferPool.poll();
+        return buffer != null && buffer.length == partSize ? buffer : new byte[partSize];
+    }
+
+    private void returnBuffer(byte[] buffer) {
+        bufferPool.offer(buffer);
+    }
+
+    /**
+     * 업로드 결과
+     *
+     * @param key          S3 객체 키
+     * @param url          객체 URL
+     * @param size         저장된 바이트 수 (압축 시 압축 후 크기)
+     * @param originalSize 압축 전 바이트 수
+     * @param sha256       저장된 바이트의 SHA-256 (hex)
+     */
+    public record UploadResult(String key, String url, long size, long originalSize, String sha256) {
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(OutputStream out, UploadCounter counter) throws IOException;
+    }
+
+    private static class UploadCounter {
+        private long originalSize = -1;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+
+    // 두 스트림에 같은 바이트를 기록 (close는 호출 측에서 각각 처리)
+    private static class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        private TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+
+    /**
+     * 쓰여진 바이트를 파트 단위로 모아 전송하는 출력 스트림
+     * 첫 파트가 가득 차야 멀티파트 업로드를 시작하고, 그 전에 닫히면 PutObject 한 번으로 끝냅니다.
+     */
+    private class PartUploadStream extends OutputStream {
+
+        private final String key;
+        private final String contentType;
+        private final String contentEncoding;
+        private final MessageDigest digest = sha256();
+        private final List<Future<CompletedPart>> pendingParts = new ArrayList<>();
+        private final java.util.concurrent.Semaphore inFlight = new java.util.concurrent.Semaphore(parallelism);
+
+        private byte[] buffer = borrowBuffer();
+        private int position;
+        private long size;
+        private String uploadId;
+        private boolean closed;
+
+        private PartUploadStream(String key, String contentType, String contentEncoding) {
+            this.key = key;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (position == buffer.length) {
+                flushPart();
+            }
+            buffer[position++] = (byte) b;
+            digest.update((byte) b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            digest.update(b, off, len);
+            size += len;
+            while (len > 0) {
+                if (position == buffer.length) {
+                    flushPart();
+                }
+                int n = Math.min(len, buffer.length - position);
+                System.arraycopy(b, off, buffer, position, n);
+                position += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (uploadId == null) {
+                putSingleObject();
+                return;
+            }
+            if (position > 0) {
+                submitPart();
+            }
+            completeMultipart();
+        }
+
+        private int partCount() {
+            return uploadId == null ? 1 : pendingParts.size();
+        }
+
+        private void flushPart() throws IOException {
+            if (uploadId == null) {
+                uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentEncoding(contentEncoding)
+                        .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                        .build()).uploadId();
+            }
+            submitPart();
+        }
+
+        // 현재 버퍼를 파트로 전송 (동시 전송 수를 넘으면 자리가 날 때까지 대기)
+        private void submitPart() throws IOException {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("업로드가 중단되었습니다.", e);
+            }
+
+            byte[] partBuffer = buffer;
+            int partLength = position;
+            int partNumber = pendingParts.size() + 1;
+            pendingParts.add(partExecutor.submit(() -> {
+                try {
+                    UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) partLength)
+                            .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                            .build(),
+                            RequestBody.fromInputStream(new ByteArrayInputStream(partBuffer, 0, partLength), partLength));
+                    return CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .checksumSHA256(response.checksumSHA256())
+                            .build();
+                } finally {
+                    returnBuffer(partBuffer);
+                    inFlight.release();
+                }
+            }));
+
+            buffer = borrowBuffer();
+            position = 0;
+        }
+
+        private void putSingleObject() {
+            try {
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentEncoding(contentEncoding)
+                        .contentLength((long) position)
+                        .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                        .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position));
+            } finally {
+                returnBuffer(buffer);
+            }
+        }
+
+        private void completeMultipart() throws IOException {
+            returnBuffer(buffer);
+            List<CompletedPart> completedParts = new ArrayList<>(pendingParts.size());
+            for (Future<CompletedPart> part : pendingParts) {
+                try {
+                    completedParts.add(part.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("업로드가 중단되었습니다.", e);
+                } catch (ExecutionException e) {
+                    throw new IOException("파트 업로드 실패: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        }
+
+        // 실패 시 진행 중인 파트를 취소하고 멀티파트 업로드를 정리 (S3에 미완성 파트가 남지 않도록)
+        private void abort() {
+            pendingParts.forEach(part -> part.cancel(true));
+            if (uploadId == null) {
+                return;
+            }
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException e) {
+                log.warn("멀티파트 업로드 취소 실패: key={}, uploadId={}", key, uploadId, e);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.ohgiraffers.backendapi.global.common;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ohgiraffers.backendapi.global.error.CustomException;
 import com.ohgiraffers.backendapi.global.error.ErrorCode;
-import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Template;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +18,12 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +31,7 @@ import java.util.stream.Collectors;
  * AWS S3 파일 서비스
  * <p>
  * 파일 업로드 및 삭제 기능을 제공합니다.
+ * 업로드는 {@link S3MultipartUploader}를 통해 스트리밍 멀티파트로 처리됩니다.
  * </p>
  */
 @Slf4j
@@ -36,51 +42,127 @@ public class S3Service {
     private final S3Template s3Template;
     private final S3Client s3Client; // AWS SDK v2 Client 주입
     private final software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner; // Presigner 주입
+    private final S3MultipartUploader s3MultipartUploader;
+    private final ObjectMapper objectMapper;
+
+    private static final java.time.Duration PRESIGN_DURATION = java.time.Duration.ofMinutes(10);
+    private static final java.time.Duration PRESIGN_REUSE_MARGIN = java.time.Duration.ofMinutes(1);
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${s3.presign-cache.max-entries:10000}")
+    private int presignCacheMaxEntries;
+
+    // 객체 키 -> 서명된 URL (서명 만료 1분 전까지 재사용, 가득 차면 가장 오래 사용하지 않은 항목부터 제거)
+    private final Map<String, PresignedEntry> presignedUrlCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PresignedEntry> eldest) {
+            return size() > presignCacheMaxEntries;
+        }
+    };
+
     /**
      * S3 Presigned URL 생성 (비공개 객체 접근용)
+     * 같은 객체 키는 만료 직전까지 캐시된 URL을 재사용합니다.
      *
      * @param fileUrl 원본 S3 URL (전체 경로)
      * @return 10분간 유효한 서명된 URL
      */
     public String getPresignedUrl(String fileUrl) {
         try {
-            String splitStr = ".com/";
-            if (!fileUrl.contains(splitStr)) {
+            String key = extractKey(fileUrl);
+            if (key == null) {
                 return fileUrl; // S3 URL이 아니면 원본 반환
             }
-            String key = fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
+            return presign(key, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Presigned URL 생성 실패: {}", e.getMessage());
+            return fileUrl; // 실패 시 원본 반환 (클라이언트에서 403 받도록)
+        }
+    }
 
-            // [Fix] URL 디코딩 추가 (한글 파일명의 경우 %EC... 형태로 들어오면 S3에서 찾지 못함)
-            key = java.net.URLDecoder.decode(key, java.nio.charset.StandardCharsets.UTF_8);
+    /**
+     * S3 Presigned URL 일괄 생성 (챕터 목록 등)
+     * 중복 URL은 한 번만 처리하고, 캐시에 없는 객체만 서명합니다.
+     *
+     * @param fileUrls 원본 S3 URL 목록 (S3 URL이 아니거나 null인 항목은 원본 그대로)
+     * @return 원본 URL -> 서명된 URL
+     */
+    public Map<String, String> getPresignedUrls(Collection<String> fileUrls) {
+        Map<String, String> result = new HashMap<>();
+        long now = System.currentTimeMillis();
 
-            software.amazon.awssdk.services.s3.model.GetObjectRequest getObjectRequest = software.amazon.awssdk.services.s3.model.GetObjectRequest
-                    .builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .build();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || result.containsKey(fileUrl)) {
+                continue;
+            }
+            String presignedUrl = fileUrl;
+            try {
+                String key = extractKey(fileUrl);
+                if (key != null) {
+                    presignedUrl = presign(key, now);
+                }
+            } catch (Exception e) {
+                log.error("Presigned URL 생성 실패: {}", e.getMessage());
+            }
+            result.put(fileUrl, presignedUrl);
+        }
+        return result;
+    }
 
-            software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest presignRequest = software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest
-                    .builder()
-                    .signatureDuration(java.time.Duration.ofMinutes(10)) // 10분 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
+    // 캐시에서 찾고, 없거나 만료 임박이면 새로 서명
+    String presign(String key, long now) {
+        synchronized (presignedUrlCache) {
+            PresignedEntry cached = presignedUrlCache.get(key);
+            if (cached != null && cached.reusableUntil() > now) {
+                return cached.url();
+            }
+            if (cached != null) {
+                presignedUrlCache.remove(key);
+            }
+        }
+        return signAndCache(key, now);
+    }
 
-            return s3Presigner.presignGetObject(presignRequest).url().toString();
+    private String signAndCache(String key, long now) {
+        software.amazon.awssdk.services.s3.model.GetObjectRequest getObjectRequest = software.amazon.awssdk.services.s3.model.GetObjectRequest
+                .builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
 
-        } catch (Exception e) {
-            log.error("Presigned URL 생성 실패: {}", e.getMessage());
-            return fileUrl; // 실패 시 원본 반환 (클라이언트에서 403 받도록)
+        software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest presignRequest = software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest
+                .builder()
+                .signatureDuration(PRESIGN_DURATION) // 10분 유효
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        String url = s3Presigner.presignGetObject(presignRequest).url().toString();
+
+        // 클라이언트가 받은 뒤에도 사용할 시간이 남도록 만료 1분 전까지만 재사용
+        synchronized (presignedUrlCache) {
+            presignedUrlCache.put(key, new PresignedEntry(url,
+                    now + PRESIGN_DURATION.toMillis() - PRESIGN_REUSE_MARGIN.toMillis()));
         }
+        return url;
+    }
+
+    // S3 URL에서 객체 키 추출 (URL 디코딩 포함), S3 URL이 아니면 null
+    private String extractKey(String fileUrl) {
+        String splitStr = ".com/";
+        if (fileUrl == null || !fileUrl.contains(splitStr)) {
+            return null;
+        }
+        String key = fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
+
+        // [Fix] URL 디코딩 추가 (한글 파일명의 경우 %EC... 형태로 들어오면 S3에서 찾지 못함)
+        return java.net.URLDecoder.decode(key, java.nio.charset.StandardCharsets.UTF_8);
     }
 
     /**
      * S3에 파일 업로드
-     *
-     * S3에 파일 업로드
+     * 스트리밍 멀티파트 업로드로 전송하며, 객체 URL은 업로드 후 조회 없이 직접 생성합니다.
      *
      * @param file       업로드할 멀티파트 파일
      * @param folderName 저장할 폴더 이름 (예: "book")
@@ -88,21 +170,80 @@ public class S3Service {
      * @throws CustomException FILE_UPLOAD_ERROR 업로드 실패 시
      */
     public String uploadFile(MultipartFile file, String folderName) {
-        String originalFilename = file.getOriginalFilename();
-        String s3FileName = folderName + "/" + UUID.randomUUID().toString().substring(0, 10) + "_" + originalFilename;
+        try (InputStream inputStream = file.getInputStream()) {
+            return s3MultipartUploader.upload(createKey(file, folderName), file.getContentType(), inputStream).url();
+        } catch (IOException e) {
+            log.error("S3 Upload Failed: {}", e.getMessage());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * JSON 파일을 정규화 + gzip 압축하여 S3에 업로드 (챕터 본문용)
+     * 저장된 객체는 Content-Encoding: gzip이며, 이 서비스의 다운로드 메서드는 자동으로 압축을 해제합니다.
+     *
+     * @param file       업로드할 JSON 파일
+     * @param folderName 저장할 폴더 이름 (예: "book")
+     * @return 업로드된 파일의 S3 URL
+     * @throws CustomException INVALID_FILE_TYPE JSON이 아닌 경우, FILE_UPLOAD_ERROR 업로드 실패 시
+     */
+    public String uploadJsonFile(MultipartFile file, String folderName) {
+        return uploadJsonFile(file, folderName, null);
+    }
 
+    /**
+     * JSON 파일을 정규화 + gzip 압축하여 업로드하면서 정규화된 JSON을 normalizedCopy에도 기록
+     *
+     * @param normalizedCopy 정규화된 JSON을 함께 받을 스트림 (null이면 생략, 호출 측에서 close)
+     * @return 업로드된 파일의 S3 URL
+     */
+    public String uploadJsonFile(MultipartFile file, String folderName, OutputStream normalizedCopy) {
         try (InputStream inputStream = file.getInputStream()) {
-            s3Template.upload(bucket, s3FileName, inputStream,
-                    ObjectMetadata.builder().contentType(file.getContentType()).build());
-            String fileUrl = s3Template.download(bucket, s3FileName).getURL().toString();
-            log.info("S3 Upload Success: {}", fileUrl);
-            return fileUrl;
+            return s3MultipartUploader.uploadJsonGzip(createKey(file, folderName), objectMapper.getFactory(), inputStream,
+                    normalizedCopy).url();
         } catch (IOException e) {
             log.error("S3 Upload Failed: {}", e.getMessage());
             throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, e.getMessage());
         }
     }
 
+    /**
+     * JSON 스트림을 정규화 + gzip 압축하여 S3에 업로드 (일괄 등록 등 MultipartFile이 아닌 입력용)
+     *
+     * @param inputStream 원본 JSON (호출 측에서 close)
+     * @param fileName    원본 파일명 (객체 키에 포함)
+     * @param folderName  저장할 폴더 이름 (예: "book")
+     * @return 업로드된 파일의 S3 URL
+     */
+    public String uploadJsonStream(InputStream inputStream, String fileName, String folderName) {
+        return s3MultipartUploader.uploadJsonGzip(createKey(fileName, folderName), objectMapper.getFactory(), inputStream)
+                .url();
+    }
+
+    private String createKey(MultipartFile file, String folderName) {
+        return createKey(file.getOriginalFilename(), folderName);
+    }
+
+    private String createKey(String fileName, String folderName) {
+        return folderName + "/" + UUID.randomUUID().toString().substring(0, 10) + "_" + fileName;
+    }
+
+    /**
+     * gzip으로 저장된 객체면 압축 해제 스트림으로 감싸기 (gzip 매직 바이트로 판별)
+     * 업로드 방식이 바뀌기 전에 저장된 비압축 객체도 그대로 읽을 수 있습니다.
+     */
+    public static InputStream decompressIfGzip(InputStream inputStream) throws IOException {
+        java.io.BufferedInputStream buffered = new java.io.BufferedInputStream(inputStream);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        if (first == 0x1f && second == 0x8b) {
+            return new java.util.zip.GZIPInputStream(buffered, 64 * 1024);
+        }
+        return buffered;
+    }
+
     /**
      * S3 파일 삭제
      *
@@ -114,6 +255,9 @@ public class S3Service {
             if (fileUrl.contains(splitStr)) {
                 String fileName = fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
                 s3Template.deleteObject(bucket, fileName);
+                synchronized (presignedUrlCache) {
+                    presignedUrlCache.remove(java.net.URLDecoder.decode(fileName, java.nio.charset.StandardCharsets.UTF_8));
+                }
                 log.info("S3 Delete Success: {}", fileName);
             }
         } catch (Exception e) {
@@ -147,10 +291,10 @@ public class S3Service {
                     .key(key)
                     .build();
 
-            software.amazon.awssdk.core.ResponseInputStream<software.amazon.awssdk.services.s3.model.GetObjectResponse> s3Object = s3Client
-                    .getObject(getObjectRequest);
-
-            String content = new String(s3Object.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            String content;
+            try (InputStream s3Object = decompressIfGzip(s3Client.getObject(getObjectRequest))) {
+                content = new String(s3Object.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            }
             log.info("S3 파일 다운로드 성공: {} bytes", content.length());
             return content;
 
@@ -160,6 +304,32 @@ public class S3Service {
         }
     }
 
+    /**
+     * S3 파일을 스트림으로 열기 (대용량 파일을 메모리에 모두 올리지 않고 읽을 때 사용)
+     * 호출 측에서 반드시 close 해야 합니다.
+     *
+     * @param fileUrl S3 파일 URL
+     * @return 파일 내용 스트림
+     */
+    public InputStream openFileStream(String fileUrl) {
+        String splitStr = ".com/";
+        if (!fileUrl.contains(splitStr)) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND, "유효하지 않은 S3 URL: " + fileUrl);
+        }
+        String key = fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
+        key = java.net.URLDecoder.decode(key, java.nio.charset.StandardCharsets.UTF_8);
+
+        try {
+            return decompressIfGzip(s3Client.getObject(software.amazon.awssdk.services.s3.model.GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build()));
+        } catch (Exception e) {
+            log.error("S3 파일 스트림 열기 실패: {}", e.getMessage());
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND, "S3 파일을 열 수 없습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 현재 계정의 모든 S3 버킷 목록 조회
      *
@@ -186,4 +356,7 @@ public class S3Service {
                 .map(S3Object::key)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private record PresignedEntry(String url, long reusableUntil) {
+    }
+}
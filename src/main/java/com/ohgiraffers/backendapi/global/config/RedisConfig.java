@@ -58,12 +58,16 @@ public class RedisConfig {
      * Redis Pub/Sub 리스너 컨테이너
      * chatRoom:* 패턴의 모든 채널을 구독하여 메시지를 수신
      * user-kick 채널을 구독하여 강제 로그아웃 처리
+     * roomStatus:* 패턴을 구독하여 독서룸 상태 메시지를 모든 서버에 전달
+     * roomTimeline:control 채널을 구독하여 재생 일정 제어 요청을 owner 서버에 전달
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             RedisMessageListener redisMessageListener,
-            com.ohgiraffers.backendapi.domain.user.listener.UserKickListener userKickListener) {
+            com.ohgiraffers.backendapi.domain.user.listener.UserKickListener userKickListener,
+            com.ohgiraffers.backendapi.domain.readingroom.listener.RoomStatusListener roomStatusListener,
+            com.ohgiraffers.backendapi.domain.readingroom.listener.RoomTimelineControlListener roomTimelineControlListener) {
 
         System.out.println("RedisMessageListenerContainer bean created");
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
@@ -75,6 +79,12 @@ public class RedisConfig {
         // 2. user-kick 채널 구독 (강제 로그아웃)
         container.addMessageListener(userKickListener, new PatternTopic("user-kick"));
 
+        // 3. roomStatus:* 패턴의 모든 채널 구독 (독서룸 상태/오디오 재생)
+        container.addMessageListener(roomStatusListener, new PatternTopic("roomStatus:*"));
+
+        // 4. roomTimeline:control 채널 구독 (재생 일정 일시정지/속도 변경/종료)
+        container.addMessageListener(roomTimelineControlListener, new PatternTopic("roomTimeline:control"));
+
         return container;
     }
 }
@@ -0,0 +1,133 @@
+package com.ohgiraffers.backendapi.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 송신(clientOutboundChannel) 모니터링 및 느린 클라이언트 처리
+ * <p>
+ * - 목적지별 전송/폐기 메시지 수 집계 (숫자 경로는 {id}로 묶음)
+ * - 세션에 대한 전송 중 가장 오래된 전송이 일정 시간(slow-after-ms) 이상 끝나지 않으면 느린 클라이언트로 보고,
+ *   정책이 drop이면 그동안 들어오는 브로드캐스트 메시지를 버려 송신 스레드와 버퍼를 보호
+ * - 정책이 disconnect이면 버리지 않고, 전송 시간/버퍼 한도를 넘는 세션은 Spring이 연결을 종료
+ * </p>
+ */
+@Slf4j
+@Component
+public class StompOutboundInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry meterRegistry;
+    private final boolean dropSlowConsumers;
+    private final long slowAfterMs;
+
+    // 세션 ID -> 전송 중 상태 (전송 중인 메시지가 없으면 제거)
+    private final Map<String, SessionSend> sending = new ConcurrentHashMap<>();
+    // 정규화한 목적지 -> 카운터
+    private final Map<String, Counter> sentCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+
+    public StompOutboundInterceptor(MeterRegistry meterRegistry,
+            @Value("${websocket.outbound.slow-consumer-policy:disconnect}") String slowConsumerPolicy,
+            @Value("${websocket.outbound.slow-after-ms:2000}") long slowAfterMs) {
+        this.meterRegistry = meterRegistry;
+        this.dropSlowConsumers = "drop".equalsIgnoreCase(slowConsumerPolicy);
+        this.slowAfterMs = slowAfterMs;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = normalize(accessor.getDestination());
+        String sessionId = accessor.getSessionId();
+
+        if (dropSlowConsumers && sessionId != null && isSlow(sessionId)) {
+            counter(droppedCounters, destination, "dropped").increment();
+            log.debug("[WebSocket] 느린 클라이언트 메시지 폐기: sessionId={}, destination={}", sessionId, destination);
+            return null;
+        }
+        counter(sentCounters, destination, "sent").increment();
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            long now = System.currentTimeMillis();
+            sending.compute(sessionId, (id, send) -> (send == null ? new SessionSend() : send).begin(message, now));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+            Exception ex) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            sending.computeIfPresent(sessionId, (id, send) -> send.end(message) == 0 ? null : send);
+        }
+    }
+
+    private boolean isSlow(String sessionId) {
+        SessionSend send = sending.get(sessionId);
+        return send != null && System.currentTimeMillis() - send.busySince > slowAfterMs;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String destination, String result) {
+        return counters.computeIfAbsent(destination, key -> Counter.builder("websocket.outbound.messages")
+                .description("클라이언트로 보낸 STOMP 메시지 수")
+                .tag("destination", key)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    // /topic/room/12/status -> /topic/room/{id}/status (태그 개수 제한)
+    static String normalize(String destination) {
+        if (destination == null) {
+            return "unknown";
+        }
+        return NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+    }
+
+    // compute 안에서만 변경 (busySince는 전송 중인 메시지 중 가장 오래된 시작 시각)
+    // 전송이 겹쳐 계속 이어지더라도 각 전송이 빨리 끝나면 느린 클라이언트로 보지 않음
+    private static final class SessionSend {
+        private final Map<Message<?>, Long> started = new IdentityHashMap<>();
+        private volatile long busySince;
+
+        private SessionSend begin(Message<?> message, long now) {
+            if (started.isEmpty()) {
+                busySince = now;
+            }
+            started.put(message, now);
+            return this;
+        }
+
+        private int end(Message<?> message) {
+            Long startedAt = started.remove(message);
+            if (startedAt != null && startedAt == busySince && !started.isEmpty()) {
+                busySince = started.values().stream().mapToLong(Long::longValue).min().getAsLong();
+            }
+            return started.size();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.ohgiraffers.backendapi.global.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker // STOMP 메시징 활성화
@@ -14,6 +19,37 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompOutboundInterceptor stompOutboundInterceptor;
+    private final MeterRegistry meterRegistry;
+
+    // 클라이언트 수신(inbound) / 송신(outbound) 채널 스레드 풀
+    @Value("${websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 전송 한도 (넘으면 해당 세션 연결 종료)
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -39,5 +75,52 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // stompHandler를 인터셉터로 등록하여 CONNECT 메시지를 가로챔
         registration.interceptors(stompHandler);
+        registration.taskExecutor(channelExecutor("inbound", inboundCorePoolSize, inboundMaxPoolSize,
+                inboundQueueCapacity));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 목적지별 메시지 집계 및 느린 클라이언트 처리
+        registration.interceptors(stompOutboundInterceptor);
+        registration.taskExecutor(channelExecutor("outbound", outboundCorePoolSize, outboundMaxPoolSize,
+                outboundQueueCapacity));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 한 명이 송신 스레드를 오래 붙잡지 않도록 세션별 전송 시간/버퍼 제한
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    // 크기를 지정한 채널 스레드 풀 (대기열 길이/활성 스레드 수를 메트릭으로 노출)
+    private ThreadPoolTaskExecutor channelExecutor(String channel, int corePoolSize, int maxPoolSize,
+            int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+
+        Gauge.builder("websocket.channel.queue", executor, WebSocketConfig::queueSize)
+                .description("처리 대기 중인 STOMP 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("메시지를 처리 중인 스레드 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private static double queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0; // 초기화 전
+        }
     }
 }
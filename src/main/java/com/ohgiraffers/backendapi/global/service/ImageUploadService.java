@@ -1,5 +1,7 @@
 package com.ohgiraffers.backendapi.global.service;
 
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatImageUploadResponse;
+import com.ohgiraffers.backendapi.global.common.S3MultipartUploader;
 import com.ohgiraffers.backendapi.global.error.CustomException;
 import com.ohgiraffers.backendapi.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -7,12 +9,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * S3 이미지 업로드 서비스
@@ -22,10 +35,118 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageUploadService {
 
+    private static final String CHAT_IMAGE_PREFIX = "chat-images/";
+    private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024;
+    // 업로드 URL로 올릴 수 있는 이미지 타입 -> 확장자
+    private static final Map<String, String> CHAT_IMAGE_EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+    // 업로드 URL 발급 시 만든 키만 허용 (chat-images/{roomId}/{uuid}.{ext})
+    private static final Pattern CHAT_IMAGE_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(jpg|png|gif|webp)");
+
+    private final S3MultipartUploader s3MultipartUploader;
+    private final S3Presigner s3Presigner;
     private final S3Client s3Client;
 
     @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    private String bucket;
+
+    @Value("${chat.image.upload-url-ttl-seconds:300}")
+    private long uploadUrlTtlSeconds;
+
+    /**
+     * 채팅 이미지 업로드 URL 발급 (클라이언트가 S3에 직접 PUT - 서버는 이미지 바이트를 받지 않음)
+     * Content-Type과 Content-Length가 서명에 포함되어 다른 타입/크기로는 올릴 수 없습니다.
+     *
+     * @param roomId      채팅방 ID
+     * @param contentType 이미지 MIME 타입
+     * @param size        파일 크기 (bytes)
+     * @return 이미지 키와 업로드 URL
+     */
+    public ChatImageUploadResponse createChatImageUploadUrl(Long roomId, String contentType, long size) {
+        String extension = contentType != null ? CHAT_IMAGE_EXTENSIONS.get(contentType.toLowerCase()) : null;
+        if (extension == null) {
+            throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        if (size <= 0 || size > MAX_IMAGE_SIZE) {
+            throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        String s3Key = CHAT_IMAGE_PREFIX + roomId + "/" + UUID.randomUUID() + extension;
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType.toLowerCase())
+                .contentLength(size)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(uploadUrlTtlSeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        return ChatImageUploadResponse.builder()
+                .imageKey(s3Key)
+                .uploadUrl(presigned.url().toString())
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    /**
+     * 클라이언트가 보낸 이미지 키 검증 후 공개 URL 반환 (다른 방/다른 경로의 객체는 거부)
+     * 발행 전에 S3 객체 메타데이터(HEAD)로 업로드 완료 여부와 타입/크기를 확인합니다.
+     *
+     * @param roomId   채팅방 ID
+     * @param imageKey 업로드 URL 발급 시 받은 키
+     * @return S3 공개 URL
+     */
+    public String resolveChatImageUrl(Long roomId, String imageKey) {
+        String roomPrefix = CHAT_IMAGE_PREFIX + roomId + "/";
+        if (imageKey == null || !imageKey.startsWith(roomPrefix)
+                || !CHAT_IMAGE_NAME.matcher(imageKey.substring(roomPrefix.length())).matches()) {
+            throw new CustomException(ErrorCode.INVALID_FILE);
+        }
+
+        HeadObjectResponse head = headChatImage(imageKey);
+        Long size = head.contentLength();
+        if (size == null || size <= 0 || size > MAX_IMAGE_SIZE) {
+            throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+        String extension = head.contentType() != null
+                ? CHAT_IMAGE_EXTENSIONS.get(head.contentType().toLowerCase())
+                : null;
+        if (extension == null || !imageKey.endsWith(extension)) {
+            throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        return s3MultipartUploader.objectUrl(imageKey);
+    }
+
+    // 업로드된 이미지 메타데이터 조회 (없으면 아직 업로드되지 않은 키)
+    private HeadObjectResponse headChatImage(String imageKey) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(imageKey).build());
+        } catch (NoSuchKeyException e) {
+            throw new CustomException(ErrorCode.INVALID_FILE, "업로드되지 않은 이미지입니다.");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new CustomException(ErrorCode.INVALID_FILE, "업로드되지 않은 이미지입니다.");
+            }
+            log.error("채팅 이미지 확인 실패: key={}", imageKey, e);
+            throw new CustomException(ErrorCode.FILE_READ_ERROR);
+        } catch (SdkException e) {
+            log.error("채팅 이미지 확인 실패: key={}", imageKey, e);
+            throw new CustomException(ErrorCode.FILE_READ_ERROR);
+        }
+    }
+
+    /**
+     * S3 객체 키로 공개 URL 생성
+     */
+    public String objectUrl(String key) {
+        return s3MultipartUploader.objectUrl(key);
+    }
 
     /**
      * 채팅 이미지를 S3에 업로드
@@ -40,24 +161,21 @@ public class ImageUploadService {
         String fileName = generateFileName(file, roomId);
         String s3Key = "chat-images/" + roomId + "/" + fileName;
 
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-            // S3 URL 생성 (공개 URL 형식)
-            String s3Url = String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s", bucketName, s3Key);
+        try (InputStream inputStream = file.getInputStream()) {
+            // 스트리밍 업로드 + 체크섬/크기 태그 기록, URL은 로컬에서 생성
+            String s3Url = s3MultipartUploader.upload(s3Key, file.getContentType(), inputStream).url();
             log.info("Image uploaded to S3: {}", s3Url);
             return s3Url;
 
         } catch (IOException e) {
             log.error("Failed to upload image to S3", e);
             throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        } catch (CustomException e) {
+            // 업로더의 전송 실패는 이 API의 기존 에러 코드로 응답
+            if (e.getErrorCode() == ErrorCode.FILE_UPLOAD_ERROR) {
+                throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+            throw e;
         }
     }
 
@@ -75,7 +193,7 @@ public class ImageUploadService {
         }
 
         // 파일 크기 제한 (10MB)
-        if (file.getSize() > 10 * 1024 * 1024) {
+        if (file.getSize() > MAX_IMAGE_SIZE) {
             throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED);
         }
     }
@@ -0,0 +1,41 @@
+package com.ohgiraffers.backendapi.global.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 이미지 변환본(썸네일/미리보기) 키/URL 규칙
+ * 원본 chat-images/{roomId}/{uuid}.{ext} 옆에 {uuid}_thumb.jpg / {uuid}_preview.jpg로 저장합니다.
+ */
+public class ChatImageRenditions {
+
+    public static final String THUMBNAIL = "thumb";
+    public static final String PREVIEW = "preview";
+
+    // 변환 대상: 업로드 URL로 올린 이미지 중 ImageIO 기본 디코더로 읽을 수 있는 형식 (WebP는 변환본을 만들지 않음)
+    private static final Pattern RENDERABLE = Pattern.compile(
+            "(^|/)chat-images/[^/]+/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(jpg|png|gif)$");
+
+    // 인스턴스화 방지 (유틸리티 클래스 관례)
+    private ChatImageRenditions() {}
+
+    /**
+     * 변환본을 만들 수 있는 이미지인지 (S3 키 또는 공개 URL)
+     */
+    public static boolean isRenderable(String imageKeyOrUrl) {
+        return imageKeyOrUrl != null && RENDERABLE.matcher(imageKeyOrUrl).find();
+    }
+
+    /**
+     * 변환본 키 (예: chat-images/4/{uuid}.png -> chat-images/4/{uuid}_thumb.jpg)
+     */
+    public static String key(String imageKey, String rendition) {
+        return imageKey.substring(0, imageKey.lastIndexOf('.')) + "_" + rendition + ".jpg";
+    }
+
+    /**
+     * 이미지 URL로 변환본 URL 계산 (변환 대상이 아니면 null)
+     */
+    public static String url(String imageUrl, String rendition) {
+        return isRenderable(imageUrl) ? key(imageUrl, rendition) : null;
+    }
+}
@@ -4,6 +4,7 @@ import com.ohgiraffers.backendapi.domain.bookmark.dto.BookmarkRequestDTO;
 import com.ohgiraffers.backendapi.domain.bookmark.service.BookmarkService;
 import com.ohgiraffers.backendapi.domain.booklog.dto.BookLogRequestDTO;
 import com.ohgiraffers.backendapi.domain.booklog.service.BookLogService;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterPrefetcher;
 import com.ohgiraffers.backendapi.domain.library.entity.Library;
 import com.ohgiraffers.backendapi.domain.library.service.LibraryService;
 import com.ohgiraffers.backendapi.domain.user.service.UserPreferenceService;
@@ -22,6 +23,7 @@ public class ReadingEventListener {
     private final LibraryService libraryService;
     private final UserPreferenceService userPreferenceService;
     private final BookLogService bookLogService;
+    private final ChapterPrefetcher chapterPrefetcher;
 
     // private final Map<String, Integer> pendingCounts = new ConcurrentHashMap<>();
 
@@ -63,6 +65,8 @@ public class ReadingEventListener {
             // [3] lastReadChapter 저장
             log.info("┌─[STEP 3] 마지막 읽은 챕터 저장 ───────────────────────────────┐");
             libraryService.saveLastChapter(event.getLibraryId(), event.getChapterId());
+            // 진행률이 기준을 넘으면 다음 챕터를 미리 불러옴 (백그라운드)
+            chapterPrefetcher.onProgress(event.getChapterId(), event.getLastReadPos());
             log.info("│ ✅ 저장 완료");
             log.info("│ → libraryId: {} → lastReadChapterId: {}",
                     event.getLibraryId(), event.getChapterId());
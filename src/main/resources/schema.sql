@@ -467,6 +467,7 @@ CREATE TABLE "chapters" (
     "updated_at" TIMESTAMP DEFAULT Now() NOT NULL,
     "is_embedded" BOOLEAN DEFAULT FALSE NOT NULL,
     "paragraphs" INT DEFAULT -1 NOT NULL,
+    "content_hash" VARCHAR(64) NULL,
     CONSTRAINT "PK_CHAPTERS" PRIMARY KEY ("chapter_id")
 );
 
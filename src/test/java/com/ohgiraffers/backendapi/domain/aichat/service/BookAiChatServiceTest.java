@@ -8,7 +8,9 @@ import com.ohgiraffers.backendapi.domain.aichat.repository.BookAiChatRepository;
 import com.ohgiraffers.backendapi.domain.aichat.repository.BookAiChatRoomRepository;
 import com.ohgiraffers.backendapi.domain.book.entity.Book;
 import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.dto.rag.RagSearchResponseDTO;
 import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterVectorRagService;
 import com.ohgiraffers.backendapi.domain.user.entity.User;
 import com.ohgiraffers.backendapi.domain.user.repository.UserRepository;
 import com.ohgiraffers.backendapi.global.error.CustomException;
@@ -25,11 +27,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -62,6 +73,12 @@ class BookAiChatServiceTest {
     @Mock
     private WebClient aiWebClient;
 
+    @Mock
+    private ChapterVectorRagService ragService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private User user;
     private User otherUser;
     private Book book;
@@ -379,6 +396,123 @@ class BookAiChatServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("메시지 전송")
+    class SendMessage {
+
+        @Test
+        @DisplayName("성공: 분류를 기다리지 않고 원문으로 RAG 검색을 시작하고, 이전 대화는 한 번만 조회한다")
+        void success_parallelClassifyAndRag() {
+            // given
+            AtomicBoolean ragStarted = new AtomicBoolean();
+            AtomicBoolean ragStartedBeforeClassify = new AtomicBoolean();
+            WebClient webClient = WebClient.builder()
+                    .exchangeFunction(clientRequest -> {
+                        if (clientRequest.url().getPath().endsWith("/classify")) {
+                            ragStartedBeforeClassify.set(ragStarted.get());
+                            return json("{\"chat_type\":\"CONTENT_QA\"}");
+                        }
+                        return json("{\"response\":\"배신감 때문입니다.\",\"token_usage\":42}");
+                    })
+                    .build();
+            ReflectionTestUtils.setField(bookAiChatService, "aiWebClient", webClient);
+
+            BookAiChatRequestDTO request = new BookAiChatRequestDTO();
+            ReflectionTestUtils.setField(request, "userMessage", "주인공이 왜 화났어?");
+
+            given(chatRoomRepository.findById(1L)).willReturn(Optional.of(chatRoom));
+            given(chatRepository.findTop5ByChatRoomOrderByCreatedAtDesc(chatRoom))
+                    .willReturn(new ArrayList<>(List.of(chat)));
+            given(ragService.searchRagAsync(1L, "주인공이 왜 화났어?")).willAnswer(invocation -> {
+                ragStarted.set(true);
+                return Mono.just(List.of(RagSearchResponseDTO.builder()
+                        .contentText("주인공은 친구에게 배신당했다.")
+                        .startParagraphId("p_3")
+                        .build()));
+            });
+            given(chatRoomRepository.getReferenceById(1L)).willReturn(chatRoom);
+            given(userRepository.getReferenceById(1L)).willReturn(user);
+            given(chatRepository.save(any(BookAiChat.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            BookAiChatResponseDTO result = bookAiChatService.sendMessage(1L, 1L, request)
+                    .block(Duration.ofSeconds(5));
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.getChatType()).isEqualTo(ChatType.CONTENT_QA);
+            assertThat(result.getAiMessage()).isEqualTo("배신감 때문입니다.");
+            assertThat(result.getTokenCount()).isEqualTo(42);
+            assertThat(result.getRelatedParagraphId()).isEqualTo("p_3");
+            assertThat(ragStartedBeforeClassify).isTrue();
+            verify(chatRepository, times(1)).findTop5ByChatRoomOrderByCreatedAtDesc(chatRoom);
+            verify(ragService, times(1)).searchRagAsync(any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 분류 결과가 RAG 대상이 아니면 진행 중인 원문 검색을 취소한다")
+        void success_cancelSpeculativeRag() {
+            // given
+            AtomicBoolean ragCancelled = new AtomicBoolean();
+            WebClient webClient = WebClient.builder()
+                    .exchangeFunction(clientRequest -> clientRequest.url().getPath().endsWith("/classify")
+                            ? json("{\"chat_type\":\"QUIZ\"}")
+                            : json("{\"response\":\"퀴즈입니다.\",\"token_usage\":10}"))
+                    .build();
+            ReflectionTestUtils.setField(bookAiChatService, "aiWebClient", webClient);
+
+            BookAiChatRequestDTO request = new BookAiChatRequestDTO();
+            ReflectionTestUtils.setField(request, "userMessage", "문제 내줘");
+
+            given(chatRoomRepository.findById(1L)).willReturn(Optional.of(chatRoom));
+            given(chatRepository.findTop5ByChatRoomOrderByCreatedAtDesc(chatRoom)).willReturn(new ArrayList<>());
+            given(ragService.searchRagAsync(1L, "문제 내줘"))
+                    .willReturn(Mono.<List<RagSearchResponseDTO>>never().doOnCancel(() -> ragCancelled.set(true)));
+            given(chatRoomRepository.getReferenceById(1L)).willReturn(chatRoom);
+            given(userRepository.getReferenceById(1L)).willReturn(user);
+            given(chatRepository.save(any(BookAiChat.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            BookAiChatResponseDTO result = bookAiChatService.sendMessage(1L, 1L, request)
+                    .block(Duration.ofSeconds(5));
+
+            // then
+            assertThat(result.getChatType()).isEqualTo(ChatType.QUIZ);
+            assertThat(ragCancelled).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패: 전체 제한 시간을 넘으면 AI_SERVER_ERROR로 응답한다")
+        void fail_totalTimeout() {
+            // given - 답변 생성이 끝나지 않음
+            WebClient webClient = WebClient.builder()
+                    .exchangeFunction(clientRequest -> Mono.never())
+                    .build();
+            ReflectionTestUtils.setField(bookAiChatService, "aiWebClient", webClient);
+            ReflectionTestUtils.setField(bookAiChatService, "aiServerTimeout", 30);
+            ReflectionTestUtils.setField(bookAiChatService, "totalTimeoutSeconds", 1);
+
+            BookAiChatRequestDTO request = new BookAiChatRequestDTO();
+            ReflectionTestUtils.setField(request, "userMessage", "안녕");
+            ReflectionTestUtils.setField(request, "chatType", ChatType.CHIT_CHAT);
+
+            given(chatRoomRepository.findById(1L)).willReturn(Optional.of(chatRoom));
+            given(chatRepository.findTop5ByChatRoomOrderByCreatedAtDesc(chatRoom)).willReturn(new ArrayList<>());
+
+            // when & then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> bookAiChatService.sendMessage(1L, 1L, request).block(Duration.ofSeconds(5)));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_ERROR);
+        }
+
+        private Mono<ClientResponse> json(String body) {
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        }
+    }
+
     @Nested
     @DisplayName("AI 답변 평가")
     class RateAiResponse {
@@ -0,0 +1,167 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.book.entity.Book;
+import com.ohgiraffers.backendapi.domain.book.repository.BookRepository;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterBulkImportResponseDTO;
+import com.ohgiraffers.backendapi.domain.chapter.dto.ChapterResponseDTO;
+import com.ohgiraffers.backendapi.global.client.RemoteContentFetcher;
+import com.ohgiraffers.backendapi.global.common.S3Service;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChapterBulkImportServiceTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private ChapterBulkImportService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = service(1024 * 1024);
+
+        Book book = Book.builder().build();
+        ReflectionTestUtils.setField(book, "bookId", 1L);
+        when(bookRepository.existsById(1L)).thenReturn(true);
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(s3Service.uploadJsonStream(any(InputStream.class), anyString(), eq("book")))
+                .thenAnswer(invocation -> "https://bucket.s3.amazonaws.com/book/" + invocation.getArgument(1));
+
+        // RETURNING 결과: 바인딩된 저장 경로마다 chapter_id를 100부터 발급
+        AtomicLong nextId = new AtomicLong(100);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            for (int i = 3; i < args.length; i += 8) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("book_content_path")).thenReturn((String) args[i]);
+                when(rs.getLong("chapter_id")).thenReturn(nextId.getAndIncrement());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("manifest.json의 챕터명/순서를 적용하고, 없는 파일은 본문에서 추출해 한 번의 INSERT로 등록한다.")
+    void importFromArchiveWithManifest_Test() throws Exception {
+        // given
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("manifest.json", "[{\"file\":\"b.json\",\"chapterName\":\"1장\",\"sequence\":1}]");
+        entries.put("a.json", "{\"book_name\":\"기린\",\"chapter\":2,\"content\":[{\"id\":\"p_0001\"},{\"id\":\"p_0002\"}]}");
+        entries.put("b.json", "{\"content\":[{\"id\":\"p_0001\"}]}");
+
+        // when
+        ChapterBulkImportResponseDTO response = service.importFromArchive(1L, zip(entries), false);
+
+        // then - sequence 순으로 정렬, 문단 수는 본문 기준
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getTotalParagraphs()).isEqualTo(3);
+        assertThat(response.getChapters()).extracting(ChapterResponseDTO::getChapterName)
+                .containsExactly("1장", "기린 Chapter 2");
+        assertThat(response.getChapters()).extracting(ChapterResponseDTO::getChapterId)
+                .containsExactly(100L, 101L);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        verify(s3Service, never()).deleteFile(anyString());
+    }
+
+    @Test
+    @DisplayName("경로가 포함된 항목은 파일명만 사용해 작업 폴더 밖으로 쓰지 않는다.")
+    void importFromArchivePathTraversal_Test() throws Exception {
+        // when
+        service.importFromArchive(1L, zip(Map.of("../../etc/evil.json", "{\"content\":[]}")), false);
+
+        // then
+        verify(s3Service).uploadJsonStream(any(InputStream.class), eq("evil.json"), eq("book"));
+    }
+
+    @Test
+    @DisplayName("압축 해제 크기가 항목 제한을 넘으면 업로드 없이 거부한다.")
+    void importFromArchiveOversizedEntry_Test() throws Exception {
+        // given
+        service.shutdown();
+        service = service(64);
+        String large = "{\"content\":[" + "{\"id\":\"p\"},".repeat(100) + "{\"id\":\"p\"}]}";
+
+        // when & then
+        assertThatThrownBy(() -> service.importFromArchive(1L, zip(Map.of("a.json", large)), false))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED);
+        verify(s3Service, never()).uploadJsonStream(any(InputStream.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("S3 업로드가 중간에 실패하면 이미 올린 파일을 삭제하고 INSERT하지 않는다.")
+    void importFromArchiveUploadFailure_Test() throws Exception {
+        // given - a.json은 성공, b.json은 실패 (단일 스레드라 파일명 순서대로 처리)
+        when(s3Service.uploadJsonStream(any(InputStream.class), eq("b.json"), eq("book")))
+                .thenThrow(new CustomException(ErrorCode.FILE_UPLOAD_ERROR));
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("a.json", "{\"content\":[]}");
+        entries.put("b.json", "{\"content\":[]}");
+
+        // when & then
+        assertThatThrownBy(() -> service.importFromArchive(1L, zip(entries), false))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_UPLOAD_ERROR);
+        verify(s3Service).deleteFile("https://bucket.s3.amazonaws.com/book/a.json");
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private ChapterBulkImportService service(long maxEntryBytes) {
+        return new ChapterBulkImportService(bookRepository, s3Service, mock(RemoteContentFetcher.class),
+                mock(ChapterVectorRagService.class), jdbcTemplate, mock(PlatformTransactionManager.class),
+                new ObjectMapper(), 1, 1000, maxEntryBytes, 10 * maxEntryBytes, 100);
+    }
+
+    private static MockMultipartFile zip(Map<String, String> entries) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new MockMultipartFile("archive", "chapters.zip", "application/zip", out.toByteArray());
+    }
+}
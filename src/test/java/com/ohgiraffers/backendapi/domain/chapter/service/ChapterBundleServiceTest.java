@@ -0,0 +1,174 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChapterBundleServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChapterRepository chapterRepository = mock(ChapterRepository.class);
+    private final ChapterService chapterService = mock(ChapterService.class);
+    private ChapterBundleService bundleService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bundleService = new ChapterBundleService(chapterRepository, chapterService, objectMapper,
+                tempDir.resolve("bundles").toString(), 1, 5000, 0);
+
+        Path content = Files.writeString(tempDir.resolve("content.json"),
+                "{\"content\":[{\"id\":\"p_0001\",\"text\":\"하나\"},{\"id\":\"p_0002\",\"text\":\"둘\"},"
+                        + "{\"id\":\"p_0003\",\"text\":\"셋\"}]}");
+        when(chapterService.resolveContentVariants(any()))
+                .thenReturn(new ChapterContentVariants.Variants("hash", content, content));
+    }
+
+    @Test
+    @DisplayName("번들은 챕터 순서대로 본문과 문단 인덱스를 담고, 같은 버전은 다시 생성하지 않는다.")
+    void buildOnce_Test() throws Exception {
+        // given
+        when(chapterRepository.findByBook_BookIdOrderBySequenceAsc(1L))
+                .thenReturn(List.of(chapter(10L, 1, 3), chapter(11L, 2, 3)));
+
+        // when
+        ChapterBundleService.Bundle first = bundleService.getBundle(1L).orElseThrow();
+        ChapterBundleService.Bundle second = bundleService.getBundle(1L).orElseThrow();
+
+        // then
+        assertThat(second.file()).isEqualTo(first.file());
+        verify(chapterService, times(2)).resolveContentVariants(any());
+
+        JsonNode bundle = read(first.file());
+        assertThat(bundle.get("totalParagraphs").asInt()).isEqualTo(6);
+        assertThat(bundle.get("index").get(1).get("firstParagraph").asInt()).isEqualTo(4);
+        assertThat(bundle.get("index").get(1).get("paragraphIds").get(2).asText()).isEqualTo("p_0003");
+        assertThat(bundle.get("chapters").get(1).get("chapterId").asLong()).isEqualTo(11L);
+        assertThat(bundle.get("chapters").get(0).get("content").get("content").get(0).get("text").asText())
+                .isEqualTo("하나");
+    }
+
+    @Test
+    @DisplayName("본문 해시가 없어도 수정 시각이 바뀌면 새 버전을 만든다.")
+    void versionWithoutHash_Test() {
+        // given - 같은 경로, 해시 없음, 수정 시각만 다름
+        Chapter before = chapter(10L, 1, 3);
+        Chapter after = chapter(10L, 1, 3);
+        ReflectionTestUtils.setField(before, "updatedAt", LocalDateTime.of(2026, 1, 1, 0, 0));
+        ReflectionTestUtils.setField(after, "updatedAt", LocalDateTime.of(2026, 1, 2, 0, 0));
+        when(chapterRepository.findByBook_BookIdOrderBySequenceAsc(1L))
+                .thenReturn(List.of(before))
+                .thenReturn(List.of(after));
+
+        // when & then
+        assertThat(bundleService.getBundle(1L).orElseThrow().version())
+                .isNotEqualTo(bundleService.getBundle(1L).orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("챕터가 바뀌면 새 버전을 만들고, 이전 버전 파일은 유예 기간이 지난 뒤 정리한다.")
+    void invalidateOnChange_Test() throws Exception {
+        // given
+        when(chapterRepository.findByBook_BookIdOrderBySequenceAsc(1L))
+                .thenReturn(List.of(chapter(10L, 1, 3)))
+                .thenReturn(List.of(chapter(10L, 1, 3), chapter(11L, 2, 5)));
+        ChapterBundleService retaining = new ChapterBundleService(chapterRepository, chapterService, objectMapper,
+                tempDir.resolve("bundles").toString(), 1, 5000, 30);
+
+        // when
+        ChapterBundleService.Bundle before = retaining.getBundle(1L).orElseThrow();
+        ChapterBundleService.Bundle after = retaining.getBundle(1L).orElseThrow();
+        Files.setLastModifiedTime(before.file(), FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        // then - 받고 있던 이전 버전은 유예 기간 동안 남아 있음
+        assertThat(after.version()).isNotEqualTo(before.version());
+        retaining.cleanup();
+        assertThat(Files.exists(before.file())).isTrue();
+
+        // 유예 기간이 지나면 이전 버전만 삭제
+        bundleService.cleanup();
+        assertThat(Files.exists(before.file())).isFalse();
+        assertThat(Files.exists(after.file())).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 생성이 끝나지 않으면 empty를 반환하고, 생성은 백그라운드에서 계속한다.")
+    void buildInBackground_Test() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Path content = tempDir.resolve("content.json");
+        when(chapterService.resolveContentVariants(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ChapterContentVariants.Variants("hash", content, content);
+        });
+        when(chapterRepository.findByBook_BookIdOrderBySequenceAsc(1L)).thenReturn(List.of(chapter(10L, 1, 3)));
+        ChapterBundleService slow = new ChapterBundleService(chapterRepository, chapterService, objectMapper,
+                tempDir.resolve("bundles").toString(), 1, 50, 0);
+
+        // when
+        Optional<ChapterBundleService.Bundle> pending = slow.getBundle(1L);
+        release.countDown();
+
+        // then
+        assertThat(pending).isEmpty();
+        Path expected = tempDir.resolve("bundles");
+        for (int i = 0; i < 100 && !hasBundle(expected); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(slow.getBundle(1L)).isPresent();
+        verify(chapterService, times(1)).resolveContentVariants(any());
+    }
+
+    private boolean hasBundle(Path dir) throws Exception {
+        if (!Files.isDirectory(dir)) {
+            return false;
+        }
+        try (var files = Files.list(dir)) {
+            return files.anyMatch(path -> path.getFileName().toString().endsWith(".json.gz"));
+        }
+    }
+
+    private JsonNode read(Path file) throws Exception {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return objectMapper.readTree(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private Chapter chapter(Long chapterId, int sequence, int paragraphs) {
+        Chapter chapter = Chapter.builder()
+                .chapterName(sequence + "장")
+                .sequence(sequence)
+                .bookContentPath("/tmp/ch" + chapterId + ".json")
+                .paragraphs(paragraphs)
+                .build();
+        ReflectionTestUtils.setField(chapter, "chapterId", chapterId);
+        return chapter;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChapterContentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChapterContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ChapterContentCache(meterRegistry, 100L);
+    }
+
+    @Test
+    @DisplayName("같은 챕터를 다시 조회하면 loader를 호출하지 않고 캐시에서 반환한다.")
+    void hit_Test() {
+        // given
+        Chapter chapter = chapter(1L, "/tmp/a.json");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(chapter, () -> load(loads, 10));
+        JsonNode second = cache.get(chapter, () -> load(loads, 10));
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.get("n").asInt()).isEqualTo(1);
+        assertThat(meterRegistry.get("chapter.content.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("가중치 합이 상한을 넘으면 가장 오래 사용되지 않은 항목이 제거된다.")
+    void eviction_Test() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Chapter first = chapter(1L, "/tmp/a.json");
+        Chapter second = chapter(2L, "/tmp/b.json");
+        Chapter third = chapter(3L, "/tmp/c.json");
+
+        // when
+        cache.get(first, () -> load(loads, 40));
+        cache.get(second, () -> load(loads, 40));
+        cache.get(first, () -> load(loads, 40)); // first를 최근 사용으로 갱신
+        cache.get(third, () -> load(loads, 40)); // second 제거
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getTotalWeight()).isEqualTo(80L);
+        assertThat(meterRegistry.get("chapter.content.cache.evictions").counter().count()).isEqualTo(1.0);
+
+        cache.get(first, () -> load(loads, 40));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 원본을 다시 읽는다.")
+    void invalidate_Test() {
+        // given
+        Chapter chapter = chapter(1L, "/tmp/a.json");
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(chapter, () -> load(loads, 10));
+
+        // when
+        cache.invalidate(1L);
+        cache.get(chapter, () -> load(loads, 10));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getTotalWeight()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("로드 중에 invalidate되면 읽어온 본문을 캐시에 넣지 않는다.")
+    void invalidateDuringLoad_Test() {
+        // given
+        Chapter chapter = chapter(1L, "/tmp/a.json");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when - loader 실행 중 다른 요청이 챕터를 수정한 상황
+        cache.get(chapter, () -> {
+            cache.invalidate(1L);
+            return load(loads, 10);
+        });
+        cache.get(chapter, () -> load(loads, 10));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로드가 끝나면(실패 포함) 챕터별 세대 정보를 남기지 않는다.")
+    void loadingStateCleared_Test() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        for (long id = 1; id <= 100; id++) {
+            cache.invalidate(id);
+            cache.get(chapter(id, "/tmp/" + id + ".json"), () -> load(loads, 1));
+        }
+
+        // when - loader 실패
+        assertThatThrownBy(() -> cache.get(chapter(200L, "/tmp/200.json"), () -> {
+            throw new IllegalStateException("download failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "loading")).isEmpty();
+    }
+
+    private Chapter chapter(Long id, String path) {
+        return Chapter.builder()
+                .chapterId(id)
+                .bookContentPath(path)
+                .build();
+    }
+
+    private ChapterContentCache.LoadedContent load(AtomicInteger loads, long weight) {
+        int n = loads.incrementAndGet();
+        return new ChapterContentCache.LoadedContent(JsonNodeFactory.instance.objectNode().put("n", n), weight);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChapterContentVariantsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ChapterContentVariants variants;
+
+    @BeforeEach
+    void setUp() {
+        variants = new ChapterContentVariants(new ObjectMapper());
+        ReflectionTestUtils.setField(variants, "variantDir", tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("저장한 본문은 원본/gzip 모두 같은 내용이며, 버전이 바뀌면 조회되지 않는다.")
+    void storeAndFind_Test() throws Exception {
+        // given
+        byte[] json = "{\"content\":[{\"id\":\"p_0001\",\"text\":\"하나\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        ChapterContentVariants.Variants stored = variants.store(1L, "v1", json);
+
+        // then
+        assertThat(stored.hash()).isEqualTo(ChapterContentVariants.sha256Hex(json));
+        assertThat(Files.readAllBytes(stored.identityPath())).isEqualTo(json);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(stored.gzipPath()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json);
+        }
+        assertThat(variants.find(1L, "v1")).contains(stored);
+        assertThat(variants.find(1L, "v2")).isEmpty();
+
+        variants.delete(1L);
+        assertThat(variants.find(1L, "v1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 q=0과 와일드카드를 반영해 gzip 허용 여부를 판단한다.")
+    void acceptsGzip_Test() {
+        assertThat(ChapterContentVariants.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ChapterContentVariants.acceptsGzip("br;q=1.0, gzip;q=0")).isFalse();
+        assertThat(ChapterContentVariants.acceptsGzip("*")).isTrue();
+        assertThat(ChapterContentVariants.acceptsGzip("identity")).isFalse();
+        assertThat(ChapterContentVariants.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 인코딩별 ETag와 비교하며 약한 비교와 '*'를 지원한다.")
+    void matches_Test() {
+        String etag = ChapterContentVariants.etag("abc", ChapterContentVariants.GZIP);
+
+        assertThat(etag).isEqualTo("\"abc-gzip\"");
+        assertThat(ChapterContentVariants.matches("\"x\", W/\"abc-gzip\"", etag)).isTrue();
+        assertThat(ChapterContentVariants.matches("\"abc\"", etag)).isFalse();
+        assertThat(ChapterContentVariants.matches("*", etag)).isTrue();
+    }
+}
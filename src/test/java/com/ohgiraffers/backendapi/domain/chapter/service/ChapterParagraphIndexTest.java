@@ -0,0 +1,102 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChapterParagraphIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChapterParagraphIndex paragraphIndex;
+
+    @BeforeEach
+    void setUp() {
+        paragraphIndex = new ChapterParagraphIndex(objectMapper);
+        ReflectionTestUtils.setField(paragraphIndex, "indexDir", tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("인덱스 생성 후 문단 ID로 해당 문단 텍스트만 읽어온다.")
+    void buildAndRead_Test() throws Exception {
+        // given
+        JsonNode root = objectMapper.readTree(
+                "{\"content\":[{\"id\":\"p_0001\",\"text\":\"첫 문단\"},{\"id\":\"p_0002\",\"text\":\"둘째 문단입니다.\"}]}");
+
+        // when
+        int count = paragraphIndex.build(1L, "v1", root);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(paragraphIndex.readParagraph(1L, "v1", "p_0002")).contains("둘째 문단입니다.");
+        assertThat(paragraphIndex.readParagraph(1L, "v1", "p_9999")).contains("");
+    }
+
+    @Test
+    @DisplayName("버전이 다르거나 삭제된 인덱스는 사용하지 않는다.")
+    void staleIndex_Test() throws Exception {
+        // given
+        JsonNode root = objectMapper.readTree("[{\"id\":\"p_0001\",\"text\":\"본문\"}]");
+        paragraphIndex.build(1L, "v1", root);
+
+        // then
+        assertThat(paragraphIndex.readParagraph(1L, "v2", "p_0001")).isEmpty();
+
+        paragraphIndex.delete(1L);
+        assertThat(paragraphIndex.readParagraph(1L, "v1", "p_0001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 버전으로 다시 생성하면 이전 버전 파일을 지우고, 재시작 후에도 파일에서 읽는다.")
+    void rebuild_Test() throws Exception {
+        // given
+        paragraphIndex.build(1L, "v1", objectMapper.readTree("[{\"id\":\"p_0001\",\"text\":\"수정 전\"}]"));
+
+        // when
+        paragraphIndex.build(1L, "v2", objectMapper.readTree("[{\"id\":\"p_0001\",\"text\":\"수정 후\"}]"));
+        ChapterParagraphIndex restarted = new ChapterParagraphIndex(objectMapper);
+        ReflectionTestUtils.setField(restarted, "indexDir", tempDir.toString());
+
+        // then
+        assertThat(tempDir.resolve("1-v1.pidx")).doesNotExist();
+        assertThat(restarted.readParagraph(1L, "v2", "p_0001")).contains("수정 후");
+        assertThat(restarted.readParagraph(1L, "v1", "p_0001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일에 기록된 본문도 문단 단위로 읽어 같은 인덱스를 만든다.")
+    void buildFromFile_Test() throws Exception {
+        // given - 문단 배열 앞의 다른 필드와 id 없는 항목은 건너뜀
+        Path json = Files.writeString(tempDir.resolve("chapter.json"),
+                "{\"book_name\":\"책\",\"meta\":{\"content\":[]},\"content\":["
+                        + "{\"id\":\"p_0001\",\"text\":\"첫 문단\"},\"주석\",{\"text\":\"id 없음\"},"
+                        + "{\"id\":\"p_0002\",\"text\":\"둘째 문단\"}]}");
+
+        // when
+        int count = paragraphIndex.build(1L, "v1", json);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(paragraphIndex.readParagraph(1L, "v1", "p_0002")).contains("둘째 문단");
+        assertThat(paragraphIndex.build(2L, "v1", Files.writeString(tempDir.resolve("plain.json"),
+                "{\"title\":\"x\"}"))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("문단 배열이 없으면 문단 수는 -1이다.")
+    void countParagraphs_Test() throws Exception {
+        assertThat(ChapterParagraphIndex.countParagraphs(objectMapper.readTree("{\"title\":\"x\"}"))).isEqualTo(-1);
+        assertThat(ChapterParagraphIndex.countParagraphs(null)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChapterParagraphStreamerTest {
+
+    private static final String CHAPTER = "{\"book_name\":\"테스트\",\"chapter\":1,\"content\":["
+            + "{\"id\":\"p_0001\",\"text\":\"하나\"},"
+            + "{\"id\":\"p_0002\",\"text\":\"둘\"},"
+            + "{\"id\":\"p_0003\",\"text\":\"셋\"},"
+            + "{\"id\":\"p_0004\",\"text\":\"넷\"}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChapterParagraphStreamer streamer = new ChapterParagraphStreamer(objectMapper);
+
+    @Test
+    @DisplayName("from 문단부터 count개를 내려주고 다음 문단 ID를 nextCursor로 반환한다.")
+    void range_Test() throws Exception {
+        // when
+        JsonNode result = stream("p_0002", 2);
+
+        // then
+        assertThat(result.get("chapterId").asLong()).isEqualTo(7L);
+        assertThat(result.get("paragraphs")).hasSize(2);
+        assertThat(result.get("paragraphs").get(0).get("text").asText()).isEqualTo("둘");
+        assertThat(result.get("nextCursor").asText()).isEqualTo("p_0004");
+    }
+
+    @Test
+    @DisplayName("마지막 구간이면 nextCursor는 null이다.")
+    void lastPage_Test() throws Exception {
+        // when
+        JsonNode result = stream(null, 10);
+
+        // then
+        assertThat(result.get("paragraphs")).hasSize(4);
+        assertThat(result.get("nextCursor").isNull()).isTrue();
+    }
+
+    private JsonNode stream(String from, int count) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.write(7L, objectMapper.getFactory().createParser(CHAPTER), from, count, out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+}
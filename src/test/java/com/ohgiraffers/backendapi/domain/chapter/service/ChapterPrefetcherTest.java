@@ -0,0 +1,84 @@
+package com.ohgiraffers.backendapi.domain.chapter.service;
+
+import com.ohgiraffers.backendapi.domain.book.entity.Book;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChapterPrefetcherTest {
+
+    private final ChapterRepository chapterRepository = mock(ChapterRepository.class);
+    private final ChapterService chapterService = mock(ChapterService.class);
+    private ChapterPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        Book book = Book.builder().build();
+        ReflectionTestUtils.setField(book, "bookId", 1L);
+        Chapter first = chapter(book, 10L, 1);
+        Chapter second = chapter(book, 11L, 2);
+
+        when(chapterRepository.findById(10L)).thenReturn(Optional.of(first));
+        when(chapterRepository.findByBook_BookIdOrderBySequenceAsc(1L)).thenReturn(List.of(first, second));
+
+        prefetcher = new ChapterPrefetcher(chapterRepository, chapterService, new SimpleMeterRegistry(),
+                true, 0.7, 300, 2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("진행률이 기준을 넘으면 다음 챕터를 한 번만 미리 불러온다.")
+    void prefetchOnce_Test() {
+        // when: 문단 100개 중 80번째 (기준 70%)
+        prefetcher.onProgress(10L, 80);
+        verify(chapterService, timeout(1000)).prefetchContent(11L);
+        prefetcher.onProgress(10L, 81);
+        prefetcher.onProgress(10L, 90);
+
+        // then
+        verify(chapterService, after(200).times(1)).prefetchContent(11L);
+        verify(chapterRepository, times(1)).findByBook_BookIdOrderBySequenceAsc(1L);
+    }
+
+    @Test
+    @DisplayName("진행률이 기준보다 낮거나 마지막 챕터면 미리 불러오지 않는다.")
+    void belowThreshold_Test() {
+        // when
+        prefetcher.onProgress(10L, 10);
+        prefetcher.onProgress(11L, 99);
+
+        // then
+        verify(chapterService, after(200).never()).prefetchContent(11L);
+    }
+
+    private Chapter chapter(Book book, Long chapterId, int sequence) {
+        Chapter chapter = Chapter.builder()
+                .book(book)
+                .sequence(sequence)
+                .bookContentPath("/tmp/ch" + chapterId + ".json")
+                .paragraphs(100)
+                .build();
+        ReflectionTestUtils.setField(chapter, "chapterId", chapterId);
+        return chapter;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.ohgiraffers.backendapi.domain.readingroom.service.RoomStatusRelay;
+import com.ohgiraffers.backendapi.global.service.ImageUploadService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatImageRenditionServiceTest {
+
+    private static final String IMAGE_KEY = "chat-images/4/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4.png";
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final ImageUploadService imageUploadService = mock(ImageUploadService.class);
+    private final RoomStatusRelay roomStatusRelay = mock(RoomStatusRelay.class);
+    private final ChatImageRenditionService service = new ChatImageRenditionService(s3Client, imageUploadService,
+            roomStatusRelay, new SimpleMeterRegistry(), "bucket", true, 240, 1024, 40_000_000L, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본을 읽어 썸네일/미리보기를 저장하고 CHAT_IMAGE_READY를 보낸다.")
+    void process_Test() throws Exception {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(png(2000, 1000)));
+        when(imageUploadService.objectUrl(any())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+        // when
+        service.process(4L, 501L, IMAGE_KEY);
+
+        // then
+        verify(s3Client).putObject(argThat((PutObjectRequest request) ->
+                request.key().equals("chat-images/4/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4_thumb.jpg")),
+                any(RequestBody.class));
+        verify(s3Client).putObject(argThat((PutObjectRequest request) ->
+                request.key().equals("chat-images/4/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4_preview.jpg")),
+                any(RequestBody.class));
+        verify(roomStatusRelay).publish(eq(4L), argThat((Map<String, Object> message) ->
+                "CHAT_IMAGE_READY".equals(message.get("type")) && Long.valueOf(501L).equals(message.get("chatId"))));
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 변환하지 않고 알림도 보내지 않는다.")
+    void processNotImage_Test() {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object("not an image".getBytes()));
+
+        // when
+        service.process(4L, 501L, IMAGE_KEY);
+
+        // then
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(roomStatusRelay, never()).publish(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("긴 변 기준으로 축소하고 작은 이미지는 확대하지 않는다.")
+    void resize_Test() throws Exception {
+        // when
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(
+                ChatImageRenditionService.resize(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), 240)));
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(
+                ChatImageRenditionService.resize(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), 240)));
+
+        // then
+        assertThat(thumbnail.getWidth()).isEqualTo(240);
+        assertThat(thumbnail.getHeight()).isEqualTo(120);
+        assertThat(small.getWidth()).isEqualTo(100);
+    }
+
+    private static ResponseInputStream<GetObjectResponse> object(byte[] bytes) {
+        return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -1,28 +1,34 @@
 package com.ohgiraffers.backendapi.domain.chat.service;
 
 import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageRequest;
-import com.ohgiraffers.backendapi.domain.chat.entity.ChatLog;
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
 import com.ohgiraffers.backendapi.domain.chat.enums.MessageType;
 import com.ohgiraffers.backendapi.domain.chat.repository.ChatLogRepository;
 import com.ohgiraffers.backendapi.domain.readingroom.entity.ReadingRoom;
+import com.ohgiraffers.backendapi.domain.readingroom.entity.RoomParticipant;
 import com.ohgiraffers.backendapi.domain.readingroom.enums.ConnectionStatus;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.ReadingRoomRepository;
 import com.ohgiraffers.backendapi.domain.readingroom.repository.RoomParticipantRepository;
 import com.ohgiraffers.backendapi.domain.user.entity.User;
 import com.ohgiraffers.backendapi.domain.user.entity.UserInformation;
 import com.ohgiraffers.backendapi.domain.user.repository.UserRepository;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import com.ohgiraffers.backendapi.global.service.ImageUploadService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,10 +47,20 @@ class ChatLogServiceTest {
         @Mock
         private RoomParticipantRepository roomParticipantRepository;
         @Mock
-        private RedisTemplate<String, Object> redisTemplate;
+        private ChatIdAllocator chatIdAllocator;
+        @Mock
+        private ChatLogWriter chatLogWriter;
+        @Mock
+        private RecentChatBuffer recentChatBuffer;
+        @Mock
+        private ChatRoomRelay chatRoomRelay;
+        @Mock
+        private ImageUploadService imageUploadService;
+        @Mock
+        private ChatImageRenditionService chatImageRenditionService;
 
         @Test
-        @DisplayName("메시지 전송 시 DB 저장 및 Redis 발행이 정상적으로 호출된다.")
+        @DisplayName("메시지 전송 시 저장 스트림 추가 및 Redis 발행이 정상적으로 호출된다.")
         void sendMessageTest() {
                 // given
                 Long userId = 1L;
@@ -70,24 +86,84 @@ class ChatLogServiceTest {
                                 .build();
 
                 ReadingRoom mockRoom = ReadingRoom.builder().roomId(roomId).build();
-                ChatLog mockChatLog = ChatLog.createTextMessage(mockRoom, mockUser, "테스트");
+                RoomParticipant participant = RoomParticipant.builder()
+                                .readingRoom(mockRoom)
+                                .user(mockUser)
+                                .build();
 
                 // Mock 설정
-                when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-                when(readingRoomRepository.findById(roomId)).thenReturn(Optional.of(mockRoom));
-                when(roomParticipantRepository.existsByReadingRoomAndUserAndConnectionStatus(
-                                any(ReadingRoom.class), any(User.class), any(ConnectionStatus.class)))
-                                .thenReturn(true); // 활성 참여자로 설정
-                when(chatLogRepository.save(any(ChatLog.class))).thenReturn(mockChatLog);
+                when(roomParticipantRepository.findSender(roomId, userId, ConnectionStatus.ACTIVE))
+                                .thenReturn(Optional.of(participant));
+                when(chatIdAllocator.next()).thenReturn(501L);
 
                 // when
                 chatLogService.sendMessage(userId, request);
 
                 // then
-                // 1. DB 저장이 호출되었는가?
-                verify(chatLogRepository).save(any(ChatLog.class));
+                // 1. DB 대신 저장 스트림에 추가되었는가?
+                verify(chatLogWriter).append(eq(roomId), argThat((ChatMessageResponse message) ->
+                                message.getChatId() == 501L && "테스트닉네임".equals(message.getSenderName())));
+                verify(chatLogRepository, never()).save(any());
+                verify(recentChatBuffer).add(eq(roomId), any(ChatMessageResponse.class));
+
+                // 2. Redis로 메시지를 쐈는가? (roomId, message)
+                verify(chatRoomRelay).publish(eq(roomId), any(ChatMessageResponse.class));
+        }
 
-                // 2. Redis로 메시지를 쐈는가? (channel, message)
-                verify(redisTemplate).convertAndSend(anyString(), any(Object.class));
+        @Test
+        @DisplayName("업로드한 이미지 키로 전송하면 원본 URL로 바로 발행하고(변환본 URL 없음) 변환본 생성은 비동기로 등록한다.")
+        void sendImageKeyTest() {
+                // given
+                Long roomId = 100L;
+                String imageKey = "chat-images/100/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4.png";
+                String imageUrl = "https://bucket.s3.ap-northeast-2.amazonaws.com/" + imageKey;
+                ChatMessageRequest request = ChatMessageRequest.builder()
+                                .roomId(roomId)
+                                .messageType(MessageType.IMAGE)
+                                .imageKey(imageKey)
+                                .build();
+                User mockUser = User.builder()
+                                .id(1L)
+                                .userInformation(UserInformation.builder().nickname("테스트닉네임").build())
+                                .build();
+                RoomParticipant participant = RoomParticipant.builder()
+                                .readingRoom(ReadingRoom.builder().roomId(roomId).build())
+                                .user(mockUser)
+                                .build();
+                when(roomParticipantRepository.findSender(roomId, 1L, ConnectionStatus.ACTIVE))
+                                .thenReturn(Optional.of(participant));
+                when(imageUploadService.resolveChatImageUrl(roomId, imageKey)).thenReturn(imageUrl);
+                when(chatIdAllocator.next()).thenReturn(502L);
+
+                // when
+                chatLogService.sendMessage(1L, request);
+
+                // then
+                verify(chatRoomRelay).publish(eq(roomId), argThat((ChatMessageResponse message) ->
+                                message.getMessageType() == MessageType.IMAGE && imageUrl.equals(message.getImageUrl())
+                                                && message.getThumbnailUrl() == null));
+                verify(chatImageRenditionService).submit(roomId, 502L, imageKey);
+                verify(imageUploadService, never()).uploadChatImage(any(), any());
+        }
+
+        @Test
+        @DisplayName("활성 참여자가 아니면 전송하지 않는다.")
+        void sendMessage_NotParticipant_Test() {
+                // given
+                ChatMessageRequest request = ChatMessageRequest.builder()
+                                .roomId(100L)
+                                .messageType(MessageType.TEXT)
+                                .content("테스트")
+                                .build();
+                when(roomParticipantRepository.findSender(100L, 1L, ConnectionStatus.ACTIVE))
+                                .thenReturn(Optional.empty());
+                when(userRepository.existsById(1L)).thenReturn(true);
+                when(readingRoomRepository.existsById(100L)).thenReturn(true);
+
+                // when & then
+                assertThatThrownBy(() -> chatLogService.sendMessage(1L, request))
+                                .isInstanceOf(CustomException.class)
+                                .extracting("errorCode").isEqualTo(ErrorCode.NOT_ROOM_PARTICIPANT);
+                verify(chatLogWriter, never()).append(any(), any());
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatLogWriterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> streams = mock(StreamOperations.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForStream()).thenReturn(streams);
+        // 컨슈머 스레드 없이 저장 로직만 확인
+        writer = new ChatLogWriter(redisTemplate, jdbcTemplate, meterRegistry, false, 4, "chat-log-writer",
+                200, 1000, 30000, 10);
+    }
+
+    @Test
+    @DisplayName("읽은 메시지를 한 번의 배치 INSERT로 저장하고 ACK 후 스트림에서 지운다. 이미 저장된 메시지는 중복으로 집계한다.")
+    void persistBatch_Test() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1, 0 });
+
+        // when
+        writer.persist(List.of(record("1700000000000-0", 1L), record("1700000000001-0", 2L)));
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(),
+                argThat((List<Object[]> rows) -> rows.size() == 2 && rows.get(0)[0].equals(1L)));
+        verify(streams).acknowledge(eq("chat:stream:0"), eq("chat-log-writer"), any(RecordId[].class));
+        verify(streams).delete(eq("chat:stream:0"), any(RecordId[].class));
+        assertThat(meterRegistry.get("chat.persist.messages").tag("result", "persisted").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("chat.persist.messages").tag("result", "duplicate").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 메시지가 섞여 있으면 한 건씩 저장하고, 실패한 메시지만 dead 스트림으로 옮긴다.")
+    void persistPoison_Test() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+        // 첫 번째 메시지는 저장되고 두 번째 메시지는 저장할 수 없음
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("fk"));
+
+        // when
+        writer.persist(List.of(record("1700000000000-0", 1L), record("1700000000001-0", 2L)));
+
+        // then
+        verify(streams, times(1)).add(eq("chat:stream:dead"), anyMap());
+        verify(streams, times(2)).acknowledge(eq("chat:stream:0"), eq("chat-log-writer"), any(RecordId[].class));
+        assertThat(meterRegistry.get("chat.persist.messages").tag("result", "dead").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, Long chatId) {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("chatId", String.valueOf(chatId));
+        fields.put("roomId", "4");
+        fields.put("userId", "3");
+        fields.put("messageType", "TEXT");
+        fields.put("content", "안녕하세요");
+        fields.put("sendAt", "2026-01-01T10:00:00");
+        return StreamRecords.newRecord().in("chat:stream:0").withId(RecordId.of(id)).ofMap(fields);
+    }
+}
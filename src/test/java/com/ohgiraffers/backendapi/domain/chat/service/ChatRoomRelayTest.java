@@ -0,0 +1,92 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatRoomRelayTest {
+
+    private static final String DESTINATION = "/topic/chatroom/1";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private ChatRoomRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("받은 JSON 바이트를 변환하지 않고 그대로 전달한다.")
+    void deliverRaw_Test() {
+        // given
+        relay = relay(0);
+        byte[] payload = json(1);
+
+        // when
+        relay.deliver(1L, payload);
+
+        // then
+        verify(messagingTemplate).send(eq(DESTINATION), argThat((Message<?> message) -> message.getPayload() == payload));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("window 동안 받은 메시지는 JSON 배열 하나로 묶어 전송한다.")
+    void coalesce_Test() {
+        // given
+        relay = relay(100);
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            relay.deliver(1L, json(i));
+        }
+
+        // then
+        verify(messagingTemplate, after(400).times(1)).send(eq(DESTINATION), argThat((Message<?> message) ->
+                new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)
+                        .equals("[{\"chatId\":1},{\"chatId\":2},{\"chatId\":3}]")));
+    }
+
+    @Test
+    @DisplayName("max-batch만큼 쌓이면 window를 기다리지 않고 바로 전송한다.")
+    void coalesceMaxBatch_Test() {
+        // given - window를 길게 두어 max-batch로만 전송되는지 확인
+        relay = new ChatRoomRelay(redisTemplate, messagingTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                60000, 2);
+
+        // when
+        relay.deliver(1L, json(1));
+        relay.deliver(1L, json(2));
+
+        // then
+        verify(messagingTemplate, times(1)).send(eq(DESTINATION), any(Message.class));
+    }
+
+    private ChatRoomRelay relay(long coalesceWindowMs) {
+        return new ChatRoomRelay(redisTemplate, messagingTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                coalesceWindowMs, 50);
+    }
+
+    private static byte[] json(long chatId) {
+        return ("{\"chatId\":" + chatId + "}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package com.ohgiraffers.backendapi.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ohgiraffers.backendapi.domain.chat.dto.ChatMessageResponse;
+import com.ohgiraffers.backendapi.domain.chat.enums.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentChatBufferTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final RecentChatBuffer buffer = new RecentChatBuffer(redisTemplate, objectMapper,
+            new SimpleMeterRegistry(), 3, 24, 60000, 100);
+
+    @Test
+    @DisplayName("처음 조회하는 방은 DB에서 한 번 불러와 버퍼를 채우고, 이후에는 near-cache에서 조회한다.")
+    @SuppressWarnings("unchecked")
+    void recent_Test() throws Exception {
+        // given - 준비되지 않은 방 -> 채운 뒤 버퍼 조회
+        String json = objectMapper.writeValueAsString(message(10L));
+        when(redisTemplate.execute(any(RedisScript.class), anyList()))
+                .thenReturn(null)
+                .thenReturn(List.of(json));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        List<ChatMessageResponse> first = buffer.recent(1L, () -> {
+            loads.incrementAndGet();
+            return List.of(message(10L));
+        });
+        List<ChatMessageResponse> second = buffer.recent(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(first).extracting(ChatMessageResponse::getChatId).containsExactly(10L);
+        assertThat(second).extracting(ChatMessageResponse::getChatId).containsExactly(10L);
+        // 읽기 스크립트는 채우기 전/후 두 번만 실행 (두 번째 조회는 near-cache)
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    @DisplayName("Pub/Sub으로 받은 메시지로 near-cache를 갱신하고 size개만 유지한다.")
+    @SuppressWarnings("unchecked")
+    void onMessage_Test() throws Exception {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(List.of(
+                objectMapper.writeValueAsString(message(1L)),
+                objectMapper.writeValueAsString(message(2L)),
+                objectMapper.writeValueAsString(message(3L))));
+        buffer.peek(1L);
+
+        // when
+        buffer.onMessage(1L, message(4L));
+        buffer.onMessage(1L, message(4L)); // 중복
+
+        // then
+        assertThat(buffer.peek(1L).orElseThrow())
+                .extracting(ChatMessageResponse::getChatId).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("전송한 메시지는 chatId를 점수로 버퍼에 추가한다.")
+    @SuppressWarnings("unchecked")
+    void add_Test() throws Exception {
+        // when
+        buffer.add(1L, message(7L));
+
+        // then - ARGV = [size, ttl, chatId, json]
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("chat:recent:1", "chat:recent:1:ready")),
+                eq("3"), eq("86400"), eq("7"), eq(objectMapper.writeValueAsString(message(7L))));
+    }
+
+    @Test
+    @DisplayName("Pub/Sub 메시지가 늦게 도착해도 near-cache는 chatId 순서를 유지한다.")
+    @SuppressWarnings("unchecked")
+    void onMessageOrder_Test() throws Exception {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(List.of(
+                objectMapper.writeValueAsString(message(1L)),
+                objectMapper.writeValueAsString(message(2L))));
+        buffer.peek(1L);
+
+        // when - 4번이 3번보다 먼저 도착
+        buffer.onMessage(1L, message(4L));
+        buffer.onMessage(1L, message(3L));
+
+        // then
+        assertThat(buffer.peek(1L).orElseThrow())
+                .extracting(ChatMessageResponse::getChatId).containsExactly(2L, 3L, 4L);
+    }
+
+    private static ChatMessageResponse message(Long chatId) {
+        return ChatMessageResponse.builder()
+                .chatId(chatId)
+                .senderId(3L)
+                .senderName("책읽는기린")
+                .messageType(MessageType.TEXT)
+                .content("메시지 " + chatId)
+                .sendAt(LocalDateTime.of(2026, 1, 1, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ohgiraffers.backendapi.domain.exp.service;
+
+import com.ohgiraffers.backendapi.domain.exp.entity.ExpRule;
+import com.ohgiraffers.backendapi.domain.exp.enums.ActivityType;
+import com.ohgiraffers.backendapi.domain.exp.repository.ExpLogRepository;
+import com.ohgiraffers.backendapi.domain.exp.repository.ExpRuleRepository;
+import com.ohgiraffers.backendapi.domain.level.service.LevelService;
+import com.ohgiraffers.backendapi.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpLogServiceTest {
+
+    private final ExpLogRepository expLogRepository = mock(ExpLogRepository.class);
+    private final ExpRuleRepository expRuleRepository = mock(ExpRuleRepository.class);
+    private final LevelService levelService = mock(LevelService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private ExpLogService expLogService;
+
+    @BeforeEach
+    void setUp() {
+        expLogService = new ExpLogService(expLogRepository, expRuleRepository, mock(UserRepository.class),
+                levelService, jdbcTemplate);
+        ExpRule rule = mock(ExpRule.class);
+        when(rule.getExpRuleId()).thenReturn(5L);
+        when(rule.getExp()).thenReturn(100);
+        when(expRuleRepository.findByActivityTypeAndCategory_CategoryId(ActivityType.READ_BOOK, 1L))
+                .thenReturn(Optional.of(rule));
+    }
+
+    @Test
+    @DisplayName("이미 받은 유저를 한 번에 걸러내고, 나머지는 한 번의 배치 INSERT와 한 번의 UPDATE로 지급한다.")
+    @SuppressWarnings("unchecked")
+    void giveExperienceToUsers_Test() {
+        // given
+        when(expLogRepository.findRewardedUserIds(eq(5L), eq(10L), any())).thenReturn(List.of(2L));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1, 1 });
+
+        // when
+        int rewarded = expLogService.giveExperienceToUsers(ActivityType.READ_BOOK, 1L, 3L, 10L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(rewarded).isEqualTo(2);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(),
+                argThat((List<Object[]> rows) -> rows.size() == 2
+                        && rows.get(0)[0].equals(1L) && rows.get(1)[0].equals(3L)));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        verify(levelService, times(1)).getLevelLadder();
+    }
+
+    @Test
+    @DisplayName("모두 이미 받았으면 아무것도 쓰지 않는다.")
+    @SuppressWarnings("unchecked")
+    void allRewarded_Test() {
+        // given
+        when(expLogRepository.findRewardedUserIds(eq(5L), eq(10L), any())).thenReturn(List.of(1L, 2L));
+
+        // when
+        int rewarded = expLogService.giveExperienceToUsers(ActivityType.READ_BOOK, 1L, 3L, 10L, List.of(1L, 2L));
+
+        // then
+        assertThat(rewarded).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
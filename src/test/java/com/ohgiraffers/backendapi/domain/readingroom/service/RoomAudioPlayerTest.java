@@ -0,0 +1,77 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.domain.readingroom.event.RoomAudioRequestedEvent;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomAudioPlayerTest {
+
+    private final TtsAudioUrlCache ttsAudioUrlCache = mock(TtsAudioUrlCache.class);
+    private final ChapterService chapterService = mock(ChapterService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RoomAudioPlayer player;
+
+    @BeforeEach
+    void setUp() {
+        when(chapterService.getParagraphText(anyLong(), anyString())).thenReturn("문단");
+        RoomTtsLookahead lookahead = new RoomTtsLookahead(ttsAudioUrlCache, chapterService, meterRegistry,
+                false, 3, 2, 16, 5);
+        // 중계 비활성화: 이 서버의 구독자에게 바로 전송
+        RoomStatusRelay relay = new RoomStatusRelay(null, messagingTemplate, new ObjectMapper(), meterRegistry,
+                false, 0);
+        player = new RoomAudioPlayer(ttsAudioUrlCache, chapterService, lookahead, relay, meterRegistry, 1);
+    }
+
+    @Test
+    @DisplayName("TTS가 완료되면 PLAY_AUDIO를 방에 전송하고 지연 시간을 기록한다.")
+    void playAudio_Test() {
+        // given
+        when(ttsAudioUrlCache.getAudioUrl("ch10", "p_0003", 76, "문단")).thenReturn(Mono.just("https://audio/p_0003"));
+
+        // when
+        player.handleAudioRequested(new RoomAudioRequestedEvent(1L, 10, 3, "p_0003", VoiceType.SEONBI));
+
+        // then
+        verify(messagingTemplate, timeout(1000)).convertAndSend(eq("/topic/room/1/status"),
+                argThat((Object message) -> "PLAY_AUDIO".equals(((Map<?, ?>) message).get("type"))
+                        && "https://audio/p_0003".equals(((Map<?, ?>) message).get("audioUrl"))));
+        assertThat(meterRegistry.get("tts.playback.latency").tag("result", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTS가 시간 안에 끝나지 않으면 AUDIO_TIMEOUT을 방에 전송한다.")
+    void timeout_Test() {
+        // given
+        when(ttsAudioUrlCache.getAudioUrl(anyString(), anyString(), anyInt(), anyString())).thenReturn(Mono.never());
+
+        // when
+        player.handleAudioRequested(new RoomAudioRequestedEvent(1L, 10, 3, "p_0003", VoiceType.SEONBI));
+
+        // then
+        verify(messagingTemplate, timeout(3000)).convertAndSend(eq("/topic/room/1/status"),
+                argThat((Object message) -> "AUDIO_TIMEOUT".equals(((Map<?, ?>) message).get("type"))));
+    }
+}
@@ -0,0 +1,119 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.entity.Chapter;
+import com.ohgiraffers.backendapi.domain.chapter.repository.ChapterRepository;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomAudioPregeneratorTest {
+
+    private final ChapterRepository chapterRepository = mock(ChapterRepository.class);
+    private final ChapterService chapterService = mock(ChapterService.class);
+    private final TtsAudioUrlCache ttsAudioUrlCache = mock(TtsAudioUrlCache.class);
+    private final RoomAudioPlayer roomAudioPlayer = mock(RoomAudioPlayer.class);
+    private final RoomTtsLookahead roomTtsLookahead = mock(RoomTtsLookahead.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private RoomAudioPregenerator pregenerator;
+
+    @BeforeEach
+    void setUp() {
+        Chapter chapter = Chapter.builder().paragraphs(3).bookContentPath("/tmp/ch10.json").build();
+        when(chapterRepository.findById(10L)).thenReturn(Optional.of(chapter));
+        when(chapterService.getParagraphText(anyLong(), anyString())).thenReturn("문단");
+        when(ttsAudioUrlCache.getAudioUrl(anyString(), anyString(), anyInt(), anyString()))
+                .thenReturn(Mono.just("https://audio/a.mp3"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        pregenerator = new RoomAudioPregenerator(chapterRepository, chapterService, ttsAudioUrlCache,
+                roomAudioPlayer, roomTtsLookahead, redisTemplate, new ObjectMapper(), true, 1, 10, 0, 50, 5, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pregenerator.shutdown();
+    }
+
+    @Test
+    @DisplayName("챕터의 모든 문단 오디오를 순서대로 생성하고, 끝난 작업의 완료 결과는 Redis에 보관한다.")
+    void pregenerate_Test() {
+        // when
+        pregenerator.start(1L, 10, VoiceType.SEONBI);
+
+        // then
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(eq("ch10"), eq("p_0003"), eq(76), anyString());
+        verify(ttsAudioUrlCache, after(200).times(3)).getAudioUrl(anyString(), anyString(), anyInt(), anyString());
+        ArgumentCaptor<String> result = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, timeout(1000)).set(eq("room:audio-pregen:1"), result.capture(),
+                eq(Duration.ofSeconds(3600)));
+
+        // 목록에서 제거된 뒤에도 완료 상태로 조회
+        when(valueOperations.get("room:audio-pregen:1")).thenReturn(result.getValue());
+        assertThat(pregenerator.getProgress(1L).getStatus()).isEqualTo("COMPLETED");
+        assertThat(pregenerator.getProgress(1L).getCompletedParagraphs()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실시간 재생 요청이 있으면 사전 생성은 양보한다.")
+    void yieldToLive_Test() {
+        // given
+        when(roomAudioPlayer.liveRequests()).thenReturn(1);
+
+        // when
+        pregenerator.start(1L, 10, VoiceType.SEONBI);
+
+        // then
+        verify(ttsAudioUrlCache, after(300).never()).getAudioUrl(anyString(), anyString(), anyInt(), anyString());
+        assertThat(pregenerator.getProgress(1L).getStatus()).isEqualTo("RUNNING");
+    }
+
+    @Test
+    @DisplayName("취소하면 문단 생성을 기다리던 작업도 바로 끝나고 다음 작업이 실행된다.")
+    void cancelWhileBlocked_Test() {
+        // given - 첫 방의 문단 생성이 끝나지 않음 (스레드 1개)
+        when(ttsAudioUrlCache.getAudioUrl(eq("ch10"), anyString(), anyInt(), anyString()))
+                .thenReturn(Mono.never());
+        Chapter other = Chapter.builder().paragraphs(1).bookContentPath("/tmp/ch20.json").build();
+        when(chapterRepository.findById(20L)).thenReturn(Optional.of(other));
+        pregenerator.start(1L, 10, VoiceType.SEONBI);
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(eq("ch10"), anyString(), anyInt(), anyString());
+        pregenerator.start(2L, 20, VoiceType.SEONBI);
+
+        // when
+        pregenerator.cancel(1L);
+
+        // then - 요청 제한 시간(5초)을 기다리지 않고 다음 방 작업 실행, 취소된 작업은 결과를 남기지 않음
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(eq("ch20"), eq("p_0001"), anyInt(), anyString());
+        verify(redisTemplate, times(2)).delete("room:audio-pregen:1");
+        verify(valueOperations, never()).set(eq("room:audio-pregen:1"), anyString(), any(Duration.class));
+        assertThat(pregenerator.getProgress(1L)).isNull();
+    }
+}
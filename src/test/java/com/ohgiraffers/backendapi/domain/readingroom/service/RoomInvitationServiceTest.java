@@ -43,6 +43,8 @@ class RoomInvitationServiceTest {
     private UserRepository userRepository;
     @Mock
     private ReadingRoomService readingRoomService; // 순환 참조 문제 해결 (Mock으로 주입)
+    @Mock
+    private RoomPlaybackStateStore roomPlaybackStateStore; // 메모리 재생 상태 없음 (Optional.empty)
 
     // 테스트용 더미 ID
     private final Long HOST_ID = 1L;
@@ -0,0 +1,109 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.readingroom.enums.ConnectionStatus;
+import com.ohgiraffers.backendapi.domain.readingroom.repository.ReadingRoomRepository;
+import com.ohgiraffers.backendapi.domain.readingroom.repository.RoomParticipantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomOccupancyCounterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ReadingRoomRepository readingRoomRepository = mock(ReadingRoomRepository.class);
+    private final RoomParticipantRepository roomParticipantRepository = mock(RoomParticipantRepository.class);
+    private RoomOccupancyCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        counter = new RoomOccupancyCounter(redisTemplate, readingRoomRepository, roomParticipantRepository,
+                new SimpleMeterRegistry(), 24, true, 30000);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB 인원으로 초기화한 뒤 정원을 확인한다.")
+    @SuppressWarnings("unchecked")
+    void tryAdmit_seed_Test() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(-1L, 1L);
+
+        // when
+        RoomOccupancyCounter.Admission admission = counter.tryAdmit(1L, 8, () -> 3L);
+
+        // then
+        assertThat(admission).isEqualTo(RoomOccupancyCounter.Admission.ADMITTED);
+        verify(valueOperations).setIfAbsent(eq("room:occupancy:1"), eq("3"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("정원이 찼으면 FULL, Redis 장애 시 UNAVAILABLE을 반환한다.")
+    @SuppressWarnings("unchecked")
+    void tryAdmit_full_unavailable_Test() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(0L)
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(counter.tryAdmit(1L, 8, () -> 0L)).isEqualTo(RoomOccupancyCounter.Admission.FULL);
+        assertThat(counter.tryAdmit(1L, 8, () -> 0L)).isEqualTo(RoomOccupancyCounter.Admission.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("여러 방 인원을 한 번에 조회하고, 카운터가 없는 방만 DB에서 집계한다.")
+    void counts_Test() {
+        // given
+        when(valueOperations.multiGet(List.of("room:occupancy:1", "room:occupancy:2")))
+                .thenReturn(Arrays.asList("4", null));
+        when(roomParticipantRepository.countByRoomIdsAndConnectionStatus(List.of(2L), ConnectionStatus.ACTIVE))
+                .thenReturn(List.<Object[]>of(new Object[] { 2L, 5L }));
+
+        // when
+        Map<Long, Integer> counts = counter.counts(List.of(1L, 2L));
+
+        // then
+        assertThat(counts).containsEntry(1L, 4).containsEntry(2L, 5);
+        verify(valueOperations).setIfAbsent(eq("room:occupancy:2"), eq("5"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("보정 스크립트에는 방마다 카운터와 변경 시각 키, grace 기간을 함께 넘긴다.")
+    @SuppressWarnings("unchecked")
+    void reconcile_Test() {
+        // given
+        when(readingRoomRepository.findActiveRoomIds(any())).thenReturn(List.of(1L));
+        when(valueOperations.multiGet(List.of("room:occupancy:1"))).thenReturn(Arrays.asList("4"));
+        when(roomParticipantRepository.countByRoomIdsAndConnectionStatus(List.of(1L), ConnectionStatus.ACTIVE))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, 3L }));
+
+        // when
+        counter.reconcile();
+
+        // then - ARGV = [ttl, now, grace, 조회 시점 값, DB 값]
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("room:occupancy:1", "room:occupancy:1:changed")),
+                eq("86400"), any(), eq("30000"), eq("4"), eq("3"));
+    }
+}
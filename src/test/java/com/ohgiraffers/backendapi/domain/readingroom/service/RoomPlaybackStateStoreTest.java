@@ -0,0 +1,188 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.readingroom.entity.ReadingRoom;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.RoomStatus;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.domain.user.entity.User;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomPlaybackStateStoreTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String KEY = "room:playback:1";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private RoomPlaybackStateStore store;
+    private Supplier<ReadingRoom> loader;
+
+    @BeforeEach
+    void setUp() {
+        store = new RoomPlaybackStateStore(redisTemplate, jdbcTemplate, new SimpleMeterRegistry(), 30);
+
+        User host = mock(User.class);
+        when(host.getId()).thenReturn(7L);
+        ReadingRoom room = mock(ReadingRoom.class);
+        when(room.getRoomId()).thenReturn(ROOM_ID);
+        when(room.getHost()).thenReturn(host);
+        when(room.getStatus()).thenReturn(RoomStatus.WAITING);
+        when(room.getCurrentChapterId()).thenReturn(10);
+        when(room.getLastReadPos()).thenReturn(0);
+        when(room.getPlaySpeed()).thenReturn(BigDecimal.valueOf(1.0));
+        when(room.getVoiceType()).thenReturn(VoiceType.SEONBI);
+        loader = () -> room;
+    }
+
+    @Test
+    @DisplayName("Redis에 상태가 없으면 DB 값으로 초기화한 뒤, 읽은 버전을 조건으로 변경한다.")
+    @SuppressWarnings("unchecked")
+    void updateSeed_Test() {
+        // given - 상태 없음 -> 초기화 성공 -> 버전 0 기준으로 변경 (조회 스크립트만 인자 없이 호출)
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY))))
+                .thenReturn(List.of(Arrays.asList(null, null, null, null, null, null, null)));
+
+        // when
+        RoomPlaybackStateStore.Snapshot next = store.update(ROOM_ID, loader,
+                current -> current.withPosition(current.chapterId(), 20));
+
+        // then - ARGV = [ttl, 읽은 버전, roomId, hostId, status, chapterId, position, playSpeed, voiceType]
+        assertThat(next.position()).isEqualTo(20);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, "room:playback:dirty")),
+                eq("1800"), eq("0"), eq("1"), eq("7"), eq("WAITING"), eq("10"), eq("20"), eq("1.0"), eq("SEONBI"));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 바꿔 버전이 다르면 다시 읽어 재시도한다.")
+    @SuppressWarnings("unchecked")
+    void updateConflict_Test() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(-1L)
+                .thenReturn(5L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY))))
+                .thenReturn(List.of(stored("3", "3")))
+                .thenReturn(List.of(stored("5", "4")));
+
+        // when
+        RoomPlaybackStateStore.Snapshot next = store.update(ROOM_ID, loader,
+                current -> current.withPosition(current.chapterId(), current.position() + 1));
+
+        // then - 두 번째로 읽은 위치(5) 기준으로 적용
+        assertThat(next.position()).isEqualTo(6);
+        verify(redisTemplate, times(2)).execute(changeScript(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("잘못된 재생 속도는 거부하고 상태를 바꾸지 않는다.")
+    @SuppressWarnings("unchecked")
+    void invalidSpeed_Test() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY))))
+                .thenReturn(List.of(stored("0", "0")));
+
+        // when & then
+        assertThatThrownBy(() -> store.update(ROOM_ID, loader,
+                current -> current.withPlaySpeed(BigDecimal.valueOf(3.0))))
+                .isInstanceOf(CustomException.class);
+        verify(redisTemplate, never()).execute(changeScript(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("반영 주기에는 dirty 방의 현재 상태를 한 번의 배치로 저장하고 반영한 버전을 확인 처리한다.")
+    @SuppressWarnings("unchecked")
+    void flush_Test() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(setOperations.members("room:playback:dirty")).thenReturn(Set.of("1"));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY))))
+                .thenReturn(List.of(stored("20", "21")));
+
+        // when
+        store.flush();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(),
+                argThat((List<Object[]> batch) -> batch.size() == 1 && Integer.valueOf(20).equals(batch.get(0)[2])));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("room:playback:dirty", KEY)),
+                eq("1"), eq("21"));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 반영 중이면 이번 주기는 건너뛴다.")
+    @SuppressWarnings("unchecked")
+    void flushLocked_Test() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        store.flush();
+
+        // then
+        verify(redisTemplate, never()).opsForSet();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("방 종료 시 최종 상태를 꺼낸다.")
+    @SuppressWarnings("unchecked")
+    void remove_Test() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY, "room:playback:dirty")),
+                any(Object[].class)))
+                .thenReturn(Arrays.asList("7", "PLAYING", "10", "12", "1.5", "SEONBI", "9"));
+
+        // when
+        RoomPlaybackStateStore.Snapshot last = store.remove(ROOM_ID).orElseThrow();
+
+        // then
+        assertThat(last.status()).isEqualTo(RoomStatus.PLAYING);
+        assertThat(last.position()).isEqualTo(12);
+        assertThat(last.playSpeed()).isEqualByComparingTo("1.5");
+    }
+
+    // 변경/초기화 스크립트(반환 타입 Long)만 매칭 (조회 스크립트 제외)
+    private static RedisScript<Long> changeScript() {
+        return argThat(script -> Long.class.equals(script.getResultType()));
+    }
+
+    // Redis 해시 값: [hostId, status, chapterId, position, playSpeed, voiceType, version]
+    private static List<Object> stored(String position, String version) {
+        return Arrays.asList("7", "WAITING", "10", position, "1.0", "SEONBI", version);
+    }
+}
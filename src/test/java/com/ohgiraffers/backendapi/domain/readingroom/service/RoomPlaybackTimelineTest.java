@@ -0,0 +1,195 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterPrefetcher;
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.domain.readingroom.enums.VoiceType;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomPlaybackTimelineTest {
+
+    private final TtsAudioUrlCache ttsAudioUrlCache = mock(TtsAudioUrlCache.class);
+    private final ChapterService chapterService = mock(ChapterService.class);
+    private final RoomStatusRelay roomStatusRelay = mock(RoomStatusRelay.class);
+    private final RoomPlaybackStateStore roomPlaybackStateStore = mock(RoomPlaybackStateStore.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private RoomPlaybackTimeline timeline;
+
+    @AfterEach
+    void tearDown() {
+        if (timeline != null) {
+            timeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("구간의 문단을 한 번의 PLAYBACK_SCHEDULE로 보내고, 챕터 끝이면 endOfChapter를 표시한다.")
+    @SuppressWarnings("unchecked")
+    void startSchedule_Test() {
+        // given - 3문단짜리 챕터, 글자당 100ms, 2배속
+        givenChapter(3);
+        timeline = timeline(8, 3, 100);
+
+        // when
+        timeline.start(1L, 10, 1, VoiceType.SEONBI, new BigDecimal("2.0"));
+
+        // then
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(roomStatusRelay, timeout(1000)).publish(eq(1L), captor.capture());
+        Map<String, Object> message = captor.getValue();
+        assertThat(message.get("type")).isEqualTo("PLAYBACK_SCHEDULE");
+        assertThat(message.get("replace")).isEqualTo(true);
+        assertThat(message.get("endOfChapter")).isEqualTo(true);
+
+        List<Map<String, Object>> paragraphs = (List<Map<String, Object>>) message.get("paragraphs");
+        assertThat(paragraphs).extracting(p -> p.get("paragraphId")).containsExactly("p_0001", "p_0002", "p_0003");
+        assertThat(paragraphs.get(0).get("audioUrl")).isEqualTo("https://audio/p_0001");
+        // "문단입니다" 5글자 * 100ms / 2배속
+        assertThat(paragraphs.get(0).get("durationMs")).isEqualTo(250L);
+    }
+
+    @Test
+    @DisplayName("구간이 거의 끝나면 같은 version으로 다음 구간을 이어서 보내고 재생 위치를 저장소에 반영한다.")
+    @SuppressWarnings("unchecked")
+    void refill_Test() {
+        // given - 구간 2문단, 문단당 50ms
+        givenChapter(100);
+        timeline = timeline(2, 1, 10);
+
+        // when
+        timeline.start(1L, 10, 1, VoiceType.SEONBI, BigDecimal.ONE);
+
+        // then
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(roomStatusRelay, timeout(2000).atLeast(2)).publish(eq(1L), captor.capture());
+        Map<String, Object> first = captor.getAllValues().get(0);
+        Map<String, Object> second = captor.getAllValues().get(1);
+        assertThat(second.get("version")).isEqualTo(first.get("version"));
+        assertThat(second.get("replace")).isEqualTo(false);
+        assertThat((List<Map<String, Object>>) second.get("paragraphs"))
+                .extracting(p -> p.get("paragraphId")).containsExactly("p_0003", "p_0004");
+        verify(roomPlaybackStateStore, timeout(1000).atLeastOnce()).advance(eq(1L), eq(10), anyInt());
+    }
+
+    @Test
+    @DisplayName("일시정지하면 다음 구간을 보내지 않는다.")
+    void stop_Test() {
+        // given
+        givenChapter(100);
+        timeline = timeline(2, 1, 100);
+        timeline.start(1L, 10, 1, VoiceType.SEONBI, BigDecimal.ONE);
+        verify(roomStatusRelay, timeout(1000)).publish(eq(1L), anyMap());
+
+        // when
+        timeline.stop(1L);
+
+        // then
+        verify(roomStatusRelay, after(1000).times(1)).publish(eq(1L), anyMap());
+        assertThat(timeline.currentPosition(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이 서버에 일정이 없으면 일시정지를 제어 채널로 보내고, owner 서버는 받은 제어 메시지로 일정을 멈춘다.")
+    void stopControl_Test() {
+        // given - 다른 서버(owner)의 일정
+        givenChapter(100);
+        timeline = timeline(2, 1, 100);
+        RoomPlaybackTimeline other = timeline(2, 1, 100);
+        try {
+            timeline.start(1L, 10, 1, VoiceType.SEONBI, BigDecimal.ONE);
+            verify(roomStatusRelay, timeout(1000)).publish(eq(1L), anyMap());
+
+            // when - 일정이 없는 서버로 들어온 일시정지
+            other.stop(1L);
+            timeline.handleControl(Map.of("action", "STOP", "roomId", 1, "origin", "other-node"));
+
+            // then
+            verify(redisTemplate).convertAndSend(eq(RoomPlaybackTimeline.CONTROL_CHANNEL), contains("\"STOP\""));
+            verify(roomStatusRelay, after(1000).times(1)).publish(eq(1L), anyMap());
+            assertThat(timeline.currentPosition(1L)).isEmpty();
+        } finally {
+            other.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 서버가 새 일정을 시작하면 이 서버의 일정은 취소한다.")
+    void startedElsewhere_Test() {
+        // given
+        givenChapter(100);
+        timeline = timeline(2, 1, 100);
+        timeline.start(1L, 10, 1, VoiceType.SEONBI, BigDecimal.ONE);
+        verify(roomStatusRelay, timeout(1000)).publish(eq(1L), anyMap());
+
+        // when
+        timeline.handleControl(Map.of("action", "STARTED", "roomId", 1, "origin", "other-node",
+                "version", Long.MAX_VALUE));
+
+        // then
+        verify(roomStatusRelay, after(1000).times(1)).publish(eq(1L), anyMap());
+        assertThat(timeline.currentPosition(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제어 메시지를 놓쳐도 Redis의 owner가 바뀌었으면 다음 구간을 보내지 않는다.")
+    @SuppressWarnings("unchecked")
+    void ownerChanged_Test() {
+        // given - version 7 발급 후 owner 확인에서 다른 서버로 바뀜
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(7L)
+                .thenReturn(0L);
+        givenChapter(100);
+        timeline = timeline(2, 1, 10);
+
+        // when
+        timeline.start(1L, 10, 1, VoiceType.SEONBI, BigDecimal.ONE);
+
+        // then
+        verify(roomStatusRelay, after(1000).times(1)).publish(eq(1L), anyMap());
+        verify(roomPlaybackStateStore, never()).advance(eq(1L), eq(10), anyInt());
+    }
+
+    private void givenChapter(int paragraphs) {
+        when(chapterService.getParagraphText(anyLong(), anyString())).thenAnswer(invocation -> {
+            String paragraphId = invocation.getArgument(1);
+            return Integer.parseInt(paragraphId.substring(2)) <= paragraphs ? "문단입니다" : null;
+        });
+        when(ttsAudioUrlCache.getAudioUrl(eq("ch10"), anyString(), anyInt(), anyString()))
+                .thenAnswer(invocation -> Mono.just("https://audio/" + invocation.getArgument(1)));
+    }
+
+    private RoomPlaybackTimeline timeline(int windowSize, int refillAhead, long msPerChar) {
+        return new RoomPlaybackTimeline(ttsAudioUrlCache, chapterService, mock(ChapterPrefetcher.class),
+                roomStatusRelay, roomPlaybackStateStore, redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                true, windowSize, refillAhead, msPerChar, 0, 0, 2, 5, 600);
+    }
+}
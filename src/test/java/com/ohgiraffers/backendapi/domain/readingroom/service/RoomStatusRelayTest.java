@@ -0,0 +1,79 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomStatusRelayTest {
+
+    private static final String DESTINATION = "/topic/room/1/status";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RoomStatusRelay relay = new RoomStatusRelay(redisTemplate, messagingTemplate, new ObjectMapper(),
+            new SimpleMeterRegistry(), true, 100);
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("방 상태 메시지는 Redis 채널로 발행하고 이 서버에서 직접 전송하지 않는다.")
+    void publish_Test() {
+        // when
+        relay.publish(1L, Map.of("type", "STATUS_CHANGE", "status", "PLAYING"));
+
+        // then
+        verify(redisTemplate).convertAndSend(eq("roomStatus:1"), anyString());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 실패하면 이 서버의 구독자에게 직접 전송한다.")
+    void publishFallback_Test() {
+        // given
+        when(redisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        Map<String, Object> message = Map.of("type", "SETTINGS_UPDATE");
+
+        // when
+        relay.publish(1L, message);
+
+        // then
+        verify(messagingTemplate).convertAndSend(DESTINATION, message);
+    }
+
+    @Test
+    @DisplayName("짧은 시간 안에 연달아 온 PARTICIPANT_UPDATE는 한 번만 전송한다.")
+    void coalesceParticipantUpdate_Test() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            relay.deliver(1L, Map.of("type", "PARTICIPANT_UPDATE", "roomId", 1L));
+        }
+        relay.deliver(1L, Map.of("type", "STATUS_CHANGE"));
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSend(DESTINATION, Map.of("type", "STATUS_CHANGE"));
+        verify(messagingTemplate, after(400).times(1))
+                .convertAndSend(DESTINATION, Map.of("type", "PARTICIPANT_UPDATE", "roomId", 1L));
+    }
+}
@@ -0,0 +1,95 @@
+package com.ohgiraffers.backendapi.domain.readingroom.service;
+
+import com.ohgiraffers.backendapi.domain.chapter.service.ChapterService;
+import com.ohgiraffers.backendapi.global.client.TtsAudioUrlCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomTtsLookaheadTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Integer CHAPTER_ID = 10;
+    private static final int VOICE_ID = 76;
+
+    private final TtsAudioUrlCache ttsAudioUrlCache = mock(TtsAudioUrlCache.class);
+    private final ChapterService chapterService = mock(ChapterService.class);
+    private RoomTtsLookahead lookahead;
+
+    @BeforeEach
+    void setUp() {
+        when(chapterService.getParagraphText(anyLong(), anyString())).thenReturn("문단");
+        when(ttsAudioUrlCache.getAudioUrl(anyString(), anyString(), anyInt(), anyString()))
+                .thenAnswer(invocation -> Mono.just("https://audio/" + invocation.getArgument(1)));
+        lookahead = new RoomTtsLookahead(ttsAudioUrlCache, chapterService, new SimpleMeterRegistry(),
+                true, 3, 3, 16, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookahead.shutdown();
+    }
+
+    @Test
+    @DisplayName("재생 위치 이후 depth개 문단을 미리 요청하고, 다음 문단 재생 시 준비된 URL을 사용한다.")
+    void prefetchAndTake_Test() throws Exception {
+        // when
+        lookahead.advance(ROOM_ID, CHAPTER_ID, 1, VOICE_ID);
+
+        // then
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(eq("ch10"), eq("p_0004"), eq(VOICE_ID), anyString());
+        verify(ttsAudioUrlCache, never()).getAudioUrl(anyString(), eq("p_0005"), anyInt(), anyString());
+
+        CompletableFuture<String> next = lookahead.take(ROOM_ID, CHAPTER_ID, 2, VOICE_ID);
+        assertThat(next).isNotNull();
+        assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("https://audio/p_0002");
+    }
+
+    @Test
+    @DisplayName("목소리가 바뀌면 이전 목소리로 요청한 오디오는 사용하지 않는다.")
+    void voiceChange_Test() {
+        // given
+        lookahead.advance(ROOM_ID, CHAPTER_ID, 1, VOICE_ID);
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(anyString(), eq("p_0002"), eq(VOICE_ID), anyString());
+
+        // when
+        lookahead.advance(ROOM_ID, CHAPTER_ID, 1, 2);
+
+        // then
+        assertThat(lookahead.take(ROOM_ID, CHAPTER_ID, 2, VOICE_ID)).isNull();
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(anyString(), eq("p_0002"), eq(2), anyString());
+    }
+
+    @Test
+    @DisplayName("챕터의 마지막 문단을 넘어서면 이후 문단은 요청하지 않는다.")
+    void endOfChapter_Test() {
+        // given: 2번 문단까지만 존재
+        when(chapterService.getParagraphText(anyLong(), eq("p_0003"))).thenReturn("");
+        when(chapterService.getParagraphText(anyLong(), eq("p_0004"))).thenReturn("");
+
+        // when
+        lookahead.advance(ROOM_ID, CHAPTER_ID, 1, VOICE_ID);
+
+        // then
+        verify(ttsAudioUrlCache, timeout(1000)).getAudioUrl(anyString(), eq("p_0002"), anyInt(), anyString());
+        verify(ttsAudioUrlCache, after(200).never()).getAudioUrl(anyString(), eq("p_0003"), anyInt(), anyString());
+    }
+}
@@ -0,0 +1,197 @@
+package com.ohgiraffers.backendapi.global.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RemoteContentFetcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private String baseUrl;
+
+    // 서버가 다음 요청에 돌려줄 상태 코드/본문, 받은 If-None-Match 기록
+    private volatile int status = 200;
+    private volatile String body = "{\"v\":1}";
+    private final List<String> ifNoneMatch = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("200 응답은 저장소에 보관하고, 신선 기간 안에는 다시 요청하지 않는다.")
+    void fetchOk_Test() {
+        // given
+        RemoteContentFetcher fetcher = fetcher(300, Long.MAX_VALUE);
+
+        // when
+        byte[] first = fetcher.fetchBytes(baseUrl + "/a");
+        body = "{\"v\":2}";
+        byte[] second = fetcher.fetchBytes(baseUrl + "/a");
+
+        // then
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"v\":1}");
+        assertThat(second).isEqualTo(first);
+        assertThat(ifNoneMatch).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("신선 기간이 지나면 ETag로 재검증하고, 304면 저장된 사본을 사용한다.")
+    void fetchNotModified_Test() {
+        // given
+        RemoteContentFetcher fetcher = fetcher(0, Long.MAX_VALUE);
+        fetcher.fetchBytes(baseUrl + "/a");
+
+        // when
+        status = 304;
+        byte[] content = fetcher.fetchBytes(baseUrl + "/a");
+
+        // then
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("{\"v\":1}");
+        assertThat(ifNoneMatch).containsExactly(null, "\"etag-1\"");
+    }
+
+    @Test
+    @DisplayName("5xx 응답이면 저장된 사본을 사용한다.")
+    void fetchServerErrorWithCopy_Test() {
+        // given
+        RemoteContentFetcher fetcher = fetcher(0, Long.MAX_VALUE);
+        fetcher.fetchBytes(baseUrl + "/a");
+
+        // when
+        status = 503;
+        byte[] content = fetcher.fetchBytes(baseUrl + "/a");
+
+        // then
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("{\"v\":1}");
+    }
+
+    @Test
+    @DisplayName("저장된 사본이 없으면 5xx 응답은 실패하고, 404는 사본이 있어도 실패한다.")
+    void fetchFailure_Test() {
+        // given
+        RemoteContentFetcher fetcher = fetcher(0, Long.MAX_VALUE);
+
+        // when & then
+        status = 503;
+        assertThatThrownBy(() -> fetcher.fetch(baseUrl + "/a"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_NOT_FOUND);
+
+        status = 200;
+        fetcher.fetch(baseUrl + "/b");
+        status = 404;
+        assertThatThrownBy(() -> fetcher.fetch(baseUrl + "/b"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("만료 처리한 URL은 신선 기간 안이라도 다시 요청한다.")
+    void expire_Test() {
+        // given
+        RemoteContentFetcher fetcher = fetcher(300, Long.MAX_VALUE);
+        fetcher.fetch(baseUrl + "/a");
+
+        // when
+        fetcher.expire(baseUrl + "/a");
+        body = "{\"v\":2}";
+        byte[] content = fetcher.fetchBytes(baseUrl + "/a");
+
+        // then
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("{\"v\":2}");
+    }
+
+    @Test
+    @DisplayName("저장소 크기 제한을 넘으면 오래 사용하지 않은 사본부터 삭제한다.")
+    void evict_Test() throws Exception {
+        // given - 사본 하나(7바이트)만 들어가는 크기
+        RemoteContentFetcher fetcher = fetcher(300, 10);
+        Path first = fetcher.fetch(baseUrl + "/a");
+        Thread.sleep(20);
+
+        // when
+        Path second = fetcher.fetch(baseUrl + "/b");
+
+        // then
+        assertThat(first).doesNotExist();
+        assertThat(second).exists();
+    }
+
+    @Test
+    @DisplayName("스트림으로 읽는 중인 사본은 LRU 정리에서 제외하고, 닫힌 뒤 다음 정리 때 삭제한다.")
+    void evictSkipsOpenReader_Test() throws Exception {
+        // given - 사본 하나(7바이트)만 들어가는 크기, /a를 읽는 중
+        RemoteContentFetcher fetcher = fetcher(300, 10);
+        Path first = fetcher.fetch(baseUrl + "/a");
+        Thread.sleep(20);
+        InputStream reading = fetcher.openStream(baseUrl + "/a");
+        Thread.sleep(20);
+
+        // when
+        Path second = fetcher.fetch(baseUrl + "/b");
+
+        // then - 읽는 중인 사본은 남아 있음
+        assertThat(first).exists();
+        assertThat(new String(reading.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"v\":1}");
+
+        // 닫은 뒤 정리되면 삭제
+        reading.close();
+        fetcher.evictIfOversized(second);
+        assertThat(first).doesNotExist();
+        assertThat(second).exists();
+    }
+
+    private RemoteContentFetcher fetcher(long freshSeconds, long maxStoreBytes) {
+        return new RemoteContentFetcher(new ObjectMapper(), tempDir.toString(), 1000, 5000, freshSeconds,
+                maxStoreBytes);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        synchronized (ifNoneMatch) {
+            ifNoneMatch.add(exchange.getRequestHeaders().getFirst("If-None-Match"));
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("ETag", "\"etag-1\"");
+        if (status != 200) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ohgiraffers.backendapi.global.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TtsAudioUrlCacheTest {
+
+    private final TtsClient ttsClient = mock(TtsClient.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TtsAudioUrlCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        cache = new TtsAudioUrlCache(ttsClient, redisTemplate, meterRegistry, 3000, 120, 45, 100);
+    }
+
+    @Test
+    @DisplayName("같은 문단의 동시 요청은 AI 서버를 한 번만 호출하고, 이후 요청은 near-cache에서 처리한다.")
+    void singleFlight_Test() {
+        // given
+        when(ttsClient.getAudioUrl("ch1", "p_0001", 76, "문단"))
+                .thenReturn(Mono.just("https://audio/p_0001").delayElement(Duration.ofMillis(200)));
+
+        // when
+        Mono<String> first = cache.getAudioUrl("ch1", "p_0001", 76, "문단");
+        Mono<String> second = cache.getAudioUrl("ch1", "p_0001", 76, "문단");
+        String[] results = Mono.zip(first, second).map(t -> new String[] { t.getT1(), t.getT2() }).block();
+        String third = cache.getAudioUrl("ch1", "p_0001", 76, "문단").block();
+
+        // then
+        assertThat(results).containsOnly("https://audio/p_0001");
+        assertThat(third).isEqualTo("https://audio/p_0001");
+        verify(ttsClient, times(1)).getAudioUrl(anyString(), anyString(), anyInt(), anyString());
+        verify(valueOperations).set(eq("tts:audio:ch1:p_0001:76:" + TtsAudioUrlCache.textHash("문단")),
+                eq("https://audio/p_0001"),
+                eq(Duration.ofSeconds(3000)));
+        assertThat(meterRegistry.get("tts.audio-cache.hit-ratio").gauge().value()).isGreaterThan(0.5);
+    }
+
+    @Test
+    @DisplayName("Redis에 있으면 AI 서버를 호출하지 않는다.")
+    void redisHit_Test() {
+        // given
+        when(valueOperations.get("tts:audio:ch1:p_0002:76:" + TtsAudioUrlCache.textHash("문단")))
+                .thenReturn("https://audio/p_0002");
+
+        // when
+        String url = cache.getAudioUrl("ch1", "p_0002", 76, "문단").block();
+
+        // then
+        assertThat(url).isEqualTo("https://audio/p_0002");
+        verify(ttsClient, never()).getAudioUrl(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("문단 본문이 바뀌면 이전 오디오를 재사용하지 않고 다시 요청한다.")
+    void textChanged_Test() {
+        // given
+        when(ttsClient.getAudioUrl("ch1", "p_0003", 76, "수정 전"))
+                .thenReturn(Mono.just("https://audio/p_0003-v1"));
+        when(ttsClient.getAudioUrl("ch1", "p_0003", 76, "수정 후"))
+                .thenReturn(Mono.just("https://audio/p_0003-v2"));
+
+        // when
+        String before = cache.getAudioUrl("ch1", "p_0003", 76, "수정 전").block();
+        String after = cache.getAudioUrl("ch1", "p_0003", 76, "수정 후").block();
+
+        // then
+        assertThat(before).isEqualTo("https://audio/p_0003-v1");
+        assertThat(after).isEqualTo("https://audio/p_0003-v2");
+        verify(ttsClient, times(2)).getAudioUrl(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("presigned URL의 TTL은 남은 유효 시간에서 안전 여유분을 뺀 값이다.")
+    void presignedTtl_Test() {
+        // given: 10분 전에 1시간 유효기간으로 서명
+        String signedAt = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(10)
+                .format(DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'"));
+        String url = "https://bucket.s3.amazonaws.com/tts/a.mp3?X-Amz-Date=" + signedAt + "&X-Amz-Expires=3600";
+        String expired = "https://bucket.s3.amazonaws.com/tts/a.mp3?X-Amz-Date=20200101T000000Z&X-Amz-Expires=60";
+
+        // when & then: 3600 - 600 - 120 = 2880초 (실행 시간 오차 허용)
+        assertThat(cache.ttlOf(url).getSeconds()).isBetween(2870L, 2880L);
+        assertThat(cache.ttlOf(expired)).isZero();
+        assertThat(cache.ttlOf("https://audio/plain.mp3")).isEqualTo(Duration.ofSeconds(3000));
+    }
+
+    @Test
+    @DisplayName("AI 서버 응답이 잠금 시간 안에 오지 않으면 실패 처리하고 잠금을 해제한다.")
+    void fetchTimeout_Test() {
+        // given: 잠금 시간 1초
+        TtsAudioUrlCache shortLock = new TtsAudioUrlCache(ttsClient, redisTemplate, meterRegistry, 3000, 120, 1, 100);
+        when(ttsClient.getAudioUrl("ch1", "p_0001", 76, "문단")).thenReturn(Mono.never());
+
+        // when & then
+        assertThatThrownBy(() -> shortLock.getAudioUrl("ch1", "p_0001", 76, "문단").block(Duration.ofSeconds(5)))
+                .hasCauseInstanceOf(TimeoutException.class);
+        verify(redisTemplate, timeout(1000)).delete(argThat((String key) -> key.startsWith("tts:audio:lock:")));
+    }
+}
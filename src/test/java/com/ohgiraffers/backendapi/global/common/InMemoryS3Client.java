@@ -0,0 +1,178 @@
+package com.ohgiraffers.backendapi.global.common;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectTaggingRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectTaggingResponse;
+import software.amazon.awssdk.services.s3.model.Tag;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트용 인메모리 S3 클라이언트
+ * <p>
+ * 업로드/멀티파트/다운로드/태그/삭제만 지원하며, 나머지 API는 S3Client 기본 구현대로
+ * UnsupportedOperationException을 던집니다. 버킷 구분 없이 키 단위로 저장합니다.
+ * </p>
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, PendingUpload> uploads = new ConcurrentHashMap<>();
+
+    public StoredObject getStoredObject(String key) {
+        return objects.get(key);
+    }
+
+    public int pendingUploadCount() {
+        return uploads.size();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        objects.put(request.key(), new StoredObject(readAll(body), request.contentType(),
+                request.contentEncoding(), Map.of(), 1));
+        return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new PendingUpload(request.key(), request.contentType(), request.contentEncoding()));
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(request.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        PendingUpload upload = uploads.get(request.uploadId());
+        if (upload == null) {
+            throw NoSuchUploadException.builder().message("No such upload: " + request.uploadId()).build();
+        }
+        String eTag = "part-" + request.partNumber();
+        upload.parts.put(request.partNumber(), readAll(body));
+        return UploadPartResponse.builder().eTag(eTag).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        PendingUpload upload = uploads.remove(request.uploadId());
+        if (upload == null) {
+            throw NoSuchUploadException.builder().message("No such upload: " + request.uploadId()).build();
+        }
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            data.writeBytes(upload.parts.get(part.partNumber()));
+        }
+        objects.put(upload.key, new StoredObject(data.toByteArray(), upload.contentType, upload.contentEncoding,
+                Map.of(), request.multipartUpload().parts().size()));
+        return CompleteMultipartUploadResponse.builder().key(upload.key).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public PutObjectTaggingResponse putObjectTagging(PutObjectTaggingRequest request) {
+        StoredObject object = objects.get(request.key());
+        if (object == null) {
+            throw NoSuchKeyException.builder().message("No such key: " + request.key()).build();
+        }
+        Map<String, String> tags = request.tagging().tagSet().stream()
+                .collect(Collectors.toMap(Tag::key, Tag::value));
+        objects.put(request.key(), new StoredObject(object.data(), object.contentType(), object.contentEncoding(),
+                tags, object.partCount()));
+        return PutObjectTaggingResponse.builder().build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        StoredObject object = objects.get(request.key());
+        if (object == null) {
+            throw NoSuchKeyException.builder().message("No such key: " + request.key()).build();
+        }
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentType(object.contentType())
+                .contentEncoding(object.contentEncoding())
+                .contentLength((long) object.data().length)
+                .build();
+        return new ResponseInputStream<>(response,
+                AbortableInputStream.create(new ByteArrayInputStream(object.data())));
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public S3ServiceClientConfiguration serviceClientConfiguration() {
+        return S3ServiceClientConfiguration.builder().build();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static byte[] readAll(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record StoredObject(byte[] data, String contentType, String contentEncoding,
+            Map<String, String> tags, int partCount) {
+    }
+
+    private static class PendingUpload {
+        private final String key;
+        private final String contentType;
+        private final String contentEncoding;
+        private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+
+        private PendingUpload(String key, String contentType, String contentEncoding) {
+            this.key = key;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+        }
+    }
+}
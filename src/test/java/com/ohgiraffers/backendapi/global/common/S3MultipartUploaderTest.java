@@ -0,0 +1,89 @@
+package com.ohgiraffers.backendapi.global.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InMemoryS3Client s3Client = new InMemoryS3Client();
+    private final S3MultipartUploader uploader =
+            new S3MultipartUploader(s3Client, "readsync-bucket", "ap-northeast-2", PART_SIZE, 3);
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 큰 파일은 멀티파트로 나눠 올리고 원본과 같은 내용이 저장된다.")
+    void multipartUpload_Test() throws Exception {
+        // given
+        byte[] data = new byte[PART_SIZE * 2 + 1234];
+        new Random(42).nextBytes(data);
+
+        // when
+        S3MultipartUploader.UploadResult result =
+                uploader.upload("book/large.bin", "application/octet-stream", new ByteArrayInputStream(data));
+
+        // then
+        InMemoryS3Client.StoredObject stored = s3Client.getStoredObject("book/large.bin");
+        assertThat(stored.partCount()).isEqualTo(3);
+        assertThat(stored.data()).isEqualTo(data);
+        assertThat(result.size()).isEqualTo(data.length);
+        assertThat(result.sha256()).isEqualTo(sha256(data));
+        assertThat(stored.tags()).containsEntry("sha256", result.sha256())
+                .containsEntry("size", String.valueOf(data.length));
+        assertThat(s3Client.pendingUploadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JSON은 공백을 제거하고 gzip으로 저장되며, 읽을 때 압축이 해제된다.")
+    void jsonGzipUpload_Test() throws Exception {
+        // given
+        String json = "{\n  \"book_name\" : \"테스트\",\n  \"content\" : [ {\"id\" : \"p_0001\", \"text\" : \"하나\"} ]\n}";
+
+        // when
+        S3MultipartUploader.UploadResult result = uploader.uploadJsonGzip("book/1_챕터 1.json",
+                objectMapper.getFactory(), new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        InMemoryS3Client.StoredObject stored = s3Client.getStoredObject("book/1_챕터 1.json");
+        assertThat(stored.contentEncoding()).isEqualTo("gzip");
+        assertThat(stored.partCount()).isEqualTo(1);
+        try (InputStream in = S3Service.decompressIfGzip(new ByteArrayInputStream(stored.data()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"book_name\":\"테스트\",\"content\":[{\"id\":\"p_0001\",\"text\":\"하나\"}]}");
+        }
+        assertThat(result.url()).isEqualTo(
+                "https://readsync-bucket.s3.ap-northeast-2.amazonaws.com/book/1_%EC%B1%95%ED%84%B0%201.json");
+    }
+
+    @Test
+    @DisplayName("JSON이 아니면 업로드하지 않고 INVALID_FILE_TYPE 예외가 발생한다.")
+    void invalidJson_Test() {
+        assertThatThrownBy(() -> uploader.uploadJsonGzip("book/bad.json", objectMapper.getFactory(),
+                new ByteArrayInputStream("not json".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(CustomException.class);
+        assertThat(s3Client.getStoredObject("book/bad.json")).isNull();
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
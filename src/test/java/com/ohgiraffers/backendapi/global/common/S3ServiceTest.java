@@ -0,0 +1,110 @@
+package com.ohgiraffers.backendapi.global.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.s3.S3Template;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3ServiceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long SIGNATURE_MILLIS = 10 * 60 * 1000;
+
+    private final S3Presigner s3Presigner = mock(S3Presigner.class);
+    private final AtomicInteger signatures = new AtomicInteger();
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3Service(mock(S3Template.class), mock(S3Client.class), s3Presigner,
+                mock(S3MultipartUploader.class), new ObjectMapper());
+        ReflectionTestUtils.setField(s3Service, "bucket", "bucket");
+        ReflectionTestUtils.setField(s3Service, "presignCacheMaxEntries", 2);
+
+        // 서명할 때마다 다른 URL
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+            when(presigned.url()).thenReturn(new URL("https://bucket.s3.amazonaws.com/"
+                    + request.getObjectRequest().key() + "?sig=" + signatures.incrementAndGet()));
+            return presigned;
+        });
+    }
+
+    @Test
+    @DisplayName("같은 객체는 캐시된 URL을 재사용한다.")
+    void presignHit_Test() {
+        // when
+        String first = s3Service.presign("book/a.json", NOW);
+        String second = s3Service.presign("book/a.json", NOW + 60_000);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("서명이 만료되기 전에 캐시 항목이 먼저 만료되어 새로 서명한다.")
+    void presignExpiry_Test() {
+        // given
+        String first = s3Service.presign("book/a.json", NOW);
+
+        // when - 서명 유효 시간(10분) 안이지만 재사용 기한(9분)은 지남
+        String renewed = s3Service.presign("book/a.json", NOW + SIGNATURE_MILLIS - 30_000);
+
+        // then
+        assertThat(renewed).isNotEqualTo(first);
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 가장 오래 사용하지 않은 항목만 제거한다.")
+    void presignEviction_Test() {
+        // given - 최대 2개, a를 다시 사용해 b가 가장 오래된 항목
+        String a = s3Service.presign("book/a.json", NOW);
+        String b = s3Service.presign("book/b.json", NOW);
+        s3Service.presign("book/a.json", NOW);
+
+        // when
+        s3Service.presign("book/c.json", NOW);
+
+        // then - a는 그대로, b는 다시 서명
+        assertThat(s3Service.presign("book/a.json", NOW)).isEqualTo(a);
+        assertThat(s3Service.presign("book/b.json", NOW)).isNotEqualTo(b);
+        verify(s3Presigner, times(4)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("일괄 조회도 같은 캐시를 사용하고, S3 URL이 아니면 원본을 그대로 돌려준다.")
+    void presignedUrls_Test() {
+        // given
+        String cached = s3Service.getPresignedUrl("https://bucket.s3.amazonaws.com/book/a.json");
+
+        // when
+        Map<String, String> result = s3Service.getPresignedUrls(List.of(
+                "https://bucket.s3.amazonaws.com/book/a.json", "/tmp/local.json"));
+
+        // then
+        assertThat(result).containsEntry("https://bucket.s3.amazonaws.com/book/a.json", cached)
+                .containsEntry("/tmp/local.json", "/tmp/local.json");
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+}
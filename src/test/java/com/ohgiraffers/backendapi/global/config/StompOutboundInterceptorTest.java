@@ -0,0 +1,91 @@
+package com.ohgiraffers.backendapi.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StompOutboundInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    @Test
+    @DisplayName("전송이 오래 밀린 세션에는 drop 정책에서 새 메시지를 버리고, 전송이 끝나면 다시 보낸다.")
+    void dropSlowConsumer_Test() throws Exception {
+        // given
+        StompOutboundInterceptor interceptor = new StompOutboundInterceptor(meterRegistry, "drop", 50);
+        Message<byte[]> message = message("s1", "/topic/room/1/status");
+        interceptor.beforeHandle(message, channel, handler);
+        Thread.sleep(100);
+
+        // when & then
+        assertThat(interceptor.preSend(message("s1", "/topic/room/1/status"), channel)).isNull();
+        assertThat(interceptor.preSend(message("s2", "/topic/room/1/status"), channel)).isNotNull();
+
+        interceptor.afterMessageHandled(message, channel, handler, null);
+        assertThat(interceptor.preSend(message("s1", "/topic/room/1/status"), channel)).isNotNull();
+
+        assertThat(meterRegistry.get("websocket.outbound.messages")
+                .tag("destination", "/topic/room/{id}/status").tag("result", "dropped")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송이 겹쳐 이어지더라도 각 전송이 빨리 끝나면 느린 클라이언트로 보지 않는다.")
+    void overlappingSends_Test() throws Exception {
+        // given - 첫 전송이 끝나기 전에 다음 전송 시작 (전송 중인 메시지가 0이 되지 않음)
+        StompOutboundInterceptor interceptor = new StompOutboundInterceptor(meterRegistry, "drop", 100);
+        Message<byte[]> first = message("s1", "/topic/room/1/status");
+        interceptor.beforeHandle(first, channel, handler);
+        Thread.sleep(80);
+        Message<byte[]> second = message("s1", "/topic/room/1/status");
+        interceptor.beforeHandle(second, channel, handler);
+        interceptor.afterMessageHandled(first, channel, handler, null);
+        Thread.sleep(50);
+
+        // when & then - 첫 전송 시작부터는 100ms가 지났지만 남은 전송은 50ms째
+        assertThat(interceptor.preSend(message("s1", "/topic/room/1/status"), channel)).isNotNull();
+
+        // 남은 전송이 오래 끝나지 않으면 느린 클라이언트
+        Thread.sleep(80);
+        assertThat(interceptor.preSend(message("s1", "/topic/room/1/status"), channel)).isNull();
+    }
+
+    @Test
+    @DisplayName("disconnect 정책에서는 메시지를 버리지 않는다.")
+    void disconnectPolicy_Test() throws Exception {
+        // given
+        StompOutboundInterceptor interceptor = new StompOutboundInterceptor(meterRegistry, "disconnect", 50);
+        Message<byte[]> message = message("s1", "/topic/status/7");
+        interceptor.beforeHandle(message, channel, handler);
+        Thread.sleep(100);
+
+        // when & then
+        assertThat(interceptor.preSend(message("s1", "/topic/status/7"), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("목적지의 숫자 경로는 {id}로 묶는다.")
+    void normalize_Test() {
+        assertThat(StompOutboundInterceptor.normalize("/topic/room/12/status")).isEqualTo("/topic/room/{id}/status");
+        assertThat(StompOutboundInterceptor.normalize("/topic/chatroom/3")).isEqualTo("/topic/chatroom/{id}");
+        assertThat(StompOutboundInterceptor.normalize(null)).isEqualTo("unknown");
+    }
+
+    private static Message<byte[]> message(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,126 @@
+package com.ohgiraffers.backendapi.global.service;
+
+import com.ohgiraffers.backendapi.global.common.S3MultipartUploader;
+import com.ohgiraffers.backendapi.global.error.CustomException;
+import com.ohgiraffers.backendapi.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageUploadServiceTest {
+
+    private static final String IMAGE_KEY = "chat-images/4/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4.png";
+
+    private final S3MultipartUploader s3MultipartUploader = mock(S3MultipartUploader.class);
+    private final S3Presigner s3Presigner = mock(S3Presigner.class);
+    private final S3Client s3Client = mock(S3Client.class);
+    private ImageUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageUploadService(s3MultipartUploader, s3Presigner, s3Client);
+        ReflectionTestUtils.setField(service, "bucket", "bucket");
+        ReflectionTestUtils.setField(service, "uploadUrlTtlSeconds", 300L);
+        when(s3MultipartUploader.objectUrl(any())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("업로드가 끝난 같은 방의 이미지 키는 공개 URL로 바꾼다.")
+    void resolveChatImageUrl_Test() {
+        // given
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(head("image/png", 1024L));
+
+        // when
+        String url = service.resolveChatImageUrl(4L, IMAGE_KEY);
+
+        // then
+        assertThat(url).isEqualTo("https://cdn/" + IMAGE_KEY);
+    }
+
+    @Test
+    @DisplayName("다른 방의 키나 경로를 조작한 키는 S3를 조회하지 않고 거부한다.")
+    void resolveChatImageUrlInvalidKey_Test() {
+        // when & then
+        assertInvalid(() -> service.resolveChatImageUrl(5L, IMAGE_KEY), ErrorCode.INVALID_FILE);
+        assertInvalid(() -> service.resolveChatImageUrl(4L,
+                "chat-images/4/../5/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4.png"), ErrorCode.INVALID_FILE);
+        assertInvalid(() -> service.resolveChatImageUrl(4L, "chat-images/4/profile.png"), ErrorCode.INVALID_FILE);
+        assertInvalid(() -> service.resolveChatImageUrl(4L, null), ErrorCode.INVALID_FILE);
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("아직 올라오지 않았거나, 업로드된 객체의 타입/크기가 다르면 거부한다.")
+    void resolveChatImageUrlHead_Test() {
+        // given
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("missing").build())
+                .thenReturn(head("image/svg+xml", 1024L))
+                .thenReturn(head("image/jpeg", 1024L))
+                .thenReturn(head("image/png", 0L))
+                .thenReturn(head("image/png", 11L * 1024 * 1024));
+
+        // when & then
+        assertInvalid(() -> service.resolveChatImageUrl(4L, IMAGE_KEY), ErrorCode.INVALID_FILE);
+        assertInvalid(() -> service.resolveChatImageUrl(4L, IMAGE_KEY), ErrorCode.INVALID_FILE_TYPE);
+        assertInvalid(() -> service.resolveChatImageUrl(4L, IMAGE_KEY), ErrorCode.INVALID_FILE_TYPE);
+        assertInvalid(() -> service.resolveChatImageUrl(4L, IMAGE_KEY), ErrorCode.FILE_SIZE_EXCEEDED);
+        assertInvalid(() -> service.resolveChatImageUrl(4L, IMAGE_KEY), ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 타입이나 잘못된 크기로는 업로드 URL을 발급하지 않는다.")
+    void createChatImageUploadUrlInvalid_Test() {
+        // when & then
+        assertInvalid(() -> service.createChatImageUploadUrl(4L, "image/svg+xml", 1024), ErrorCode.INVALID_FILE_TYPE);
+        assertInvalid(() -> service.createChatImageUploadUrl(4L, "text/html", 1024), ErrorCode.INVALID_FILE_TYPE);
+        assertInvalid(() -> service.createChatImageUploadUrl(4L, null, 1024), ErrorCode.INVALID_FILE_TYPE);
+        assertInvalid(() -> service.createChatImageUploadUrl(4L, "image/png", 0), ErrorCode.FILE_SIZE_EXCEEDED);
+        assertInvalid(() -> service.createChatImageUploadUrl(4L, "image/png", -1), ErrorCode.FILE_SIZE_EXCEEDED);
+        assertInvalid(() -> service.createChatImageUploadUrl(4L, "image/png", 10L * 1024 * 1024 + 1),
+                ErrorCode.FILE_SIZE_EXCEEDED);
+        verify(s3Presigner, never()).presignPutObject(any(PutObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 중 S3 전송이 실패하면 FILE_UPLOAD_FAILED로 응답한다.")
+    void uploadChatImageFailure_Test() {
+        // given
+        when(s3MultipartUploader.upload(anyString(), anyString(), any(InputStream.class)))
+                .thenThrow(new CustomException(ErrorCode.FILE_UPLOAD_ERROR, "timeout"));
+        MockMultipartFile file = new MockMultipartFile("image", "cat.png", "image/png", new byte[] { 1, 2, 3 });
+
+        // when & then
+        assertInvalid(() -> service.uploadChatImage(file, 4L), ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    private static HeadObjectResponse head(String contentType, long size) {
+        return HeadObjectResponse.builder().contentType(contentType).contentLength(size).build();
+    }
+
+    private static void assertInvalid(Runnable call, ErrorCode errorCode) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(errorCode);
+    }
+}
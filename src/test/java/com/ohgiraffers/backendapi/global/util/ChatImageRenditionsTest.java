@@ -0,0 +1,33 @@
+package com.ohgiraffers.backendapi.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatImageRenditionsTest {
+
+    private static final String IMAGE_KEY = "chat-images/4/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4.png";
+
+    @Test
+    @DisplayName("업로드 URL로 올린 이미지만 변환본 URL을 계산한다.")
+    void url_Test() {
+        // when & then
+        assertThat(ChatImageRenditions.url("https://cdn/" + IMAGE_KEY, ChatImageRenditions.THUMBNAIL))
+                .isEqualTo("https://cdn/chat-images/4/0b7c2d9e-1f3a-4c5b-8d6e-7f8091a2b3c4_thumb.jpg");
+        assertThat(ChatImageRenditions.url("https://example.com/cat.png", ChatImageRenditions.THUMBNAIL)).isNull();
+        assertThat(ChatImageRenditions.url(null, ChatImageRenditions.THUMBNAIL)).isNull();
+    }
+
+    @Test
+    @DisplayName("ImageIO로 읽을 수 없는 WebP는 변환 대상이 아니다.")
+    void webp_Test() {
+        // given
+        String webp = IMAGE_KEY.replace(".png", ".webp");
+
+        // when & then
+        assertThat(ChatImageRenditions.isRenderable(IMAGE_KEY)).isTrue();
+        assertThat(ChatImageRenditions.isRenderable(webp)).isFalse();
+        assertThat(ChatImageRenditions.url("https://cdn/" + webp, ChatImageRenditions.PREVIEW)).isNull();
+    }
+}